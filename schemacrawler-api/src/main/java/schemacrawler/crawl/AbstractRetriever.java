@@ -32,7 +32,9 @@ import static java.util.Objects.requireNonNull;
 import static schemacrawler.schemacrawler.DatabaseObjectRuleForInclusion.ruleForSchemaInclusion;
 import static us.fatehi.utility.Utility.isBlank;
 
+import java.sql.Connection;
 import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
 import java.util.Optional;
@@ -40,16 +42,21 @@ import java.util.function.Supplier;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
+import schemacrawler.crawl.TableShards.TableRetrieval;
 import schemacrawler.inclusionrule.InclusionRule;
 import schemacrawler.schema.DataTypeType;
 import schemacrawler.schema.DatabaseObject;
 import schemacrawler.schema.JavaSqlType;
 import schemacrawler.schema.NamedObjectKey;
 import schemacrawler.schema.Schema;
+import schemacrawler.schemacrawler.InformationSchemaKey;
+import schemacrawler.schemacrawler.LoadOptions;
 import schemacrawler.schemacrawler.Retriever;
 import schemacrawler.schemacrawler.SchemaCrawlerOptions;
 import schemacrawler.schemacrawler.SchemaReference;
 import schemacrawler.utility.TypeMap;
+import us.fatehi.utility.scheduler.TaskRunnerMode;
+import us.fatehi.utility.string.StringFormat;
 
 /** Base class for retriever that uses database metadata to get the details about the schema. */
 @Retriever
@@ -101,8 +108,55 @@ abstract class AbstractRetriever {
     return belongsToCatalog && belongsToSchema;
   }
 
-  final Statement createStatement() throws SQLException {
-    return retrieverConnection.getConnection().createStatement();
+  /**
+   * Creates a forward-only, read-only statement for a data dictionary query, that fetches rows in
+   * batches of the size configured for that query. If streaming cursors are requested, the query
+   * runs in a transaction until the statement is closed.
+   *
+   * @param key Data dictionary query that will be run with the statement
+   * @return Statement
+   * @throws SQLException On an exception creating the statement
+   */
+  final Statement createStatement(final InformationSchemaKey key) throws SQLException {
+    final Connection connection = retrieverConnection.getConnection();
+    Statement statement =
+        connection.createStatement(ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+    if (retrieverConnection.isStreamingCursor()) {
+      statement = StreamingStatements.streaming(connection, statement);
+    }
+    final int fetchSize = retrieverConnection.getFetchSize(key);
+    try {
+      statement.setFetchSize(fetchSize);
+    } catch (final SQLException e) {
+      LOGGER.log(
+          Level.WARNING,
+          e,
+          new StringFormat("Could not set fetch size <%d> for <%s>", fetchSize, key));
+    }
+    return statement;
+  }
+
+  /**
+   * Runs a metadata retrieval for each table. If connections are pooled, tables are split into
+   * shards, and shards are retrieved in parallel, each on its own connection.
+   *
+   * @param tables Tables to retrieve information for
+   * @param retrieval Retrieval for a single table
+   * @throws SQLException On an exception retrieving information for any table
+   */
+  final void forEachTable(
+      final NamedObjectList<MutableTable> tables, final TableRetrieval retrieval)
+      throws SQLException {
+    requireNonNull(tables, "No tables provided");
+    final LoadOptions loadOptions = options.getLoadOptions();
+    final int maxThreads;
+    if (loadOptions.getTaskRunnerMode() == TaskRunnerMode.virtual_threads) {
+      // Only limited by the number of connections in the pool
+      maxThreads = Integer.MAX_VALUE;
+    } else {
+      maxThreads = loadOptions.getMaxThreads();
+    }
+    new TableShards(retrieverConnection, maxThreads).forEachTable(tables.values(), retrieval);
   }
 
   final NamedObjectList<SchemaReference> getAllSchemas() {
@@ -172,31 +226,36 @@ abstract class AbstractRetriever {
       final int javaSqlTypeInt,
       final String databaseSpecificTypeName,
       final String mappedClassName) {
-    MutableColumnDataType columnDataType =
-        catalog
-            .lookupColumnDataType(schema, databaseSpecificTypeName)
-            .orElse(catalog.lookupSystemColumnDataType(databaseSpecificTypeName).orElse(null));
-    // Create new data type, if needed
-    if (columnDataType == null) {
-      columnDataType = new MutableColumnDataType(schema, databaseSpecificTypeName, type);
-      final JavaSqlType javaSqlType = retrieverConnection.getJavaSqlTypes().valueOf(javaSqlTypeInt);
-      columnDataType.setJavaSqlType(javaSqlType);
-      if (isBlank(mappedClassName)) {
-        final TypeMap typeMap = retrieverConnection.getTypeMap();
-        final Class<?> mappedClass;
-        if (typeMap.containsKey(databaseSpecificTypeName)) {
-          mappedClass = typeMap.get(databaseSpecificTypeName);
+    // Tables may be retrieved in parallel shards, so data types are
+    // looked up and created by one retriever at a time
+    synchronized (catalog) {
+      MutableColumnDataType columnDataType =
+          catalog
+              .lookupColumnDataType(schema, databaseSpecificTypeName)
+              .orElse(catalog.lookupSystemColumnDataType(databaseSpecificTypeName).orElse(null));
+      // Create new data type, if needed
+      if (columnDataType == null) {
+        columnDataType = new MutableColumnDataType(schema, databaseSpecificTypeName, type);
+        final JavaSqlType javaSqlType =
+            retrieverConnection.getJavaSqlTypes().valueOf(javaSqlTypeInt);
+        columnDataType.setJavaSqlType(javaSqlType);
+        if (isBlank(mappedClassName)) {
+          final TypeMap typeMap = retrieverConnection.getTypeMap();
+          final Class<?> mappedClass;
+          if (typeMap.containsKey(databaseSpecificTypeName)) {
+            mappedClass = typeMap.get(databaseSpecificTypeName);
+          } else {
+            mappedClass = typeMap.get(javaSqlType.getName());
+          }
+          columnDataType.setTypeMappedClass(mappedClass);
         } else {
-          mappedClass = typeMap.get(javaSqlType.getName());
+          columnDataType.setTypeMappedClass(mappedClassName);
         }
-        columnDataType.setTypeMappedClass(mappedClass);
-      } else {
-        columnDataType.setTypeMappedClass(mappedClassName);
-      }
 
-      catalog.addColumnDataType(columnDataType);
+        catalog.addColumnDataType(columnDataType);
+      }
+      return columnDataType;
     }
-    return columnDataType;
   }
 
   final Optional<MutableRoutine> lookupRoutine(
@@ -0,0 +1,235 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2022, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+
+package schemacrawler.crawl;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import schemacrawler.schema.Catalog;
+import schemacrawler.schema.Column;
+import schemacrawler.schema.ColumnDataType;
+import schemacrawler.schema.DatabaseObject;
+import schemacrawler.schema.Routine;
+import schemacrawler.schema.RoutineParameter;
+import schemacrawler.schema.Schema;
+import schemacrawler.schema.Sequence;
+import schemacrawler.schema.Synonym;
+import schemacrawler.schema.Table;
+import schemacrawler.schema.TableReference;
+import schemacrawler.schema.View;
+import schemacrawler.schemacrawler.SchemaReference;
+import us.fatehi.utility.string.StringFormat;
+
+/**
+ * Merges schemas that have not changed since an earlier crawl into a catalog that was crawled for
+ * the other schemas only. Schemas are merged only if no table, column, routine or synonym refers
+ * to an object in a schema on the other side, since that reference would point to a stale or a
+ * partial object after the merge.
+ */
+public final class CatalogSchemaMerger {
+
+  private static final Logger LOGGER = Logger.getLogger(CatalogSchemaMerger.class.getName());
+
+  private static boolean isInSchemas(
+      final DatabaseObject databaseObject, final Set<Schema> schemas) {
+    return databaseObject != null && schemas.contains(databaseObject.getSchema());
+  }
+
+  /**
+   * Checks whether objects in some schemas of a catalog refer to objects in other schemas.
+   *
+   * @param catalog Catalog to check
+   * @param schemas Schemas with objects to check
+   * @param otherSchemas Schemas that may not be referred to
+   * @return True if an object refers to an object in one of the other schemas
+   */
+  private static boolean refersTo(
+      final Catalog catalog, final Set<Schema> schemas, final Set<Schema> otherSchemas) {
+    for (final Table table : catalog.getTables()) {
+      if (!schemas.contains(table.getSchema())) {
+        continue;
+      }
+
+      final List<TableReference> tableReferences = new ArrayList<>(table.getForeignKeys());
+      tableReferences.addAll(table.getWeakAssociations());
+      for (final TableReference tableReference : tableReferences) {
+        if (isInSchemas(tableReference.getPrimaryKeyTable(), otherSchemas)
+            || isInSchemas(tableReference.getForeignKeyTable(), otherSchemas)) {
+          return true;
+        }
+      }
+
+      final List<Column> columns = new ArrayList<>(table.getColumns());
+      columns.addAll(table.getHiddenColumns());
+      for (final Column column : columns) {
+        if (isInSchemas(column.getReferencedColumn(), otherSchemas)
+            || isInSchemas(column.getColumnDataType(), otherSchemas)) {
+          return true;
+        }
+      }
+
+      if (table instanceof View) {
+        for (final Table usedTable : ((View) table).getTableUsage()) {
+          if (isInSchemas(usedTable, otherSchemas)) {
+            return true;
+          }
+        }
+      }
+    }
+
+    for (final Routine routine : catalog.getRoutines()) {
+      if (!schemas.contains(routine.getSchema())) {
+        continue;
+      }
+      final List<RoutineParameter<? extends Routine>> parameters = routine.getParameters();
+      for (final RoutineParameter<? extends Routine> parameter : parameters) {
+        if (isInSchemas(parameter.getColumnDataType(), otherSchemas)) {
+          return true;
+        }
+      }
+    }
+
+    for (final Synonym synonym : catalog.getSynonyms()) {
+      if (schemas.contains(synonym.getSchema())
+          && isInSchemas(synonym.getReferencedObject(), otherSchemas)) {
+        return true;
+      }
+    }
+
+    return false;
+  }
+
+  private final MutableCatalog previousCatalog;
+  private final Set<Schema> unchangedSchemas;
+
+  /**
+   * Merges unchanged schemas from an earlier crawl.
+   *
+   * @param previousCatalog Catalog from an earlier crawl
+   * @param unchangedSchemas Schemas in the earlier catalog that have not changed since
+   */
+  public CatalogSchemaMerger(
+      final Catalog previousCatalog, final Collection<Schema> unchangedSchemas) {
+    requireNonNull(previousCatalog, "No previous catalog provided");
+    requireNonNull(unchangedSchemas, "No unchanged schemas provided");
+    if (!(previousCatalog instanceof MutableCatalog)) {
+      throw new IllegalArgumentException("Cannot merge schemas from previous catalog");
+    }
+    this.previousCatalog = (MutableCatalog) previousCatalog;
+    this.unchangedSchemas = new HashSet<>(previousCatalog.getSchemas());
+    this.unchangedSchemas.retainAll(unchangedSchemas);
+  }
+
+  /**
+   * Checks whether the unchanged schemas can be taken from the earlier catalog, which is the case
+   * if there are unchanged schemas, and none of their objects refer to objects in other schemas of
+   * the earlier catalog.
+   *
+   * @return True if the unchanged schemas can be merged into a catalog crawled for the others
+   */
+  public boolean canMerge() {
+    if (unchangedSchemas.isEmpty()) {
+      return false;
+    }
+    final Set<Schema> otherSchemas = new HashSet<>(previousCatalog.getSchemas());
+    otherSchemas.removeAll(unchangedSchemas);
+    return !refersTo(previousCatalog, unchangedSchemas, otherSchemas);
+  }
+
+  /**
+   * Gets the unchanged schemas, which need not be crawled again.
+   *
+   * @return Unchanged schemas
+   */
+  public Collection<Schema> getUnchangedSchemas() {
+    return Collections.unmodifiableSet(unchangedSchemas);
+  }
+
+  /**
+   * Adds the unchanged schemas, with all of their objects, to a catalog that was crawled for the
+   * other schemas. The catalog is not modified if the schemas cannot be merged.
+   *
+   * @param catalog Catalog crawled for schemas other than the unchanged schemas
+   * @return True if the unchanged schemas were merged into the catalog
+   */
+  public boolean merge(final Catalog catalog) {
+    requireNonNull(catalog, "No catalog provided");
+    if (!(catalog instanceof MutableCatalog) || unchangedSchemas.isEmpty()) {
+      return false;
+    }
+    final MutableCatalog mutableCatalog = (MutableCatalog) catalog;
+
+    final Set<Schema> crawledSchemas = new HashSet<>(catalog.getSchemas());
+    if (!Collections.disjoint(crawledSchemas, unchangedSchemas)) {
+      LOGGER.log(Level.INFO, "Not merging schemas, since unchanged schemas were crawled again");
+      return false;
+    }
+    final Set<Schema> otherSchemas = new HashSet<>(previousCatalog.getSchemas());
+    otherSchemas.removeAll(unchangedSchemas);
+    otherSchemas.addAll(crawledSchemas);
+    if (refersTo(previousCatalog, unchangedSchemas, otherSchemas)
+        || refersTo(catalog, crawledSchemas, unchangedSchemas)) {
+      LOGGER.log(
+          Level.INFO,
+          "Not merging schemas, since objects refer to objects in changed and unchanged schemas");
+      return false;
+    }
+
+    for (final Schema schema : unchangedSchemas) {
+      mutableCatalog.addSchema((SchemaReference) schema);
+      for (final MutableTable table : previousCatalog.getAllTables().values(schema)) {
+        mutableCatalog.addTable(table);
+      }
+      for (final MutableRoutine routine : previousCatalog.getAllRoutines().values(schema)) {
+        mutableCatalog.addRoutine(routine);
+      }
+      for (final Sequence sequence : previousCatalog.getSequences(schema)) {
+        mutableCatalog.addSequence((MutableSequence) sequence);
+      }
+      for (final Synonym synonym : previousCatalog.getSynonyms(schema)) {
+        mutableCatalog.addSynonym((MutableSynonym) synonym);
+      }
+      for (final ColumnDataType columnDataType : previousCatalog.getColumnDataTypes(schema)) {
+        mutableCatalog.addColumnDataType((MutableColumnDataType) columnDataType);
+      }
+    }
+    LOGGER.log(
+        Level.INFO, new StringFormat("Merged <%d> unchanged schemas", unchangedSchemas.size()));
+
+    return true;
+  }
+}
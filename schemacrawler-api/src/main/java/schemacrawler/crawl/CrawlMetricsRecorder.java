@@ -0,0 +1,196 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2022, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+
+package schemacrawler.crawl;
+
+import static java.util.Objects.requireNonNull;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.DatabaseMetaData;
+
+import us.fatehi.utility.scheduler.TaskDefinition.TaskRunnable;
+
+/**
+ * Records metrics for the retrieval that is running on the current thread. Retrievers and
+ * metadata result-sets count their work here, without needing a reference to the crawl. Counts
+ * made on a thread that is not running a retrieval are ignored.
+ */
+final class CrawlMetricsRecorder {
+
+  private static final ThreadLocal<MutableRetrievalMetrics> currentRetrieval = new ThreadLocal<>();
+  private static final ThreadMXBean threadMXBean = ManagementFactory.getThreadMXBean();
+
+  static void countJdbcCall() {
+    final MutableRetrievalMetrics metrics = currentRetrieval.get();
+    if (metrics != null) {
+      metrics.addJdbcCalls(1);
+    }
+  }
+
+  static void countObject() {
+    final MutableRetrievalMetrics metrics = currentRetrieval.get();
+    if (metrics != null) {
+      metrics.addObjects(1);
+    }
+  }
+
+  static void countRows(final long rowCount) {
+    final MutableRetrievalMetrics metrics = currentRetrieval.get();
+    if (metrics != null) {
+      metrics.addRows(rowCount);
+    }
+  }
+
+  static void countText(final String text) {
+    final MutableRetrievalMetrics metrics = currentRetrieval.get();
+    if (metrics != null && text != null) {
+      metrics.addTextBytes(utf8Length(text));
+    }
+  }
+
+  /**
+   * Wraps a task that helps the retrieval running on the current thread, by doing some of its
+   * work on another thread. CPU time and counts on the helper thread are added to the retrieval,
+   * but wall time is only measured on the thread that started the retrieval.
+   *
+   * @param task Task that helps the current retrieval
+   * @return Task that records metrics for the current retrieval
+   */
+  static TaskRunnable helpCurrentRetrieval(final TaskRunnable task) {
+    requireNonNull(task, "No task provided");
+    final MutableRetrievalMetrics metrics = currentRetrieval.get();
+    if (metrics == null) {
+      return task;
+    }
+    return () -> run(metrics, task, false);
+  }
+
+  /**
+   * Wraps a database metadata instance, so that the latency of each call is recorded for the
+   * crawl, and each call is counted for the retrieval running on the calling thread.
+   *
+   * @param metaData Database metadata
+   * @param crawlMetrics Metrics for the crawl
+   * @return Database metadata that records metrics
+   */
+  static DatabaseMetaData record(
+      final DatabaseMetaData metaData, final MutableCrawlMetrics crawlMetrics) {
+    requireNonNull(metaData, "No database metadata provided");
+    requireNonNull(crawlMetrics, "No crawl metrics provided");
+    return (DatabaseMetaData)
+        Proxy.newProxyInstance(
+            CrawlMetricsRecorder.class.getClassLoader(),
+            new Class<?>[] {DatabaseMetaData.class},
+            (proxy, method, args) -> {
+              if (method.getDeclaringClass() == Object.class) {
+                return method.invoke(metaData, args);
+              }
+              final long start = System.nanoTime();
+              try {
+                return method.invoke(metaData, args);
+              } catch (final InvocationTargetException e) {
+                throw e.getCause();
+              } finally {
+                crawlMetrics.recordMetadataCall(method.getName(), System.nanoTime() - start);
+                countJdbcCall();
+              }
+            });
+  }
+
+  /**
+   * Wraps a retrieval task, so that its wall time, CPU time and counts are recorded.
+   *
+   * @param crawlMetrics Metrics for the crawl
+   * @param retrievalName Name of the retrieval
+   * @param task Retrieval task
+   * @return Task that records metrics for the retrieval
+   */
+  static TaskRunnable record(
+      final MutableCrawlMetrics crawlMetrics, final String retrievalName, final TaskRunnable task) {
+    requireNonNull(crawlMetrics, "No crawl metrics provided");
+    requireNonNull(task, "No task provided");
+    return () -> run(crawlMetrics.forRetrieval(retrievalName), task, true);
+  }
+
+  private static long currentThreadCpuTime() {
+    if (threadMXBean.isCurrentThreadCpuTimeSupported() && threadMXBean.isThreadCpuTimeEnabled()) {
+      return threadMXBean.getCurrentThreadCpuTime();
+    }
+    return 0;
+  }
+
+  private static void run(
+      final MutableRetrievalMetrics metrics, final TaskRunnable task, final boolean timeWall)
+      throws Exception {
+    final MutableRetrievalMetrics previous = currentRetrieval.get();
+    currentRetrieval.set(metrics);
+    final long startCpuTime = currentThreadCpuTime();
+    final long start = System.nanoTime();
+    try {
+      task.run();
+    } finally {
+      if (timeWall) {
+        metrics.addWallTime(System.nanoTime() - start);
+      }
+      metrics.addCpuTime(currentThreadCpuTime() - startCpuTime);
+      if (previous == null) {
+        currentRetrieval.remove();
+      } else {
+        currentRetrieval.set(previous);
+      }
+    }
+  }
+
+  private static long utf8Length(final String text) {
+    long length = 0;
+    for (int i = 0; i < text.length(); i++) {
+      final char ch = text.charAt(i);
+      if (ch < 0x80) {
+        length = length + 1;
+      } else if (ch < 0x800) {
+        length = length + 2;
+      } else if (Character.isHighSurrogate(ch)
+          && i + 1 < text.length()
+          && Character.isLowSurrogate(text.charAt(i + 1))) {
+        // A surrogate pair is a single code point of four bytes
+        length = length + 4;
+        i++;
+      } else {
+        length = length + 3;
+      }
+    }
+    return length;
+  }
+
+  private CrawlMetricsRecorder() {
+    // Prevent instantiation
+  }
+}
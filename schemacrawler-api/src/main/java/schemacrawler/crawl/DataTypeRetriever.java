@@ -159,7 +159,7 @@ final class DataTypeRetriever extends AbstractRetriever {
       throw new ExecutionRuntimeException("No system column data types SQL provided");
     }
     final Query typeInfoSql = informationSchemaViews.getQuery(TYPE_INFO);
-    try (final Statement statement = createStatement();
+    try (final Statement statement = createStatement(TYPE_INFO);
         final MetadataResultSet results =
             new MetadataResultSet(typeInfoSql, statement, getSchemaInclusionRule())) {
       int numSystemColumnDataTypes = 0;
@@ -237,7 +237,7 @@ final class DatabaseInfoRetriever extends AbstractRetriever {
     }
     final Query databaseUsersSql = informationSchemaViews.getQuery(DATABASE_USERS);
 
-    try (final Statement statement = createStatement();
+    try (final Statement statement = createStatement(DATABASE_USERS);
         final MetadataResultSet results =
             new MetadataResultSet(databaseUsersSql, statement, new IncludeAll())) {
       while (results.next()) {
@@ -271,7 +271,7 @@ final class DatabaseInfoRetriever extends AbstractRetriever {
     }
     final Query serverInfoSql = informationSchemaViews.getQuery(SERVER_INFORMATION);
 
-    try (final Statement statement = createStatement();
+    try (final Statement statement = createStatement(SERVER_INFORMATION);
         final MetadataResultSet results =
             new MetadataResultSet(serverInfoSql, statement, new IncludeAll())) {
       while (results.next()) {
@@ -112,62 +112,66 @@ final class ForeignKeyRetriever extends AbstractRetriever {
       final ForeignKeyDeferrability deferrability =
           results.getEnumFromId("DEFERRABILITY", ForeignKeyDeferrability.unknown);
 
-      final Column pkColumn =
-          lookupOrCreateColumn(pkTableCatalogName, pkTableSchemaName, pkTableName, pkColumnName);
-      final Column fkColumn =
-          lookupOrCreateColumn(fkTableCatalogName, fkTableSchemaName, fkTableName, fkColumnName);
-      final boolean isPkColumnPartial = pkColumn instanceof ColumnPartial;
-      final boolean isFkColumnPartial = fkColumn instanceof ColumnPartial;
-
-      if (pkColumn == null || fkColumn == null || isFkColumnPartial && isPkColumnPartial) {
-        continue;
-      }
-
-      final Table fkTable = fkColumn.getParent();
-      final Table pkTable = pkColumn.getParent();
-
-      if (isBlank(foreignKeyName)) {
-        foreignKeyName = RetrieverUtility.constructForeignKeyName(fkTable, pkTable);
-        LOGGER.log(
-            Level.CONFIG,
-            new StringFormat(
-                "Identifying foreign key with blank name: %s from %s --> %s",
-                foreignKeyName, fkTable, pkTable));
-      }
-
-      final NamedObjectKey fkLookupKey =
-          new NamedObjectKey(fkTableCatalogName, fkTableSchemaName, fkTableName, foreignKeyName);
-      final ColumnReference columnReference =
-          new ImmutableColumnReference(keySequence, fkColumn, pkColumn);
-
-      final Optional<MutableForeignKey> foreignKeyOptional =
-          Optional.ofNullable(foreignKeys.get(fkLookupKey));
-      final MutableForeignKey foreignKey;
-      if (foreignKeyOptional.isPresent()) {
-        foreignKey = foreignKeyOptional.get();
-        foreignKey.addColumnReference(columnReference);
-      } else {
-        foreignKey = new MutableForeignKey(foreignKeyName, columnReference);
-        foreignKeys.put(fkLookupKey, foreignKey);
-      }
-
-      foreignKey.setUpdateRule(updateRule);
-      foreignKey.setDeleteRule(deleteRule);
-      foreignKey.setDeferrability(deferrability);
-      foreignKey.addAttributes(results.getAttributes());
-
-      if (fkColumn instanceof MutableColumn) {
-        ((MutableColumn) fkColumn).setReferencedColumn(pkColumn);
-        ((MutableTable) fkTable).addForeignKey(foreignKey);
-      } else if (isFkColumnPartial) {
-        ((ColumnPartial) fkColumn).setReferencedColumn(pkColumn);
-        ((TablePartial) fkTable).addForeignKey(foreignKey);
-      }
-
-      if (pkColumn instanceof MutableColumn) {
-        ((MutableTable) pkTable).addForeignKey(foreignKey);
-      } else if (isPkColumnPartial) {
-        ((TablePartial) pkTable).addForeignKey(foreignKey);
+      // Tables may be retrieved in parallel shards, and a foreign key is
+      // seen from the tables at both ends
+      synchronized (foreignKeys) {
+        final Column pkColumn =
+            lookupOrCreateColumn(pkTableCatalogName, pkTableSchemaName, pkTableName, pkColumnName);
+        final Column fkColumn =
+            lookupOrCreateColumn(fkTableCatalogName, fkTableSchemaName, fkTableName, fkColumnName);
+        final boolean isPkColumnPartial = pkColumn instanceof ColumnPartial;
+        final boolean isFkColumnPartial = fkColumn instanceof ColumnPartial;
+
+        if (pkColumn == null || fkColumn == null || isFkColumnPartial && isPkColumnPartial) {
+          continue;
+        }
+
+        final Table fkTable = fkColumn.getParent();
+        final Table pkTable = pkColumn.getParent();
+
+        if (isBlank(foreignKeyName)) {
+          foreignKeyName = RetrieverUtility.constructForeignKeyName(fkTable, pkTable);
+          LOGGER.log(
+              Level.CONFIG,
+              new StringFormat(
+                  "Identifying foreign key with blank name: %s from %s --> %s",
+                  foreignKeyName, fkTable, pkTable));
+        }
+
+        final NamedObjectKey fkLookupKey =
+            new NamedObjectKey(fkTableCatalogName, fkTableSchemaName, fkTableName, foreignKeyName);
+        final ColumnReference columnReference =
+            new ImmutableColumnReference(keySequence, fkColumn, pkColumn);
+
+        final Optional<MutableForeignKey> foreignKeyOptional =
+            Optional.ofNullable(foreignKeys.get(fkLookupKey));
+        final MutableForeignKey foreignKey;
+        if (foreignKeyOptional.isPresent()) {
+          foreignKey = foreignKeyOptional.get();
+          foreignKey.addColumnReference(columnReference);
+        } else {
+          foreignKey = new MutableForeignKey(foreignKeyName, columnReference);
+          foreignKeys.put(fkLookupKey, foreignKey);
+        }
+
+        foreignKey.setUpdateRule(updateRule);
+        foreignKey.setDeleteRule(deleteRule);
+        foreignKey.setDeferrability(deferrability);
+        foreignKey.addAttributes(results.getAttributes());
+
+        if (fkColumn instanceof MutableColumn) {
+          ((MutableColumn) fkColumn).setReferencedColumn(pkColumn);
+          ((MutableTable) fkTable).addForeignKey(foreignKey);
+        } else if (isFkColumnPartial) {
+          ((ColumnPartial) fkColumn).setReferencedColumn(pkColumn);
+          ((TablePartial) fkTable).addForeignKey(foreignKey);
+        }
+
+        if (pkColumn instanceof MutableColumn) {
+          ((MutableTable) pkTable).addForeignKey(foreignKey);
+        } else if (isPkColumnPartial) {
+          ((TablePartial) pkTable).addForeignKey(foreignKey);
+        }
       }
     }
   }
@@ -196,7 +200,7 @@ final class ForeignKeyRetriever extends AbstractRetriever {
 
     final Map<NamedObjectKey, MutableForeignKey> foreignKeys = new HashMap<>();
     final Query fkSql = informationSchemaViews.getQuery(FOREIGN_KEYS);
-    try (final Statement statement = createStatement();
+    try (final Statement statement = createStatement(FOREIGN_KEYS);
         final MetadataResultSet results =
             new MetadataResultSet(fkSql, statement, getSchemaInclusionRule())) {
       createForeignKeys(results, foreignKeys);
@@ -207,41 +211,48 @@ final class ForeignKeyRetriever extends AbstractRetriever {
   }
 
   private void retrieveForeignKeysFromMetadata(final NamedObjectList<MutableTable> allTables)
-      throws WrappedSQLException {
+      throws SQLException {
     final Map<NamedObjectKey, MutableForeignKey> foreignKeys = new HashMap<>();
-    for (final MutableTable table : allTables) {
-      if (table instanceof View) {
-        continue;
-      }
-
-      final DatabaseMetaData metaData = getMetaData();
-
-      // Get imported foreign keys
-      try (final MetadataResultSet results =
-          new MetadataResultSet(
-              metaData.getImportedKeys(
-                  table.getSchema().getCatalogName(), table.getSchema().getName(), table.getName()),
-              "DatabaseMetaData::getImportedKeys")) {
-        createForeignKeys(results, foreignKeys);
-      } catch (final SQLException e) {
-        throw new WrappedSQLException(
-            String.format("Could not retrieve foreign keys for table <%s>", table), e);
-      }
-
-      // We need to get exported keys as well, since if only a single
-      // table is selected, we have not retrieved it's keys that are
-      // imported by other tables.
-      try (final MetadataResultSet results =
-          new MetadataResultSet(
-              metaData.getExportedKeys(
-                  table.getSchema().getCatalogName(), table.getSchema().getName(), table.getName()),
-              "DatabaseMetaData::getExportedKeys")) {
-        createForeignKeys(results, foreignKeys);
-      } catch (final SQLException e) {
-        // Since not all database drivers may support exported keys, log a warning instead of
-        // throwing an error
-        LOGGER.log(Level.WARNING, "Could not retrieve exported foreign keys for table " + table, e);
-      }
-    }
+    forEachTable(
+        allTables,
+        table -> {
+          if (table instanceof View) {
+            return;
+          }
+
+          final DatabaseMetaData metaData = getMetaData();
+
+          // Get imported foreign keys
+          try (final MetadataResultSet results =
+              new MetadataResultSet(
+                  metaData.getImportedKeys(
+                      table.getSchema().getCatalogName(),
+                      table.getSchema().getName(),
+                      table.getName()),
+                  "DatabaseMetaData::getImportedKeys")) {
+            createForeignKeys(results, foreignKeys);
+          } catch (final SQLException e) {
+            throw new WrappedSQLException(
+                String.format("Could not retrieve foreign keys for table <%s>", table), e);
+          }
+
+          // We need to get exported keys as well, since if only a single
+          // table is selected, we have not retrieved it's keys that are
+          // imported by other tables.
+          try (final MetadataResultSet results =
+              new MetadataResultSet(
+                  metaData.getExportedKeys(
+                      table.getSchema().getCatalogName(),
+                      table.getSchema().getName(),
+                      table.getName()),
+                  "DatabaseMetaData::getExportedKeys")) {
+            createForeignKeys(results, foreignKeys);
+          } catch (final SQLException e) {
+            // Since not all database drivers may support exported keys, log a warning instead of
+            // throwing an error
+            LOGGER.log(
+                Level.WARNING, "Could not retrieve exported foreign keys for table " + table, e);
+          }
+        });
   }
 }
@@ -199,7 +199,7 @@ final class FunctionParameterRetriever extends AbstractRetriever {
       throw new ExecutionRuntimeException("No function columns SQL provided");
     }
     final Query functionColumnsSql = informationSchemaViews.getQuery(FUNCTION_COLUMNS);
-    try (final Statement statement = createStatement();
+    try (final Statement statement = createStatement(FUNCTION_COLUMNS);
         final MetadataResultSet results =
             new MetadataResultSet(functionColumnsSql, statement, getSchemaInclusionRule())) {
       while (results.next()) {
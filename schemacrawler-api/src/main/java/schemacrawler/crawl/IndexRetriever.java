@@ -143,7 +143,6 @@ final class IndexRetriever extends AbstractRetriever {
       index = indexOptional.get();
     } else {
       index = new MutableIndex(table, indexName);
-      table.addIndex(index);
     }
 
     final MutableIndexColumn indexColumn = new MutableIndexColumn(index, column);
@@ -156,6 +155,8 @@ final class IndexRetriever extends AbstractRetriever {
     index.setCardinality(cardinality);
     index.setPages(pages);
     index.addAttributes(results.getAttributes());
+    // Add the index after each column, since columns determine the sort order of indexes
+    table.addIndex(index);
   }
 
   private void retrieveIndexesFromDataDictionary(final NamedObjectList<MutableTable> allTables)
@@ -169,7 +170,7 @@ final class IndexRetriever extends AbstractRetriever {
     }
 
     final Query indexesSql = informationSchemaViews.getQuery(INDEXES);
-    try (final Statement statement = createStatement();
+    try (final Statement statement = createStatement(INDEXES);
         final MetadataResultSet results =
             new MetadataResultSet(indexesSql, statement, getSchemaInclusionRule())) {
       while (results.next()) {
@@ -193,10 +194,12 @@ final class IndexRetriever extends AbstractRetriever {
 
   private void retrieveIndexesFromMetadata(final NamedObjectList<MutableTable> allTables)
       throws SQLException {
-    for (final MutableTable table : allTables) {
-      retrieveTableIndexesFromMetadata(table, false);
-      retrieveTableIndexesFromMetadata(table, true);
-    }
+    forEachTable(
+        allTables,
+        table -> {
+          retrieveTableIndexesFromMetadata(table, false);
+          retrieveTableIndexesFromMetadata(table, true);
+        });
   }
 
   private void retrieveTableIndexesFromMetadata(final MutableTable table, final boolean unique)
@@ -77,32 +77,64 @@ public final class MetadataResultSet implements AutoCloseable {
 
   private static final Logger LOGGER = Logger.getLogger(MetadataResultSet.class.getName());
 
+  // Database metadata calls are made for one object at a time, and
+  // return few rows
   private static final int FETCHSIZE = 20;
 
   private final ResultsColumns resultsColumns;
   private final ResultSet results;
   private final String description;
-  private Set<ResultsColumn> readColumns;
+  private final int columnCount;
+  private final Set<ResultsColumn> readColumns;
   private int rowCount;
   private boolean showLobs;
 
+  /**
+   * Runs a data dictionary query. Rows are fetched in batches of the fetch size set on the
+   * statement, which can be tuned for each query.
+   *
+   * @param query Data dictionary query
+   * @param statement Statement to run the query with
+   * @param schemaInclusionRule Rule for schemas to query
+   * @throws SQLException On an exception running the query
+   */
   public MetadataResultSet(
       final Query query, final Statement statement, final InclusionRule schemaInclusionRule)
       throws SQLException {
-    this(executeAgainstSchema(query, statement, schemaInclusionRule), query.getName());
+    this(executeAgainstSchema(query, statement, schemaInclusionRule), query.getName(), 0);
+    CrawlMetricsRecorder.countJdbcCall();
   }
 
   public MetadataResultSet(final ResultSet resultSet, final String description)
       throws SQLException {
+    this(resultSet, description, FETCHSIZE);
+  }
+
+  /**
+   * Wraps a result set, fetching rows in batches of the given size. Large data queries can use a
+   * large fetch size, to reduce round trips to the database server.
+   *
+   * @param resultSet Result set to wrap
+   * @param description Description of the results, for logging
+   * @param fetchSize Number of rows to fetch in each round trip, or zero to use the fetch size set
+   *     on the statement
+   * @throws SQLException On an exception reading the result set metadata
+   */
+  public MetadataResultSet(
+      final ResultSet resultSet, final String description, final int fetchSize)
+      throws SQLException {
     results = requireNonNull(resultSet, "Cannot use null results");
-    try {
-      results.setFetchSize(FETCHSIZE);
-    } catch (final NullPointerException | SQLException e) {
-      LOGGER.log(Level.WARNING, "Could not set fetch size", e);
+    if (fetchSize > 0) {
+      try {
+        results.setFetchSize(fetchSize);
+      } catch (final NullPointerException | SQLException e) {
+        LOGGER.log(Level.WARNING, "Could not set fetch size", e);
+      }
     }
     this.description = requireNotBlank(description, "No result-set description provided");
 
     resultsColumns = new ResultsCrawler(results).crawl();
+    columnCount = resultsColumns.getColumns().size();
     readColumns = new HashSet<>();
     showLobs = true;
   }
@@ -116,6 +148,7 @@ public final class MetadataResultSet implements AutoCloseable {
   @Override
   public void close() throws SQLException {
     results.close();
+    CrawlMetricsRecorder.countRows(rowCount);
     LOGGER.log(Level.FINE, new StringFormat("Processed %d rows for <%s>", rowCount, description));
   }
 
@@ -382,7 +415,7 @@ public final class MetadataResultSet implements AutoCloseable {
    * @throws SQLException On a database access error
    */
   public boolean next() throws SQLException {
-    readColumns = new HashSet<>();
+    readColumns.clear();
 
     final boolean next = results.next();
     logSQLWarnings(results);
@@ -401,6 +434,22 @@ public final class MetadataResultSet implements AutoCloseable {
     return currentRow;
   }
 
+  /**
+   * Reads the current row into an array, without building an intermediate list, for callers that
+   * read large numbers of rows.
+   *
+   * @return Values of the columns in the current row, in ordinal order
+   * @throws SQLException On a database access error
+   */
+  public Object[] rowValues() throws SQLException {
+    final Object[] values = new Object[columnCount];
+    int i = 0;
+    for (final ResultsColumn resultsColumn : resultsColumns) {
+      values[i++] = getColumnData(resultsColumn);
+    }
+    return values;
+  }
+
   public void setShowLobs(final boolean showLobs) {
     this.showLobs = showLobs;
   }
@@ -447,7 +496,9 @@ public final class MetadataResultSet implements AutoCloseable {
   private Object readCharacterData(final Reader reader) {
     try {
       if (reader != null && showLobs) {
-        return readFully(reader);
+        final String text = readFully(reader);
+        CrawlMetricsRecorder.countText(text);
+        return text;
       }
     } catch (final Exception e) {
       LOGGER.log(Level.WARNING, "Could not read character data", e);
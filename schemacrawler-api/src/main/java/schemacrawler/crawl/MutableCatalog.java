@@ -33,15 +33,14 @@ import static us.fatehi.utility.Utility.isBlank;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
-import java.util.function.Predicate;
 
 import schemacrawler.schema.Catalog;
 import schemacrawler.schema.Column;
 import schemacrawler.schema.ColumnDataType;
 import schemacrawler.schema.ConnectionInfo;
 import schemacrawler.schema.CrawlInfo;
-import schemacrawler.schema.DatabaseObject;
 import schemacrawler.schema.DatabaseUser;
 import schemacrawler.schema.NamedObject;
 import schemacrawler.schema.NamedObjectKey;
@@ -59,20 +58,6 @@ import schemacrawler.schemacrawler.SchemaReference;
  */
 final class MutableCatalog extends AbstractNamedObjectWithAttributes implements Catalog {
 
-  private static final class FilterBySchema implements Predicate<DatabaseObject> {
-
-    private final Schema schema;
-
-    public FilterBySchema(final Schema schema) {
-      this.schema = requireNonNull(schema, "No schema provided");
-    }
-
-    @Override
-    public boolean test(final DatabaseObject databaseObject) {
-      return databaseObject != null && databaseObject.getSchema().equals(schema);
-    }
-  }
-
   private static final long serialVersionUID = 4051323422934251828L;
 
   private final NamedObjectList<MutableColumnDataType> columnDataTypes = new NamedObjectList<>();
@@ -104,14 +89,7 @@ final class MutableCatalog extends AbstractNamedObjectWithAttributes implements
   /** {@inheritDoc} */
   @Override
   public Collection<ColumnDataType> getColumnDataTypes(final Schema schema) {
-    final FilterBySchema filter = new FilterBySchema(schema);
-    final Collection<ColumnDataType> columnDataTypes = new ArrayList<>();
-    for (final ColumnDataType columnDataType : this.columnDataTypes) {
-      if (filter.test(columnDataType)) {
-        columnDataTypes.add(columnDataType);
-      }
-    }
-    return columnDataTypes;
+    return new ArrayList<>(columnDataTypes.values(schema));
   }
 
   @Override
@@ -151,13 +129,13 @@ final class MutableCatalog extends AbstractNamedObjectWithAttributes implements
   /** {@inheritDoc} */
   @Override
   public Collection<Routine> getRoutines(final Schema schema, final String routineName) {
-    Predicate<DatabaseObject> filter = new FilterBySchema(schema);
-    if (!isBlank(routineName)) {
-      filter = filter.and(routine -> routine.getName().equals(routineName));
+    final List<MutableRoutine> schemaRoutines = this.routines.values(schema);
+    if (isBlank(routineName)) {
+      return new ArrayList<>(schemaRoutines);
     }
     final Collection<Routine> routines = new ArrayList<>();
-    for (final Routine routine : this.routines) {
-      if (filter.test(routine)) {
+    for (final Routine routine : schemaRoutines) {
+      if (routine.getName().equals(routineName)) {
         routines.add(routine);
       }
     }
@@ -179,14 +157,7 @@ final class MutableCatalog extends AbstractNamedObjectWithAttributes implements
   /** {@inheritDoc} */
   @Override
   public Collection<Sequence> getSequences(final Schema schema) {
-    final FilterBySchema filter = new FilterBySchema(schema);
-    final Collection<Sequence> sequences = new ArrayList<>();
-    for (final Sequence sequence : this.sequences) {
-      if (filter.test(sequence)) {
-        sequences.add(sequence);
-      }
-    }
-    return sequences;
+    return new ArrayList<>(sequences.values(schema));
   }
 
   /** {@inheritDoc} */
@@ -198,14 +169,7 @@ final class MutableCatalog extends AbstractNamedObjectWithAttributes implements
   /** {@inheritDoc} */
   @Override
   public Collection<Synonym> getSynonyms(final Schema schema) {
-    final FilterBySchema filter = new FilterBySchema(schema);
-    final Collection<Synonym> synonyms = new ArrayList<>();
-    for (final Synonym synonym : this.synonyms) {
-      if (filter.test(synonym)) {
-        synonyms.add(synonym);
-      }
-    }
-    return synonyms;
+    return new ArrayList<>(synonyms.values(schema));
   }
 
   /** {@inheritDoc} */
@@ -223,14 +187,7 @@ final class MutableCatalog extends AbstractNamedObjectWithAttributes implements
   /** {@inheritDoc} */
   @Override
   public Collection<Table> getTables(final Schema schema) {
-    final FilterBySchema filter = new FilterBySchema(schema);
-    final Collection<Table> tables = new ArrayList<>();
-    for (final Table table : this.tables) {
-      if (filter.test(table)) {
-        tables.add(table);
-      }
-    }
-    return tables;
+    return new ArrayList<>(tables.values(schema));
   }
 
   /** {@inheritDoc} */
@@ -362,6 +319,10 @@ final class MutableCatalog extends AbstractNamedObjectWithAttributes implements
     return tables;
   }
 
+  MutableCrawlMetrics getCrawlMetrics() {
+    return crawlInfo.getCrawlMetrics();
+  }
+
   MutableColumnDataType lookupBaseColumnDataTypeByType(final int baseType) {
     final SchemaReference systemSchema = new SchemaReference();
     MutableColumnDataType columnDataType = null;
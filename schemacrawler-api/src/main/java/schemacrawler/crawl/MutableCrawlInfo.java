@@ -85,6 +85,7 @@ final class MutableCrawlInfo implements CrawlInfo {
   private final ProductVersion schemaCrawlerVersion;
   private final ProductVersion databaseVersion;
   private final ProductVersion jdbcDriverVersion;
+  private final MutableCrawlMetrics crawlMetrics;
 
   MutableCrawlInfo(final ConnectionInfo connectionInfo) {
     requireNonNull(connectionInfo, "No connection information provided");
@@ -101,6 +102,17 @@ final class MutableCrawlInfo implements CrawlInfo {
 
     crawlTimestamp = Instant.now();
     runId = UUID.randomUUID();
+    crawlMetrics = new MutableCrawlMetrics();
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public MutableCrawlMetrics getCrawlMetrics() {
+    if (crawlMetrics == null) {
+      // Catalogs serialized by older versions have no crawl metrics
+      return new MutableCrawlMetrics();
+    }
+    return crawlMetrics;
   }
 
   @Override
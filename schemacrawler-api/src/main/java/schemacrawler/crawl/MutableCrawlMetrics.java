@@ -0,0 +1,118 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2022, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+
+package schemacrawler.crawl;
+
+import static java.lang.System.lineSeparator;
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+import schemacrawler.schema.CrawlMetrics;
+import schemacrawler.schema.LatencyHistogram;
+import schemacrawler.schema.RetrievalMetrics;
+
+/** Metrics for a crawl, which are updated by retrievals as they run. */
+final class MutableCrawlMetrics implements CrawlMetrics {
+
+  private static final long serialVersionUID = 3350463837498402468L;
+
+  private final Map<String, MutableRetrievalMetrics> retrievalMetrics;
+  private final Map<String, MutableLatencyHistogram> metadataCallLatencies;
+
+  MutableCrawlMetrics() {
+    retrievalMetrics = new LinkedHashMap<>();
+    metadataCallLatencies = new ConcurrentHashMap<>();
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public Map<String, LatencyHistogram> getMetadataCallLatencies() {
+    return Collections.unmodifiableMap(new TreeMap<>(metadataCallLatencies));
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public Collection<RetrievalMetrics> getRetrievalMetrics() {
+    synchronized (retrievalMetrics) {
+      return Collections.unmodifiableList(new ArrayList<>(retrievalMetrics.values()));
+    }
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public Optional<RetrievalMetrics> lookupRetrievalMetrics(final String retrievalName) {
+    synchronized (retrievalMetrics) {
+      return Optional.ofNullable(retrievalMetrics.get(retrievalName));
+    }
+  }
+
+  @Override
+  public String toString() {
+    final StringBuilder buffer = new StringBuilder(1024);
+    for (final RetrievalMetrics metrics : getRetrievalMetrics()) {
+      buffer.append(metrics).append(lineSeparator());
+    }
+    for (final Map.Entry<String, LatencyHistogram> entry :
+        getMetadataCallLatencies().entrySet()) {
+      buffer
+          .append("DatabaseMetaData::")
+          .append(entry.getKey())
+          .append(": ")
+          .append(entry.getValue())
+          .append(lineSeparator());
+    }
+    return buffer.toString();
+  }
+
+  /**
+   * Gets metrics for a retrieval, creating them when the retrieval is first started.
+   *
+   * @param retrievalName Retrieval name
+   * @return Metrics for the retrieval
+   */
+  MutableRetrievalMetrics forRetrieval(final String retrievalName) {
+    requireNonNull(retrievalName, "No retrieval name provided");
+    synchronized (retrievalMetrics) {
+      return retrievalMetrics.computeIfAbsent(retrievalName, MutableRetrievalMetrics::new);
+    }
+  }
+
+  void recordMetadataCall(final String methodName, final long latencyNanos) {
+    metadataCallLatencies
+        .computeIfAbsent(methodName, name -> new MutableLatencyHistogram())
+        .record(latencyNanos);
+  }
+}
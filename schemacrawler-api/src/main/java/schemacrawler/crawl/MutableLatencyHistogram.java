@@ -0,0 +1,129 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2022, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+
+package schemacrawler.crawl;
+
+import java.time.Duration;
+import java.time.temporal.ChronoUnit;
+import java.util.Collections;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import schemacrawler.schema.LatencyHistogram;
+
+/**
+ * Latency histogram with buckets in a 1-2-5 series from 100 microseconds to 10 seconds, which may
+ * be updated from several threads at once.
+ */
+final class MutableLatencyHistogram implements LatencyHistogram {
+
+  private static final long serialVersionUID = 6253946498232120487L;
+
+  private static final long[] BUCKET_BOUNDS_NANOS = {
+    TimeUnit.MICROSECONDS.toNanos(100),
+    TimeUnit.MICROSECONDS.toNanos(200),
+    TimeUnit.MICROSECONDS.toNanos(500),
+    TimeUnit.MILLISECONDS.toNanos(1),
+    TimeUnit.MILLISECONDS.toNanos(2),
+    TimeUnit.MILLISECONDS.toNanos(5),
+    TimeUnit.MILLISECONDS.toNanos(10),
+    TimeUnit.MILLISECONDS.toNanos(20),
+    TimeUnit.MILLISECONDS.toNanos(50),
+    TimeUnit.MILLISECONDS.toNanos(100),
+    TimeUnit.MILLISECONDS.toNanos(200),
+    TimeUnit.MILLISECONDS.toNanos(500),
+    TimeUnit.SECONDS.toNanos(1),
+    TimeUnit.SECONDS.toNanos(2),
+    TimeUnit.SECONDS.toNanos(5),
+    TimeUnit.SECONDS.toNanos(10),
+  };
+
+  private final AtomicLongArray bucketCounts;
+  private final AtomicLong totalLatencyNanos;
+  private final AtomicLong maxLatencyNanos;
+
+  MutableLatencyHistogram() {
+    // The last bucket is for calls slower than all bounds
+    bucketCounts = new AtomicLongArray(BUCKET_BOUNDS_NANOS.length + 1);
+    totalLatencyNanos = new AtomicLong();
+    maxLatencyNanos = new AtomicLong();
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public SortedMap<Duration, Long> getBuckets() {
+    final SortedMap<Duration, Long> buckets = new TreeMap<>();
+    for (int i = 0; i < BUCKET_BOUNDS_NANOS.length; i++) {
+      buckets.put(Duration.ofNanos(BUCKET_BOUNDS_NANOS[i]), bucketCounts.get(i));
+    }
+    buckets.put(ChronoUnit.FOREVER.getDuration(), bucketCounts.get(BUCKET_BOUNDS_NANOS.length));
+    return Collections.unmodifiableSortedMap(buckets);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public long getCount() {
+    long count = 0;
+    for (int i = 0; i < bucketCounts.length(); i++) {
+      count = count + bucketCounts.get(i);
+    }
+    return count;
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public Duration getMaxLatency() {
+    return Duration.ofNanos(maxLatencyNanos.get());
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public Duration getTotalLatency() {
+    return Duration.ofNanos(totalLatencyNanos.get());
+  }
+
+  @Override
+  public String toString() {
+    return String.format(
+        "%d calls, total %d ms, max %d ms",
+        getCount(), getTotalLatency().toMillis(), getMaxLatency().toMillis());
+  }
+
+  void record(final long latencyNanos) {
+    int bucket = 0;
+    while (bucket < BUCKET_BOUNDS_NANOS.length && latencyNanos > BUCKET_BOUNDS_NANOS[bucket]) {
+      bucket++;
+    }
+    bucketCounts.incrementAndGet(bucket);
+    totalLatencyNanos.addAndGet(latencyNanos);
+    maxLatencyNanos.accumulateAndGet(latencyNanos, Math::max);
+  }
+}
@@ -0,0 +1,139 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2022, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+
+package schemacrawler.crawl;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import schemacrawler.schema.RetrievalMetrics;
+
+/** Metrics for a retrieval, which may be updated from several threads at once. */
+final class MutableRetrievalMetrics implements RetrievalMetrics {
+
+  private static final long serialVersionUID = -2440213513420596420L;
+
+  private final String name;
+  private final AtomicLong wallTimeNanos;
+  private final AtomicLong cpuTimeNanos;
+  private final AtomicLong jdbcCallCount;
+  private final AtomicLong rowCount;
+  private final AtomicLong textBytes;
+  private final AtomicLong objectCount;
+
+  MutableRetrievalMetrics(final String name) {
+    this.name = requireNonNull(name, "No retrieval name provided");
+    wallTimeNanos = new AtomicLong();
+    cpuTimeNanos = new AtomicLong();
+    jdbcCallCount = new AtomicLong();
+    rowCount = new AtomicLong();
+    textBytes = new AtomicLong();
+    objectCount = new AtomicLong();
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public Duration getCpuTime() {
+    return Duration.ofNanos(cpuTimeNanos.get());
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public long getJdbcCallCount() {
+    return jdbcCallCount.get();
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public String getName() {
+    return name;
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public long getObjectCount() {
+    return objectCount.get();
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public long getRowCount() {
+    return rowCount.get();
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public long getTextBytes() {
+    return textBytes.get();
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public Duration getWallTime() {
+    return Duration.ofNanos(wallTimeNanos.get());
+  }
+
+  @Override
+  public String toString() {
+    return String.format(
+        "%s: wall time %d ms, CPU time %d ms, %d JDBC calls, %d rows, %d text bytes, %d objects",
+        name,
+        getWallTime().toMillis(),
+        getCpuTime().toMillis(),
+        getJdbcCallCount(),
+        getRowCount(),
+        getTextBytes(),
+        getObjectCount());
+  }
+
+  void addCpuTime(final long nanos) {
+    cpuTimeNanos.addAndGet(nanos);
+  }
+
+  void addJdbcCalls(final long count) {
+    jdbcCallCount.addAndGet(count);
+  }
+
+  void addObjects(final long count) {
+    objectCount.addAndGet(count);
+  }
+
+  void addRows(final long count) {
+    rowCount.addAndGet(count);
+  }
+
+  void addTextBytes(final long bytes) {
+    textBytes.addAndGet(bytes);
+  }
+
+  void addWallTime(final long nanos) {
+    wallTimeNanos.addAndGet(nanos);
+  }
+}
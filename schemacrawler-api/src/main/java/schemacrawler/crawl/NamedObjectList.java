@@ -28,11 +28,14 @@ http://www.gnu.org/licenses/
 
 package schemacrawler.crawl;
 
+import static java.util.Collections.emptyList;
+import static java.util.Collections.unmodifiableList;
 import static java.util.Comparator.naturalOrder;
 import static java.util.Objects.requireNonNull;
 
 import java.io.Serializable;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
@@ -40,12 +43,15 @@ import java.util.Map.Entry;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLongFieldUpdater;
 import java.util.function.Predicate;
 
 import schemacrawler.schema.AttributedObject;
+import schemacrawler.schema.DatabaseObject;
 import schemacrawler.schema.NamedObject;
 import schemacrawler.schema.NamedObjectKey;
 import schemacrawler.schema.ReducibleCollection;
+import schemacrawler.schema.Schema;
 import us.fatehi.utility.ObjectToString;
 
 /**
@@ -53,11 +59,47 @@ import us.fatehi.utility.ObjectToString;
  * ability to look up by dependent object which is not created yet. That is, by NamedObject +
  * String. Returns values sorted in natural sort order, and is iterable. The iterator does not allow
  * modifications to the underlying data structure.
+ *
+ * <p>The sorted values, and the values grouped by schema, are built on first use, and kept until
+ * the list is next modified.
  */
 final class NamedObjectList<N extends NamedObject> implements Serializable, ReducibleCollection<N> {
 
+  /** Sorted values of the list, as of a given number of modifications to the list. */
+  private static final class Snapshot<N extends NamedObject> {
+
+    private final long modifications;
+    private final List<N> values;
+    private volatile Map<Schema, List<N>> valuesBySchema;
+
+    Snapshot(final long modifications, final List<N> values) {
+      this.modifications = modifications;
+      this.values = unmodifiableList(values);
+    }
+
+    List<N> values(final Schema schema) {
+      Map<Schema, List<N>> valuesBySchema = this.valuesBySchema;
+      if (valuesBySchema == null) {
+        valuesBySchema = new HashMap<>();
+        for (final N value : values) {
+          if (value instanceof DatabaseObject) {
+            final Schema valueSchema = ((DatabaseObject) value).getSchema();
+            valuesBySchema.computeIfAbsent(valueSchema, key -> new ArrayList<>()).add(value);
+          }
+        }
+        valuesBySchema.replaceAll((key, schemaValues) -> unmodifiableList(schemaValues));
+        this.valuesBySchema = valuesBySchema;
+      }
+      return valuesBySchema.getOrDefault(schema, emptyList());
+    }
+  }
+
   private static final long serialVersionUID = 3257847666804142128L;
 
+  @SuppressWarnings("rawtypes")
+  private static final AtomicLongFieldUpdater<NamedObjectList> MODIFICATIONS =
+      AtomicLongFieldUpdater.newUpdater(NamedObjectList.class, "modifications");
+
   private static NamedObjectKey makeLookupKey(final NamedObject namedObject) {
     final NamedObjectKey key;
     if (namedObject == null) {
@@ -77,6 +119,8 @@ final class NamedObjectList<N extends NamedObject> implements Serializable, Redu
   }
 
   private final Map<NamedObjectKey, N> objects = new ConcurrentHashMap<>();
+  private transient volatile long modifications;
+  private transient volatile Snapshot<N> snapshot;
 
   @Override
   public void filter(final Predicate<? super N> predicate) {
@@ -97,6 +141,7 @@ final class NamedObjectList<N extends NamedObject> implements Serializable, Redu
         }
       }
     }
+    modified();
   }
 
   /** {@inheritDoc} */
@@ -142,7 +187,10 @@ final class NamedObjectList<N extends NamedObject> implements Serializable, Redu
   boolean add(final N namedObject) {
     requireNonNull(namedObject, "Cannot add a null object to the list");
     final NamedObjectKey key = makeLookupKey(namedObject);
-    objects.put(key, namedObject);
+    if (objects.put(key, namedObject) == null) {
+      CrawlMetricsRecorder.countObject();
+    }
+    modified();
     return true;
   }
 
@@ -150,6 +198,14 @@ final class NamedObjectList<N extends NamedObject> implements Serializable, Redu
     return objects.containsKey(makeLookupKey(namedObject));
   }
 
+  /**
+   * Discards the sorted values, if the natural sort order of named objects changes after they are
+   * added to the list.
+   */
+  void invalidate() {
+    modified();
+  }
+
   boolean isEmpty() {
     return objects.isEmpty();
   }
@@ -170,7 +226,9 @@ final class NamedObjectList<N extends NamedObject> implements Serializable, Redu
   }
 
   N remove(final N namedObject) {
-    return objects.remove(makeLookupKey(namedObject));
+    final N removedObject = objects.remove(makeLookupKey(namedObject));
+    modified();
+    return removedObject;
   }
 
   /**
@@ -185,15 +243,44 @@ final class NamedObjectList<N extends NamedObject> implements Serializable, Redu
   /**
    * Gets all named objects in the list, in sorted order.
    *
-   * @return All named objects
+   * @return All named objects, which cannot be modified
    */
   List<N> values() {
-    final List<N> all = new ArrayList<>(objects.values());
-    all.sort(naturalOrder());
-    return all;
+    return snapshot().values;
+  }
+
+  /**
+   * Gets all named objects in the list that belong to a schema, in sorted order.
+   *
+   * @param schema Schema
+   * @return Named objects in the schema, which cannot be modified
+   */
+  List<N> values(final Schema schema) {
+    requireNonNull(schema, "No schema provided");
+    return snapshot().values(schema);
   }
 
   private Optional<N> internalGet(final NamedObjectKey key) {
     return Optional.ofNullable(objects.get(key));
   }
+
+  private void modified() {
+    MODIFICATIONS.incrementAndGet(this);
+  }
+
+  private Snapshot<N> snapshot() {
+    // Read the count of modifications before the values, so that a snapshot taken while the list
+    // is being modified is rebuilt the next time
+    final long modifications = this.modifications;
+    final Snapshot<N> snapshot = this.snapshot;
+    if (snapshot != null && snapshot.modifications == modifications) {
+      return snapshot;
+    }
+
+    final List<N> values = new ArrayList<>(objects.values());
+    values.sort(naturalOrder());
+    final Snapshot<N> newSnapshot = new Snapshot<>(modifications, values);
+    this.snapshot = newSnapshot;
+    return newSnapshot;
+  }
 }
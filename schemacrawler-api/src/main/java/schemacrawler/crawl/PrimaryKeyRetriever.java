@@ -120,7 +120,7 @@ final class PrimaryKeyRetriever extends AbstractRetriever {
     }
 
     final Query pkSql = informationSchemaViews.getQuery(PRIMARY_KEYS);
-    try (final Statement statement = createStatement();
+    try (final Statement statement = createStatement(PRIMARY_KEYS);
         final MetadataResultSet results =
             new MetadataResultSet(pkSql, statement, getSchemaInclusionRule())) {
       while (results.next()) {
@@ -144,24 +144,26 @@ final class PrimaryKeyRetriever extends AbstractRetriever {
 
   private void retrievePrimaryKeysFromMetadata(final NamedObjectList<MutableTable> allTables)
       throws SQLException {
-    for (final MutableTable table : allTables) {
-      if (table instanceof View) {
-        continue;
-      }
-      final Schema tableSchema = table.getSchema();
-      try (final MetadataResultSet results =
-          new MetadataResultSet(
-              getMetaData()
-                  .getPrimaryKeys(
-                      tableSchema.getCatalogName(), tableSchema.getName(), table.getName()),
-              "DatabaseMetaData::getPrimaryKeys")) {
-        while (results.next()) {
-          createPrimaryKeyForTable(table, results);
-        }
-      } catch (final SQLException e) {
-        throw new WrappedSQLException(
-            String.format("Could not retrieve primary keys for table <%s>", table), e);
-      }
-    }
+    forEachTable(
+        allTables,
+        table -> {
+          if (table instanceof View) {
+            return;
+          }
+          final Schema tableSchema = table.getSchema();
+          try (final MetadataResultSet results =
+              new MetadataResultSet(
+                  getMetaData()
+                      .getPrimaryKeys(
+                          tableSchema.getCatalogName(), tableSchema.getName(), table.getName()),
+                  "DatabaseMetaData::getPrimaryKeys")) {
+            while (results.next()) {
+              createPrimaryKeyForTable(table, results);
+            }
+          } catch (final SQLException e) {
+            throw new WrappedSQLException(
+                String.format("Could not retrieve primary keys for table <%s>", table), e);
+          }
+        });
   }
 }
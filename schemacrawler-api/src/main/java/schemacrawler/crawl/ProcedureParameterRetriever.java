@@ -203,7 +203,7 @@ final class ProcedureParameterRetriever extends AbstractRetriever {
       throw new ExecutionRuntimeException("No procedure parameters SQL provided");
     }
     final Query procedureColumnsSql = informationSchemaViews.getQuery(PROCEDURE_COLUMNS);
-    try (final Statement statement = createStatement();
+    try (final Statement statement = createStatement(PROCEDURE_COLUMNS);
         final MetadataResultSet results =
             new MetadataResultSet(procedureColumnsSql, statement, getSchemaInclusionRule())) {
       while (results.next()) {
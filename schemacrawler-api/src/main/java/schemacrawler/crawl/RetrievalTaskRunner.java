@@ -29,6 +29,9 @@ package schemacrawler.crawl;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.concurrent.CompletionException;
 import java.util.concurrent.CopyOnWriteArrayList;
@@ -36,32 +39,92 @@ import java.util.concurrent.ExecutionException;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
+import schemacrawler.schemacrawler.LoadOptions;
 import schemacrawler.schemacrawler.SchemaInfoLevel;
 import schemacrawler.schemacrawler.SchemaInfoRetrieval;
 import schemacrawler.schemacrawler.exceptions.ExecutionRuntimeException;
 import us.fatehi.utility.scheduler.TaskDefinition;
 import us.fatehi.utility.scheduler.TaskRunner;
+import us.fatehi.utility.scheduler.TaskRunnerMode;
 import us.fatehi.utility.scheduler.TaskRunners;
 
 /**
- * Builds a list of task definitions that can be run in parallel. These are then submitted to be run
- * (in parallel) in a blocked way until all are complete.
+ * Builds a graph of task definitions, where each task declares the retrievals that need to complete
+ * before it can start. These are then submitted to be run (in parallel, where the dependencies
+ * allow) in a blocked way until all are complete.
  */
 public final class RetrievalTaskRunner {
 
+  private static final class RetrievalTask {
+    private final String retrievalName;
+    private final boolean shouldRun;
+    private final TaskDefinition.TaskRunnable function;
+    private final Collection<String> dependencies;
+
+    RetrievalTask(
+        final String retrievalName,
+        final boolean shouldRun,
+        final TaskDefinition.TaskRunnable function) {
+      this.retrievalName = retrievalName;
+      this.shouldRun = shouldRun;
+      this.function = function;
+      dependencies = new LinkedHashSet<>();
+    }
+
+    TaskDefinition toTaskDefinition() {
+      if (shouldRun) {
+        return new TaskDefinition(retrievalName, function, dependencies);
+      } else {
+        return new TaskDefinition(retrievalName, dependencies);
+      }
+    }
+  }
+
   private static final Logger LOGGER = Logger.getLogger(RetrievalTaskRunner.class.getName());
 
   private final TaskRunner taskRunner;
   private final SchemaInfoLevel infoLevel;
-  private final List<TaskDefinition> taskDefinitions;
+  private final List<RetrievalTask> retrievalTasks;
+  private final RetrieverConnection retrieverConnection;
 
   public RetrievalTaskRunner(final SchemaInfoLevel infoLevel, final int maxThreads) {
     this.infoLevel = requireNonNull(infoLevel, "No info-level provided");
+    retrieverConnection = null;
 
     taskRunner = TaskRunners.getTaskRunner(infoLevel.getTag(), maxThreads);
-    taskDefinitions = new CopyOnWriteArrayList<>();
+    retrievalTasks = new CopyOnWriteArrayList<>();
   }
 
+  /**
+   * Task runner where each retrieval task leases its own connection from the retriever connection
+   * while it runs. On virtual threads, as many tasks run at the same time as there are connections
+   * to lease, otherwise the number of tasks is limited by the maximum number of threads.
+   */
+  RetrievalTaskRunner(
+      final SchemaInfoLevel infoLevel,
+      final LoadOptions loadOptions,
+      final RetrieverConnection retrieverConnection) {
+    this.infoLevel = requireNonNull(infoLevel, "No info-level provided");
+    requireNonNull(loadOptions, "No load options provided");
+    this.retrieverConnection =
+        requireNonNull(retrieverConnection, "No retriever connection provided");
+
+    final TaskRunnerMode taskRunnerMode = loadOptions.getTaskRunnerMode();
+    final int maxParallelism;
+    if (taskRunnerMode == TaskRunnerMode.virtual_threads) {
+      maxParallelism = retrieverConnection.getMaxConnections();
+    } else {
+      maxParallelism = loadOptions.getMaxThreads();
+    }
+    taskRunner = TaskRunners.getTaskRunner(infoLevel.getTag(), taskRunnerMode, maxParallelism);
+    retrievalTasks = new CopyOnWriteArrayList<>();
+  }
+
+  /**
+   * Adds a retrieval task, which is run only if the retrieval, and all of the additional
+   * retrievals, are requested in the schema info-level. The additional retrievals are also
+   * prerequisites, so the task is started only after they have completed.
+   */
   public RetrievalTaskRunner add(
       final SchemaInfoRetrieval retrieval,
       final TaskDefinition.TaskRunnable function,
@@ -69,7 +132,7 @@ public final class RetrievalTaskRunner {
       throws Exception {
     final boolean shouldRun = shouldRun(retrieval) && shouldRun(additionalRetrievals);
     add(retrieval.name(), shouldRun, function);
-    return this;
+    return after(additionalRetrievals);
   }
 
   public RetrievalTaskRunner add(
@@ -79,6 +142,37 @@ public final class RetrievalTaskRunner {
       throws Exception {
     final boolean shouldRun = shouldRun(additionalRetrievals);
     add(retrievalName, shouldRun, function);
+    return after(additionalRetrievals);
+  }
+
+  /**
+   * Declares that the most recently added task can only start after the given retrievals have
+   * completed, without making them a condition for running the task.
+   */
+  public RetrievalTaskRunner after(final SchemaInfoRetrieval... retrievals) {
+    final List<String> retrievalNames = new ArrayList<>();
+    if (retrievals != null) {
+      for (final SchemaInfoRetrieval retrieval : retrievals) {
+        retrievalNames.add(retrieval.name());
+      }
+    }
+    return after(retrievalNames.toArray(new String[retrievalNames.size()]));
+  }
+
+  /**
+   * Declares that the most recently added task can only start after the named tasks have
+   * completed.
+   */
+  public RetrievalTaskRunner after(final String... retrievalNames) {
+    if (retrievalTasks.isEmpty()) {
+      throw new IllegalStateException("No task to add dependencies to");
+    }
+    if (retrievalNames != null) {
+      final RetrievalTask retrievalTask = retrievalTasks.get(retrievalTasks.size() - 1);
+      for (final String retrievalName : retrievalNames) {
+        retrievalTask.dependencies.add(retrievalName);
+      }
+    }
     return this;
   }
 
@@ -106,6 +200,10 @@ public final class RetrievalTaskRunner {
 
   public void submit() throws Exception {
     try {
+      final List<TaskDefinition> taskDefinitions = new ArrayList<>();
+      for (final RetrievalTask retrievalTask : retrievalTasks) {
+        taskDefinitions.add(retrievalTask.toTaskDefinition());
+      }
       taskRunner.run(taskDefinitions.toArray(new TaskDefinition[taskDefinitions.size()]));
     } catch (final CompletionException e) {
       final Throwable cause = e.getCause();
@@ -115,7 +213,7 @@ public final class RetrievalTaskRunner {
         throw e;
       }
     } finally {
-      taskDefinitions.clear();
+      retrievalTasks.clear();
     }
   }
 
@@ -129,11 +227,15 @@ public final class RetrievalTaskRunner {
       throw new IllegalStateException("Task runner is stopped");
     }
 
-    if (shouldRun) {
-      taskDefinitions.add(new TaskDefinition(retrievalName, function));
-    } else {
-      taskDefinitions.add(new TaskDefinition(retrievalName));
+    TaskDefinition.TaskRunnable task = function;
+    if (retrieverConnection != null) {
+      task = retrieverConnection.withLeasedConnection(task);
+      final MutableCrawlMetrics crawlMetrics = retrieverConnection.getCrawlMetrics();
+      if (crawlMetrics != null) {
+        task = CrawlMetricsRecorder.record(crawlMetrics, retrievalName, task);
+      }
     }
+    retrievalTasks.add(new RetrievalTask(retrievalName, shouldRun, task));
   }
 
   private boolean shouldRun(final SchemaInfoRetrieval... additionalRetrievals) {
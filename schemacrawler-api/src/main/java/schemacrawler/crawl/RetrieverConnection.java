@@ -40,6 +40,7 @@ import java.util.logging.Logger;
 import schemacrawler.plugin.EnumDataTypeHelper;
 import schemacrawler.schema.ConnectionInfo;
 import schemacrawler.schema.TableTypes;
+import schemacrawler.schemacrawler.InformationSchemaKey;
 import schemacrawler.schemacrawler.InformationSchemaViews;
 import schemacrawler.schemacrawler.MetadataRetrievalStrategy;
 import schemacrawler.schemacrawler.SchemaInfoMetadataRetrievalStrategy;
@@ -47,24 +48,66 @@ import schemacrawler.schemacrawler.SchemaRetrievalOptions;
 import schemacrawler.schemacrawler.exceptions.DatabaseAccessException;
 import schemacrawler.utility.JavaSqlTypes;
 import schemacrawler.utility.TypeMap;
+import us.fatehi.utility.datasource.DatabaseConnectionSource;
+import us.fatehi.utility.scheduler.TaskDefinition.TaskRunnable;
 import us.fatehi.utility.string.StringFormat;
 
-/** A connection for the retriever. Wraps a live database connection. */
+/**
+ * A connection for the retriever. Wraps either a live database connection, or a source of pooled
+ * connections, from which each retrieval task leases its own connection.
+ */
 final class RetrieverConnection {
 
   private static final Logger LOGGER = Logger.getLogger(RetrieverConnection.class.getName());
 
   private final Connection connection;
+  private final DatabaseConnectionSource dataSource;
+  private final ThreadLocal<Connection> leasedConnection;
   private final JavaSqlTypes javaSqlTypes;
   private final SchemaRetrievalOptions schemaRetrievalOptions;
   private final TableTypes tableTypes;
   private final ConnectionInfo connectionInfo;
+  private volatile MutableCrawlMetrics crawlMetrics;
+
+  /**
+   * Creates a retriever connection where each retrieval task leases its own connection from the
+   * connection source.
+   *
+   * @param dataSource Source of database connections
+   * @param schemaRetrievalOptions Database-specific schema retrieval overrides
+   * @return Retriever connection
+   */
+  static RetrieverConnection fromDataSource(
+      final DatabaseConnectionSource dataSource,
+      final SchemaRetrievalOptions schemaRetrievalOptions)
+      throws SQLException {
+    requireNonNull(dataSource, "No database connection source provided");
+    try (final Connection connection = dataSource.get()) {
+      return new RetrieverConnection(connection, dataSource, schemaRetrievalOptions);
+    }
+  }
 
   RetrieverConnection(
       final Connection connection, final SchemaRetrievalOptions schemaRetrievalOptions)
       throws SQLException {
+    this(connection, null, schemaRetrievalOptions);
+  }
+
+  private RetrieverConnection(
+      final Connection connection,
+      final DatabaseConnectionSource dataSource,
+      final SchemaRetrievalOptions schemaRetrievalOptions)
+      throws SQLException {
 
-    this.connection = checkConnection(connection);
+    checkConnection(connection);
+    this.dataSource = dataSource;
+    if (dataSource == null) {
+      this.connection = connection;
+    } else {
+      // Connections are leased from the source by each retrieval task
+      this.connection = null;
+    }
+    leasedConnection = new ThreadLocal<>();
     this.schemaRetrievalOptions =
         requireNonNull(schemaRetrievalOptions, "No database specific overrides provided");
     connectionInfo = ConnectionInfoBuilder.builder(connection).build();
@@ -84,7 +127,31 @@ final class RetrieverConnection {
     return connectionInfo;
   }
 
+  /**
+   * Gets metrics for the crawl in progress, which retrieval tasks record their work in.
+   *
+   * @return Crawl metrics, or null if no crawl is in progress
+   */
+  MutableCrawlMetrics getCrawlMetrics() {
+    return crawlMetrics;
+  }
+
+  /**
+   * Gets the connection leased by the retrieval task running on the current thread, or the live
+   * database connection if connections are not pooled.
+   *
+   * @return Database connection
+   */
   Connection getConnection() {
+    final Connection taskConnection = leasedConnection.get();
+    if (taskConnection != null) {
+      return taskConnection;
+    }
+    if (connection == null) {
+      throw new IllegalStateException(
+          String.format(
+              "No database connection leased on thread <%s>", Thread.currentThread().getName()));
+    }
     return connection;
   }
 
@@ -101,22 +168,79 @@ final class RetrieverConnection {
     return schemaRetrievalOptions.getInformationSchemaViews();
   }
 
+  /**
+   * Gets the number of rows fetched in each round trip for a data dictionary query.
+   *
+   * @param key Data dictionary query
+   * @return Number of rows
+   */
+  int getFetchSize(final InformationSchemaKey key) {
+    return schemaRetrievalOptions.getFetchSize(key);
+  }
+
   JavaSqlTypes getJavaSqlTypes() {
     return javaSqlTypes;
   }
 
+  /**
+   * Gets the number of connections that retrieval tasks can lease at the same time, so that they
+   * run in parallel on the database server.
+   *
+   * @return Maximum number of connections, which is one if connections are not pooled
+   */
+  int getMaxConnections() {
+    if (dataSource == null) {
+      return 1;
+    }
+    return Math.max(1, dataSource.getMaxConnections());
+  }
+
   DatabaseMetaData getMetaData() {
     try {
-      final DatabaseMetaData metaData = connection.getMetaData();
+      final DatabaseMetaData metaData = getConnection().getMetaData();
       if (metaData == null) {
         throw new NullPointerException("No database metadata obtained");
       }
-      return metaData;
+      final MutableCrawlMetrics crawlMetrics = this.crawlMetrics;
+      if (crawlMetrics == null) {
+        return metaData;
+      }
+      return CrawlMetricsRecorder.record(metaData, crawlMetrics);
     } catch (final SQLException e) {
       throw new DatabaseAccessException("No database metadata obtained", e);
     }
   }
 
+  /**
+   * Wraps a retrieval task, so that it leases its own connection from the pool for as long as it
+   * runs. If connections are not pooled, the task uses the live database connection.
+   *
+   * @param task Retrieval task
+   * @return Retrieval task that runs with a leased connection
+   */
+  TaskRunnable withLeasedConnection(final TaskRunnable task) {
+    requireNonNull(task, "No task provided");
+    if (dataSource == null) {
+      return task;
+    }
+    return () -> {
+      if (leasedConnection.get() != null) {
+        task.run();
+        return;
+      }
+      try (final Connection taskConnection = dataSource.get()) {
+        leasedConnection.set(taskConnection);
+        task.run();
+      } finally {
+        leasedConnection.remove();
+      }
+    };
+  }
+
+  void setCrawlMetrics(final MutableCrawlMetrics crawlMetrics) {
+    this.crawlMetrics = requireNonNull(crawlMetrics, "No crawl metrics provided");
+  }
+
   TableTypes getTableTypes() {
     return tableTypes;
   }
@@ -125,6 +249,15 @@ final class RetrieverConnection {
     return schemaRetrievalOptions.getTypeMap();
   }
 
+  /**
+   * Whether data dictionary queries run in a transaction, so that their results are streamed.
+   *
+   * @return Whether to stream results of data dictionary queries
+   */
+  boolean isStreamingCursor() {
+    return schemaRetrievalOptions.isStreamingCursor();
+  }
+
   boolean isSupportsCatalogs() {
     return schemaRetrievalOptions.isSupportsCatalogs();
   }
@@ -74,7 +74,7 @@ final class RoutineExtRetriever extends AbstractRetriever {
     LOGGER.log(Level.INFO, "Retrieving routine definitions");
 
     final Query routineDefinitionsSql = informationSchemaViews.getQuery(ROUTINES);
-    try (final Statement statement = createStatement();
+    try (final Statement statement = createStatement(ROUTINES);
         final MetadataResultSet results =
             new MetadataResultSet(routineDefinitionsSql, statement, getSchemaInclusionRule())) {
       while (results.next()) {
@@ -96,6 +96,7 @@ final class RoutineExtRetriever extends AbstractRetriever {
 
           routine.setRoutineBodyType(routineBodyType);
           routine.appendDefinition(definition);
+          CrawlMetricsRecorder.countText(definition);
 
           routine.addAttributes(results.getAttributes());
         }
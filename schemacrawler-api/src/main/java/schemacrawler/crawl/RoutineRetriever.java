@@ -199,7 +199,7 @@ final class RoutineRetriever extends AbstractRetriever {
       throw new ExecutionRuntimeException("No functions SQL provided");
     }
     final Query functionsSql = informationSchemaViews.getQuery(FUNCTIONS);
-    try (final Statement statement = createStatement();
+    try (final Statement statement = createStatement(FUNCTIONS);
         final MetadataResultSet results =
             new MetadataResultSet(functionsSql, statement, getSchemaInclusionRule())) {
       int numFunctions = 0;
@@ -275,7 +275,7 @@ final class RoutineRetriever extends AbstractRetriever {
       throw new ExecutionRuntimeException("No procedures SQL provided");
     }
     final Query proceduresSql = informationSchemaViews.getQuery(PROCEDURES);
-    try (final Statement statement = createStatement();
+    try (final Statement statement = createStatement(PROCEDURES);
         final MetadataResultSet results =
             new MetadataResultSet(proceduresSql, statement, getSchemaInclusionRule())) {
       int numProcedures = 0;
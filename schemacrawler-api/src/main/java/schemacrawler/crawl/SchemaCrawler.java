@@ -93,6 +93,7 @@ import schemacrawler.schemacrawler.SchemaReference;
 import schemacrawler.schemacrawler.SchemaRetrievalOptions;
 import schemacrawler.schemacrawler.exceptions.DatabaseAccessException;
 import schemacrawler.schemacrawler.exceptions.ExecutionRuntimeException;
+import us.fatehi.utility.datasource.DatabaseConnectionSource;
 import us.fatehi.utility.string.StringFormat;
 
 /** SchemaCrawler uses database meta-data to get the details about the schema. */
@@ -124,33 +125,67 @@ public final class SchemaCrawler {
 
       final LoadOptions loadOptions = options.getLoadOptions();
       infoLevel = loadOptions.getSchemaInfoLevel();
-      final int maxThreads = loadOptions.getMaxThreads();
-      taskRunner = new RetrievalTaskRunner(infoLevel, maxThreads);
+      taskRunner = new RetrievalTaskRunner(infoLevel, loadOptions, retrieverConnection);
     } catch (final SQLException e) {
       throw new DatabaseAccessException(e);
     }
   }
 
   /**
-   * Crawls the database, to obtain database metadata.
+   * Constructs a SchemaCrawler object, from a source of database connections. Each retrieval task
+   * leases its own connection from the source while it runs, so that retrievals that run in
+   * parallel also run in parallel on the database server. The connection source is not closed by
+   * SchemaCrawler.
+   *
+   * @param dataSource A source of database connections.
+   * @param schemaRetrievalOptions Database-specific schema retrieval overrides
+   * @param options SchemaCrawler options
+   */
+  public SchemaCrawler(
+      final DatabaseConnectionSource dataSource,
+      final SchemaRetrievalOptions schemaRetrievalOptions,
+      final SchemaCrawlerOptions options) {
+    try {
+      retrieverConnection = RetrieverConnection.fromDataSource(dataSource, schemaRetrievalOptions);
+      this.options = requireNonNull(options, "No SchemaCrawler options provided");
+
+      final LoadOptions loadOptions = options.getLoadOptions();
+      infoLevel = loadOptions.getSchemaInfoLevel();
+      taskRunner = new RetrievalTaskRunner(infoLevel, loadOptions, retrieverConnection);
+    } catch (final SQLException e) {
+      throw new DatabaseAccessException(e);
+    }
+  }
+
+  /**
+   * Crawls the database, to obtain database metadata. Once schemas are retrieved, all remaining
+   * retrievals are submitted together as a graph of tasks, so that each retrieval can start as soon
+   * as its prerequisites are complete. For example, routines and sequences can be retrieved while
+   * table columns are still being retrieved.
    *
    * @return Database metadata
    */
   public Catalog crawl() {
     try {
       catalog = new MutableCatalog("catalog", retrieverConnection.getConnectionInfo());
+      retrieverConnection.setCrawlMetrics(catalog.getCrawlMetrics());
 
       crawlDatabaseInfo();
       LOGGER.log(Level.INFO, String.format("%n%s", catalog.getCrawlInfo()));
 
       crawlSchemas();
+
       crawlColumnDataTypes();
       crawlTables();
       crawlRoutines();
       crawlSynonyms();
       crawlSequences();
+      taskRunner.submit();
 
       taskRunner.stopAndLogTime();
+      LOGGER.log(
+          Level.FINE,
+          new StringFormat("Crawl metrics:%n%s", catalog.getCrawlInfo().getCrawlMetrics()));
 
       return catalog;
     } catch (final RuntimeException e) {
@@ -165,11 +200,10 @@ public final class SchemaCrawler {
     final DataTypeRetriever retriever =
         new DataTypeRetriever(retrieverConnection, catalog, options);
 
-    taskRunner.add(retrieveColumnDataTypes, retriever::retrieveSystemColumnDataTypes).submit();
-
     taskRunner
+        .add(retrieveColumnDataTypes, retriever::retrieveSystemColumnDataTypes)
         .add(retrieveUserDefinedColumnDataTypes, retriever::retrieveUserDefinedColumnDataTypes)
-        .submit();
+        .after(retrieveColumnDataTypes);
   }
 
   private void crawlDatabaseInfo() throws Exception {
@@ -207,24 +241,21 @@ public final class SchemaCrawler {
         new FunctionParameterRetriever(retrieverConnection, catalog, options);
 
     final Collection<RoutineType> routineTypes = limitOptions.getRoutineTypes();
+    final NamedObjectList<MutableRoutine> allRoutines = catalog.getAllRoutines();
 
     taskRunner
         .add(
             retrieveRoutines,
-            () ->
-                retriever.retrieveRoutines(routineTypes, limitOptions.get(ruleForRoutineInclusion)))
-        .submit();
-
-    final NamedObjectList<MutableRoutine> allRoutines = catalog.getAllRoutines();
-    LOGGER.log(Level.INFO, new StringFormat("Retrieved %d routines", allRoutines.size()));
-    if (allRoutines.isEmpty()) {
-      return;
-    }
-
-    taskRunner
+            () -> {
+              retriever.retrieveRoutines(routineTypes, limitOptions.get(ruleForRoutineInclusion));
+              LOGGER.log(Level.INFO, new StringFormat("Retrieved %d routines", allRoutines.size()));
+            })
         .add(
             retrieveRoutineParameters,
             () -> {
+              if (allRoutines.isEmpty()) {
+                return;
+              }
               LOGGER.log(Level.INFO, "Retrieving routine columns");
               if (!limitOptions.isExcludeAll(ruleForRoutineParameterInclusion)) {
                 if (routineTypes.contains(RoutineType.procedure)) {
@@ -238,18 +269,22 @@ public final class SchemaCrawler {
                 }
               }
             })
-        .submit();
-
-    taskRunner
+        .after(retrieveRoutines, retrieveColumnDataTypes, retrieveUserDefinedColumnDataTypes)
         .add(
             "filterAndSortRoutines",
             () -> {
               // Filter the list of routines based on grep criteria
               catalog.reduce(Routine.class, getRoutineReducer(options));
             })
-        .submit();
-
-    taskRunner.add(retrieveRoutineInformation, retrieverExtra::retrieveRoutineInformation).submit();
+        .after(retrieveRoutineParameters)
+        .add(
+            retrieveRoutineInformation,
+            () -> {
+              if (!allRoutines.isEmpty()) {
+                retrieverExtra.retrieveRoutineInformation();
+              }
+            })
+        .after("filterAndSortRoutines");
   }
 
   private void crawlSchemas() throws Exception {
@@ -260,10 +295,8 @@ public final class SchemaCrawler {
         .add(
             "retrieveSchemas",
             () -> retriever.retrieveSchemas(options.getLimitOptions().get(ruleForSchemaInclusion)))
-        .submit();
-
-    taskRunner
         .add("filterAndSortSchemas", () -> catalog.reduce(Schema.class, getSchemaReducer(options)))
+        .after("retrieveSchemas")
         .submit();
 
     final NamedObjectList<SchemaReference> schemas = retriever.getAllSchemas();
@@ -291,13 +324,10 @@ public final class SchemaCrawler {
             () ->
                 retrieverExtra.retrieveSequenceInformation(
                     limitOptions.get(ruleForSequenceInclusion)))
-        .submit();
-
-    taskRunner
         .add(
             "filterAndSortSequences",
             () -> catalog.reduce(Sequence.class, getSequenceReducer(options)))
-        .submit();
+        .after(retrieveSequenceInformation);
   }
 
   private void crawlSynonyms() throws Exception {
@@ -312,18 +342,18 @@ public final class SchemaCrawler {
     final SynonymRetriever retrieverExtra =
         new SynonymRetriever(retrieverConnection, catalog, options);
 
+    // Synonyms refer to tables and routines, so wait for those to be
+    // retrieved and filtered
     taskRunner
         .add(
             retrieveSynonymInformation,
             () ->
                 retrieverExtra.retrieveSynonymInformation(
                     limitOptions.get(ruleForSynonymInclusion)))
-        .submit();
-
-    taskRunner
+        .after("filterAndSortTables", "filterAndSortRoutines")
         .add(
             "filterAndSortSynonms", () -> catalog.reduce(Synonym.class, getSynonymReducer(options)))
-        .submit();
+        .after(retrieveSynonymInformation);
   }
 
   private void crawlTables() throws Exception {
@@ -349,6 +379,8 @@ public final class SchemaCrawler {
         new TablePrivilegeRetriever(retrieverConnection, catalog, options);
     final IndexRetriever indexRetriever = new IndexRetriever(retrieverConnection, catalog, options);
 
+    final NamedObjectList<MutableTable> allTables = catalog.getAllTables();
+
     taskRunner
         .add(
             retrieveTables,
@@ -358,25 +390,19 @@ public final class SchemaCrawler {
                   limitOptions.getTableNamePattern(),
                   limitOptions.getTableTypes(),
                   limitOptions.get(ruleForTableInclusion));
-            })
-        .submit();
-
-    final NamedObjectList<MutableTable> allTables = catalog.getAllTables();
-    LOGGER.log(Level.INFO, new StringFormat("Retrieved %d tables", allTables.size()));
-    if (allTables.isEmpty()) {
-      return;
-    }
+              LOGGER.log(Level.INFO, new StringFormat("Retrieved %d tables", allTables.size()));
+            });
 
     taskRunner
         .add(
             retrieveTableColumns,
             () -> {
-              if (!limitOptions.isExcludeAll(ruleForColumnInclusion)) {
+              if (!allTables.isEmpty() && !limitOptions.isExcludeAll(ruleForColumnInclusion)) {
                 columnRetriever.retrieveTableColumns(
                     allTables, limitOptions.get(ruleForColumnInclusion));
               }
             })
-        .submit();
+        .after(retrieveTables, retrieveColumnDataTypes, retrieveUserDefinedColumnDataTypes);
 
     taskRunner
         .add(
@@ -393,7 +419,7 @@ public final class SchemaCrawler {
             constraintRetriever::retrieveTableConstraints,
             retrieveTableColumns)
         .add(retrieveTriggerInformation, retrieverExtra::retrieveTriggerInformation)
-        .submit();
+        .after(retrieveTables);
 
     taskRunner
         .add(
@@ -406,55 +432,75 @@ public final class SchemaCrawler {
               // Sort the remaining tables
               final TablesGraph tablesGraph = new TablesGraph(allTables);
               tablesGraph.setTablesSortIndexes();
+              // Sort indexes change the natural sort order of tables
+              allTables.invalidate();
             })
+        .after(
+            retrieveTableColumns,
+            retrievePrimaryKeys,
+            retrieveForeignKeys,
+            retrieveIndexes,
+            retrieveTableConstraints,
+            retrieveTriggerInformation)
         .add(
             "matchTableConstraints",
             () -> constraintRetriever.matchTableConstraints(allTables),
             retrieveTableColumns)
-        .submit();
+        .after(retrievePrimaryKeys, retrieveForeignKeys, retrieveTableConstraints);
 
+    // Additional information is retrieved only for tables that remain
+    // after filtering
     taskRunner
         .add(
             retrieveTableConstraintDefinitions,
             constraintRetriever::retrieveTableConstraintDefinitions,
             retrieveTableConstraints)
+        .after("filterAndSortTables", "matchTableConstraints")
         .add(
             retrieveTableConstraintInformation,
             constraintRetriever::retrieveTableConstraintInformation,
             retrieveTableConstraints)
+        .after("filterAndSortTables", "matchTableConstraints")
         .add(retrieveViewInformation, retrieverExtra::retrieveViewInformation, retrieveTables)
+        .after("filterAndSortTables")
         .add(retrieveViewTableUsage, retrieverExtra::retrieveViewTableUsage, retrieveTables)
+        .after("filterAndSortTables")
         .add(
             retrieveTableDefinitionsInformation,
             retrieverExtra::retrieveTableDefinitions,
             retrieveTables)
+        .after("filterAndSortTables")
         .add(
             retrieveIndexInformation,
             () -> retrieverExtra.retrieveIndexInformation(),
             retrieveIndexes)
+        .after("filterAndSortTables")
         .add(
             retrieveAdditionalTableAttributes,
             () -> retrieverExtra.retrieveAdditionalTableAttributes(),
             retrieveTables)
+        .after("filterAndSortTables")
         .add(
             retrieveTablePrivileges,
             () -> retrieverPrivilege.retrieveTablePrivileges(),
             retrieveTables)
+        .after("filterAndSortTables")
         .add(
             retrieveTableColumnPrivileges,
             retrieverPrivilege::retrieveTableColumnPrivileges,
             retrieveTableColumns)
+        .after("filterAndSortTables")
         .add(
             retrieveAdditionalColumnAttributes,
             retrieverExtra::retrieveAdditionalColumnAttributes,
             retrieveTableColumns)
-        .submit();
+        .after("filterAndSortTables");
 
     taskRunner
         .add(
             retrieveAdditionalColumnMetadata,
             retrieverExtra::retrieveAdditionalColumnMetadata,
             retrieveTableColumns)
-        .submit();
+        .after("filterAndSortTables", retrieveAdditionalColumnAttributes.name());
   }
 }
@@ -192,7 +192,7 @@ final class SchemaRetriever extends AbstractRetriever {
     }
     final Query schemataSql = informationSchemaViews.getQuery(SCHEMATA);
 
-    try (final Statement statement = createStatement();
+    try (final Statement statement = createStatement(SCHEMATA);
         final MetadataResultSet results =
             new MetadataResultSet(schemataSql, statement, getSchemaInclusionRule())) {
       int numSchemas = 0;
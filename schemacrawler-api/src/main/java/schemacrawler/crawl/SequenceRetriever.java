@@ -88,7 +88,7 @@ final class SequenceRetriever extends AbstractRetriever {
     final NamedObjectList<SchemaReference> schemas = getAllSchemas();
 
     final Query sequencesDefinitionSql = informationSchemaViews.getQuery(SEQUENCES);
-    try (final Statement statement = createStatement();
+    try (final Statement statement = createStatement(SEQUENCES);
         final MetadataResultSet results =
             new MetadataResultSet(sequencesDefinitionSql, statement, getSchemaInclusionRule())) {
       while (results.next()) {
@@ -0,0 +1,146 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2022, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+
+package schemacrawler.crawl;
+
+import static java.util.Objects.requireNonNull;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Savepoint;
+import java.sql.Statement;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Runs a data dictionary query in a transaction, for as long as its statement is open. Some JDBC
+ * drivers, such as the PostgreSQL driver, only use a cursor to stream rows in fetch size batches
+ * inside a transaction. Otherwise, all rows are buffered in memory.
+ *
+ * <p>If the connection is in auto-commit mode, auto-commit is turned off until the statement is
+ * closed, and the transaction is then rolled back, since only metadata was read. If the connection
+ * is already in a transaction, the query runs under its own savepoint instead. Some databases,
+ * such as PostgreSQL, abort the whole transaction when a single query fails, and rolling back to
+ * the savepoint lets later queries carry on.
+ */
+final class StreamingStatements {
+
+  private static final Logger LOGGER = Logger.getLogger(StreamingStatements.class.getName());
+
+  /**
+   * Wraps a statement for a data dictionary query, so that its results are streamed.
+   *
+   * @param connection Database connection that the statement was created on
+   * @param statement Statement for a data dictionary query
+   * @return Statement that runs in a transaction until it is closed
+   * @throws SQLException On an exception starting the transaction
+   */
+  static Statement streaming(final Connection connection, final Statement statement)
+      throws SQLException {
+    requireNonNull(connection, "No connection provided");
+    requireNonNull(statement, "No statement provided");
+
+    final boolean autoCommit;
+    final Savepoint savepoint;
+    try {
+      autoCommit = connection.getAutoCommit();
+      if (autoCommit) {
+        connection.setAutoCommit(false);
+        savepoint = null;
+      } else {
+        savepoint = connection.setSavepoint();
+      }
+    } catch (final SQLException e) {
+      statement.close();
+      throw e;
+    }
+
+    final boolean[] closed = {false};
+    return (Statement)
+        Proxy.newProxyInstance(
+            StreamingStatements.class.getClassLoader(),
+            new Class<?>[] {Statement.class},
+            (proxy, method, args) -> {
+              if (!"close".equals(method.getName()) || closed[0]) {
+                return invoke(statement, method, args);
+              }
+              closed[0] = true;
+              try {
+                return invoke(statement, method, args);
+              } finally {
+                if (autoCommit) {
+                  endTransaction(connection);
+                } else {
+                  endSavepoint(connection, savepoint);
+                }
+              }
+            });
+  }
+
+  private static void endSavepoint(final Connection connection, final Savepoint savepoint) {
+    try {
+      connection.releaseSavepoint(savepoint);
+      return;
+    } catch (final SQLException e) {
+      // A query may also fail while rows are fetched, and then the savepoint cannot be
+      // released, since the transaction was aborted
+      LOGGER.log(Level.FINE, "Could not release savepoint for data dictionary query", e);
+    }
+    try {
+      connection.rollback(savepoint);
+      connection.releaseSavepoint(savepoint);
+    } catch (final SQLException e) {
+      LOGGER.log(Level.WARNING, "Could not roll back failed data dictionary query", e);
+    }
+  }
+
+  private static void endTransaction(final Connection connection) {
+    try {
+      connection.rollback();
+      connection.setAutoCommit(true);
+    } catch (final SQLException e) {
+      LOGGER.log(Level.WARNING, "Could not restore auto-commit", e);
+    }
+  }
+
+  private static Object invoke(final Object target, final Method method, final Object[] args)
+      throws Throwable {
+    try {
+      return method.invoke(target, args);
+    } catch (final InvocationTargetException e) {
+      throw e.getCause();
+    }
+  }
+
+  private StreamingStatements() {
+    // Prevent instantiation
+  }
+}
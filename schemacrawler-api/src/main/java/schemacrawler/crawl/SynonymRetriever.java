@@ -100,7 +100,7 @@ final class SynonymRetriever extends AbstractRetriever {
     final NamedObjectList<SchemaReference> schemas = getAllSchemas();
 
     final Query synonymsDefinitionSql = informationSchemaViews.getQuery(EXT_SYNONYMS);
-    try (final Statement statement = createStatement();
+    try (final Statement statement = createStatement(EXT_SYNONYMS);
         MetadataResultSet results =
             new MetadataResultSet(synonymsDefinitionSql, statement, getSchemaInclusionRule())) {
       while (results.next()) {
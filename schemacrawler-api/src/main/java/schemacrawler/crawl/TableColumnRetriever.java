@@ -209,7 +209,7 @@ final class TableColumnRetriever extends AbstractRetriever {
       return hiddenTableColumnsLookupKeys;
     }
     final Query hiddenColumnsSql = informationSchemaViews.getQuery(EXT_HIDDEN_TABLE_COLUMNS);
-    try (final Statement statement = createStatement();
+    try (final Statement statement = createStatement(EXT_HIDDEN_TABLE_COLUMNS);
         final MetadataResultSet results =
             new MetadataResultSet(hiddenColumnsSql, statement, getSchemaInclusionRule())) {
       while (results.next()) {
@@ -246,7 +246,7 @@ final class TableColumnRetriever extends AbstractRetriever {
       throw new ExecutionRuntimeException("No table columns SQL provided");
     }
     final Query tableColumnsSql = informationSchemaViews.getQuery(TABLE_COLUMNS);
-    try (final Statement statement = createStatement();
+    try (final Statement statement = createStatement(TABLE_COLUMNS);
         final MetadataResultSet results =
             new MetadataResultSet(tableColumnsSql, statement, getSchemaInclusionRule())) {
       while (results.next()) {
@@ -259,27 +259,29 @@ final class TableColumnRetriever extends AbstractRetriever {
       final NamedObjectList<MutableTable> allTables,
       final InclusionRuleFilter<Column> columnFilter,
       final Set<NamedObjectKey> hiddenTableColumnsLookupKeys)
-      throws WrappedSQLException {
-    for (final MutableTable table : allTables) {
-      LOGGER.log(Level.FINE, "Retrieving table columns for " + table);
-      try (final MetadataResultSet results =
-          new MetadataResultSet(
-              getMetaData()
-                  .getColumns(
-                      table.getSchema().getCatalogName(),
-                      table.getSchema().getName(),
-                      table.getName(),
-                      null),
-              "DatabaseMetaData::getColumns")) {
-        while (results.next()) {
-          createTableColumn(results, allTables, columnFilter, hiddenTableColumnsLookupKeys);
-        }
-      } catch (final SQLException e) {
-        throw new WrappedSQLException(
-            String.format(
-                "Could not retrieve table columns for %s <%s>", table.getTableType(), table),
-            e);
-      }
-    }
+      throws SQLException {
+    forEachTable(
+        allTables,
+        table -> {
+          LOGGER.log(Level.FINE, "Retrieving table columns for " + table);
+          try (final MetadataResultSet results =
+              new MetadataResultSet(
+                  getMetaData()
+                      .getColumns(
+                          table.getSchema().getCatalogName(),
+                          table.getSchema().getName(),
+                          table.getName(),
+                          null),
+                  "DatabaseMetaData::getColumns")) {
+            while (results.next()) {
+              createTableColumn(results, allTables, columnFilter, hiddenTableColumnsLookupKeys);
+            }
+          } catch (final SQLException e) {
+            throw new WrappedSQLException(
+                String.format(
+                    "Could not retrieve table columns for %s <%s>", table.getTableType(), table),
+                e);
+          }
+        });
   }
 }
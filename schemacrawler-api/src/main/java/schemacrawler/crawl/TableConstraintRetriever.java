@@ -101,7 +101,7 @@ final class TableConstraintRetriever extends AbstractRetriever {
         informationSchemaViews.getQuery(CHECK_CONSTRAINTS);
 
     // Get check constraint definitions
-    try (final Statement statement = createStatement();
+    try (final Statement statement = createStatement(CHECK_CONSTRAINTS);
         final MetadataResultSet results =
             new MetadataResultSet(
                 extTableConstraintInformationSql, statement, getSchemaInclusionRule())) {
@@ -123,6 +123,7 @@ final class TableConstraintRetriever extends AbstractRetriever {
           continue;
         }
         tableConstraint.appendDefinition(definition);
+        CrawlMetricsRecorder.countText(definition);
 
         tableConstraint.addAttributes(results.getAttributes());
       }
@@ -154,7 +155,7 @@ final class TableConstraintRetriever extends AbstractRetriever {
 
     final Query extTableConstraintsInformationSql =
         informationSchemaViews.getQuery(EXT_TABLE_CONSTRAINTS);
-    try (final Statement statement = createStatement();
+    try (final Statement statement = createStatement(EXT_TABLE_CONSTRAINTS);
         final MetadataResultSet results =
             new MetadataResultSet(
                 extTableConstraintsInformationSql, statement, getSchemaInclusionRule())) {
@@ -268,7 +269,7 @@ final class TableConstraintRetriever extends AbstractRetriever {
     }
 
     final Query tableConstraintsInformationSql = informationSchemaViews.getQuery(TABLE_CONSTRAINTS);
-    try (final Statement statement = createStatement();
+    try (final Statement statement = createStatement(TABLE_CONSTRAINTS);
         final MetadataResultSet results =
             new MetadataResultSet(
                 tableConstraintsInformationSql, statement, getSchemaInclusionRule())) {
@@ -349,7 +350,7 @@ final class TableConstraintRetriever extends AbstractRetriever {
     final Query tableConstraintsColumnsInformationSql =
         informationSchemaViews.getQuery(CONSTRAINT_COLUMN_USAGE);
 
-    try (final Statement statement = createStatement();
+    try (final Statement statement = createStatement(CONSTRAINT_COLUMN_USAGE);
         final MetadataResultSet results =
             new MetadataResultSet(
                 tableConstraintsColumnsInformationSql, statement, getSchemaInclusionRule())) {
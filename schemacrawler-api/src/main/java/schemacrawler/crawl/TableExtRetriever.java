@@ -82,7 +82,7 @@ final class TableExtRetriever extends AbstractRetriever {
     }
     final Query columnAttributesSql = informationSchemaViews.getQuery(ADDITIONAL_COLUMN_ATTRIBUTES);
 
-    try (final Statement statement = createStatement();
+    try (final Statement statement = createStatement(ADDITIONAL_COLUMN_ATTRIBUTES);
         final MetadataResultSet results =
             new MetadataResultSet(columnAttributesSql, statement, getSchemaInclusionRule())) {
 
@@ -172,7 +172,7 @@ final class TableExtRetriever extends AbstractRetriever {
     }
     final Query tableAttributesSql = informationSchemaViews.getQuery(ADDITIONAL_TABLE_ATTRIBUTES);
 
-    try (final Statement statement = createStatement();
+    try (final Statement statement = createStatement(ADDITIONAL_TABLE_ATTRIBUTES);
         final MetadataResultSet results =
             new MetadataResultSet(tableAttributesSql, statement, getSchemaInclusionRule())) {
 
@@ -218,7 +218,7 @@ final class TableExtRetriever extends AbstractRetriever {
     LOGGER.log(Level.INFO, "Retrieving additional index information");
 
     final Query extIndexesInformationSql = informationSchemaViews.getQuery(EXT_INDEXES);
-    try (final Statement statement = createStatement();
+    try (final Statement statement = createStatement(EXT_INDEXES);
         final MetadataResultSet results =
             new MetadataResultSet(extIndexesInformationSql, statement, getSchemaInclusionRule())) {
 
@@ -255,6 +255,8 @@ final class TableExtRetriever extends AbstractRetriever {
         final String remarks = results.getString("REMARKS");
 
         index.appendDefinition(definition);
+
+        CrawlMetricsRecorder.countText(definition);
         index.setRemarks(remarks);
 
         index.addAttributes(results.getAttributes());
@@ -282,7 +284,7 @@ final class TableExtRetriever extends AbstractRetriever {
     LOGGER.log(Level.INFO, "Retrieving table definitions");
 
     final Query tableDefinitionsInformationSql = informationSchemaViews.getQuery(EXT_TABLES);
-    try (final Statement statement = createStatement();
+    try (final Statement statement = createStatement(EXT_TABLES);
         final MetadataResultSet results =
             new MetadataResultSet(
                 tableDefinitionsInformationSql, statement, getSchemaInclusionRule())) {
@@ -308,6 +310,8 @@ final class TableExtRetriever extends AbstractRetriever {
 
         table.appendDefinition(definition);
 
+        CrawlMetricsRecorder.countText(definition);
+
         table.addAttributes(results.getAttributes());
       }
     } catch (final Exception e) {
@@ -332,7 +336,7 @@ final class TableExtRetriever extends AbstractRetriever {
     LOGGER.log(Level.INFO, "Retrieving trigger definitions");
 
     final Query triggerInformationSql = informationSchemaViews.getQuery(TRIGGERS);
-    try (final Statement statement = createStatement();
+    try (final Statement statement = createStatement(TRIGGERS);
         final MetadataResultSet results =
             new MetadataResultSet(triggerInformationSql, statement, getSchemaInclusionRule())) {
 
@@ -376,6 +380,7 @@ final class TableExtRetriever extends AbstractRetriever {
         trigger.setActionOrder(actionOrder);
         trigger.appendActionCondition(actionCondition);
         trigger.appendActionStatement(actionStatement);
+        CrawlMetricsRecorder.countText(actionStatement);
         trigger.setActionOrientation(actionOrientation);
         trigger.setConditionTiming(conditionTiming);
 
@@ -407,7 +412,7 @@ final class TableExtRetriever extends AbstractRetriever {
     LOGGER.log(Level.INFO, "Retrieving additional view information");
 
     final Query viewInformationSql = informationSchemaViews.getQuery(VIEWS);
-    try (final Statement statement = createStatement();
+    try (final Statement statement = createStatement(VIEWS);
         final MetadataResultSet results =
             new MetadataResultSet(viewInformationSql, statement, getSchemaInclusionRule())) {
 
@@ -432,6 +437,8 @@ final class TableExtRetriever extends AbstractRetriever {
         final boolean updatable = results.getBoolean("IS_UPDATABLE");
 
         view.appendDefinition(definition);
+
+        CrawlMetricsRecorder.countText(definition);
         view.setCheckOption(checkOption);
         view.setUpdatable(updatable);
 
@@ -461,7 +468,7 @@ final class TableExtRetriever extends AbstractRetriever {
     LOGGER.log(Level.INFO, "Retrieving view table usage");
 
     final Query viewTableUsageSql = informationSchemaViews.getQuery(VIEW_TABLE_USAGE);
-    try (final Statement statement = createStatement();
+    try (final Statement statement = createStatement(VIEW_TABLE_USAGE);
         final MetadataResultSet results =
             new MetadataResultSet(viewTableUsageSql, statement, getSchemaInclusionRule())) {
 
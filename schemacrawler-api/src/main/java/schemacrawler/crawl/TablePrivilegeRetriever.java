@@ -163,7 +163,7 @@ final class TablePrivilegeRetriever extends AbstractRetriever {
       throw new ExecutionRuntimeException("No table column privileges SQL provided");
     }
     final Query tablePrivelegesSql = informationSchemaViews.getQuery(TABLE_COLUMN_PRIVILEGES);
-    try (final Statement statement = createStatement();
+    try (final Statement statement = createStatement(TABLE_COLUMN_PRIVILEGES);
         final MetadataResultSet results =
             new MetadataResultSet(tablePrivelegesSql, statement, getSchemaInclusionRule())) {
       createPrivileges(results, true);
@@ -188,7 +188,7 @@ final class TablePrivilegeRetriever extends AbstractRetriever {
       throw new ExecutionRuntimeException("No table privileges SQL provided");
     }
     final Query tablePrivelegesSql = informationSchemaViews.getQuery(TABLE_PRIVILEGES);
-    try (final Statement statement = createStatement();
+    try (final Statement statement = createStatement(TABLE_PRIVILEGES);
         final MetadataResultSet results =
             new MetadataResultSet(tablePrivelegesSql, statement, getSchemaInclusionRule())) {
       createPrivileges(results, false);
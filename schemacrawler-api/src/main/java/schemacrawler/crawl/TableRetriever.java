@@ -164,7 +164,7 @@ final class TableRetriever extends AbstractRetriever {
     } else {
       filteredTableTypes = tableTypes;
     }
-    try (final Statement statement = createStatement();
+    try (final Statement statement = createStatement(TABLES);
         final MetadataResultSet results =
             new MetadataResultSet(tablesSql, statement, getSchemaInclusionRule())) {
       int numTables = 0;
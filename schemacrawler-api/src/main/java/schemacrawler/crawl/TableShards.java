@@ -0,0 +1,222 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2022, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+
+package schemacrawler.crawl;
+
+import static java.util.Objects.requireNonNull;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import schemacrawler.schema.Schema;
+import us.fatehi.utility.scheduler.TaskDefinition.TaskRunnable;
+import us.fatehi.utility.string.StringFormat;
+
+/**
+ * Runs a per-table metadata retrieval over shards of tables. Tables are sharded by schema, or by
+ * table if there are fewer schemas than shards. If database connections are pooled, each shard is
+ * retrieved on its own connection leased from the pool, so that shards are retrieved in parallel on
+ * the database server. Otherwise, tables are retrieved one after the other on the live connection.
+ */
+final class TableShards {
+
+  @FunctionalInterface
+  interface TableRetrieval {
+
+    void retrieve(MutableTable table) throws SQLException;
+  }
+
+  private static final Logger LOGGER = Logger.getLogger(TableShards.class.getName());
+
+  /**
+   * Splits tables into shards of about the same size. Tables in a schema are kept together in a
+   * shard, unless there are fewer schemas than shards. Tables within a shard are in the order in
+   * which they were provided.
+   *
+   * @param tables Tables to shard
+   * @param maxShards Maximum number of shards
+   * @return Shards of tables, none of which are empty
+   */
+  static List<List<MutableTable>> shard(
+      final Collection<MutableTable> tables, final int maxShards) {
+    requireNonNull(tables, "No tables provided");
+    if (tables.isEmpty()) {
+      return new ArrayList<>();
+    }
+
+    final int shardCount = Math.max(1, Math.min(maxShards, tables.size()));
+    final List<List<MutableTable>> shards = new ArrayList<>();
+    for (int i = 0; i < shardCount; i++) {
+      shards.add(new ArrayList<>());
+    }
+
+    final Map<Schema, List<MutableTable>> tablesBySchema = new LinkedHashMap<>();
+    for (final MutableTable table : tables) {
+      tablesBySchema.computeIfAbsent(table.getSchema(), schema -> new ArrayList<>()).add(table);
+    }
+
+    if (tablesBySchema.size() < shardCount) {
+      // Too few schemas to keep all shards busy, so deal out tables
+      int i = 0;
+      for (final MutableTable table : tables) {
+        shards.get(i % shardCount).add(table);
+        i++;
+      }
+    } else {
+      // Place the largest schemas first, each in the smallest shard so far
+      final List<List<MutableTable>> schemaGroups = new ArrayList<>(tablesBySchema.values());
+      schemaGroups.sort(Comparator.comparingInt(List<MutableTable>::size).reversed());
+      for (final List<MutableTable> schemaGroup : schemaGroups) {
+        List<MutableTable> smallestShard = shards.get(0);
+        for (final List<MutableTable> shard : shards) {
+          if (shard.size() < smallestShard.size()) {
+            smallestShard = shard;
+          }
+        }
+        smallestShard.addAll(schemaGroup);
+      }
+    }
+
+    shards.removeIf(List::isEmpty);
+    return shards;
+  }
+
+  private final RetrieverConnection retrieverConnection;
+  private final int maxShards;
+
+  TableShards(final RetrieverConnection retrieverConnection, final int maxThreads) {
+    this.retrieverConnection =
+        requireNonNull(retrieverConnection, "No retriever connection provided");
+    // Shards are only retrieved in parallel if connections are pooled
+    maxShards = Math.max(1, Math.min(maxThreads, retrieverConnection.getMaxConnections()));
+  }
+
+  /**
+   * Runs a retrieval for each table. The calling thread retrieves shards on its own connection,
+   * while helper threads lease connections from the pool to retrieve the remaining shards. A helper
+   * only takes a shard once it has a connection, so the calling thread never waits on a helper that
+   * is still waiting for a connection, even if the pool is exhausted.
+   *
+   * @param tables Tables to retrieve information for
+   * @param retrieval Retrieval for a single table
+   * @throws SQLException On an exception retrieving information for any table
+   */
+  void forEachTable(final Collection<MutableTable> tables, final TableRetrieval retrieval)
+      throws SQLException {
+    requireNonNull(retrieval, "No table retrieval provided");
+
+    final List<List<MutableTable>> shards = shard(tables, maxShards);
+    if (shards.size() <= 1) {
+      for (final MutableTable table : tables) {
+        retrieval.retrieve(table);
+      }
+      return;
+    }
+
+    LOGGER.log(
+        Level.FINE,
+        new StringFormat(
+            "Retrieving information for <%d> tables in <%d> shards", tables.size(), shards.size()));
+
+    final Queue<List<MutableTable>> pendingShards = new ConcurrentLinkedQueue<>(shards);
+    final CountDownLatch shardsRetrieved = new CountDownLatch(shards.size());
+    final AtomicReference<Exception> failure = new AtomicReference<>();
+    final Runnable retrieveShards =
+        () -> {
+          List<MutableTable> shard;
+          while ((shard = pendingShards.poll()) != null) {
+            try {
+              if (failure.get() == null) {
+                for (final MutableTable table : shard) {
+                  retrieval.retrieve(table);
+                }
+              }
+            } catch (final Exception e) {
+              failure.compareAndSet(null, e);
+            } finally {
+              shardsRetrieved.countDown();
+            }
+          }
+        };
+
+    final ExecutorService executorService =
+        Executors.newFixedThreadPool(
+            shards.size() - 1,
+            runnable -> {
+              final Thread thread = new Thread(runnable, "table-shard");
+              thread.setDaemon(true);
+              return thread;
+            });
+    final TaskRunnable helper =
+        retrieverConnection.withLeasedConnection(
+            CrawlMetricsRecorder.helpCurrentRetrieval(retrieveShards::run));
+    try {
+      for (int i = 1; i < shards.size(); i++) {
+        executorService.execute(
+            () -> {
+              try {
+                helper.run();
+              } catch (final Exception e) {
+                LOGGER.log(Level.WARNING, "Could not retrieve table shard", e);
+              }
+            });
+      }
+      retrieveShards.run();
+      shardsRetrieved.await();
+    } catch (final InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new SQLException("Interrupted while retrieving table shards", e);
+    } finally {
+      // Helpers that are still waiting for a connection will find no
+      // shards left, and exit
+      executorService.shutdown();
+    }
+
+    final Exception exception = failure.get();
+    if (exception instanceof SQLException) {
+      throw (SQLException) exception;
+    } else if (exception instanceof RuntimeException) {
+      throw (RuntimeException) exception;
+    } else if (exception != null) {
+      throw new SQLException(exception.getMessage(), exception);
+    }
+  }
+}
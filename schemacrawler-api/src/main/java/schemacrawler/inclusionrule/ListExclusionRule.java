@@ -68,4 +68,10 @@ public class ListExclusionRule implements InclusionRule {
     LOGGER.log(Level.FINE, new StringFormat("Including <%s>", text));
     return true;
   }
+
+  /** {@inheritDoc} */
+  @Override
+  public String toString() {
+    return String.format("%s {-%s}", getClass().getSimpleName(), exclusions);
+  }
 }
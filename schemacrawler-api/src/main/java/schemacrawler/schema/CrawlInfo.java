@@ -34,6 +34,13 @@ import schemacrawler.ProductVersion;
 
 public interface CrawlInfo extends Serializable {
 
+  /**
+   * Gets metrics for the crawl, such as time taken and JDBC calls made by each retrieval.
+   *
+   * @return Crawl metrics
+   */
+  CrawlMetrics getCrawlMetrics();
+
   /**
    * Gets the timestamp of when the database was crawled, in UTC to the second.
    *
@@ -0,0 +1,61 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2022, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+
+package schemacrawler.schema;
+
+import java.io.Serializable;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
+
+/** Metrics for a crawl, which show where time was spent in retrieving metadata. */
+public interface CrawlMetrics extends Serializable {
+
+  /**
+   * Gets latency histograms for calls to database metadata, keyed by the name of the called
+   * <code>java.sql.DatabaseMetaData</code> method.
+   *
+   * @return Latency histograms by method name
+   */
+  Map<String, LatencyHistogram> getMetadataCallLatencies();
+
+  /**
+   * Gets metrics for each retrieval that was run, in the order in which they were started.
+   *
+   * @return Metrics for each retrieval
+   */
+  Collection<RetrievalMetrics> getRetrievalMetrics();
+
+  /**
+   * Looks up metrics for a retrieval by name.
+   *
+   * @param retrievalName Retrieval name, such as "retrieveTables"
+   * @return Metrics for the retrieval, if it was run
+   */
+  Optional<RetrievalMetrics> lookupRetrievalMetrics(String retrievalName);
+}
@@ -0,0 +1,66 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2022, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+
+package schemacrawler.schema;
+
+import java.io.Serializable;
+import java.time.Duration;
+import java.util.SortedMap;
+
+/** Histogram of the latency of a call that is made many times during a crawl. */
+public interface LatencyHistogram extends Serializable {
+
+  /**
+   * Gets the number of calls in each latency bucket, keyed by the inclusive upper bound of the
+   * bucket. The last bucket has no upper bound, and is keyed by the longest possible duration.
+   *
+   * @return Number of calls by latency bucket
+   */
+  SortedMap<Duration, Long> getBuckets();
+
+  /**
+   * Gets the number of calls.
+   *
+   * @return Number of calls
+   */
+  long getCount();
+
+  /**
+   * Gets the latency of the slowest call.
+   *
+   * @return Maximum latency
+   */
+  Duration getMaxLatency();
+
+  /**
+   * Gets the total latency of all calls.
+   *
+   * @return Total latency
+   */
+  Duration getTotalLatency();
+}
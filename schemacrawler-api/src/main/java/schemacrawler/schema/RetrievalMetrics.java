@@ -0,0 +1,91 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2022, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+
+package schemacrawler.schema;
+
+import java.io.Serializable;
+import java.time.Duration;
+
+/**
+ * Metrics for a single retrieval in a crawl. Work done on helper threads for the retrieval is
+ * included.
+ */
+public interface RetrievalMetrics extends Serializable {
+
+  /**
+   * Gets the CPU time used by all threads running the retrieval. This is zero if the JVM does not
+   * measure thread CPU time.
+   *
+   * @return CPU time
+   */
+  Duration getCpuTime();
+
+  /**
+   * Gets the number of JDBC calls made, counting each database metadata call and each data
+   * dictionary query.
+   *
+   * @return Number of JDBC calls
+   */
+  long getJdbcCallCount();
+
+  /**
+   * Gets the name of the retrieval.
+   *
+   * @return Retrieval name
+   */
+  String getName();
+
+  /**
+   * Gets the number of database objects, such as tables or columns, created by the retrieval.
+   *
+   * @return Number of database objects
+   */
+  long getObjectCount();
+
+  /**
+   * Gets the number of rows read from metadata result-sets.
+   *
+   * @return Number of rows
+   */
+  long getRowCount();
+
+  /**
+   * Gets the size of large object data and definition text read, such as view or routine
+   * definitions, in UTF-8 bytes.
+   *
+   * @return Bytes of text
+   */
+  long getTextBytes();
+
+  /**
+   * Gets the elapsed time from when the retrieval was started to when it completed.
+   *
+   * @return Wall clock time
+   */
+  Duration getWallTime();
+}
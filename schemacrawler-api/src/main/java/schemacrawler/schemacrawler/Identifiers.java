@@ -41,9 +41,8 @@ import java.util.Collection;
 import java.util.HashSet;
 import java.util.Set;
 import java.util.logging.Level;
-import java.util.regex.Pattern;
-
 import java.util.logging.Logger;
+
 import schemacrawler.schema.DatabaseObject;
 import schemacrawler.schema.DependantObject;
 import schemacrawler.schema.NamedObject;
@@ -60,29 +59,6 @@ public final class Identifiers {
 
   public static class Builder {
 
-    /** Load a list of SQL 2003 reserved words, and normalize them by converting to uppercase. */
-    private static Collection<String> loadSql2003ReservedWords() {
-      final Set<String> reservedWords = new HashSet<>();
-      try (final BufferedReader reader =
-          new BufferedReader(
-              new InputStreamReader(
-                  Identifiers.class.getResourceAsStream("/sql2003_reserved_words.txt")))) {
-        String line;
-        while ((line = reader.readLine()) != null) {
-          if (!isBlank(line)) {
-            reservedWords.add(line);
-          }
-        }
-      } catch (final IOException e) {
-        LOGGER.log(Level.WARNING, "Could not read list of SQL 2003 reserved words", e);
-      }
-      if (reservedWords.isEmpty()) {
-        throw new InternalRuntimeException("No SQL 2003 reserved words found");
-      }
-
-      return toUpperCase(reservedWords);
-    }
-
     /** Lookup a list of reserved words for a database system, using database metadata. */
     private static Collection<String> lookupReservedWords(final DatabaseMetaData metaData) {
       String sqlKeywords = "";
@@ -95,24 +71,13 @@ public final class Identifiers {
       return toUpperCase(Arrays.asList(sqlKeywords.split(",")));
     }
 
-    private static Collection<String> toUpperCase(final Iterable<String> words) {
-      final Collection<String> upperCaseWords = new HashSet<>();
-      if (words != null) {
-        for (final String word : words) {
-          if (!isBlank(word)) {
-            upperCaseWords.add(word.toUpperCase());
-          }
-        }
-      }
-      return upperCaseWords;
-    }
-
     private final Collection<String> reservedWords;
     private String identifierQuoteString;
     private IdentifierQuotingStrategy identifierQuotingStrategy;
 
     private Builder() {
-      reservedWords = loadSql2003ReservedWords();
+      // SQL 2003 reserved words are shared, so only database reserved words are collected
+      reservedWords = new HashSet<>();
       identifierQuotingStrategy =
           IdentifierQuotingStrategy.quote_if_special_characters_and_reserved_words;
     }
@@ -200,22 +165,22 @@ public final class Identifiers {
     }
   }
 
-  private static final Logger LOGGER =
-      Logger.getLogger(Identifiers.class.getName());
+  private static final Logger LOGGER = Logger.getLogger(Identifiers.class.getName());
+
+  /** SQL 2003 reserved words, read once and sorted for lookup. */
+  private static final String[] SQL2003_RESERVED_WORDS = loadSql2003ReservedWords();
 
   public static final Identifiers STANDARD =
       Identifiers.identifiers().withIdentifierQuoteString("\"").build();
 
-  private static final Pattern isAllNumeric = Pattern.compile("^\\p{Nd}*$");
-  private static final Pattern isIdentifier = Pattern.compile("^[\\p{Nd}\\p{L}\\p{M}_]*$");
-
   public static Builder identifiers() {
     return new Builder();
   }
 
   /**
    * Checks if the name is valid database object identifier, according to the rules of most
-   * databases.
+   * databases. Names made up of letters, combining marks, digits and underscores are
+   * identifiers, unless they are made up of digits alone.
    *
    * @param name Name to check.
    * @return Whether the name is valid database object identifier.
@@ -223,14 +188,74 @@ public final class Identifiers {
   private static boolean isIdentifier(final String name) {
     if (isBlank(name)) {
       return false;
-    } else {
-      return isIdentifier.matcher(name).matches() && !isAllNumeric.matcher(name).matches();
     }
+
+    boolean isAllNumeric = true;
+    for (int i = 0; i < name.length(); ) {
+      final int codePoint = name.codePointAt(i);
+      if (Character.getType(codePoint) == Character.DECIMAL_DIGIT_NUMBER) {
+        // Digits are allowed, but not on their own
+      } else if (Character.isLetter(codePoint) || isMark(codePoint) || codePoint == '_') {
+        isAllNumeric = false;
+      } else {
+        return false;
+      }
+      i = i + Character.charCount(codePoint);
+    }
+    return !isAllNumeric;
+  }
+
+  private static boolean isMark(final int codePoint) {
+    final int type = Character.getType(codePoint);
+    return type == Character.NON_SPACING_MARK
+        || type == Character.COMBINING_SPACING_MARK
+        || type == Character.ENCLOSING_MARK;
+  }
+
+  /** Load a list of SQL 2003 reserved words, and normalize them by converting to uppercase. */
+  private static String[] loadSql2003ReservedWords() {
+    final Set<String> reservedWords = new HashSet<>();
+    try (final BufferedReader reader =
+        new BufferedReader(
+            new InputStreamReader(
+                Identifiers.class.getResourceAsStream("/sql2003_reserved_words.txt")))) {
+      String line;
+      while ((line = reader.readLine()) != null) {
+        if (!isBlank(line)) {
+          reservedWords.add(line);
+        }
+      }
+    } catch (final IOException e) {
+      LOGGER.log(Level.WARNING, "Could not read list of SQL 2003 reserved words", e);
+    }
+    if (reservedWords.isEmpty()) {
+      throw new InternalRuntimeException("No SQL 2003 reserved words found");
+    }
+
+    return toSortedArray(toUpperCase(reservedWords));
+  }
+
+  private static String[] toSortedArray(final Collection<String> words) {
+    final String[] sortedWords = words.toArray(new String[0]);
+    Arrays.sort(sortedWords);
+    return sortedWords;
+  }
+
+  private static Collection<String> toUpperCase(final Iterable<String> words) {
+    final Collection<String> upperCaseWords = new HashSet<>();
+    if (words != null) {
+      for (final String word : words) {
+        if (!isBlank(word)) {
+          upperCaseWords.add(word.trim().toUpperCase());
+        }
+      }
+    }
+    return upperCaseWords;
   }
 
   private final String identifierQuoteString;
   private final IdentifierQuotingStrategy identifierQuotingStrategy;
-  private final Collection<String> reservedWords;
+  private final String[] reservedWords;
 
   private Identifiers(final Builder builder) {
     if (builder.isIdentifierQuoteStringSet()) {
@@ -240,7 +265,13 @@ public final class Identifiers {
       identifierQuoteString = "\"";
     }
     identifierQuotingStrategy = builder.identifierQuotingStrategy;
-    reservedWords = builder.reservedWords;
+    if (builder.reservedWords.isEmpty()) {
+      reservedWords = SQL2003_RESERVED_WORDS;
+    } else {
+      final Collection<String> allReservedWords = new HashSet<>(builder.reservedWords);
+      allReservedWords.addAll(Arrays.asList(SQL2003_RESERVED_WORDS));
+      reservedWords = toSortedArray(allReservedWords);
+    }
   }
 
   /**
@@ -263,7 +294,7 @@ public final class Identifiers {
    * @return Reserved words
    */
   public Collection<String> getReservedWords() {
-    return new HashSet<>(reservedWords);
+    return new HashSet<>(Arrays.asList(reservedWords));
   }
 
   /**
@@ -292,7 +323,7 @@ public final class Identifiers {
    * @return Whether the given word is reserved
    */
   public boolean isReservedWord(final String word) {
-    return !isBlank(word) && reservedWords.contains(word.trim().toUpperCase());
+    return !isBlank(word) && Arrays.binarySearch(reservedWords, word.trim().toUpperCase()) >= 0;
   }
 
   /**
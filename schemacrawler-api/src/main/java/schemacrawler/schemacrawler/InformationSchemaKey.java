@@ -40,6 +40,7 @@ public enum InformationSchemaKey {
   DATABASE_USERS(ADDITIONAL_INFO),
   EXT_HIDDEN_TABLE_COLUMNS(METADATA_EXTENSION),
   EXT_INDEXES(METADATA_EXTENSION),
+  EXT_SCHEMA_FINGERPRINTS(METADATA_EXTENSION),
   EXT_TABLE_CONSTRAINTS(METADATA_EXTENSION),
   EXT_SYNONYMS(METADATA_EXTENSION),
   EXT_TABLES(METADATA_EXTENSION),
@@ -60,6 +61,7 @@ public enum InformationSchemaKey {
   TABLE_PRIVILEGES(DATABASE_METADATA),
   TABLE_COLUMN_PRIVILEGES(DATABASE_METADATA),
   TABLE_CONSTRAINTS(INFORMATION_SCHEMA),
+  TABLE_ROW_COUNTS(ADDITIONAL_INFO),
   TRIGGERS(INFORMATION_SCHEMA),
   VIEWS(INFORMATION_SCHEMA),
   VIEW_TABLE_USAGE(INFORMATION_SCHEMA),
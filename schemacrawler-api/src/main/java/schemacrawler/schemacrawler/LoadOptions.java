@@ -30,15 +30,21 @@ package schemacrawler.schemacrawler;
 import static java.util.Objects.requireNonNull;
 
 import us.fatehi.utility.ObjectToString;
+import us.fatehi.utility.scheduler.TaskRunnerMode;
 
 public final class LoadOptions implements Options {
 
   private final SchemaInfoLevel schemaInfoLevel;
   private final int maxThreads;
+  private final TaskRunnerMode taskRunnerMode;
 
-  LoadOptions(final SchemaInfoLevel schemaInfoLevel, final int maxThreads) {
+  LoadOptions(
+      final SchemaInfoLevel schemaInfoLevel,
+      final int maxThreads,
+      final TaskRunnerMode taskRunnerMode) {
     this.schemaInfoLevel = requireNonNull(schemaInfoLevel, "No schema info level provided");
     this.maxThreads = maxThreads;
+    this.taskRunnerMode = requireNonNull(taskRunnerMode, "No task runner mode provided");
   }
 
   /**
@@ -59,6 +65,17 @@ public final class LoadOptions implements Options {
     return schemaInfoLevel;
   }
 
+  /**
+   * Gets how catalog retrieval tasks are run. With virtual threads, the number of tasks that run
+   * at the same time is limited by the number of database connections, and not by the maximum
+   * number of threads.
+   *
+   * @return How catalog retrieval tasks are run.
+   */
+  public TaskRunnerMode getTaskRunnerMode() {
+    return taskRunnerMode;
+  }
+
   /** {@inheritDoc} */
   @Override
   public String toString() {
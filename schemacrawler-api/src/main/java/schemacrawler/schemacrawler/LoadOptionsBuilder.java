@@ -31,6 +31,8 @@ package schemacrawler.schemacrawler;
 import static us.fatehi.utility.scheduler.MultiThreadedTaskRunner.MAX_THREADS;
 import static us.fatehi.utility.scheduler.MultiThreadedTaskRunner.MIN_THREADS;
 
+import us.fatehi.utility.scheduler.TaskRunnerMode;
+
 public final class LoadOptionsBuilder implements OptionsBuilder<LoadOptionsBuilder, LoadOptions> {
 
   public static LoadOptionsBuilder builder() {
@@ -43,11 +45,13 @@ public final class LoadOptionsBuilder implements OptionsBuilder<LoadOptionsBuild
 
   private SchemaInfoLevel schemaInfoLevel;
   private int maxThreads;
+  private TaskRunnerMode taskRunnerMode;
 
   /** Default options. */
   private LoadOptionsBuilder() {
     schemaInfoLevel = SchemaInfoLevelBuilder.standard();
     maxThreads = MAX_THREADS;
+    taskRunnerMode = TaskRunnerMode.main_thread;
   }
 
   @Override
@@ -58,13 +62,14 @@ public final class LoadOptionsBuilder implements OptionsBuilder<LoadOptionsBuild
 
     schemaInfoLevel = options.getSchemaInfoLevel();
     maxThreads = options.getMaxThreads();
+    taskRunnerMode = options.getTaskRunnerMode();
 
     return this;
   }
 
   @Override
   public LoadOptions toOptions() {
-    return new LoadOptions(schemaInfoLevel, maxThreads);
+    return new LoadOptions(schemaInfoLevel, maxThreads, taskRunnerMode);
   }
 
   public LoadOptionsBuilder withInfoLevel(final InfoLevel infoLevel) {
@@ -75,10 +80,11 @@ public final class LoadOptionsBuilder implements OptionsBuilder<LoadOptionsBuild
   }
 
   /**
-   * IMPORTANT: Multi-threading is not implemented. It is possibly future functionality.
+   * Sets the maximum number of platform threads used to load the catalog, when catalog retrieval
+   * tasks are run on multiple threads.
    *
    * @param maxThreads Maximum number of threads for multi-threaded operation.
-   * @return Maximum number of threads.
+   * @return Builder
    */
   public LoadOptionsBuilder withMaxThreads(final int maxThreads) {
     if (maxThreads < MIN_THREADS) {
@@ -91,6 +97,22 @@ public final class LoadOptionsBuilder implements OptionsBuilder<LoadOptionsBuild
     return this;
   }
 
+  /**
+   * Sets how catalog retrieval tasks are run. Virtual threads are only used if the Java runtime
+   * supports them, otherwise tasks are run on multiple platform threads.
+   *
+   * @param taskRunnerMode How catalog retrieval tasks are run, or null for the main thread
+   * @return Builder
+   */
+  public LoadOptionsBuilder withTaskRunnerMode(final TaskRunnerMode taskRunnerMode) {
+    if (taskRunnerMode == null) {
+      this.taskRunnerMode = TaskRunnerMode.main_thread;
+    } else {
+      this.taskRunnerMode = taskRunnerMode;
+    }
+    return this;
+  }
+
   public LoadOptionsBuilder withSchemaInfoLevel(final SchemaInfoLevel schemaInfoLevel) {
     if (schemaInfoLevel != null) {
       this.schemaInfoLevel = schemaInfoLevel;
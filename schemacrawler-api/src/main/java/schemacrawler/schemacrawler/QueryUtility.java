@@ -30,6 +30,7 @@ package schemacrawler.schemacrawler;
 import static java.util.Objects.requireNonNull;
 import static us.fatehi.utility.TemplatingUtility.expandTemplate;
 import static us.fatehi.utility.Utility.isBlank;
+import static us.fatehi.utility.database.DatabaseUtility.createStatement;
 import static us.fatehi.utility.database.DatabaseUtility.executeSql;
 import static us.fatehi.utility.database.DatabaseUtility.executeSqlForLong;
 import static us.fatehi.utility.database.DatabaseUtility.executeSqlForScalar;
@@ -38,6 +39,8 @@ import java.sql.Connection;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -116,6 +119,79 @@ public final class QueryUtility {
     return executeSqlForScalar(connection, sql);
   }
 
+  /**
+   * Executes a scalar query against a batch of tables, in a single round trip to the database
+   * server. The query for each table is wrapped as a common table expression, which names the
+   * scalar column, even if it is a derived column such as COUNT(*) that the database does not name.
+   * Selects from each common table expression, together with a key for the table, are combined with
+   * UNION ALL.
+   *
+   * @param query Query template, which returns a scalar value for each table
+   * @param connection Database connection
+   * @param tables Tables to run the query against
+   * @param identifiers Identifiers for quoting table names
+   * @return Scalar values, in the same order as the tables, with nulls for tables where the query
+   *     returned no rows, or returned a null
+   * @throws SQLException On an exception, or if the query for any table returns more than one row
+   *     or column
+   */
+  public static List<Object> executeForScalars(
+      final Query query,
+      final Connection connection,
+      final List<Table> tables,
+      final Identifiers identifiers)
+      throws SQLException {
+    requireNonNull(query, "No query provided");
+    requireNonNull(tables, "No tables provided");
+    requireNonNull(identifiers, "No identifiers provided");
+
+    final List<Object> scalars = Arrays.asList(new Object[tables.size()]);
+    if (tables.isEmpty()) {
+      return scalars;
+    }
+
+    final List<String> tableQueries = new ArrayList<>(tables.size());
+    final List<String> tableSelects = new ArrayList<>(tables.size());
+    for (int tableKey = 0; tableKey < tables.size(); tableKey++) {
+      final String tableSql = getQuery(query, tables.get(tableKey), true, identifiers);
+      tableQueries.add(String.format("Q%d (SCALAR_VALUE) AS (%n%s%n)", tableKey, tableSql));
+      tableSelects.add(
+          String.format("SELECT %d AS TABLE_KEY, SCALAR_VALUE FROM Q%d", tableKey, tableKey));
+    }
+    final String sql =
+        String.format(
+            "WITH %s%n%s",
+            String.join(String.format(",%n"), tableQueries),
+            String.join(String.format("%nUNION ALL%n"), tableSelects));
+    LOGGER.log(
+        Level.FINE,
+        new StringFormat(
+            "Executing %s for %d tables: %n%s", query.getName(), tables.size(), sql));
+
+    final boolean[] hasRow = new boolean[tables.size()];
+    try (final Statement statement = createStatement(connection);
+        final ResultSet resultSet = statement.executeQuery(sql)) {
+      if (resultSet.getMetaData().getColumnCount() != 2) {
+        throw new SQLException("Too many columns of data returned");
+      }
+      while (resultSet.next()) {
+        final int tableKey = resultSet.getInt(1);
+        if (hasRow[tableKey]) {
+          throw new SQLException(
+              String.format("Too many rows of data returned for table <%s>", tables.get(tableKey)));
+        }
+        hasRow[tableKey] = true;
+        Object scalar = resultSet.getObject(2);
+        if (resultSet.wasNull()) {
+          scalar = null;
+        }
+        scalars.set(tableKey, scalar);
+      }
+    }
+
+    return scalars;
+  }
+
   private static String getQuery(final Query query) {
     return expandTemplate(query.getQuery());
   }
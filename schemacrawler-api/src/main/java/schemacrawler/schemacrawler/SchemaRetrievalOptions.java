@@ -54,6 +54,9 @@ public final class SchemaRetrievalOptions implements Options {
   private final EnumDataTypeHelper enumDataTypeHelper;
   EnumMap<SchemaInfoMetadataRetrievalStrategy, MetadataRetrievalStrategy>
       metadataRetrievalStrategyMap;
+  private final int fetchSize;
+  private final Map<InformationSchemaKey, Integer> queryFetchSizes;
+  private final boolean streamingCursor;
 
   protected SchemaRetrievalOptions(final SchemaRetrievalOptionsBuilder builder) {
     final SchemaRetrievalOptionsBuilder bldr =
@@ -68,6 +71,10 @@ public final class SchemaRetrievalOptions implements Options {
     typeMap = bldr.overridesTypeMap.orElse(new TypeMap());
     enumDataTypeHelper = bldr.enumDataTypeHelper;
     metadataRetrievalStrategyMap = new EnumMap<>(bldr.metadataRetrievalStrategyMap);
+    fetchSize = bldr.fetchSize;
+    queryFetchSizes = new EnumMap<>(InformationSchemaKey.class);
+    queryFetchSizes.putAll(bldr.queryFetchSizes);
+    streamingCursor = bldr.streamingCursor;
   }
 
   public MetadataRetrievalStrategy get(
@@ -85,6 +92,29 @@ public final class SchemaRetrievalOptions implements Options {
     return enumDataTypeHelper;
   }
 
+  /**
+   * Number of rows fetched in each round trip for data dictionary queries that do not have their
+   * own fetch size. Zero means that the JDBC driver decides.
+   *
+   * @return Number of rows
+   */
+  public int getFetchSize() {
+    return fetchSize;
+  }
+
+  /**
+   * Number of rows fetched in each round trip for a data dictionary query.
+   *
+   * @param key Data dictionary query
+   * @return Number of rows
+   */
+  public int getFetchSize(final InformationSchemaKey key) {
+    if (key == null) {
+      return fetchSize;
+    }
+    return queryFetchSizes.getOrDefault(key, fetchSize);
+  }
+
   public String getIdentifierQuoteString() {
     if (!hasOverrideForIdentifierQuoteString()) {
       return "";
@@ -112,6 +142,10 @@ public final class SchemaRetrievalOptions implements Options {
     return typeMap != null;
   }
 
+  public boolean isStreamingCursor() {
+    return streamingCursor;
+  }
+
   public boolean isSupportsCatalogs() {
     return supportsCatalogs;
   }
@@ -130,4 +164,11 @@ public final class SchemaRetrievalOptions implements Options {
       getMetadataRetrievalStrategyMap() {
     return new EnumMap<>(metadataRetrievalStrategyMap);
   }
+
+  Map<InformationSchemaKey, Integer> getQueryFetchSizes() {
+    final Map<InformationSchemaKey, Integer> fetchSizes =
+        new EnumMap<>(InformationSchemaKey.class);
+    fetchSizes.putAll(queryFetchSizes);
+    return fetchSizes;
+  }
 }
@@ -45,6 +45,9 @@ import schemacrawler.utility.TypeMap;
 public final class SchemaRetrievalOptionsBuilder
     implements OptionsBuilder<SchemaRetrievalOptionsBuilder, SchemaRetrievalOptions> {
 
+  /** Rows fetched in each round trip for data dictionary queries, unless overridden. */
+  public static final int DEFAULT_FETCH_SIZE = 500;
+
   public static SchemaRetrievalOptionsBuilder builder() {
     return new SchemaRetrievalOptionsBuilder();
   }
@@ -68,6 +71,9 @@ public final class SchemaRetrievalOptionsBuilder
   boolean supportsSchemas;
   EnumDataTypeHelper enumDataTypeHelper;
   Map<SchemaInfoMetadataRetrievalStrategy, MetadataRetrievalStrategy> metadataRetrievalStrategyMap;
+  int fetchSize;
+  Map<InformationSchemaKey, Integer> queryFetchSizes;
+  boolean streamingCursor;
 
   private SchemaRetrievalOptionsBuilder() {
     dbServerType = DatabaseServerType.UNKNOWN;
@@ -86,6 +92,10 @@ public final class SchemaRetrievalOptionsBuilder
         SchemaInfoMetadataRetrievalStrategy.values()) {
       metadataRetrievalStrategyMap.put(key, metadata);
     }
+
+    fetchSize = DEFAULT_FETCH_SIZE;
+    queryFetchSizes = new EnumMap<>(InformationSchemaKey.class);
+    streamingCursor = false;
   }
 
   public SchemaRetrievalOptionsBuilder fromConnnection(final Connection connection) {
@@ -134,6 +144,9 @@ public final class SchemaRetrievalOptionsBuilder
     identifiers = options.getIdentifiers();
     overridesTypeMap = Optional.empty();
     metadataRetrievalStrategyMap = options.getMetadataRetrievalStrategyMap();
+    fetchSize = options.getFetchSize();
+    queryFetchSizes = options.getQueryFetchSizes();
+    streamingCursor = options.isStreamingCursor();
 
     return this;
   }
@@ -209,6 +222,42 @@ public final class SchemaRetrievalOptionsBuilder
     return this;
   }
 
+  /**
+   * Sets the number of rows fetched in each round trip for all data dictionary queries that do not
+   * have their own fetch size. A value of zero lets the JDBC driver decide.
+   *
+   * @param fetchSize Number of rows
+   */
+  public SchemaRetrievalOptionsBuilder withFetchSize(final int fetchSize) {
+    if (fetchSize < 0) {
+      this.fetchSize = DEFAULT_FETCH_SIZE;
+    } else {
+      this.fetchSize = fetchSize;
+    }
+    return this;
+  }
+
+  /**
+   * Sets the number of rows fetched in each round trip for a single data dictionary query, such as
+   * a query that is known to return many rows. A negative value resets the query to use the default
+   * fetch size.
+   *
+   * @param key Data dictionary query
+   * @param fetchSize Number of rows
+   */
+  public SchemaRetrievalOptionsBuilder withFetchSize(
+      final InformationSchemaKey key, final int fetchSize) {
+    if (key == null) {
+      return this;
+    }
+    if (fetchSize < 0) {
+      queryFetchSizes.remove(key);
+    } else {
+      queryFetchSizes.put(key, fetchSize);
+    }
+    return this;
+  }
+
   /**
    * Overrides the JDBC driver provided information about the identifier quote string.
    *
@@ -246,6 +295,19 @@ public final class SchemaRetrievalOptionsBuilder
     return this;
   }
 
+  /**
+   * Reads data dictionary queries with forward-only, read-only cursors, and turns off auto-commit
+   * on the connection while each query is read. Some JDBC drivers, such as the PostgreSQL driver,
+   * only honor the fetch size inside a transaction, and otherwise buffer all rows of a result set
+   * in memory. Database metadata calls are not affected.
+   *
+   * @param streamingCursor Whether to stream large result sets
+   */
+  public SchemaRetrievalOptionsBuilder withStreamingCursor(final boolean streamingCursor) {
+    this.streamingCursor = streamingCursor;
+    return this;
+  }
+
   /**
    * Overrides the JDBC driver provided information about whether the database supports catalogs.
    */
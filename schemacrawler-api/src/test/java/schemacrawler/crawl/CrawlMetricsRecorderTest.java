@@ -0,0 +1,167 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2022, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+
+package schemacrawler.crawl;
+
+import static com.github.npathai.hamcrestopt.OptionalMatchers.isEmpty;
+import static com.github.npathai.hamcrestopt.OptionalMatchers.isPresent;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.is;
+
+import java.time.Duration;
+import java.time.temporal.ChronoUnit;
+import java.util.SortedMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+import schemacrawler.schema.RetrievalMetrics;
+import us.fatehi.utility.scheduler.TaskDefinition.TaskRunnable;
+
+public class CrawlMetricsRecorderTest {
+
+  @Test
+  public void countsOutsideRetrieval() throws Exception {
+    final MutableCrawlMetrics crawlMetrics = new MutableCrawlMetrics();
+
+    CrawlMetricsRecorder.countJdbcCall();
+    CrawlMetricsRecorder.countObject();
+    CrawlMetricsRecorder.countRows(10);
+    CrawlMetricsRecorder.countText("text");
+
+    assertThat(crawlMetrics.getRetrievalMetrics(), hasSize(0));
+    assertThat(crawlMetrics.lookupRetrievalMetrics("retrieveTables"), isEmpty());
+  }
+
+  @Test
+  public void helpCurrentRetrieval() throws Exception {
+    final MutableCrawlMetrics crawlMetrics = new MutableCrawlMetrics();
+    final ExecutorService executor = Executors.newSingleThreadExecutor();
+    try {
+      CrawlMetricsRecorder.record(
+              crawlMetrics,
+              "retrieveTables",
+              () -> {
+                CrawlMetricsRecorder.countObject();
+                final TaskRunnable helper =
+                    CrawlMetricsRecorder.helpCurrentRetrieval(
+                        () -> {
+                          CrawlMetricsRecorder.countObject();
+                          CrawlMetricsRecorder.countRows(2);
+                        });
+                final Future<?> future =
+                    executor.submit(
+                        () -> {
+                          helper.run();
+                          return null;
+                        });
+                future.get(10, TimeUnit.SECONDS);
+              })
+          .run();
+    } finally {
+      executor.shutdown();
+    }
+
+    final RetrievalMetrics metrics = crawlMetrics.lookupRetrievalMetrics("retrieveTables").get();
+    assertThat(metrics.getObjectCount(), is(2L));
+    assertThat(metrics.getRowCount(), is(2L));
+  }
+
+  @Test
+  public void helpWithoutRetrieval() throws Exception {
+    final TaskRunnable task = () -> {};
+    assertThat(CrawlMetricsRecorder.helpCurrentRetrieval(task), is(task));
+  }
+
+  @Test
+  public void latencyHistogram() {
+    final MutableLatencyHistogram histogram = new MutableLatencyHistogram();
+    histogram.record(TimeUnit.MICROSECONDS.toNanos(50));
+    histogram.record(TimeUnit.MICROSECONDS.toNanos(100));
+    histogram.record(TimeUnit.MILLISECONDS.toNanos(3));
+    histogram.record(TimeUnit.SECONDS.toNanos(30));
+
+    assertThat(histogram.getCount(), is(4L));
+    assertThat(histogram.getMaxLatency(), is(Duration.ofSeconds(30)));
+
+    final SortedMap<Duration, Long> buckets = histogram.getBuckets();
+    assertThat(buckets.get(Duration.ofNanos(TimeUnit.MICROSECONDS.toNanos(100))), is(2L));
+    assertThat(buckets.get(Duration.ofMillis(5)), is(1L));
+    assertThat(buckets.get(Duration.ofMillis(2)), is(0L));
+    assertThat(buckets.get(ChronoUnit.FOREVER.getDuration()), is(1L));
+  }
+
+  @Test
+  public void record() throws Exception {
+    final MutableCrawlMetrics crawlMetrics = new MutableCrawlMetrics();
+    CrawlMetricsRecorder.record(
+            crawlMetrics,
+            "retrieveTables",
+            () -> {
+              CrawlMetricsRecorder.countJdbcCall();
+              CrawlMetricsRecorder.countObject();
+              CrawlMetricsRecorder.countObject();
+              CrawlMetricsRecorder.countRows(3);
+              CrawlMetricsRecorder.countText("a");
+            })
+        .run();
+    CrawlMetricsRecorder.record(
+            crawlMetrics, "retrieveTables", () -> CrawlMetricsRecorder.countRows(1))
+        .run();
+
+    assertThat(crawlMetrics.getRetrievalMetrics(), hasSize(1));
+    assertThat(crawlMetrics.lookupRetrievalMetrics("retrieveTables"), isPresent());
+    final RetrievalMetrics metrics = crawlMetrics.lookupRetrievalMetrics("retrieveTables").get();
+    assertThat(metrics.getName(), is("retrieveTables"));
+    assertThat(metrics.getJdbcCallCount(), is(1L));
+    assertThat(metrics.getObjectCount(), is(2L));
+    assertThat(metrics.getRowCount(), is(4L));
+    assertThat(metrics.getTextBytes(), is(1L));
+    assertThat(metrics.getWallTime().isNegative(), is(false));
+  }
+
+  @Test
+  public void textBytes() throws Exception {
+    assertThat(textBytes("a"), is(1L));
+    assertThat(textBytes("é"), is(2L));
+    assertThat(textBytes("€"), is(3L));
+    assertThat(textBytes("😀"), is(4L));
+    assertThat(textBytes("aé€😀"), is(10L));
+  }
+
+  private long textBytes(final String text) throws Exception {
+    final MutableCrawlMetrics crawlMetrics = new MutableCrawlMetrics();
+    CrawlMetricsRecorder.record(crawlMetrics, "text", () -> CrawlMetricsRecorder.countText(text))
+        .run();
+    return crawlMetrics.lookupRetrievalMetrics("text").get().getTextBytes();
+  }
+}
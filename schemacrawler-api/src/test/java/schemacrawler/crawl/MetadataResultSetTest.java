@@ -180,6 +180,10 @@ public class MetadataResultSetTest {
               assertThat(objectValue, is("A"));
             }
 
+            final Object[] rowValues = results.rowValues();
+            assertThat(rowValues, arrayWithSize(1));
+            assertThat(String.valueOf(rowValues[0]), is(String.valueOf(objectValue)));
+
             final String[] columnNames = results.getColumnNames();
             assertThat(columnNames, arrayWithSize(1));
             assertThat(columnNames[0], is(columnName));
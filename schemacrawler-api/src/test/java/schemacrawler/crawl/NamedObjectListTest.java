@@ -0,0 +1,123 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2022, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+
+package schemacrawler.crawl;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import schemacrawler.schema.Schema;
+import schemacrawler.schema.TableType;
+import schemacrawler.schemacrawler.SchemaReference;
+
+public class NamedObjectListTest {
+
+  private static final TableType TABLE = new TableType("TABLE");
+
+  private final Schema schema1 = new SchemaReference("CATALOG", "SCHEMA1");
+  private final Schema schema2 = new SchemaReference("CATALOG", "SCHEMA2");
+
+  @Test
+  public void cachedValues() {
+    final NamedObjectList<MutableTable> tables = new NamedObjectList<>();
+    final MutableTable table1 = newTable(schema1, "TABLE1");
+    tables.add(table1);
+
+    final List<MutableTable> values = tables.values();
+    assertThat(values, contains(table1));
+    assertThat(tables.values(), is(sameInstance(values)));
+    assertThrows(UnsupportedOperationException.class, () -> values.add(table1));
+  }
+
+  @Test
+  public void invalidatedOnModification() {
+    final NamedObjectList<MutableTable> tables = new NamedObjectList<>();
+    final MutableTable table1 = newTable(schema1, "TABLE1");
+    final MutableTable table2 = newTable(schema1, "TABLE2");
+    tables.add(table2);
+    assertThat(tables.values(), contains(table2));
+
+    tables.add(table1);
+    assertThat(tables.values(), contains(table1, table2));
+
+    tables.remove(table2);
+    assertThat(tables.values(), contains(table1));
+
+    tables.add(table2);
+    tables.filter(table -> table.getName().equals("TABLE2"));
+    assertThat(tables.values(), contains(table2));
+  }
+
+  @Test
+  public void invalidatedOnSortOrderChange() {
+    final NamedObjectList<MutableTable> tables = new NamedObjectList<>();
+    final MutableTable table1 = newTable(schema1, "TABLE1");
+    final MutableTable table2 = newTable(schema1, "TABLE2");
+    tables.add(table1);
+    tables.add(table2);
+    assertThat(tables.values(), contains(table1, table2));
+
+    table1.setSortIndex(1);
+    tables.invalidate();
+    assertThat(tables.values(), contains(table2, table1));
+  }
+
+  @Test
+  public void valuesBySchema() {
+    final NamedObjectList<MutableTable> tables = new NamedObjectList<>();
+    final MutableTable table1 = newTable(schema1, "TABLE1");
+    final MutableTable table2 = newTable(schema2, "TABLE2");
+    final MutableTable table3 = newTable(schema1, "TABLE3");
+    tables.add(table3);
+    tables.add(table2);
+    tables.add(table1);
+
+    assertThat(tables.values(schema1), contains(table1, table3));
+    assertThat(tables.values(schema2), contains(table2));
+    assertThat(tables.values(new SchemaReference("CATALOG", "SCHEMA3")), is(empty()));
+
+    tables.remove(table3);
+    assertThat(tables.values(schema1), contains(table1));
+
+    assertThrows(NullPointerException.class, () -> tables.values(null));
+  }
+
+  private MutableTable newTable(final Schema schema, final String name) {
+    final MutableTable table = new MutableTable(schema, name);
+    table.setTableType(TABLE);
+    return table;
+  }
+}
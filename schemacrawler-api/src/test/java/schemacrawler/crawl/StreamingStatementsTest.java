@@ -0,0 +1,123 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2022, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+
+package schemacrawler.crawl;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Savepoint;
+import java.sql.Statement;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class StreamingStatementsTest {
+
+  private Connection connection;
+  private Savepoint savepoint;
+  private Statement statement;
+
+  @BeforeEach
+  public void mockConnection() throws SQLException {
+    connection = mock(Connection.class);
+    savepoint = mock(Savepoint.class);
+    statement = mock(Statement.class);
+    when(connection.setSavepoint()).thenReturn(savepoint);
+  }
+
+  @Test
+  public void failedStatementInTransaction() throws SQLException {
+    when(connection.getAutoCommit()).thenReturn(false);
+    when(statement.executeQuery(anyString())).thenThrow(new SQLException("Query failed"));
+    // The transaction is aborted, so the savepoint cannot be released
+    doThrow(new SQLException("Transaction is aborted"))
+        .doNothing()
+        .when(connection)
+        .releaseSavepoint(savepoint);
+
+    try (final Statement streamingStatement =
+        StreamingStatements.streaming(connection, statement)) {
+      assertThrows(SQLException.class, () -> streamingStatement.executeQuery("SELECT"));
+    }
+
+    verify(statement).close();
+    verify(connection).rollback(savepoint);
+    verify(connection, never()).setAutoCommit(any(Boolean.class));
+  }
+
+  @Test
+  public void statement() throws SQLException {
+    when(connection.getAutoCommit()).thenReturn(true);
+
+    final Statement streamingStatement = StreamingStatements.streaming(connection, statement);
+    verify(connection).setAutoCommit(false);
+
+    streamingStatement.setFetchSize(500);
+    streamingStatement.close();
+    streamingStatement.close();
+
+    verify(statement).setFetchSize(500);
+    verify(connection).rollback();
+    verify(connection).setAutoCommit(true);
+    verify(connection, never()).setSavepoint();
+  }
+
+  @Test
+  public void statementInTransaction() throws SQLException {
+    when(connection.getAutoCommit()).thenReturn(false);
+
+    final Statement streamingStatement = StreamingStatements.streaming(connection, statement);
+    streamingStatement.close();
+    streamingStatement.close();
+
+    verify(connection).setSavepoint();
+    verify(connection).releaseSavepoint(savepoint);
+    verify(connection, never()).rollback(any(Savepoint.class));
+    verify(connection, never()).rollback();
+    verify(connection, never()).setAutoCommit(any(Boolean.class));
+  }
+
+  @Test
+  public void statementNotStarted() throws SQLException {
+    when(connection.getAutoCommit()).thenReturn(true);
+    doThrow(new SQLException("No transactions")).when(connection).setAutoCommit(false);
+
+    assertThrows(SQLException.class, () -> StreamingStatements.streaming(connection, statement));
+
+    verify(statement).close();
+  }
+}
@@ -0,0 +1,120 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2022, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+
+package schemacrawler.crawl;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import schemacrawler.schemacrawler.SchemaReference;
+
+public class TableShardsTest {
+
+  private static List<MutableTable> tables(final String schemaName, final int count) {
+    final SchemaReference schema = new SchemaReference("CATALOG", schemaName);
+    final List<MutableTable> tables = new ArrayList<>();
+    for (int i = 0; i < count; i++) {
+      tables.add(new MutableTable(schema, "TABLE" + i));
+    }
+    return tables;
+  }
+
+  @Test
+  public void noTables() {
+    assertThat(TableShards.shard(Collections.emptyList(), 4), is(empty()));
+  }
+
+  @Test
+  public void shardBySchema() {
+    final List<MutableTable> schema1Tables = tables("SCHEMA1", 5);
+    final List<MutableTable> schema2Tables = tables("SCHEMA2", 3);
+    final List<MutableTable> schema3Tables = tables("SCHEMA3", 2);
+
+    final List<MutableTable> allTables = new ArrayList<>();
+    allTables.addAll(schema1Tables);
+    allTables.addAll(schema2Tables);
+    allTables.addAll(schema3Tables);
+
+    final List<List<MutableTable>> shards = TableShards.shard(allTables, 2);
+    assertThat(shards, hasSize(2));
+    assertThat(shards.get(0), is(schema1Tables));
+    final List<MutableTable> secondShard = new ArrayList<>(schema2Tables);
+    secondShard.addAll(schema3Tables);
+    assertThat(shards.get(1), is(secondShard));
+  }
+
+  @Test
+  public void shardByTable() {
+    final List<MutableTable> allTables = tables("SCHEMA1", 5);
+
+    final List<List<MutableTable>> shards = TableShards.shard(allTables, 2);
+    assertThat(shards, hasSize(2));
+    assertThat(
+        shards.get(0), contains(allTables.get(0), allTables.get(2), allTables.get(4)));
+    assertThat(shards.get(1), contains(allTables.get(1), allTables.get(3)));
+  }
+
+  @Test
+  public void moreShardsThanTables() {
+    final List<MutableTable> allTables = tables("SCHEMA1", 2);
+
+    final List<List<MutableTable>> shards = TableShards.shard(allTables, 10);
+    assertThat(shards, hasSize(2));
+
+    final List<MutableTable> shardedTables = new ArrayList<>();
+    shards.forEach(shardedTables::addAll);
+    assertThat(shardedTables, containsInAnyOrder(allTables.toArray()));
+  }
+
+  @Test
+  public void singleShard() {
+    final List<MutableTable> allTables = new ArrayList<>();
+    allTables.addAll(tables("SCHEMA1", 2));
+    allTables.addAll(tables("SCHEMA2", 2));
+
+    assertThat(TableShards.shard(allTables, 0), is(Arrays.asList(allTables)));
+    assertThat(TableShards.shard(allTables, 1), is(Arrays.asList(allTables)));
+  }
+
+  @Test
+  public void nullTables() {
+    assertThrows(NullPointerException.class, () -> TableShards.shard(null, 2));
+  }
+}
@@ -33,6 +33,7 @@ import static org.hamcrest.MatcherAssert.assertThat;
 import org.junit.jupiter.api.Test;
 
 import us.fatehi.utility.scheduler.MultiThreadedTaskRunner;
+import us.fatehi.utility.scheduler.TaskRunnerMode;
 
 public class LoadOptionsBuilderTest {
 
@@ -64,4 +65,24 @@ public class LoadOptionsBuilderTest {
     loadOptionsBuilder.withMaxThreads(Integer.MAX_VALUE);
     assertThat(loadOptionsBuilder.toOptions().getMaxThreads(), is(MultiThreadedTaskRunner.MAX_THREADS));
   }
+
+  @Test
+  public void taskRunnerMode() {
+    final LoadOptionsBuilder loadOptionsBuilder = LoadOptionsBuilder.builder();
+
+    // Default
+    assertThat(loadOptionsBuilder.toOptions().getTaskRunnerMode(), is(TaskRunnerMode.main_thread));
+
+    loadOptionsBuilder.withTaskRunnerMode(TaskRunnerMode.virtual_threads);
+    assertThat(
+        loadOptionsBuilder.toOptions().getTaskRunnerMode(), is(TaskRunnerMode.virtual_threads));
+
+    // Copied with other options
+    final LoadOptions loadOptions =
+        LoadOptionsBuilder.builder().fromOptions(loadOptionsBuilder.toOptions()).toOptions();
+    assertThat(loadOptions.getTaskRunnerMode(), is(TaskRunnerMode.virtual_threads));
+
+    loadOptionsBuilder.withTaskRunnerMode(null);
+    assertThat(loadOptionsBuilder.toOptions().getTaskRunnerMode(), is(TaskRunnerMode.main_thread));
+  }
 }
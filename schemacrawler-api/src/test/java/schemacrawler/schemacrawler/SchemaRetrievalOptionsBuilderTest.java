@@ -71,6 +71,41 @@ public class SchemaRetrievalOptionsBuilderTest {
     assertThat(builder.identifierQuoteString, is("@"));
   }
 
+  @Test
+  public void fetchSize() {
+
+    final SchemaRetrievalOptionsBuilder builder = SchemaRetrievalOptionsBuilder.builder();
+    assertThat(
+        builder.toOptions().getFetchSize(InformationSchemaKey.TABLE_COLUMNS),
+        is(SchemaRetrievalOptionsBuilder.DEFAULT_FETCH_SIZE));
+    assertThat(builder.toOptions().isStreamingCursor(), is(false));
+
+    builder
+        .withFetchSize(100)
+        .withFetchSize(InformationSchemaKey.TABLE_COLUMNS, 5000)
+        .withStreamingCursor(true);
+    SchemaRetrievalOptions options = builder.toOptions();
+    assertThat(options.getFetchSize(), is(100));
+    assertThat(options.getFetchSize(InformationSchemaKey.TABLES), is(100));
+    assertThat(options.getFetchSize(InformationSchemaKey.TABLE_COLUMNS), is(5000));
+    assertThat(options.getFetchSize(null), is(100));
+    assertThat(options.isStreamingCursor(), is(true));
+
+    options = SchemaRetrievalOptionsBuilder.builder(options).toOptions();
+    assertThat(options.getFetchSize(InformationSchemaKey.TABLE_COLUMNS), is(5000));
+    assertThat(options.isStreamingCursor(), is(true));
+
+    builder.withFetchSize(-1).withFetchSize(InformationSchemaKey.TABLE_COLUMNS, -1);
+    options = builder.toOptions();
+    assertThat(
+        options.getFetchSize(InformationSchemaKey.TABLE_COLUMNS),
+        is(SchemaRetrievalOptionsBuilder.DEFAULT_FETCH_SIZE));
+
+    builder.withFetchSize(null, 10);
+    assertThat(
+        builder.toOptions().getFetchSize(), is(SchemaRetrievalOptionsBuilder.DEFAULT_FETCH_SIZE));
+  }
+
   @Test
   public void dbMetaData_none() throws SQLException {
 
@@ -30,6 +30,11 @@ package schemacrawler.test;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.is;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
 
 import org.junit.jupiter.api.Test;
 
@@ -51,6 +56,29 @@ public class IdentifiersTest {
     }
   }
 
+  @Test
+  public void databaseReservedWords() throws Exception {
+    final DatabaseMetaData metaData = mock(DatabaseMetaData.class);
+    when(metaData.getSQLKeywords()).thenReturn("qwer, ASDF");
+    final Connection connection = mock(Connection.class);
+    when(connection.getMetaData()).thenReturn(metaData);
+
+    final Identifiers databaseIdentifiers =
+        Identifiers.identifiers().withConnection(connection).build();
+    final String[] words = new String[] {"qwer", "ASDF", "update", "UPDATE"};
+    for (final String word : words) {
+      assertThat(word, databaseIdentifiers.isReservedWord(word), is(true));
+      assertThat(word, databaseIdentifiers.isToBeQuoted(word), is(true));
+    }
+
+    // Reserved words from one database are not shared with others
+    assertThat(identifiers.isReservedWord("qwer"), is(false));
+    assertThat(Identifiers.STANDARD.isReservedWord("ASDF"), is(false));
+    assertThat(
+        databaseIdentifiers.getReservedWords().size(),
+        is(identifiers.getReservedWords().size() + 2));
+  }
+
   @Test
   public void empty() {
     final String[] words =
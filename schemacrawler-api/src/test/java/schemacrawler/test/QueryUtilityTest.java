@@ -29,9 +29,14 @@ http://www.gnu.org/licenses/
 package schemacrawler.test;
 
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.hasSize;
 import static org.hamcrest.Matchers.is;
 import static org.hamcrest.Matchers.notNullValue;
 import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.startsWith;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static schemacrawler.test.utility.DatabaseTestUtility.getCatalog;
+import static schemacrawler.test.utility.DatabaseTestUtility.schemaCrawlerOptionsWithMaximumSchemaInfoLevel;
 import static schemacrawler.test.utility.FileHasContent.classpathResource;
 import static schemacrawler.test.utility.FileHasContent.hasSameContentAs;
 import static schemacrawler.test.utility.FileHasContent.outputOf;
@@ -41,11 +46,16 @@ import java.sql.Connection;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
 import schemacrawler.inclusionrule.InclusionRule;
 import schemacrawler.inclusionrule.RegularExpressionInclusionRule;
+import schemacrawler.schema.Catalog;
+import schemacrawler.schema.Table;
+import schemacrawler.schemacrawler.Identifiers;
 import schemacrawler.schemacrawler.Query;
 import schemacrawler.schemacrawler.QueryUtility;
 import schemacrawler.test.utility.ResolveTestContext;
@@ -130,6 +140,43 @@ public class QueryUtilityTest {
     assertThat(scalar, nullValue());
   }
 
+  @Test
+  public void executeForScalars(final TestContext testContext, final Connection cxn)
+      throws Exception {
+    final Catalog catalog = getCatalog(cxn, schemaCrawlerOptionsWithMaximumSchemaInfoLevel);
+    final List<Table> tables = new ArrayList<>(catalog.getTables());
+    final Identifiers identifiers = Identifiers.STANDARD;
+
+    final Query query = new Query("Count", "SELECT COUNT(*) FROM ${table}");
+    final List<Object> scalars = QueryUtility.executeForScalars(query, cxn, tables, identifiers);
+
+    assertThat(scalars, hasSize(tables.size()));
+    for (int i = 0; i < tables.size(); i++) {
+      final long count = QueryUtility.executeForLong(query, cxn, tables.get(i), identifiers);
+      assertThat(((Number) scalars.get(i)).longValue(), is(count));
+    }
+
+    final Query noRowsQuery = new Query("No rows", "SELECT 1 FROM ${table} WHERE 1 = 0");
+    for (final Object scalar :
+        QueryUtility.executeForScalars(noRowsQuery, cxn, tables, identifiers)) {
+      assertThat(scalar, nullValue());
+    }
+  }
+
+  @Test
+  public void executeForScalarsTooManyRows(final TestContext testContext, final Connection cxn)
+      throws Exception {
+    final Catalog catalog = getCatalog(cxn, schemaCrawlerOptionsWithMaximumSchemaInfoLevel);
+    final List<Table> tables = new ArrayList<>(catalog.getTables());
+
+    final Query query = new Query("All rows", "SELECT 1 FROM ${table}");
+    final SQLException exception =
+        assertThrows(
+            SQLException.class,
+            () -> QueryUtility.executeForScalars(query, cxn, tables, Identifiers.STANDARD));
+    assertThat(exception.getMessage(), startsWith("Too many rows"));
+  }
+
   private void executeAgainstSchemaTest(
       final TestContext testContext,
       final Connection cxn,
@@ -0,0 +1,131 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2022, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+package schemacrawler.test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static schemacrawler.test.utility.DatabaseTestUtility.getCatalog;
+import static schemacrawler.test.utility.DatabaseTestUtility.schemaRetrievalOptionsDefault;
+
+import java.sql.Connection;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import schemacrawler.crawl.SchemaCrawler;
+import schemacrawler.schema.Catalog;
+import schemacrawler.schema.Table;
+import schemacrawler.schemacrawler.LoadOptionsBuilder;
+import schemacrawler.schemacrawler.SchemaCrawlerOptions;
+import schemacrawler.test.utility.DatabaseConnectionInfo;
+import schemacrawler.test.utility.DatabaseTestUtility;
+import schemacrawler.test.utility.WithSystemProperty;
+import schemacrawler.test.utility.WithTestDatabase;
+import us.fatehi.utility.datasource.DatabaseConnectionSource;
+import us.fatehi.utility.datasource.DatabaseConnectionSources;
+import us.fatehi.utility.datasource.SingleUseUserCredentials;
+import us.fatehi.utility.scheduler.TaskRunnerMode;
+
+@WithTestDatabase
+public class SchemaCrawlerConnectionSourceTest {
+
+  @Test
+  @WithSystemProperty(key = "SC_EXPERIMENTAL", value = "true")
+  public void crawlWithPooledConnections(
+      final Connection connection, final DatabaseConnectionInfo connectionInfo) throws Exception {
+    assertCrawlWithPooledConnections(
+        connection,
+        connectionInfo,
+        LoadOptionsBuilder.builder()
+            .fromOptions(
+                DatabaseTestUtility.schemaCrawlerOptionsWithMaximumSchemaInfoLevel
+                    .getLoadOptions())
+            .withMaxThreads(4));
+  }
+
+  @Test
+  public void crawlWithVirtualThreads(
+      final Connection connection, final DatabaseConnectionInfo connectionInfo) throws Exception {
+    // Falls back to platform threads if virtual threads are not supported
+    assertCrawlWithPooledConnections(
+        connection,
+        connectionInfo,
+        LoadOptionsBuilder.builder()
+            .fromOptions(
+                DatabaseTestUtility.schemaCrawlerOptionsWithMaximumSchemaInfoLevel
+                    .getLoadOptions())
+            .withTaskRunnerMode(TaskRunnerMode.virtual_threads));
+  }
+
+  private void assertCrawlWithPooledConnections(
+      final Connection connection,
+      final DatabaseConnectionInfo connectionInfo,
+      final LoadOptionsBuilder loadOptionsBuilder)
+      throws Exception {
+
+    final SchemaCrawlerOptions schemaCrawlerOptions =
+        DatabaseTestUtility.schemaCrawlerOptionsWithMaximumSchemaInfoLevel.withLoadOptions(
+            loadOptionsBuilder.toOptions());
+
+    final Catalog expectedCatalog = getCatalog(connection, schemaCrawlerOptions);
+
+    final DatabaseConnectionSource dataSource =
+        DatabaseConnectionSources.newDatabaseConnectionSource(
+            connectionInfo.getConnectionUrl(), new SingleUseUserCredentials("sa", ""));
+    final Catalog catalog;
+    try {
+      final SchemaCrawler schemaCrawler =
+          new SchemaCrawler(dataSource, schemaRetrievalOptionsDefault, schemaCrawlerOptions);
+      catalog = schemaCrawler.crawl();
+    } finally {
+      dataSource.close();
+    }
+
+    assertThat(describe(catalog), is(describe(expectedCatalog)));
+    assertThat(catalog.getRoutines().size(), is(expectedCatalog.getRoutines().size()));
+    assertThat(catalog.getSequences().size(), is(expectedCatalog.getSequences().size()));
+    assertThat(catalog.getSynonyms().size(), is(expectedCatalog.getSynonyms().size()));
+  }
+
+  private List<String> describe(final Catalog catalog) {
+    final List<String> description = new ArrayList<>();
+    for (final Table table : catalog.getTables()) {
+      description.add(
+          String.format(
+              "%s: %d columns, %s primary key, %d foreign keys, %d indexes, %d triggers",
+              table.getFullName(),
+              table.getColumns().size(),
+              table.getPrimaryKey(),
+              table.getForeignKeys().size(),
+              table.getIndexes().size(),
+              table.getTriggers().size()));
+    }
+    return description;
+  }
+}
@@ -34,6 +34,7 @@ import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.arrayWithSize;
 import static org.hamcrest.Matchers.empty;
 import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.greaterThan;
 import static org.hamcrest.Matchers.hasSize;
 import static org.hamcrest.Matchers.instanceOf;
 import static org.hamcrest.Matchers.is;
@@ -44,6 +45,7 @@ import static schemacrawler.crawl.IndexRetrieverTest.verifyRetrieveIndexes;
 import static schemacrawler.crawl.PrimaryKeyRetrieverTest.verifyRetrievePrimaryKeys;
 import static schemacrawler.crawl.TableColumnRetrieverTest.verifyRetrieveTableColumns;
 import static schemacrawler.test.utility.DatabaseTestUtility.getCatalog;
+import static schemacrawler.test.utility.DatabaseTestUtility.schemaCrawlerOptionsWithMaximumSchemaInfoLevel;
 import static schemacrawler.test.utility.FileHasContent.classpathResource;
 import static schemacrawler.test.utility.FileHasContent.hasSameContentAs;
 import static schemacrawler.test.utility.FileHasContent.outputOf;
@@ -73,6 +75,7 @@ import schemacrawler.schema.Catalog;
 import schemacrawler.schema.Column;
 import schemacrawler.schema.ColumnDataType;
 import schemacrawler.schema.ColumnReference;
+import schemacrawler.schema.CrawlMetrics;
 import schemacrawler.schema.DataTypeType;
 import schemacrawler.schema.DatabaseInfo;
 import schemacrawler.schema.DatabaseProperty;
@@ -80,9 +83,11 @@ import schemacrawler.schema.ForeignKey;
 import schemacrawler.schema.Grant;
 import schemacrawler.schema.JdbcDriverInfo;
 import schemacrawler.schema.JdbcDriverProperty;
+import schemacrawler.schema.LatencyHistogram;
 import schemacrawler.schema.PrimaryKey;
 import schemacrawler.schema.Privilege;
 import schemacrawler.schema.Property;
+import schemacrawler.schema.RetrievalMetrics;
 import schemacrawler.schema.Routine;
 import schemacrawler.schema.RoutineParameter;
 import schemacrawler.schema.Schema;
@@ -96,6 +101,9 @@ import schemacrawler.schema.TableRelationshipType;
 import schemacrawler.schema.Trigger;
 import schemacrawler.schema.View;
 import schemacrawler.schema.WeakAssociation;
+import schemacrawler.schemacrawler.InformationSchemaKey;
+import schemacrawler.schemacrawler.InformationSchemaViews;
+import schemacrawler.schemacrawler.InformationSchemaViewsBuilder;
 import schemacrawler.schemacrawler.LimitOptionsBuilder;
 import schemacrawler.schemacrawler.LoadOptionsBuilder;
 import schemacrawler.schemacrawler.SchemaCrawlerOptions;
@@ -103,6 +111,7 @@ import schemacrawler.schemacrawler.SchemaCrawlerOptionsBuilder;
 import schemacrawler.schemacrawler.SchemaInfoLevelBuilder;
 import schemacrawler.schemacrawler.SchemaReference;
 import schemacrawler.schemacrawler.SchemaRetrievalOptions;
+import schemacrawler.schemacrawler.SchemaRetrievalOptionsBuilder;
 import schemacrawler.test.utility.ResolveTestContext;
 import schemacrawler.test.utility.TestContext;
 import schemacrawler.test.utility.TestUtility;
@@ -318,6 +327,24 @@ public class SchemaCrawlerTest {
         outputOf(testout), hasSameContentAs(classpathResource(testContext.testMethodFullName())));
   }
 
+  @Test
+  public void crawlMetrics() throws Exception {
+    final CrawlMetrics crawlMetrics = catalog.getCrawlInfo().getCrawlMetrics();
+
+    final Optional<RetrievalMetrics> optionalTablesMetrics =
+        crawlMetrics.lookupRetrievalMetrics("retrieveTables");
+    assertThat(optionalTablesMetrics, isPresent());
+    final RetrievalMetrics tablesMetrics = optionalTablesMetrics.get();
+    assertThat(tablesMetrics.getJdbcCallCount(), is(greaterThan(0L)));
+    assertThat(tablesMetrics.getRowCount(), is(greaterThan(0L)));
+    assertThat(tablesMetrics.getObjectCount(), is(greaterThan(0L)));
+
+    final LatencyHistogram getTablesLatencies =
+        crawlMetrics.getMetadataCallLatencies().get("getTables");
+    assertThat(getTablesLatencies, notNullValue());
+    assertThat(getTablesLatencies.getCount(), is(greaterThan(0L)));
+  }
+
   @Test
   public void databaseInfo(final TestContext testContext) throws Exception {
     final TestWriter testout = new TestWriter();
@@ -504,6 +531,40 @@ public class SchemaCrawlerTest {
         outputOf(testout), hasSameContentAs(classpathResource(testContext.testMethodFullName())));
   }
 
+  @Test
+  public void streamingCursor(final Connection connection) throws Exception {
+    final SchemaRetrievalOptions schemaRetrievalOptions = TestUtility.newSchemaRetrievalOptions();
+    // A failed data dictionary query should not stop later queries in the same transaction
+    final InformationSchemaViews informationSchemaViews =
+        InformationSchemaViewsBuilder.builder(schemaRetrievalOptions.getInformationSchemaViews())
+            .withSql(InformationSchemaKey.EXT_TABLES, "SELECT * FROM NO_SUCH_TABLE")
+            .toOptions();
+    final SchemaRetrievalOptions streamingSchemaRetrievalOptions =
+        SchemaRetrievalOptionsBuilder.builder(schemaRetrievalOptions)
+            .withInformationSchemaViews(informationSchemaViews)
+            .withStreamingCursor(true)
+            .toOptions();
+
+    final Catalog streamingCatalog =
+        getCatalog(
+            connection,
+            streamingSchemaRetrievalOptions,
+            schemaCrawlerOptionsWithMaximumSchemaInfoLevel);
+
+    assertThat(connection.getAutoCommit(), is(true));
+    final Schema schema = catalog.lookupSchema("PUBLIC.BOOKS").get();
+    final Schema streamingSchema = streamingCatalog.lookupSchema("PUBLIC.BOOKS").get();
+    assertThat(
+        streamingCatalog.getTables(streamingSchema), hasSize(catalog.getTables(schema).size()));
+    for (final Table table : catalog.getTables(schema)) {
+      final Table streamingTable =
+          streamingCatalog.lookupTable(streamingSchema, table.getName()).get();
+      assertThat(streamingTable.getTriggers(), hasSize(table.getTriggers().size()));
+      assertThat(
+          streamingTable.getTableConstraints(), hasSize(table.getTableConstraints().size()));
+    }
+  }
+
   @Test
   public void synonyms(final TestContext testContext) throws Exception {
     final TestWriter testout = new TestWriter();
@@ -0,0 +1,125 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2022, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+
+package schemacrawler.benchmarks;
+
+import static schemacrawler.tools.utility.SchemaCrawlerUtility.matchSchemaRetrievalOptions;
+import static us.fatehi.utility.datasource.DatabaseConnectionSources.newDatabaseConnectionSource;
+
+import java.sql.Connection;
+
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import schemacrawler.crawl.SchemaCrawler;
+import schemacrawler.inclusionrule.RegularExpressionExclusionRule;
+import schemacrawler.schema.Catalog;
+import schemacrawler.schemacrawler.LimitOptionsBuilder;
+import schemacrawler.schemacrawler.LoadOptionsBuilder;
+import schemacrawler.schemacrawler.SchemaCrawlerOptions;
+import schemacrawler.schemacrawler.SchemaCrawlerOptionsBuilder;
+import schemacrawler.schemacrawler.SchemaInfoLevel;
+import schemacrawler.schemacrawler.SchemaRetrievalOptions;
+import schemacrawler.testdb.TestDatabase;
+import us.fatehi.utility.datasource.DatabaseConnectionSource;
+import us.fatehi.utility.datasource.SingleUseUserCredentials;
+
+/**
+ * Database to benchmark, which is either the SchemaCrawler test database, or a synthetic database
+ * with the given number of columns.
+ */
+@State(Scope.Benchmark)
+public class BenchmarkDatabase {
+
+  private static final String TEST_DATABASE = "testdb";
+
+  @Param({TEST_DATABASE, "10000", "100000", "1000000"})
+  public String database;
+
+  private SyntheticDatabase syntheticDatabase;
+  private DatabaseConnectionSource dataSource;
+  private SchemaRetrievalOptions schemaRetrievalOptions;
+
+  /**
+   * Crawls the database for all schemas other than system schemas.
+   *
+   * @param schemaInfoLevel Schema info level
+   * @return Database catalog
+   */
+  public Catalog crawl(final SchemaInfoLevel schemaInfoLevel) {
+    final LimitOptionsBuilder limitOptionsBuilder =
+        LimitOptionsBuilder.builder()
+            .includeSchemas(
+                new RegularExpressionExclusionRule(".*\\.(INFORMATION_SCHEMA|SYSTEM_LOBS)"));
+    final LoadOptionsBuilder loadOptionsBuilder =
+        LoadOptionsBuilder.builder().withSchemaInfoLevel(schemaInfoLevel);
+    final SchemaCrawlerOptions schemaCrawlerOptions =
+        SchemaCrawlerOptionsBuilder.newSchemaCrawlerOptions()
+            .withLimitOptions(limitOptionsBuilder.toOptions())
+            .withLoadOptions(loadOptionsBuilder.toOptions());
+
+    final SchemaCrawler schemaCrawler =
+        new SchemaCrawler(dataSource, schemaRetrievalOptions, schemaCrawlerOptions);
+    return schemaCrawler.crawl();
+  }
+
+  public DatabaseConnectionSource getDataSource() {
+    return dataSource;
+  }
+
+  @Setup(Level.Trial)
+  public void setUp() throws Exception {
+    final String connectionUrl;
+    if (TEST_DATABASE.equals(database)) {
+      final TestDatabase testDatabase = TestDatabase.initialize();
+      connectionUrl = testDatabase.getConnectionUrl();
+    } else {
+      syntheticDatabase = new SyntheticDatabase(Integer.parseInt(database));
+      syntheticDatabase.start();
+      connectionUrl = syntheticDatabase.getConnectionUrl();
+    }
+
+    dataSource = newDatabaseConnectionSource(connectionUrl, new SingleUseUserCredentials("sa", ""));
+    try (final Connection connection = dataSource.get()) {
+      schemaRetrievalOptions = matchSchemaRetrievalOptions(connection);
+    }
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() throws Exception {
+    dataSource.close();
+    // The test database stops itself when the benchmark JVM shuts down
+    if (syntheticDatabase != null) {
+      syntheticDatabase.stop();
+    }
+  }
+}
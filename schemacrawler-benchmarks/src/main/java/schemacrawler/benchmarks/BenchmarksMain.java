@@ -0,0 +1,72 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2022, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+
+package schemacrawler.benchmarks;
+
+import org.openjdk.jmh.Main;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Runs the benchmarks with the JMH command-line options, and writes the results as JSON to
+ * "benchmarks.json" so that results can be compared between releases. Another result format or
+ * file can be requested with the "-rf" and "-rff" command-line options.
+ */
+public final class BenchmarksMain {
+
+  private static final String RESULTS_FILE = "benchmarks.json";
+
+  public static void main(final String[] args) throws Exception {
+    final CommandLineOptions commandLineOptions = new CommandLineOptions(args);
+    if (commandLineOptions.shouldHelp()
+        || commandLineOptions.shouldList()
+        || commandLineOptions.shouldListWithParams()
+        || commandLineOptions.shouldListProfilers()
+        || commandLineOptions.shouldListResultFormats()) {
+      Main.main(args);
+      return;
+    }
+
+    final ChainedOptionsBuilder optionsBuilder = new OptionsBuilder().parent(commandLineOptions);
+    if (!commandLineOptions.getResultFormat().hasValue()) {
+      optionsBuilder.resultFormat(ResultFormatType.JSON);
+      if (!commandLineOptions.getResult().hasValue()) {
+        optionsBuilder.result(RESULTS_FILE);
+      }
+    }
+
+    new Runner(optionsBuilder.build()).run();
+  }
+
+  private BenchmarksMain() {
+    // Prevent instantiation
+  }
+}
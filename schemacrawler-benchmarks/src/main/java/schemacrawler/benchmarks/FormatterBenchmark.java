@@ -0,0 +1,169 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2022, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+
+package schemacrawler.benchmarks;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import schemacrawler.tools.command.text.diagram.options.DiagramOptionsBuilder;
+import schemacrawler.tools.command.text.diagram.options.DiagramOutputFormat;
+import schemacrawler.tools.command.text.schema.options.SchemaTextDetailType;
+import schemacrawler.tools.command.text.schema.options.SchemaTextOptionsBuilder;
+import schemacrawler.tools.command.text.schema.options.TextOutputFormat;
+import schemacrawler.tools.options.OutputFormat;
+import schemacrawler.tools.options.OutputOptions;
+import schemacrawler.tools.options.OutputOptionsBuilder;
+import schemacrawler.tools.text.formatter.diagram.SchemaDotFormatter;
+import schemacrawler.tools.text.formatter.schema.SchemaTextFormatter;
+import schemacrawler.tools.traversal.SchemaTraversalHandler;
+import schemacrawler.tools.traversal.SchemaTraverser;
+
+/**
+ * Benchmarks traversal of a catalog to produce text, HTML and DOT output. Output is discarded, so
+ * that only formatting is measured, or written to a file, so that the cost of the output pipeline
+ * is included.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(1)
+public class FormatterBenchmark {
+
+  private static final class DiscardingWriter extends Writer {
+
+    @Override
+    public void close() {
+      // No-op
+    }
+
+    @Override
+    public void flush() {
+      // No-op
+    }
+
+    @Override
+    public void write(final char[] cbuf, final int off, final int len) {
+      // No-op
+    }
+  }
+
+  /** A file that output is written to, which is overwritten by each benchmark invocation. */
+  @State(Scope.Thread)
+  public static class OutputFile {
+
+    private Path outputFile;
+
+    @Setup
+    public void setUp() throws IOException {
+      outputFile = Files.createTempFile("schemacrawler-benchmark", ".html");
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+      Files.deleteIfExists(outputFile);
+    }
+
+    OutputOptions outputOptions(final OutputFormat outputFormat) {
+      return OutputOptionsBuilder.builder()
+          .withOutputFormat(outputFormat)
+          .withOutputFile(outputFile)
+          .toOptions();
+    }
+  }
+
+  private static final String IDENTIFIER_QUOTE_STRING = "\"";
+
+  private static OutputOptions outputOptions(final OutputFormat outputFormat) {
+    return OutputOptionsBuilder.builder()
+        .withOutputFormat(outputFormat)
+        .withOutputWriter(new DiscardingWriter())
+        .toOptions();
+  }
+
+  private static void schemaText(
+      final BenchmarkCatalog catalog, final OutputOptions outputOptions) {
+    final SchemaTextFormatter formatter =
+        new SchemaTextFormatter(
+            SchemaTextDetailType.schema,
+            SchemaTextOptionsBuilder.newSchemaTextOptions(),
+            outputOptions,
+            IDENTIFIER_QUOTE_STRING);
+    traverse(catalog, formatter);
+  }
+
+  private static void traverse(
+      final BenchmarkCatalog catalog, final SchemaTraversalHandler formatter) {
+    final SchemaTraverser traverser = new SchemaTraverser();
+    traverser.setCatalog(catalog.getCatalog());
+    traverser.setHandler(formatter);
+    traverser.traverse();
+  }
+
+  @Benchmark
+  public void schemaDot(final BenchmarkCatalog catalog) {
+    final SchemaDotFormatter formatter =
+        new SchemaDotFormatter(
+            SchemaTextDetailType.schema,
+            DiagramOptionsBuilder.builder().toOptions(),
+            outputOptions(DiagramOutputFormat.scdot),
+            IDENTIFIER_QUOTE_STRING);
+    traverse(catalog, formatter);
+  }
+
+  @Benchmark
+  public void schemaHtml(final BenchmarkCatalog catalog) {
+    schemaText(catalog, outputOptions(TextOutputFormat.html));
+  }
+
+  @Benchmark
+  public void schemaHtmlFile(final BenchmarkCatalog catalog, final OutputFile outputFile) {
+    schemaText(catalog, outputFile.outputOptions(TextOutputFormat.html));
+  }
+
+  @Benchmark
+  public void schemaText(final BenchmarkCatalog catalog) {
+    schemaText(catalog, outputOptions(TextOutputFormat.text));
+  }
+}
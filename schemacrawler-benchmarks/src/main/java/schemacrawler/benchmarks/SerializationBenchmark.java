@@ -0,0 +1,92 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2022, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+
+package schemacrawler.benchmarks;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.yaml.YAMLMapper;
+
+import schemacrawler.schema.Catalog;
+import schemacrawler.tools.formatter.serialize.CatalogSerializer;
+import schemacrawler.tools.formatter.serialize.JavaSerializedCatalog;
+import schemacrawler.tools.formatter.serialize.JsonSerializedCatalog;
+import schemacrawler.tools.formatter.serialize.YamlSerializedCatalog;
+
+/**
+ * Benchmarks round trips of a catalog through each serialization format. Java serialization is
+ * read back into a catalog. JSON and YAML cannot be read back into a catalog, so they are parsed
+ * into a tree.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(1)
+public class SerializationBenchmark {
+
+  private static final ObjectMapper JSON_MAPPER = new ObjectMapper();
+  private static final ObjectMapper YAML_MAPPER = new YAMLMapper();
+
+  private static byte[] save(final CatalogSerializer serializer) {
+    final ByteArrayOutputStream out = new ByteArrayOutputStream();
+    serializer.save(out);
+    return out.toByteArray();
+  }
+
+  @Benchmark
+  public Catalog javaRoundTrip(final BenchmarkCatalog catalog) {
+    final byte[] serialized = save(new JavaSerializedCatalog(catalog.getCatalog()));
+    return new JavaSerializedCatalog(new ByteArrayInputStream(serialized)).getCatalog();
+  }
+
+  @Benchmark
+  public JsonNode jsonRoundTrip(final BenchmarkCatalog catalog) throws IOException {
+    final byte[] serialized = save(new JsonSerializedCatalog(catalog.getCatalog()));
+    return JSON_MAPPER.readTree(serialized);
+  }
+
+  @Benchmark
+  public JsonNode yamlRoundTrip(final BenchmarkCatalog catalog) throws IOException {
+    final byte[] serialized = save(new YamlSerializedCatalog(catalog.getCatalog()));
+    return YAML_MAPPER.readTree(serialized);
+  }
+}
@@ -0,0 +1,162 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2022, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+
+package schemacrawler.benchmarks;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import us.fatehi.utility.string.StringFormat;
+
+/**
+ * Generates an in-memory HSQLDB database with a given number of columns, so that benchmarks can
+ * scale well beyond the test database. Tables are spread over schemas. Each table has a primary
+ * key, a foreign key to the previous table in its schema, a column that is a weak association to
+ * the table before that, and an index.
+ */
+public final class SyntheticDatabase {
+
+  private static final Logger LOGGER = Logger.getLogger(SyntheticDatabase.class.getName());
+
+  private static final int COLUMNS_PER_TABLE = 20;
+  private static final int SCHEMA_COUNT = 10;
+  private static final int BATCH_SIZE = 100;
+  private static final String[] COLUMN_TYPES = {
+    "INTEGER", "VARCHAR(50)", "DECIMAL(10, 2)", "DATE", "BOOLEAN"
+  };
+
+  private static String schemaName(final int tableIndex) {
+    return String.format("SCHEMA_%02d", tableIndex % SCHEMA_COUNT);
+  }
+
+  private static String tableName(final int tableIndex) {
+    return String.format("TABLE_%06d", tableIndex);
+  }
+
+  private final int tableCount;
+  private final String url;
+
+  public SyntheticDatabase(final int columnCount) {
+    if (columnCount < COLUMNS_PER_TABLE * SCHEMA_COUNT) {
+      throw new IllegalArgumentException(
+          String.format(
+              "Need at least %d columns, but got %d",
+              COLUMNS_PER_TABLE * SCHEMA_COUNT, columnCount));
+    }
+    tableCount = columnCount / COLUMNS_PER_TABLE;
+    url = String.format("jdbc:hsqldb:mem:synthetic%d", columnCount);
+  }
+
+  public Connection getConnection() throws SQLException {
+    return DriverManager.getConnection(url, "sa", "");
+  }
+
+  public String getConnectionUrl() {
+    return url;
+  }
+
+  public int getTableCount() {
+    return tableCount;
+  }
+
+  /** Create database schemas, tables and indexes. */
+  public void start() throws SQLException {
+    LOGGER.log(
+        Level.INFO,
+        new StringFormat(
+            "Generating %d tables with %d columns", tableCount, tableCount * COLUMNS_PER_TABLE));
+
+    try (final Connection connection = getConnection();
+        final Statement statement = connection.createStatement()) {
+      for (int i = 0; i < SCHEMA_COUNT; i++) {
+        statement.execute(String.format("CREATE SCHEMA %s", schemaName(i)));
+      }
+      for (int i = 0; i < tableCount; i++) {
+        for (final String sql : tableSql(i)) {
+          statement.addBatch(sql);
+        }
+        if ((i + 1) % BATCH_SIZE == 0) {
+          statement.executeBatch();
+        }
+      }
+      statement.executeBatch();
+    }
+  }
+
+  /** Shut down the in-memory database, and discard it. */
+  public void stop() {
+    try (final Connection connection = getConnection();
+        final Statement statement = connection.createStatement(); ) {
+      statement.execute("SHUTDOWN");
+    } catch (final SQLException e) {
+      LOGGER.log(Level.WARNING, e.getMessage(), e);
+    }
+    LOGGER.log(Level.INFO, "SHUTDOWN database");
+  }
+
+  private List<String> tableSql(final int tableIndex) {
+    final String schemaName = schemaName(tableIndex);
+    final String tableName = tableName(tableIndex);
+    final int parentIndex = tableIndex - SCHEMA_COUNT;
+    final int associatedIndex = tableIndex - 2 * SCHEMA_COUNT;
+
+    final List<String> columns = new ArrayList<>();
+    columns.add("ID BIGINT NOT NULL PRIMARY KEY");
+    columns.add("PARENT_ID BIGINT");
+    if (associatedIndex >= 0) {
+      columns.add(String.format("%s_ID BIGINT", tableName(associatedIndex)));
+    } else {
+      columns.add("REFERENCE_ID BIGINT");
+    }
+    columns.add("NAME VARCHAR(100) NOT NULL");
+    for (int i = columns.size(); i < COLUMNS_PER_TABLE; i++) {
+      columns.add(String.format("COLUMN_%02d %s", i, COLUMN_TYPES[i % COLUMN_TYPES.length]));
+    }
+    if (parentIndex >= 0) {
+      columns.add(
+          String.format(
+              "CONSTRAINT FK_%s_PARENT FOREIGN KEY (PARENT_ID) REFERENCES %s.%s (ID)",
+              tableName, schemaName, tableName(parentIndex)));
+    }
+
+    final List<String> sql = new ArrayList<>();
+    sql.add(
+        String.format(
+            "CREATE TABLE %s.%s (%s)", schemaName, tableName, String.join(", ", columns)));
+    sql.add(
+        String.format(
+            "CREATE INDEX IDX_%s_NAME ON %s.%s (NAME)", tableName, schemaName, tableName));
+    return sql;
+  }
+}
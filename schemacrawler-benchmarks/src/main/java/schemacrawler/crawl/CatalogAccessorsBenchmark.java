@@ -0,0 +1,135 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2022, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+
+package schemacrawler.crawl;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import schemacrawler.schema.Schema;
+import schemacrawler.schema.Table;
+import schemacrawler.schema.TableType;
+
+/**
+ * Benchmarks for accessors of a catalog, which text formatters, linters and the schema traverser
+ * call many times for every catalog.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CatalogAccessorsBenchmark {
+
+  private static final int SCHEMA_COUNT = 10;
+  private static final TableType TABLE = new TableType("TABLE");
+
+  @Param({"1000", "10000", "100000"})
+  public int tableCount;
+
+  private MutableCatalog catalog;
+  private List<Schema> schemas;
+  private List<String> tableNames;
+
+  @Benchmark
+  public Collection<Table> getTables() {
+    return catalog.getTables();
+  }
+
+  @Benchmark
+  public Collection<Table> getTablesForSchema() {
+    return catalog.getTables(randomSchema());
+  }
+
+  @Benchmark
+  public void iterateTables(final Blackhole blackhole) {
+    for (final Table table : catalog.getTables()) {
+      blackhole.consume(table);
+    }
+  }
+
+  @Benchmark
+  public void iterateTablesBySchema(final Blackhole blackhole) {
+    for (final Schema schema : catalog.getSchemas()) {
+      for (final Table table : catalog.getTables(schema)) {
+        blackhole.consume(table);
+      }
+    }
+  }
+
+  @Benchmark
+  public Optional<MutableTable> lookupTable() {
+    final int index = ThreadLocalRandom.current().nextInt(tableCount);
+    return catalog.lookupTable(schemas.get(index % SCHEMA_COUNT), tableNames.get(index));
+  }
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    final ImmutableConnectionInfo connectionInfo =
+        new ImmutableConnectionInfo(
+            "Benchmark", "1.0", "jdbc:benchmark", "benchmark", "Benchmark", "1.0", 1, 0, 4, 2);
+    catalog = new MutableCatalog("benchmark", connectionInfo);
+
+    schemas = new ArrayList<>();
+    for (int i = 0; i < SCHEMA_COUNT; i++) {
+      schemas.add(catalog.addSchema("CATALOG", String.format("SCHEMA_%02d", i)));
+    }
+
+    tableNames = new ArrayList<>();
+    for (int i = 0; i < tableCount; i++) {
+      final String tableName = String.format("TABLE_%06d", i);
+      final MutableTable table = new MutableTable(schemas.get(i % SCHEMA_COUNT), tableName);
+      table.setTableType(TABLE);
+      catalog.addTable(table);
+      tableNames.add(tableName);
+    }
+  }
+
+  private Schema randomSchema() {
+    return schemas.get(ThreadLocalRandom.current().nextInt(SCHEMA_COUNT));
+  }
+}
@@ -0,0 +1,87 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2022, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+
+package schemacrawler.crawl;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import schemacrawler.benchmarks.BenchmarkDatabase;
+import schemacrawler.inclusionrule.IncludeAll;
+import schemacrawler.schemacrawler.Query;
+
+/**
+ * Benchmarks reading a data dictionary query for all columns with different fetch sizes. The
+ * benchmark databases are in-memory, so this shows the overhead of fetching rows in small batches,
+ * rather than the cost of network round trips.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MetadataResultSetBenchmark {
+
+  private static final Query COLUMNS_QUERY =
+      new Query("TABLE_COLUMNS", "SELECT * FROM INFORMATION_SCHEMA.COLUMNS");
+
+  @Param({"1", "20", "500", "5000"})
+  public int fetchSize;
+
+  @Benchmark
+  public long readColumns(final BenchmarkDatabase database) throws Exception {
+    long rowCount = 0;
+    try (final Connection connection = database.getDataSource().get();
+        final Statement statement =
+            connection.createStatement(ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY)) {
+      statement.setFetchSize(fetchSize);
+      try (final MetadataResultSet results =
+          new MetadataResultSet(COLUMNS_QUERY, statement, new IncludeAll())) {
+        while (results.next()) {
+          results.getString("COLUMN_NAME");
+          rowCount++;
+        }
+      }
+    }
+    return rowCount;
+  }
+}
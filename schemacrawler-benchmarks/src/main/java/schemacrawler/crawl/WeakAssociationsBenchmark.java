@@ -0,0 +1,154 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2022, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+
+package schemacrawler.crawl;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import schemacrawler.loader.weakassociations.ExtensionTableMatcher;
+import schemacrawler.loader.weakassociations.IdMatcher;
+import schemacrawler.loader.weakassociations.ProposedWeakAssociation;
+import schemacrawler.loader.weakassociations.WeakAssociationsAnalyzer;
+import schemacrawler.schema.DataTypeType;
+import schemacrawler.schema.Schema;
+import schemacrawler.schema.Table;
+import schemacrawler.schema.TableType;
+import schemacrawler.schemacrawler.SchemaReference;
+import schemacrawler.utility.JavaSqlTypes;
+
+/**
+ * Benchmarks analysis of a synthetic schema for weak associations, with the rules that the loader
+ * uses. Tables are built in memory, so that the schema can scale well beyond what a crawl would
+ * allow. Each table has a primary key, a column named for the previous table, and generic "_id"
+ * columns that match a few lookup tables, which gives every lookup table as many candidate foreign
+ * key columns as there are tables.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(1)
+public class WeakAssociationsBenchmark {
+
+  private static final int SCHEMA_COUNT = 10;
+  private static final String[] LOOKUP_TABLES = {"STATUS", "TYPE", "OWNER"};
+  private static final TableType TABLE = new TableType("TABLE");
+
+  @Param({"1000", "5000", "10000", "50000"})
+  public int tableCount;
+
+  private List<Table> tables;
+  private MutableColumnDataType integerType;
+  private MutableColumnDataType varcharType;
+
+  @Benchmark
+  public Collection<ProposedWeakAssociation> analyzeTables() {
+    final WeakAssociationsAnalyzer weakAssociationsAnalyzer =
+        new WeakAssociationsAnalyzer(tables, new IdMatcher().or(new ExtensionTableMatcher(true)));
+    return weakAssociationsAnalyzer.analyzeTables();
+  }
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    final List<Schema> schemas = new ArrayList<>();
+    for (int i = 0; i < SCHEMA_COUNT; i++) {
+      schemas.add(new SchemaReference("CATALOG", String.format("SCHEMA_%02d", i)));
+    }
+
+    final JavaSqlTypes javaSqlTypes = new JavaSqlTypes();
+    integerType = new MutableColumnDataType(schemas.get(0), "INTEGER", DataTypeType.system);
+    integerType.setJavaSqlType(javaSqlTypes.getFromJavaSqlTypeName("INTEGER"));
+    varcharType = new MutableColumnDataType(schemas.get(0), "VARCHAR", DataTypeType.system);
+    varcharType.setJavaSqlType(javaSqlTypes.getFromJavaSqlTypeName("VARCHAR"));
+
+    tables = new ArrayList<>();
+    for (final String lookupTableName : LOOKUP_TABLES) {
+      final MutableTable table = newTable(schemas.get(0), lookupTableName);
+      addColumn(table, "NAME", varcharType);
+      tables.add(table);
+    }
+    for (int i = 0; i < tableCount; i++) {
+      final MutableTable table = newTable(schemas.get(i % SCHEMA_COUNT), tableName(i));
+      addColumn(table, "NAME", varcharType);
+      for (final String lookupTableName : LOOKUP_TABLES) {
+        addColumn(table, lookupTableName + "_ID", integerType);
+      }
+      if (i > 0) {
+        addColumn(table, tableName(i - 1) + "_ID", integerType);
+      }
+      tables.add(table);
+    }
+  }
+
+  private MutableColumn addColumn(
+      final MutableTable table, final String columnName, final MutableColumnDataType dataType) {
+    final MutableColumn column = new MutableColumn(table, columnName);
+    column.setOrdinalPosition(table.getColumns().size() + 1);
+    column.setColumnDataType(dataType);
+    table.addColumn(column);
+    return column;
+  }
+
+  private MutableTable newTable(final Schema schema, final String tableName) {
+    final MutableTable table = new MutableTable(schema, tableName);
+    table.setTableType(TABLE);
+
+    final MutableColumn idColumn = addColumn(table, "ID", integerType);
+    final MutablePrimaryKey primaryKey =
+        MutablePrimaryKey.newPrimaryKey(table, "PK_" + tableName);
+    idColumn.markAsPartOfPrimaryKey();
+    final MutableTableConstraintColumn pkColumn =
+        new MutableTableConstraintColumn(primaryKey, idColumn);
+    pkColumn.setKeyOrdinalPosition(1);
+    primaryKey.addColumn(pkColumn);
+    table.setPrimaryKey(primaryKey);
+
+    return table;
+  }
+
+  private String tableName(final int tableIndex) {
+    return String.format("ENTITY_%06d", tableIndex);
+  }
+}
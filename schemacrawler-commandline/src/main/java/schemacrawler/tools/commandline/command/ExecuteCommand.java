@@ -105,6 +105,7 @@ public class ExecuteCommand extends BaseStateHolder implements Runnable {
 
         executable.setSchemaRetrievalOptions(schemaRetrievalOptions);
         executable.setConnection(connection);
+        executable.setDataSource(state.getDataSource());
         executable.setCatalog(catalog);
 
         executable.execute();
@@ -41,6 +41,7 @@ import schemacrawler.schemacrawler.LoadOptionsBuilder;
 import schemacrawler.schemacrawler.SchemaCrawlerOptions;
 import schemacrawler.schemacrawler.SchemaCrawlerOptionsBuilder;
 import schemacrawler.tools.options.Config;
+import us.fatehi.utility.scheduler.TaskRunnerMode;
 
 /** SchemaCrawler options builder, to build the immutable options to crawl a schema. */
 public final class SchemaCrawlerOptionsConfig {
@@ -140,8 +141,13 @@ public final class SchemaCrawlerOptionsConfig {
     }
 
     final String SC_LOAD_MAX_THREADS = "schemacrawler.load.max_threads";
+    final String SC_LOAD_TASK_RUNNER_MODE = "schemacrawler.load.task_runner_mode";
 
     builder.withMaxThreads(config.getIntegerValue(SC_LOAD_MAX_THREADS, 5));
+    if (config.containsKey(SC_LOAD_TASK_RUNNER_MODE)) {
+      builder.withTaskRunnerMode(
+          config.getEnumValue(SC_LOAD_TASK_RUNNER_MODE, TaskRunnerMode.main_thread));
+    }
 
     return builder;
   }
@@ -159,7 +165,7 @@ public final class SchemaCrawlerOptionsConfig {
       return schemaCrawlerOptions;
     }
 
-    // Load only number of thread for load options
+    // Load only threading options for load options
     final LoadOptionsBuilder loadOptionsBuilder =
         LoadOptionsBuilder.builder().fromOptions(schemaCrawlerOptions.getLoadOptions());
     final LoadOptions loadOptions =
@@ -102,6 +102,24 @@ public final class SchemaRetrievalOptionsConfig {
       builder.with(metadataRetrievalStrategy, configValue);
     }
 
+    final String fetchSizeConfigKey = "schemacrawler.schema.retrieval.fetch_size";
+    if (configProperties.containsKey(fetchSizeConfigKey)) {
+      builder.withFetchSize(configProperties.getIntegerValue(fetchSizeConfigKey, -1));
+    }
+    for (final InformationSchemaKey informationSchemaKey : InformationSchemaKey.values()) {
+      final String queryFetchSizeConfigKey =
+          String.format("%s.%s", fetchSizeConfigKey, informationSchemaKey);
+      if (configProperties.containsKey(queryFetchSizeConfigKey)) {
+        builder.withFetchSize(
+            informationSchemaKey, configProperties.getIntegerValue(queryFetchSizeConfigKey, -1));
+      }
+    }
+
+    final String streamingCursorConfigKey = "schemacrawler.schema.retrieval.streaming_cursor";
+    if (configProperties.containsKey(streamingCursorConfigKey)) {
+      builder.withStreamingCursor(configProperties.getBooleanValue(streamingCursorConfigKey));
+    }
+
     return builder;
   }
 }
@@ -34,8 +34,23 @@ import static us.fatehi.utility.IOUtility.createTempFilePath;
 import static us.fatehi.utility.IOUtility.readResourceFully;
 
 import java.io.IOException;
+import java.io.Writer;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
 
+import schemacrawler.schema.Table;
 import schemacrawler.schemacrawler.exceptions.ExecutionRuntimeException;
 import schemacrawler.schemacrawler.exceptions.IORuntimeException;
 import schemacrawler.schemacrawler.exceptions.SchemaCrawlerException;
@@ -45,6 +60,7 @@ import schemacrawler.tools.command.text.schema.options.SchemaTextDetailType;
 import schemacrawler.tools.executable.BaseSchemaCrawlerCommand;
 import schemacrawler.tools.options.OutputOptions;
 import schemacrawler.tools.options.OutputOptionsBuilder;
+import schemacrawler.tools.text.formatter.diagram.PartitionIndexDotFormatter;
 import schemacrawler.tools.text.formatter.diagram.SchemaDotFormatter;
 import schemacrawler.tools.traversal.SchemaTraversalHandler;
 import schemacrawler.tools.traversal.SchemaTraverser;
@@ -78,72 +94,178 @@ public final class DiagramRenderer extends BaseSchemaCrawlerCommand<DiagramOptio
             .withOutputFormatValue(diagramOutputFormat.getFormat())
             .toOptions();
 
+    final Path outputFile;
+    final int partitionMaxTables = commandOptions.getPartitionMaxTables();
+    final Collection<Table> tables = catalog.getTables();
+    if (partitionMaxTables > 0 && tables.size() > partitionMaxTables) {
+      final List<List<Table>> partitions =
+          new TablePartitioner(tables, partitionMaxTables).partition();
+      outputFile = generatePartitionedDiagrams(partitions);
+    } else {
+      outputFile = generateDiagram(outputOptions, this::getSchemaTraversalHandler);
+    }
+
+    // Set the output file, in case we are using the default
+    outputOptions =
+        OutputOptionsBuilder.builder(outputOptions).withOutputFile(outputFile).toOptions();
+  }
+
+  @Override
+  public void initialize() {
+    super.initialize();
+    diagramOutputFormat = DiagramOutputFormat.fromFormat(outputOptions.getOutputFormatValue());
+  }
+
+  @Override
+  public boolean usesConnection() {
+    return false;
+  }
+
+  /**
+   * Generates a diagram, either by streaming the DOT graph into Graphviz, or by way of a
+   * temporary DOT file.
+   *
+   * @param diagramOutputOptions Output options for the diagram
+   * @param formatterFactory Creates the DOT formatter, for the given output options
+   * @return Diagram output file
+   */
+  private Path generateDiagram(
+      final OutputOptions diagramOutputOptions,
+      final Function<OutputOptions, SchemaTraversalHandler> formatterFactory) {
+
+    final Path outputFile =
+        diagramOutputOptions.getOutputFile(diagramOutputOptions.getOutputFormatValue());
+
+    if (graphExecutorFactory.canStream(diagramOutputFormat)) {
+      // Stream the DOT graph into Graphviz, without an intermediate DOT file
+      final Consumer<Writer> dotWriter =
+          writer ->
+              traverse(
+                  formatterFactory.apply(
+                      OutputOptionsBuilder.builder(diagramOutputOptions)
+                          .withOutputFormat(scdot)
+                          .withOutputWriter(writer)
+                          .toOptions()));
+      runGraphExecutor(
+          () ->
+              graphExecutorFactory.getStreamingGraphExecutor(
+                  diagramOutputFormat, outputFile, commandOptions, dotWriter));
+      return outputFile;
+    }
+
     // Create dot file
     final Path dotFile;
-    try {
-      dotFile = createTempFilePath("schemacrawler.", "dot");
-    } catch (final IOException e) {
-      throw new IORuntimeException("Could not create temporary DOT file", e);
-    }
     final OutputOptions dotFileOutputOptions;
     if (diagramOutputFormat == scdot) {
-      dotFileOutputOptions = outputOptions;
+      dotFile = null;
+      dotFileOutputOptions = diagramOutputOptions;
     } else {
+      try {
+        dotFile = createTempFilePath("schemacrawler.", "dot");
+      } catch (final IOException e) {
+        throw new IORuntimeException("Could not create temporary DOT file", e);
+      }
       dotFileOutputOptions =
-          OutputOptionsBuilder.builder(outputOptions)
+          OutputOptionsBuilder.builder(diagramOutputOptions)
               .withOutputFormat(scdot)
               .withOutputFile(dotFile)
               .toOptions();
     }
 
-    final SchemaTraversalHandler formatter = getSchemaTraversalHandler(dotFileOutputOptions);
+    traverse(formatterFactory.apply(dotFileOutputOptions));
 
-    final SchemaTraverser traverser = new SchemaTraverser();
-    traverser.setCatalog(catalog);
-    traverser.setHandler(formatter);
-    traverser.setTablesComparator(
-        NamedObjectSort.getNamedObjectSort(commandOptions.isAlphabeticalSortForTables()));
-    traverser.setRoutinesComparator(
-        NamedObjectSort.getNamedObjectSort(commandOptions.isAlphabeticalSortForRoutines()));
+    runGraphExecutor(
+        () ->
+            graphExecutorFactory.getGraphExecutor(
+                dotFile, diagramOutputFormat, outputFile, commandOptions));
+    return outputFile;
+  }
 
-    traverser.traverse();
+  /**
+   * Generates a diagram for each partition of the tables, next to the output file, and an index
+   * diagram in the output file that links to them.
+   *
+   * @param partitions Tables in each diagram
+   * @return Index diagram output file
+   */
+  private Path generatePartitionedDiagrams(final List<List<Table>> partitions) {
 
-    // Set the format, in case we are using the default
     final Path outputFile = outputOptions.getOutputFile(outputOptions.getOutputFormatValue());
-    outputOptions =
-        OutputOptionsBuilder.builder(outputOptions)
-            .withOutputFormat(diagramOutputFormat)
-            .withOutputFormatValue(diagramOutputFormat.getFormat())
-            .withOutputFile(outputFile)
-            .toOptions();
+    final String fileName = outputFile.getFileName().toString();
+    final int extensionIndex = fileName.lastIndexOf('.');
+    final String baseName;
+    final String extension;
+    if (extensionIndex > 0) {
+      baseName = fileName.substring(0, extensionIndex);
+      extension = fileName.substring(extensionIndex);
+    } else {
+      baseName = fileName;
+      extension = "";
+    }
+
+    final List<String> partitionLinks = new ArrayList<>();
+    for (int i = 0; i < partitions.size(); i++) {
+      partitionLinks.add(String.format("%s_%d%s", baseName, i + 1, extension));
+    }
+
+    // The Graphviz Java library may not be thread-safe, so diagrams are
+    // only generated in parallel with Graphviz processes
+    final int parallelism;
+    if (diagramOutputFormat == scdot || graphExecutorFactory.canStream(diagramOutputFormat)) {
+      parallelism = Math.min(partitions.size(), Runtime.getRuntime().availableProcessors());
+    } else {
+      parallelism = 1;
+    }
 
+    final ExecutorService executorService =
+        Executors.newFixedThreadPool(
+            parallelism,
+            runnable -> {
+              final Thread thread = new Thread(runnable, "diagram-partitions");
+              thread.setDaemon(true);
+              return thread;
+            });
     try {
-      final GraphExecutor graphExecutor =
-          graphExecutorFactory.getGraphExecutor(
-              dotFile, diagramOutputFormat, outputFile, commandOptions);
-      graphExecutor.run();
-    } catch (final Exception e) {
-      final String message;
-      final boolean isSchemaCrawlerException = e instanceof SchemaCrawlerException;
-      if (isSchemaCrawlerException) {
-        message = e.getMessage();
-      } else {
-        message = "Could not generate diagram" + e.getMessage();
+      final List<Future<Path>> partitionDiagrams = new ArrayList<>();
+      for (int i = 0; i < partitions.size(); i++) {
+        final Set<Table> partitionTables = new HashSet<>(partitions.get(i));
+        final OutputOptions partitionOutputOptions =
+            OutputOptionsBuilder.builder(outputOptions)
+                .withOutputFile(outputFile.resolveSibling(partitionLinks.get(i)))
+                .toOptions();
+        partitionDiagrams.add(
+            executorService.submit(
+                () ->
+                    generateDiagram(
+                        partitionOutputOptions,
+                        options -> getSchemaTraversalHandler(options, partitionTables::contains))));
       }
-      final String helpText = readResourceFully("/dot.error.txt");
-      throw new ExecutionRuntimeException(String.format("%s%n%n%s", message, helpText), e);
+      for (final Future<Path> partitionDiagram : partitionDiagrams) {
+        partitionDiagram.get();
+      }
+    } catch (final InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new ExecutionRuntimeException("Interrupted while generating diagrams", e);
+    } catch (final ExecutionException e) {
+      final Throwable cause = e.getCause();
+      if (cause instanceof RuntimeException) {
+        throw (RuntimeException) cause;
+      }
+      throw new ExecutionRuntimeException(cause);
+    } finally {
+      executorService.shutdownNow();
     }
-  }
-
-  @Override
-  public void initialize() {
-    super.initialize();
-    diagramOutputFormat = DiagramOutputFormat.fromFormat(outputOptions.getOutputFormatValue());
-  }
 
-  @Override
-  public boolean usesConnection() {
-    return false;
+    return generateDiagram(
+        outputOptions,
+        options ->
+            new PartitionIndexDotFormatter(
+                getSchemaTextDetailType(),
+                commandOptions,
+                options,
+                identifiers.getIdentifierQuoteString(),
+                partitions,
+                partitionLinks));
   }
 
   private SchemaTextDetailType getSchemaTextDetailType() {
@@ -157,14 +279,53 @@ public final class DiagramRenderer extends BaseSchemaCrawlerCommand<DiagramOptio
   }
 
   private SchemaTraversalHandler getSchemaTraversalHandler(final OutputOptions outputOptions) {
+    return getSchemaTraversalHandler(outputOptions, table -> true);
+  }
+
+  private SchemaTraversalHandler getSchemaTraversalHandler(
+      final OutputOptions outputOptions, final Predicate<Table> tablesFilter) {
     final SchemaTraversalHandler formatter;
     final SchemaTextDetailType schemaTextDetailType = getSchemaTextDetailType();
 
     final String identifierQuoteString = identifiers.getIdentifierQuoteString();
     formatter =
         new SchemaDotFormatter(
-            schemaTextDetailType, commandOptions, outputOptions, identifierQuoteString);
+            schemaTextDetailType,
+            commandOptions,
+            outputOptions,
+            identifierQuoteString,
+            tablesFilter);
 
     return formatter;
   }
+
+  private void runGraphExecutor(final Supplier<GraphExecutor> graphExecutorSupplier) {
+    try {
+      final GraphExecutor graphExecutor = graphExecutorSupplier.get();
+      graphExecutor.run();
+    } catch (final Exception e) {
+      final String message;
+      final boolean isSchemaCrawlerException = e instanceof SchemaCrawlerException;
+      if (isSchemaCrawlerException) {
+        message = e.getMessage();
+      } else {
+        message = "Could not generate diagram" + e.getMessage();
+      }
+      final String helpText = readResourceFully("/dot.error.txt");
+      throw new ExecutionRuntimeException(String.format("%s%n%n%s", message, helpText), e);
+    }
+  }
+
+  private void traverse(final SchemaTraversalHandler formatter) {
+    final SchemaTraverser traverser = new SchemaTraverser();
+    traverser.setCatalog(catalog);
+    traverser.setHandler(formatter);
+    traverser.setTablesComparator(
+        NamedObjectSort.getNamedObjectSort(commandOptions.isAlphabeticalSortForTables()));
+    traverser.setRoutinesComparator(
+        NamedObjectSort.getNamedObjectSort(commandOptions.isAlphabeticalSortForRoutines()));
+    traverser.setParallelism(commandOptions.getParallelRendering());
+
+    traverser.traverse();
+  }
 }
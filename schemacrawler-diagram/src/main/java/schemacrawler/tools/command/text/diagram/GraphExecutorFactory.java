@@ -33,8 +33,10 @@ import static schemacrawler.tools.command.text.diagram.GraphvizUtility.isGraphvi
 import static schemacrawler.tools.command.text.diagram.options.DiagramOutputFormat.scdot;
 import static us.fatehi.utility.IOUtility.readResourceFully;
 
+import java.io.Writer;
 import java.nio.file.Path;
 import java.util.List;
+import java.util.function.Consumer;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -62,6 +64,17 @@ public class GraphExecutorFactory {
     }
   }
 
+  /**
+   * Checks whether a diagram can be generated by streaming the DOT graph straight into a Graphviz
+   * process, without writing an intermediate DOT file.
+   *
+   * @param diagramOutputFormat Diagram output format
+   * @return True if the diagram can be streamed through Graphviz
+   */
+  public boolean canStream(final DiagramOutputFormat diagramOutputFormat) {
+    return diagramOutputFormat != null && diagramOutputFormat != scdot && isGraphvizAvailable();
+  }
+
   public GraphExecutor getGraphExecutor(
       final Path dotFile,
       final DiagramOutputFormat diagramOutputFormat,
@@ -97,4 +110,23 @@ public class GraphExecutorFactory {
 
     return graphExecutor;
   }
+
+  public GraphExecutor getStreamingGraphExecutor(
+      final DiagramOutputFormat diagramOutputFormat,
+      final Path outputFile,
+      final DiagramOptions commandOptions,
+      final Consumer<Writer> dotWriter) {
+
+    final GraphExecutor graphExecutor =
+        new GraphvizStreamingExecutor(
+            outputFile,
+            diagramOutputFormat,
+            commandOptions.getGraphvizOpts(),
+            commandOptions.getGraphvizProcessPoolSize(),
+            dotWriter);
+
+    LOGGER.log(Level.INFO, "Using " + graphExecutor);
+
+    return graphExecutor;
+  }
 }
@@ -0,0 +1,166 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2022, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+
+package schemacrawler.tools.command.text.diagram;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import us.fatehi.utility.string.StringFormat;
+
+/**
+ * Graphviz processes that are started ahead of time, so that batch jobs that render many diagrams
+ * do not wait for a new process to start for every diagram. Graphviz renders one graph from
+ * standard input and exits, so each process is handed out once, and the pool is topped up again
+ * in the background.
+ */
+final class GraphvizProcessPool {
+
+  private static final Logger LOGGER = Logger.getLogger(GraphvizProcessPool.class.getName());
+
+  private static final Map<List<String>, Deque<Process>> idleProcesses = new HashMap<>();
+  private static final ExecutorService processStarter =
+      Executors.newSingleThreadExecutor(
+          runnable -> {
+            final Thread thread = new Thread(runnable, "graphviz-process-pool");
+            thread.setDaemon(true);
+            return thread;
+          });
+
+  static {
+    Runtime.getRuntime().addShutdownHook(new Thread(GraphvizProcessPool::destroyIdleProcesses));
+  }
+
+  /** Destroys Graphviz processes that were started ahead of time, but never used. */
+  static void destroyIdleProcesses() {
+    final List<Process> processes = new ArrayList<>();
+    synchronized (idleProcesses) {
+      for (final Deque<Process> commandProcesses : idleProcesses.values()) {
+        processes.addAll(commandProcesses);
+      }
+      idleProcesses.clear();
+    }
+    for (final Process process : processes) {
+      process.destroy();
+    }
+  }
+
+  /**
+   * Gets the number of started processes that are waiting for a graph, for a command.
+   *
+   * @param command Graphviz command line
+   * @return Number of idle processes
+   */
+  static int idleProcessCount(final List<String> command) {
+    synchronized (idleProcesses) {
+      final Deque<Process> commandProcesses = idleProcesses.get(command);
+      if (commandProcesses == null) {
+        return 0;
+      }
+      commandProcesses.removeIf(process -> !process.isAlive());
+      return commandProcesses.size();
+    }
+  }
+
+  /**
+   * Gets a running Graphviz process for the command, which reads a graph from standard input and
+   * writes the diagram to standard output. A process that was started ahead of time is used if
+   * one is available.
+   *
+   * @param command Graphviz command line
+   * @param poolSize Number of processes to keep started ahead of time, which may be zero
+   * @return Running process, to be used once
+   * @throws IOException On an exception starting the process
+   */
+  static Process startProcess(final List<String> command, final int poolSize)
+      throws IOException {
+    requireNonNull(command, "No command provided");
+
+    final List<String> commandLine = new ArrayList<>(command);
+    Process process = takeIdleProcess(commandLine);
+    if (process == null) {
+      process = newProcess(commandLine);
+    } else {
+      LOGGER.log(Level.FINE, "Using Graphviz process that was started ahead of time");
+    }
+
+    if (poolSize > 0) {
+      processStarter.execute(() -> fill(commandLine, poolSize));
+    }
+
+    return process;
+  }
+
+  private static void fill(final List<String> command, final int poolSize) {
+    while (idleProcessCount(command) < poolSize) {
+      final Process process;
+      try {
+        process = newProcess(command);
+      } catch (final IOException e) {
+        LOGGER.log(Level.WARNING, "Could not start Graphviz process ahead of time", e);
+        return;
+      }
+      synchronized (idleProcesses) {
+        idleProcesses.computeIfAbsent(command, key -> new ArrayDeque<>()).add(process);
+      }
+    }
+  }
+
+  private static Process newProcess(final List<String> command) throws IOException {
+    LOGGER.log(Level.CONFIG, new StringFormat("Starting:%n%s", command));
+    return new ProcessBuilder(command).start();
+  }
+
+  private static Process takeIdleProcess(final List<String> command) {
+    synchronized (idleProcesses) {
+      final Deque<Process> commandProcesses = idleProcesses.get(command);
+      while (commandProcesses != null && !commandProcesses.isEmpty()) {
+        final Process process = commandProcesses.poll();
+        if (process.isAlive()) {
+          return process;
+        }
+      }
+      return null;
+    }
+  }
+
+  private GraphvizProcessPool() {
+    // Prevent instantiation
+  }
+}
@@ -0,0 +1,254 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2022, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+
+package schemacrawler.tools.command.text.diagram;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Objects.requireNonNull;
+import static schemacrawler.tools.command.text.diagram.GraphvizUtility.isGraphvizAvailable;
+import static us.fatehi.utility.IOUtility.isFileWritable;
+
+import java.io.BufferedWriter;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import schemacrawler.schemacrawler.exceptions.ExecutionRuntimeException;
+import schemacrawler.schemacrawler.exceptions.IORuntimeException;
+import schemacrawler.tools.command.text.diagram.options.DiagramOutputFormat;
+import us.fatehi.utility.string.StringFormat;
+
+/**
+ * Generates a diagram by writing the DOT graph straight into the standard input of a Graphviz
+ * process, and streaming the rendered diagram from its standard output into the output file, so
+ * that no intermediate DOT file is written.
+ */
+final class GraphvizStreamingExecutor implements GraphExecutor {
+
+  private static final Logger LOGGER = Logger.getLogger(GraphvizStreamingExecutor.class.getName());
+
+  private static List<String> createDiagramCommand(
+      final DiagramOutputFormat diagramOutputFormat, final List<String> graphvizOpts) {
+    requireNonNull(diagramOutputFormat, "No diagram output format provided");
+    requireNonNull(graphvizOpts, "No Graphviz options provided");
+
+    final List<String> command = new ArrayList<>();
+    command.add("dot");
+
+    command.addAll(graphvizOpts);
+
+    command.add("-T");
+    command.add(diagramOutputFormat.getFormat());
+
+    return command;
+  }
+
+  private final List<String> command;
+  private final Path outputFile;
+  private final int processPoolSize;
+  private final Consumer<Writer> dotWriter;
+
+  GraphvizStreamingExecutor(
+      final Path outputFile,
+      final DiagramOutputFormat diagramOutputFormat,
+      final List<String> graphvizOpts,
+      final int processPoolSize,
+      final Consumer<Writer> dotWriter) {
+    this(
+        createDiagramCommand(diagramOutputFormat, graphvizOpts),
+        outputFile,
+        processPoolSize,
+        dotWriter);
+  }
+
+  GraphvizStreamingExecutor(
+      final List<String> command,
+      final Path outputFile,
+      final int processPoolSize,
+      final Consumer<Writer> dotWriter) {
+    requireNonNull(command, "No command provided");
+    requireNonNull(outputFile, "No diagram output file provided");
+    this.dotWriter = requireNonNull(dotWriter, "No DOT graph writer provided");
+
+    this.command = new ArrayList<>(command);
+    this.outputFile = outputFile.normalize().toAbsolutePath();
+    this.processPoolSize = Math.max(0, processPoolSize);
+
+    if (!isFileWritable(this.outputFile)) {
+      throw new IORuntimeException(String.format("Cannot write output file <%s>", this.outputFile));
+    }
+  }
+
+  @Override
+  public boolean canGenerate() {
+    return isGraphvizAvailable();
+  }
+
+  @Override
+  public void run() {
+
+    LOGGER.log(
+        Level.INFO, new StringFormat("Generating diagram using Graphviz:\n%s", command.toString()));
+
+    final int exitCode;
+    final ByteArrayOutputStream processError = new ByteArrayOutputStream();
+    // Write the diagram to a temporary file, so that a failure does not truncate an existing
+    // diagram, or leave a partial diagram behind
+    final Path tempOutputFile = createTempOutputFile();
+    try {
+      try (final OutputStream diagramOutput = Files.newOutputStream(tempOutputFile)) {
+        final Process process = GraphvizProcessPool.startProcess(command, processPoolSize);
+
+        final Thread outputCopier = copy(process.getInputStream(), diagramOutput, "output");
+        final Thread errorCopier = copy(process.getErrorStream(), processError, "error");
+
+        try (final Writer writer =
+            new BufferedWriter(new OutputStreamWriter(process.getOutputStream(), UTF_8))) {
+          dotWriter.accept(writer);
+        } catch (final IOException e) {
+          // Graphviz stopped reading the graph, and the exit code shows why
+          LOGGER.log(Level.FINE, "Could not write DOT graph to Graphviz", e);
+        } catch (final RuntimeException e) {
+          process.destroy();
+          throw e;
+        }
+
+        exitCode = process.waitFor();
+        outputCopier.join();
+        errorCopier.join();
+      }
+
+      if (exitCode == 0) {
+        Files.move(tempOutputFile, outputFile, StandardCopyOption.REPLACE_EXISTING);
+      }
+    } catch (final IOException e) {
+      throw new IORuntimeException("Could not generate diagram using Graphviz", e);
+    } catch (final InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new ExecutionRuntimeException("Interrupted while generating diagram", e);
+    } finally {
+      deleteTempOutputFile(tempOutputFile);
+    }
+
+    final String processErrorText = new String(processError.toByteArray(), UTF_8);
+    if (exitCode != 0) {
+      LOGGER.log(
+          Level.SEVERE,
+          new StringFormat(
+              "Graphviz returned exit code <%d>%nGraphviz stderr:%n%s",
+              exitCode, processErrorText));
+      retainDotFile();
+    } else {
+      LOGGER.log(Level.FINE, new StringFormat("Graphviz stderr:%n%s", processErrorText));
+      LOGGER.log(Level.INFO, new StringFormat("Generated diagram <%s>", outputFile));
+    }
+  }
+
+  private Thread copy(final InputStream from, final OutputStream to, final String streamName) {
+    final Thread thread =
+        new Thread(
+            () -> {
+              try (final InputStream input = from) {
+                final byte[] buffer = new byte[64 * 1024];
+                int read;
+                while ((read = input.read(buffer)) != -1) {
+                  to.write(buffer, 0, read);
+                }
+              } catch (final IOException e) {
+                LOGGER.log(
+                    Level.WARNING,
+                    e,
+                    new StringFormat("Could not read Graphviz %s stream", streamName));
+              }
+            },
+            "graphviz-" + streamName);
+    thread.setDaemon(true);
+    thread.start();
+    return thread;
+  }
+
+  private Path createTempOutputFile() {
+    final Path parentPath = outputFile.getParent();
+    try {
+      return Files.createTempFile(parentPath, outputFile.getFileName() + ".", ".tmp");
+    } catch (final IOException e) {
+      throw new IORuntimeException(String.format("Cannot write output file <%s>", outputFile), e);
+    }
+  }
+
+  private void deleteTempOutputFile(final Path tempOutputFile) {
+    try {
+      Files.deleteIfExists(tempOutputFile);
+    } catch (final IOException e) {
+      LOGGER.log(
+          Level.WARNING,
+          e,
+          new StringFormat("Could not delete temporary file <%s>", tempOutputFile));
+    }
+  }
+
+  private void retainDotFile() {
+    // Find name of DOT file in local directory
+    final Path parentPath = outputFile.getParent();
+    if (parentPath == null) {
+      LOGGER.log(Level.WARNING, "Could not retain generated DOT file");
+      return;
+    }
+    final Path dotFile = parentPath.resolve(outputFile.getFileName() + ".dot");
+    // Write the DOT graph again, since it was only streamed to Graphviz
+    try (final Writer writer = Files.newBufferedWriter(dotFile, UTF_8)) {
+      dotWriter.accept(writer);
+    } catch (final IOException e) {
+      LOGGER.log(Level.WARNING, "Could not retain generated DOT file", e);
+      return;
+    }
+
+    // Print command to run
+    final List<String> manualCommand = new ArrayList<>(command);
+    manualCommand.add("-o");
+    manualCommand.add(outputFile.toString());
+    manualCommand.add(dotFile.toString());
+
+    LOGGER.log(
+        Level.SEVERE,
+        String.format(
+            "Error generating diagram%nGenerate your diagram manually, using:%n%s",
+            String.join(" ", manualCommand)));
+  }
+}
@@ -25,6 +25,10 @@ public final class GraphvizUtility {
 
   private static final String SC_GRAPHVIZ_PROC_DISABLE = "SC_GRAPHVIZ_PROC_DISABLE";
 
+  // Graphviz is only checked for until it is found, since batch jobs
+  // check for it before every diagram
+  private static volatile boolean isGraphvizInstalled;
+
   public static boolean isGraphvizAvailable() {
 
     final boolean disableGraphviz =
@@ -33,6 +37,9 @@ public final class GraphvizUtility {
       LOGGER.log(Level.CONFIG, "Not creating a native process for Grahviz, since this is disabled");
       return false;
     }
+    if (isGraphvizInstalled) {
+      return true;
+    }
 
     final List<String> command = new ArrayList<>();
     command.add("dot");
@@ -72,6 +79,7 @@ public final class GraphvizUtility {
                 + "\n is Graphviz installed? = <%s>",
             successful));
 
+    isGraphvizInstalled = successful;
     return successful;
   }
 
@@ -0,0 +1,238 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2022, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+
+package schemacrawler.tools.command.text.diagram;
+
+import static java.util.Collections.singletonList;
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import schemacrawler.schema.ColumnReference;
+import schemacrawler.schema.Table;
+import schemacrawler.schema.TableReference;
+import us.fatehi.utility.graph.DirectedGraph;
+import us.fatehi.utility.graph.TarjanStronglyConnectedComponentFinder;
+import us.fatehi.utility.string.StringFormat;
+
+/**
+ * Splits the tables of a large schema into partitions that are small enough for Graphviz to lay
+ * out, with a diagram for each partition. Tables that are related by foreign keys or weak
+ * associations are kept in the same partition, where possible. Connected groups of tables that
+ * are larger than the partition size are split up, but tables in a cycle of relationships are
+ * kept together.
+ */
+final class TablePartitioner {
+
+  private static final Logger LOGGER = Logger.getLogger(TablePartitioner.class.getName());
+
+  private final List<Table> tables;
+  private final int maxTables;
+  private final DirectedGraph<Table> tablesGraph;
+  private final Map<Table, Set<Table>> relatedTables;
+
+  TablePartitioner(final Collection<Table> tables, final int maxTables) {
+    requireNonNull(tables, "No tables provided");
+    if (maxTables <= 0) {
+      throw new IllegalArgumentException("Partitions need to have at least one table");
+    }
+
+    this.tables = new ArrayList<>(tables);
+    Collections.sort(this.tables);
+    this.maxTables = maxTables;
+
+    tablesGraph = new DirectedGraph<>("catalog");
+    relatedTables = new HashMap<>();
+    for (final Table table : this.tables) {
+      tablesGraph.addVertex(table);
+      relatedTables.put(table, new LinkedHashSet<>());
+    }
+    for (final Table table : this.tables) {
+      addRelationships(table.getForeignKeys());
+      addRelationships(table.getWeakAssociations());
+    }
+  }
+
+  /**
+   * Splits tables into partitions, none of which has more than the maximum number of tables.
+   * Small groups of related tables are packed together into a partition.
+   *
+   * @return Partitions of tables, in a stable order
+   */
+  List<List<Table>> partition() {
+
+    final Map<Table, List<Table>> cycles = findCycles();
+
+    final List<List<Table>> partitions = new ArrayList<>();
+    List<Table> partition = new ArrayList<>();
+    for (final List<Table> connectedTables : findConnectedTables()) {
+      for (final List<Table> piece : split(connectedTables, cycles)) {
+        if (!partition.isEmpty() && partition.size() + piece.size() > maxTables) {
+          partitions.add(partition);
+          partition = new ArrayList<>();
+        }
+        partition.addAll(piece);
+      }
+    }
+    if (!partition.isEmpty()) {
+      partitions.add(partition);
+    }
+
+    LOGGER.log(
+        Level.INFO,
+        new StringFormat(
+            "Split <%d> tables into <%d> diagrams of up to <%d> tables",
+            tables.size(), partitions.size(), maxTables));
+
+    return partitions;
+  }
+
+  private void addRelationships(final Collection<? extends TableReference> tableReferences) {
+    for (final TableReference tableReference : tableReferences) {
+      for (final ColumnReference columnRef : tableReference) {
+        final Table referencedTable = columnRef.getPrimaryKeyColumn().getParent();
+        final Table referencingTable = columnRef.getForeignKeyColumn().getParent();
+        // Tables outside the catalog are shown as filtered tables
+        if (!relatedTables.containsKey(referencedTable)
+            || !relatedTables.containsKey(referencingTable)
+            || referencedTable.equals(referencingTable)) {
+          continue;
+        }
+        tablesGraph.addEdge(referencedTable, referencingTable);
+        relatedTables.get(referencedTable).add(referencingTable);
+        relatedTables.get(referencingTable).add(referencedTable);
+      }
+    }
+  }
+
+  /**
+   * Finds groups of tables that are connected by relationships, ignoring the direction of the
+   * relationships. Tables in each group are in breadth-first order, so that closely related tables
+   * are next to each other.
+   */
+  private List<List<Table>> findConnectedTables() {
+    final List<List<Table>> connectedTablesList = new ArrayList<>();
+    final Set<Table> visited = new LinkedHashSet<>();
+    for (final Table table : tables) {
+      if (visited.contains(table)) {
+        continue;
+      }
+
+      final List<Table> connectedTables = new ArrayList<>();
+      final Deque<Table> queue = new ArrayDeque<>();
+      queue.add(table);
+      visited.add(table);
+      while (!queue.isEmpty()) {
+        final Table currentTable = queue.poll();
+        connectedTables.add(currentTable);
+        for (final Table relatedTable : relatedTables.get(currentTable)) {
+          if (visited.add(relatedTable)) {
+            queue.add(relatedTable);
+          }
+        }
+      }
+      connectedTablesList.add(connectedTables);
+    }
+    return connectedTablesList;
+  }
+
+  /**
+   * Finds cycles of relationships, using Tarjan's strongly connected components, so that tables
+   * in a cycle are drawn in the same diagram.
+   */
+  private Map<Table, List<Table>> findCycles() {
+    final Map<Table, List<Table>> cycles = new HashMap<>();
+    if (tablesGraph.edgeSet().isEmpty()) {
+      return cycles;
+    }
+
+    final Collection<List<Table>> stronglyConnectedComponents =
+        new TarjanStronglyConnectedComponentFinder<>(tablesGraph).detectCycles();
+    for (final List<Table> stronglyConnectedComponent : stronglyConnectedComponents) {
+      for (final Table table : stronglyConnectedComponent) {
+        cycles.put(table, stronglyConnectedComponent);
+      }
+    }
+    return cycles;
+  }
+
+  /**
+   * Splits a group of connected tables into pieces that fit into a partition. Tables in a cycle
+   * are added to a piece together, unless the cycle itself has too many tables.
+   */
+  private List<List<Table>> split(
+      final List<Table> connectedTables, final Map<Table, List<Table>> cycles) {
+    final List<List<Table>> pieces = new ArrayList<>();
+    if (connectedTables.size() <= maxTables) {
+      pieces.add(connectedTables);
+      return pieces;
+    }
+
+    final Set<Table> placed = new LinkedHashSet<>();
+    List<Table> piece = new ArrayList<>();
+    for (final Table table : connectedTables) {
+      if (placed.contains(table)) {
+        continue;
+      }
+
+      final List<Table> cluster = new ArrayList<>();
+      for (final Table clusterTable : cycles.getOrDefault(table, singletonList(table))) {
+        if (placed.add(clusterTable)) {
+          cluster.add(clusterTable);
+        }
+      }
+
+      if (!piece.isEmpty() && piece.size() + cluster.size() > maxTables) {
+        pieces.add(piece);
+        piece = new ArrayList<>();
+      }
+      for (final Table clusterTable : cluster) {
+        if (piece.size() == maxTables) {
+          pieces.add(piece);
+          piece = new ArrayList<>();
+        }
+        piece.add(clusterTable);
+      }
+    }
+    if (!piece.isEmpty()) {
+      pieces.add(piece);
+    }
+    return pieces;
+  }
+}
@@ -39,6 +39,8 @@ public final class DiagramOptions extends SchemaTextOptions {
   private final boolean isShowForeignKeyCardinality;
   private final boolean isShowPrimaryKeyCardinality;
   private final boolean isShowFilteredTables;
+  private final int graphvizProcessPoolSize;
+  private final int partitionMaxTables;
 
   protected DiagramOptions(final DiagramOptionsBuilder diagramOptionsBuilder) {
     super(diagramOptionsBuilder);
@@ -48,6 +50,8 @@ public final class DiagramOptions extends SchemaTextOptions {
     isShowForeignKeyCardinality = diagramOptionsBuilder.isShowForeignKeyCardinality;
     isShowPrimaryKeyCardinality = diagramOptionsBuilder.isShowPrimaryKeyCardinality;
     isShowFilteredTables = diagramOptionsBuilder.isShowFilteredTables;
+    graphvizProcessPoolSize = diagramOptionsBuilder.graphvizProcessPoolSize;
+    partitionMaxTables = diagramOptionsBuilder.partitionMaxTables;
   }
 
   public Map<String, String> getGraphvizAttributes() {
@@ -58,6 +62,26 @@ public final class DiagramOptions extends SchemaTextOptions {
     return graphvizOpts;
   }
 
+  /**
+   * Gets the number of Graphviz processes to start ahead of time, for batch jobs that generate
+   * many diagrams.
+   *
+   * @return Number of Graphviz processes, which is zero if none are started ahead of time
+   */
+  public int getGraphvizProcessPoolSize() {
+    return graphvizProcessPoolSize;
+  }
+
+  /**
+   * Gets the maximum number of tables in a diagram. Larger schemas are split into several
+   * diagrams, with an index diagram that links to them.
+   *
+   * @return Maximum number of tables in a diagram, or zero if schemas are not split
+   */
+  public int getPartitionMaxTables() {
+    return partitionMaxTables;
+  }
+
   public boolean isShowFilteredTables() {
     return isShowFilteredTables;
   }
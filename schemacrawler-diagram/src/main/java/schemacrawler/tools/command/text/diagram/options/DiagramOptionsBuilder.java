@@ -58,6 +58,10 @@ public final class DiagramOptionsBuilder
   private static final String GRAPH_GRAPHVIZ_OPTS = SCHEMACRAWLER_GRAPH_PREFIX + "graphviz_opts";
   private static final String SC_GRAPHVIZ_OPTS = "SC_GRAPHVIZ_OPTS";
   private static final String GRAPH_GRAPHVIZ_ATTRIBUTES = SCHEMACRAWLER_GRAPH_PREFIX + "graphviz";
+  private static final String GRAPH_PROCESS_POOL_SIZE =
+      SCHEMACRAWLER_GRAPH_PREFIX + "process_pool_size";
+  private static final String GRAPH_PARTITION_MAX_TABLES =
+      SCHEMACRAWLER_GRAPH_PREFIX + "partition.max_tables";
 
   private static final Logger LOGGER = Logger.getLogger(DiagramOptions.class.getName());
 
@@ -92,6 +96,8 @@ public final class DiagramOptionsBuilder
   protected boolean isShowForeignKeyCardinality;
   protected boolean isShowPrimaryKeyCardinality;
   protected boolean isShowFilteredTables;
+  protected int graphvizProcessPoolSize;
+  protected int partitionMaxTables;
 
   private DiagramOptionsBuilder() {
     // Default values
@@ -100,6 +106,8 @@ public final class DiagramOptionsBuilder
     isShowForeignKeyCardinality = true;
     isShowPrimaryKeyCardinality = true;
     isShowFilteredTables = true;
+    graphvizProcessPoolSize = 0;
+    partitionMaxTables = 0;
   }
 
   @Override
@@ -114,6 +122,8 @@ public final class DiagramOptionsBuilder
     isShowFilteredTables = config.getBooleanValue(GRAPH_SHOW_FOREIGN_KEY_FILTERED_TABLES, true);
 
     graphvizOpts = listGraphvizOpts(readGraphvizOpts(config));
+    graphvizProcessPoolSize = Math.max(0, config.getIntegerValue(GRAPH_PROCESS_POOL_SIZE, 0));
+    partitionMaxTables = Math.max(0, config.getIntegerValue(GRAPH_PARTITION_MAX_TABLES, 0));
 
     final Map<String, String> graphvizAttributes = readGraphvizAttributes(config);
     if (graphvizAttributes != null) {
@@ -136,6 +146,8 @@ public final class DiagramOptionsBuilder
 
     graphvizOpts = options.getGraphvizOpts();
     graphvizAttributes = options.getGraphvizAttributes();
+    graphvizProcessPoolSize = options.getGraphvizProcessPoolSize();
+    partitionMaxTables = options.getPartitionMaxTables();
 
     return this;
   }
@@ -176,6 +188,8 @@ public final class DiagramOptionsBuilder
     config.put(GRAPH_SHOW_FOREIGN_KEY_FILTERED_TABLES, isShowFilteredTables);
 
     config.put(GRAPH_GRAPHVIZ_OPTS, join(graphvizOpts, " "));
+    config.put(GRAPH_PROCESS_POOL_SIZE, graphvizProcessPoolSize);
+    config.put(GRAPH_PARTITION_MAX_TABLES, partitionMaxTables);
 
     graphvizAttributesToConfig(graphvizAttributes, config);
 
@@ -206,6 +220,30 @@ public final class DiagramOptionsBuilder
     return this;
   }
 
+  /**
+   * Sets the number of Graphviz processes to start ahead of time, so that batch jobs that generate
+   * many diagrams do not wait for a process to start for each diagram.
+   *
+   * @param graphvizProcessPoolSize Number of Graphviz processes, or zero to start none
+   * @return Builder
+   */
+  public DiagramOptionsBuilder withGraphvizProcessPoolSize(final int graphvizProcessPoolSize) {
+    this.graphvizProcessPoolSize = Math.max(0, graphvizProcessPoolSize);
+    return this;
+  }
+
+  /**
+   * Sets the maximum number of tables in a diagram. Larger schemas are split into several
+   * diagrams of related tables, so that Graphviz can lay out each of them.
+   *
+   * @param partitionMaxTables Maximum number of tables in a diagram, or zero to not split schemas
+   * @return Builder
+   */
+  public DiagramOptionsBuilder withPartitionMaxTables(final int partitionMaxTables) {
+    this.partitionMaxTables = Math.max(0, partitionMaxTables);
+    return this;
+  }
+
   private void graphvizAttributesToConfig(
       final Map<String, String> graphvizAttributes, final Config config) {
     for (final Entry<String, String> graphvizAttribute : graphvizAttributes.entrySet()) {
@@ -29,8 +29,6 @@ http://www.gnu.org/licenses/
 package schemacrawler.tools.text.formatter.diagram;
 
 import static us.fatehi.utility.IOUtility.readResourceFully;
-import static us.fatehi.utility.html.TagBuilder.tableCell;
-import static us.fatehi.utility.html.TagBuilder.tableRow;
 import static us.fatehi.utility.html.TagOutputFormat.html;
 
 import java.util.Map;
@@ -44,7 +42,6 @@ import schemacrawler.tools.command.text.schema.options.SchemaTextDetailType;
 import schemacrawler.tools.options.OutputOptions;
 import schemacrawler.tools.text.formatter.base.BaseFormatter;
 import us.fatehi.utility.html.Alignment;
-import us.fatehi.utility.html.Tag;
 
 /** Text formatting of schema for diagrams. */
 public abstract class BaseDotFormatter extends BaseFormatter<DiagramOptions> {
@@ -80,20 +77,18 @@ public abstract class BaseDotFormatter extends BaseFormatter<DiagramOptions> {
       return;
     }
 
-    Tag row;
-
     if (outputOptions.hasTitle()) {
       final String title = outputOptions.getTitle();
-      row = tableRow().make();
-      row.addInnerTag(
-          tableCell()
-              .withEscapedText(title)
-              .withAlignment(Alignment.left)
-              .withEmphasis(true)
-              .withColumnSpan(2)
-              .make());
-
-      formattingHelper.append(row.render(html)).println();
+      formattingHelper
+          .getTagWriter()
+          .startRow(html)
+          .cell()
+          .withEscapedText(title)
+          .withAlignment(Alignment.left)
+          .withEmphasis(true)
+          .withColumnSpan(2)
+          .end()
+          .endRow();
     }
 
     if (options.isNoInfo()) {
@@ -101,40 +96,12 @@ public abstract class BaseDotFormatter extends BaseFormatter<DiagramOptions> {
     }
 
     if (!options.isNoSchemaCrawlerInfo()) {
-      row = tableRow().make();
-      row.addInnerTag(
-          tableCell().withEscapedText("generated by").withAlignment(Alignment.right).make());
-      row.addInnerTag(
-          tableCell()
-              .withEscapedText(crawlInfo.getSchemaCrawlerVersion().toString())
-              .withAlignment(Alignment.left)
-              .make());
-
-      formattingHelper.append(row.render(html)).println();
-
-      row = tableRow().make();
-      row.addInnerTag(
-          tableCell().withEscapedText("generated on").withAlignment(Alignment.right).make());
-      row.addInnerTag(
-          tableCell()
-              .withEscapedText(crawlInfo.getCrawlTimestamp())
-              .withAlignment(Alignment.left)
-              .make());
-
-      formattingHelper.append(row.render(html)).println();
+      printInfoRow("generated by", crawlInfo.getSchemaCrawlerVersion().toString());
+      printInfoRow("generated on", crawlInfo.getCrawlTimestamp());
     }
 
     if (options.isShowDatabaseInfo()) {
-      row = tableRow().make();
-      row.addInnerTag(
-          tableCell().withEscapedText("database version").withAlignment(Alignment.right).make());
-      row.addInnerTag(
-          tableCell()
-              .withEscapedText(crawlInfo.getDatabaseVersion().toString())
-              .withAlignment(Alignment.left)
-              .make());
-
-      formattingHelper.append(row.render(html)).println();
+      printInfoRow("database version", crawlInfo.getDatabaseVersion().toString());
     }
   }
 
@@ -218,4 +185,19 @@ public abstract class BaseDotFormatter extends BaseFormatter<DiagramOptions> {
             makeGraphvizAttributes(graphvizAttributes, "edge"));
     return graphvizHeader;
   }
+
+  private void printInfoRow(final String name, final String value) {
+    formattingHelper
+        .getTagWriter()
+        .startRow(html)
+        .cell()
+        .withEscapedText(name)
+        .withAlignment(Alignment.right)
+        .end()
+        .cell()
+        .withEscapedText(value)
+        .withAlignment(Alignment.left)
+        .end()
+        .endRow();
+  }
 }
@@ -0,0 +1,283 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2022, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+
+package schemacrawler.tools.text.formatter.diagram;
+
+import static java.util.Objects.requireNonNull;
+import static us.fatehi.utility.html.TagOutputFormat.html;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import schemacrawler.schema.ColumnDataType;
+import schemacrawler.schema.ColumnReference;
+import schemacrawler.schema.Routine;
+import schemacrawler.schema.Sequence;
+import schemacrawler.schema.Synonym;
+import schemacrawler.schema.Table;
+import schemacrawler.schema.TableReference;
+import schemacrawler.tools.command.text.diagram.options.DiagramOptions;
+import schemacrawler.tools.command.text.schema.options.SchemaTextDetailType;
+import schemacrawler.tools.options.OutputOptions;
+import schemacrawler.tools.traversal.SchemaTraversalHandler;
+import us.fatehi.utility.html.Alignment;
+
+/**
+ * Graphviz DOT index of the diagrams that a large schema is split into, with a node for each
+ * diagram that links to it, and edges for relationships between tables in different diagrams.
+ */
+public final class PartitionIndexDotFormatter extends BaseDotFormatter
+    implements SchemaTraversalHandler {
+
+  private static final int MAX_TABLE_NAMES = 10;
+
+  private final List<? extends Collection<Table>> partitions;
+  private final List<String> partitionLinks;
+
+  /**
+   * Index of partitioned diagrams.
+   *
+   * @param schemaTextDetailType Types for text formatting of schema
+   * @param options Options for text formatting of schema
+   * @param outputOptions Options for text formatting of schema
+   * @param identifierQuoteString Quote character for database objects
+   * @param partitions Tables in each diagram
+   * @param partitionLinks Link to each diagram, in the same order as the partitions
+   */
+  public PartitionIndexDotFormatter(
+      final SchemaTextDetailType schemaTextDetailType,
+      final DiagramOptions options,
+      final OutputOptions outputOptions,
+      final String identifierQuoteString,
+      final List<? extends Collection<Table>> partitions,
+      final List<String> partitionLinks) {
+    super(schemaTextDetailType, options, outputOptions, identifierQuoteString);
+
+    this.partitions = requireNonNull(partitions, "No partitions provided");
+    this.partitionLinks = requireNonNull(partitionLinks, "No partition links provided");
+    if (partitions.size() != partitionLinks.size()) {
+      throw new IllegalArgumentException("Each partition needs a link");
+    }
+  }
+
+  @Override
+  public void handle(final ColumnDataType columnDataType) {
+    // No output required
+  }
+
+  @Override
+  public void handle(final Routine routine) {
+    // No output required
+  }
+
+  @Override
+  public void handle(final Sequence sequence) {
+    // No output required
+  }
+
+  @Override
+  public void handle(final Synonym synonym) {
+    // No output required
+  }
+
+  @Override
+  public void handle(final Table table) {
+    // Tables are listed by partition
+  }
+
+  @Override
+  public void handleColumnDataTypesEnd() {
+    // No output required
+  }
+
+  @Override
+  public void handleColumnDataTypesStart() {
+    // No output required
+  }
+
+  @Override
+  public void handleRoutinesEnd() {
+    // No output required
+  }
+
+  @Override
+  public void handleRoutinesStart() {
+    // No output required
+  }
+
+  @Override
+  public void handleSequencesEnd() {
+    // No output required
+  }
+
+  @Override
+  public void handleSequencesStart() {
+    // No output required
+  }
+
+  @Override
+  public void handleSynonymsEnd() {
+    // No output required
+  }
+
+  @Override
+  public void handleSynonymsStart() {
+    // No output required
+  }
+
+  @Override
+  public void handleTablesEnd() {
+    final Map<Table, Integer> partitionIndexes = new HashMap<>();
+    for (int i = 0; i < partitions.size(); i++) {
+      for (final Table table : partitions.get(i)) {
+        partitionIndexes.put(table, i);
+      }
+    }
+
+    for (int i = 0; i < partitions.size(); i++) {
+      printPartition(i);
+    }
+    for (int i = 0; i < partitions.size(); i++) {
+      printPartitionReferences(i, partitionIndexes);
+    }
+  }
+
+  @Override
+  public void handleTablesStart() {
+    // No output required
+  }
+
+  /**
+   * Escapes a value for a quoted DOT attribute. Backslashes are escaped too, since Graphviz
+   * otherwise reads them as escape sequences in URLs.
+   */
+  private String escapeAttributeValue(final String value) {
+    return value.replace("\\", "\\\\").replace("\"", "\\\"");
+  }
+
+  private String partitionNodeId(final int partitionIndex) {
+    return "partition_" + (partitionIndex + 1);
+  }
+
+  private void printPartition(final int partitionIndex) {
+    final List<Table> tables = new ArrayList<>(partitions.get(partitionIndex));
+    final String partitionLink = partitionLinks.get(partitionIndex);
+    final String tableCount = String.format("[%d tables]", tables.size());
+
+    formattingHelper
+        .append("  /* ")
+        .append(partitionLink)
+        .append(" -=-=-=-=-=-=-=-=-=-=-=-=-=- */")
+        .println();
+    final String nodeId = partitionNodeId(partitionIndex);
+    formattingHelper.append("  \"").append(nodeId).append("\" [").println();
+    formattingHelper.append("    label=<").println();
+    formattingHelper
+        .append("      <table border=\"1\" cellborder=\"0\" cellspacing=\"0\" color=\"#888888\">")
+        .println();
+
+    formattingHelper
+        .getTagWriter()
+        .startRow(html)
+        .cell()
+        .withEscapedText(partitionLink)
+        .withAlignment(Alignment.left)
+        .withEmphasis(true)
+        .end()
+        .cell()
+        .withEscapedText(tableCount)
+        .withAlignment(Alignment.right)
+        .end()
+        .endRow();
+
+    for (int i = 0; i < tables.size() && i < MAX_TABLE_NAMES; i++) {
+      printTableNameRow(quoteName(tables.get(i)));
+    }
+    if (tables.size() > MAX_TABLE_NAMES) {
+      printTableNameRow("...");
+    }
+
+    formattingHelper.append("      </table>").println();
+    formattingHelper.append("    >").println();
+    formattingHelper
+        .append("    URL=\"")
+        .append(escapeAttributeValue(partitionLink))
+        .append("\"")
+        .println();
+    formattingHelper.append("  ];").println();
+    formattingHelper.println();
+  }
+
+  private void printPartitionReferences(
+      final int partitionIndex, final Map<Table, Integer> partitionIndexes) {
+    // Show one edge for all relationships from one partition to another
+    final Set<Integer> referencedPartitions = new LinkedHashSet<>();
+    for (final Table table : partitions.get(partitionIndex)) {
+      final List<TableReference> tableReferences = new ArrayList<>(table.getForeignKeys());
+      tableReferences.addAll(table.getWeakAssociations());
+      for (final TableReference tableReference : tableReferences) {
+        for (final ColumnReference columnRef : tableReference) {
+          final Integer referencedPartition =
+              partitionIndexes.get(columnRef.getPrimaryKeyColumn().getParent());
+          final Integer referencingPartition =
+              partitionIndexes.get(columnRef.getForeignKeyColumn().getParent());
+          if (referencedPartition != null
+              && referencingPartition != null
+              && referencingPartition == partitionIndex
+              && referencedPartition != partitionIndex) {
+            referencedPartitions.add(referencedPartition);
+          }
+        }
+      }
+    }
+
+    for (final int referencedPartition : referencedPartitions) {
+      formattingHelper.append(
+          String.format(
+              "  \"%s\" -> \"%s\";%n",
+              partitionNodeId(partitionIndex), partitionNodeId(referencedPartition)));
+    }
+  }
+
+  private void printTableNameRow(final String text) {
+    formattingHelper
+        .getTagWriter()
+        .startRow(html)
+        .cell()
+        .withEscapedText(text)
+        .withAlignment(Alignment.left)
+        .withColumnSpan(2)
+        .end()
+        .endRow();
+  }
+}
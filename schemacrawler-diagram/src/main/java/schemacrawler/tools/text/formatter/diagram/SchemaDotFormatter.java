@@ -28,20 +28,21 @@ http://www.gnu.org/licenses/
 
 package schemacrawler.tools.text.formatter.diagram;
 
+import static java.util.Objects.requireNonNull;
 import static schemacrawler.loader.counts.TableRowCountsUtility.getRowCountMessage;
 import static schemacrawler.loader.counts.TableRowCountsUtility.hasRowCount;
 import static schemacrawler.schema.TableConstraintType.foreign_key;
 import static schemacrawler.utility.MetaDataUtility.findForeignKeyCardinality;
 import static schemacrawler.utility.MetaDataUtility.getColumnsListAsString;
 import static us.fatehi.utility.Utility.isBlank;
-import static us.fatehi.utility.html.TagBuilder.tableCell;
-import static us.fatehi.utility.html.TagBuilder.tableRow;
 import static us.fatehi.utility.html.TagOutputFormat.html;
 
+import java.io.Writer;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.function.Predicate;
 
 import schemacrawler.crawl.NotLoadedException;
 import schemacrawler.schema.Column;
@@ -60,17 +61,22 @@ import schemacrawler.schema.WeakAssociation;
 import schemacrawler.tools.command.text.diagram.options.DiagramOptions;
 import schemacrawler.tools.command.text.schema.options.SchemaTextDetailType;
 import schemacrawler.tools.options.OutputOptions;
+import schemacrawler.tools.traversal.ParallelSchemaTraversalHandler;
 import schemacrawler.tools.traversal.SchemaTraversalHandler;
 import schemacrawler.utility.MetaDataUtility.ForeignKeyCardinality;
 import schemacrawler.utility.NamedObjectSort;
 import us.fatehi.utility.Color;
 import us.fatehi.utility.html.Alignment;
-import us.fatehi.utility.html.Tag;
+import us.fatehi.utility.html.TagWriter;
 
 /** Graphviz DOT formatting of schema. */
-public final class SchemaDotFormatter extends BaseDotFormatter implements SchemaTraversalHandler {
+public final class SchemaDotFormatter extends BaseDotFormatter
+    implements ParallelSchemaTraversalHandler {
+
+  private static final Color LIGHT_GRAY = Color.fromRGB(0xF4, 0xF4, 0xF4);
 
   private final int tableColspan;
+  private final Predicate<Table> tablesFilter;
 
   /**
    * Text formatting of schema.
@@ -85,9 +91,30 @@ public final class SchemaDotFormatter extends BaseDotFormatter implements Schema
       final DiagramOptions options,
       final OutputOptions outputOptions,
       final String identifierQuoteString) {
+    this(schemaTextDetailType, options, outputOptions, identifierQuoteString, table -> true);
+  }
+
+  /**
+   * Text formatting of some of the tables in a schema, for a diagram of part of a large schema.
+   * Tables that are not in the diagram are shown like filtered tables, where they are related to
+   * tables in the diagram.
+   *
+   * @param schemaTextDetailType Types for text formatting of schema
+   * @param options Options for text formatting of schema
+   * @param outputOptions Options for text formatting of schema
+   * @param identifierQuoteString Quote character for database objects
+   * @param tablesFilter Tables to show in the diagram
+   */
+  public SchemaDotFormatter(
+      final SchemaTextDetailType schemaTextDetailType,
+      final DiagramOptions options,
+      final OutputOptions outputOptions,
+      final String identifierQuoteString,
+      final Predicate<Table> tablesFilter) {
     super(schemaTextDetailType, options, outputOptions, identifierQuoteString);
 
     tableColspan = options.isShowOrdinalNumbers() ? 4 : 3;
+    this.tablesFilter = requireNonNull(tablesFilter, "No tables filter provided");
   }
 
   @Override
@@ -127,6 +154,9 @@ public final class SchemaDotFormatter extends BaseDotFormatter implements Schema
 
   @Override
   public void handle(final Table table) {
+    if (!tablesFilter.test(table)) {
+      return;
+    }
 
     final String tableName = quoteName(table);
     final String tableType = "[" + table.getTableType() + "]";
@@ -145,25 +175,21 @@ public final class SchemaDotFormatter extends BaseDotFormatter implements Schema
         .println();
 
     formattingHelper
-        .append(
-            tableRow()
-                .make()
-                .addInnerTag(
-                    tableCell()
-                        .withEscapedText(tableName)
-                        .withAlignment(Alignment.left)
-                        .withEmphasis(true)
-                        .withBackground(tableNameBgColor)
-                        .withColumnSpan(tableColspan - 1)
-                        .make())
-                .addInnerTag(
-                    tableCell()
-                        .withEscapedText(tableType)
-                        .withBackground(tableNameBgColor)
-                        .withAlignment(Alignment.right)
-                        .make())
-                .render(html))
-        .println();
+        .getTagWriter()
+        .startRow(html)
+        .cell()
+        .withEscapedText(tableName)
+        .withAlignment(Alignment.left)
+        .withEmphasis(true)
+        .withBackground(tableNameBgColor)
+        .withColumnSpan(tableColspan - 1)
+        .end()
+        .cell()
+        .withEscapedText(tableType)
+        .withBackground(tableNameBgColor)
+        .withAlignment(Alignment.right)
+        .end()
+        .endRow();
 
     printTableRemarks(table);
 
@@ -237,6 +263,22 @@ public final class SchemaDotFormatter extends BaseDotFormatter implements Schema
     // No output required
   }
 
+  /** {@inheritDoc} */
+  @Override
+  public SchemaTraversalHandler newTableHandler(final Writer out) {
+    return new SchemaDotFormatter(
+        schemaTextDetailType,
+        options,
+        outputOptionsFor(out),
+        identifiers.getIdentifierQuoteString(),
+        tablesFilter);
+  }
+
+  @Override
+  protected boolean isTableFiltered(final Table table) {
+    return super.isTableFiltered(table) || !tablesFilter.test(table);
+  }
+
   private String arrowhead(final ForeignKeyCardinality connectivity) {
     switch (connectivity) {
       case unknown:
@@ -300,37 +342,40 @@ public final class SchemaDotFormatter extends BaseDotFormatter implements Schema
       final String constraintText =
           String.format("\u2022 %s%s [alternate key]", akName, columnsList);
 
-      formattingHelper
-          .append(
-              tableRow()
-                  .make()
-                  .addInnerTag(
-                      tableCell()
-                          .withEscapedText(constraintText)
-                          .withAlignment(Alignment.left)
-                          .withColumnSpan(tableColspan)
-                          .make())
-                  .render(html))
-          .println();
+      printWideRow(constraintText, Alignment.left, null, tableColspan);
 
       if (alternateKey.hasRemarks()) {
-        formattingHelper
-            .append(
-                tableRow()
-                    .make()
-                    .addInnerTag(
-                        tableCell()
-                            .withEscapedText(alternateKey.getRemarks())
-                            .withAlignment(Alignment.left)
-                            .withBackground(Color.fromRGB(0xF4, 0xF4, 0xF4))
-                            .withColumnSpan(tableColspan)
-                            .make())
-                    .render(html))
-            .println();
+        printWideRow(alternateKey.getRemarks(), Alignment.left, LIGHT_GRAY, tableColspan);
       }
     }
   }
 
+  /**
+   * Prints a row with details of a column, such as remarks, below the column row.
+   *
+   * @param spacerText Text for the spacer cell
+   * @param detailText Detail text
+   */
+  private void printColumnDetailRow(final String spacerText, final String detailText) {
+    final TagWriter tagWriter = formattingHelper.getTagWriter().startRow(html);
+    if (options.isShowOrdinalNumbers()) {
+      tagWriter.cell().withAlignment(Alignment.right).end();
+    }
+    tagWriter
+        .cell()
+        .withAlignment(Alignment.left)
+        .end()
+        .cell()
+        .withEscapedText(spacerText)
+        .withAlignment(Alignment.left)
+        .end()
+        .cell()
+        .withEscapedText(detailText)
+        .withAlignment(Alignment.left)
+        .end()
+        .endRow();
+  }
+
   private String printColumnReference(
       final boolean isForeignKey,
       final String fkName,
@@ -490,34 +535,10 @@ public final class SchemaDotFormatter extends BaseDotFormatter implements Schema
       final String constraintText =
           String.format("\u2022 %s%s [%s]", indexName, columnsList, indexDetails);
 
-      formattingHelper
-          .append(
-              tableRow()
-                  .make()
-                  .addInnerTag(
-                      tableCell()
-                          .withEscapedText(constraintText)
-                          .withAlignment(Alignment.left)
-                          .withBackground(Color.fromRGB(0xF4, 0xF4, 0xF4))
-                          .withColumnSpan(tableColspan)
-                          .make())
-                  .render(html))
-          .println();
+      printWideRow(constraintText, Alignment.left, LIGHT_GRAY, tableColspan);
 
       if (index.hasRemarks()) {
-        formattingHelper
-            .append(
-                tableRow()
-                    .make()
-                    .addInnerTag(
-                        tableCell()
-                            .withEscapedText(index.getRemarks())
-                            .withAlignment(Alignment.left)
-                            .withBackground(Color.fromRGB(0xF4, 0xF4, 0xF4))
-                            .withColumnSpan(3)
-                            .make())
-                    .render(html))
-            .println();
+        printWideRow(index.getRemarks(), Alignment.left, LIGHT_GRAY, 3);
       }
     }
   }
@@ -550,15 +571,7 @@ public final class SchemaDotFormatter extends BaseDotFormatter implements Schema
       return;
     }
 
-    final Tag row = tableRow().make();
-    if (options.isShowOrdinalNumbers()) {
-      row.addInnerTag(tableCell().withAlignment(Alignment.right).make());
-    }
-    row.addInnerTag(tableCell().withAlignment(Alignment.left).make())
-        .addInnerTag(tableCell().withText(" ").withAlignment(Alignment.left).make())
-        .addInnerTag(
-            tableCell().withEscapedText("auto-incremented").withAlignment(Alignment.left).make());
-    formattingHelper.append(row.render(html)).println();
+    printColumnDetailRow(" ", "auto-incremented");
   }
 
   private void printTableColumnEnumValues(final Column column) {
@@ -575,14 +588,7 @@ public final class SchemaDotFormatter extends BaseDotFormatter implements Schema
     final String enumValues =
         String.format("'%s'", String.join("', ", column.getColumnDataType().getEnumValues()));
 
-    final Tag row = tableRow().make();
-    if (options.isShowOrdinalNumbers()) {
-      row.addInnerTag(tableCell().withAlignment(Alignment.right).make());
-    }
-    row.addInnerTag(tableCell().withAlignment(Alignment.left).make())
-        .addInnerTag(tableCell().withEscapedText(" ").withAlignment(Alignment.left).make())
-        .addInnerTag(tableCell().withEscapedText(enumValues).withAlignment(Alignment.left).make());
-    formattingHelper.append(row.render(html)).println();
+    printColumnDetailRow(" ", enumValues);
   }
 
   private void printTableColumnGenerated(final Column column) {
@@ -598,14 +604,7 @@ public final class SchemaDotFormatter extends BaseDotFormatter implements Schema
       return;
     }
 
-    final Tag row = tableRow().make();
-    if (options.isShowOrdinalNumbers()) {
-      row.addInnerTag(tableCell().withAlignment(Alignment.right).make());
-    }
-    row.addInnerTag(tableCell().withAlignment(Alignment.left).make())
-        .addInnerTag(tableCell().withAlignment(Alignment.left).make())
-        .addInnerTag(tableCell().withEscapedText("generated").withAlignment(Alignment.left).make());
-    formattingHelper.append(row.render(html)).println();
+    printColumnDetailRow("", "generated");
   }
 
   private void printTableColumnHidden(final Column column) {
@@ -621,30 +620,14 @@ public final class SchemaDotFormatter extends BaseDotFormatter implements Schema
       return;
     }
 
-    final Tag row = tableRow().make();
-    if (options.isShowOrdinalNumbers()) {
-      row.addInnerTag(tableCell().withAlignment(Alignment.right).make());
-    }
-    row.addInnerTag(tableCell().withAlignment(Alignment.left).make())
-        .addInnerTag(tableCell().withEscapedText(" ").withAlignment(Alignment.left).make())
-        .addInnerTag(tableCell().withEscapedText("hidden").withAlignment(Alignment.left).make());
-    formattingHelper.append(row.render(html)).println();
+    printColumnDetailRow(" ", "hidden");
   }
 
   private void printTableColumnRemarks(final Column column) {
     if (column == null || !column.hasRemarks() || options.isHideRemarks()) {
       return;
     }
-    final Tag remarksRow = tableRow().make();
-    if (options.isShowOrdinalNumbers()) {
-      remarksRow.addInnerTag(tableCell().withAlignment(Alignment.right).make());
-    }
-    remarksRow
-        .addInnerTag(tableCell().withAlignment(Alignment.left).make())
-        .addInnerTag(tableCell().withEscapedText(" ").withAlignment(Alignment.left).make())
-        .addInnerTag(
-            tableCell().withEscapedText(column.getRemarks()).withAlignment(Alignment.left).make());
-    formattingHelper.append(remarksRow.render(html)).println();
+    printColumnDetailRow(" ", column.getRemarks());
   }
 
   private void printTableColumns(final List<Column> columns) {
@@ -671,25 +654,41 @@ public final class SchemaDotFormatter extends BaseDotFormatter implements Schema
       final String columnDetails = columnType + nullable;
       final boolean emphasize = column.isPartOfPrimaryKey();
 
-      final Tag row = tableRow().make();
+      final String nodeId = nodeId(column);
+      final TagWriter tagWriter = formattingHelper.getTagWriter().startRow(html);
       if (options.isShowOrdinalNumbers()) {
         final String ordinalNumberString = String.valueOf(column.getOrdinalPosition());
-        row.addInnerTag(
-            tableCell().withEscapedText(ordinalNumberString).withAlignment(Alignment.right).make());
+        tagWriter
+            .cell()
+            .withEscapedText(ordinalNumberString)
+            .withAlignment(Alignment.right)
+            .withAttribute("port", nodeId + ".start")
+            .end()
+            .cell()
+            .withEscapedText(identifiers.quoteName(column.getName()))
+            .withAlignment(Alignment.left)
+            .withEmphasis(emphasize)
+            .end();
+      } else {
+        tagWriter
+            .cell()
+            .withEscapedText(identifiers.quoteName(column.getName()))
+            .withAlignment(Alignment.left)
+            .withEmphasis(emphasize)
+            .withAttribute("port", nodeId + ".start")
+            .end();
       }
-      row.addInnerTag(
-              tableCell()
-                  .withEscapedText(identifiers.quoteName(column.getName()))
-                  .withAlignment(Alignment.left)
-                  .withEmphasis(emphasize)
-                  .make())
-          .addInnerTag(tableCell().withEscapedText(" ").withAlignment(Alignment.left).make())
-          .addInnerTag(
-              tableCell().withEscapedText(columnDetails).withAlignment(Alignment.left).make());
-
-      row.firstInnerTag().addAttribute("port", nodeId(column) + ".start");
-      row.lastInnerTag().addAttribute("port", nodeId(column) + ".end");
-      formattingHelper.append(row.render(html)).println();
+      tagWriter
+          .cell()
+          .withEscapedText(" ")
+          .withAlignment(Alignment.left)
+          .end()
+          .cell()
+          .withEscapedText(columnDetails)
+          .withAlignment(Alignment.left)
+          .withAttribute("port", nodeId + ".end")
+          .end()
+          .endRow();
 
       printTableColumnEnumValues(column);
       printTableColumnHidden(column);
@@ -703,18 +702,7 @@ public final class SchemaDotFormatter extends BaseDotFormatter implements Schema
     if (table == null || !table.hasRemarks() || options.isHideRemarks()) {
       return;
     }
-    formattingHelper
-        .append(
-            tableRow()
-                .make()
-                .addInnerTag(
-                    tableCell()
-                        .withEscapedText(table.getRemarks())
-                        .withAlignment(Alignment.left)
-                        .withColumnSpan(tableColspan)
-                        .make())
-                .render(html))
-        .println();
+    printWideRow(table.getRemarks(), Alignment.left, null, tableColspan);
   }
 
   private void printTableRowCount(final Table table) {
@@ -724,18 +712,29 @@ public final class SchemaDotFormatter extends BaseDotFormatter implements Schema
 
     formattingHelper.append("\t<hr/>").append(System.lineSeparator());
 
+    printWideRow(getRowCountMessage(table), Alignment.right, null, tableColspan);
+  }
+
+  /**
+   * Prints a row with a single cell that spans columns of the table.
+   *
+   * @param text Text
+   * @param alignment Alignment of the text
+   * @param bgColor Background color, or null for none
+   * @param columnSpan Number of columns to span
+   */
+  private void printWideRow(
+      final String text, final Alignment alignment, final Color bgColor, final int columnSpan) {
     formattingHelper
-        .append(
-            tableRow()
-                .make()
-                .addInnerTag(
-                    tableCell()
-                        .withEscapedText(getRowCountMessage(table))
-                        .withAlignment(Alignment.right)
-                        .withColumnSpan(tableColspan)
-                        .make())
-                .render(html))
-        .println();
+        .getTagWriter()
+        .startRow(html)
+        .cell()
+        .withEscapedText(text)
+        .withAlignment(alignment)
+        .withBackground(bgColor)
+        .withColumnSpan(columnSpan)
+        .end()
+        .endRow();
   }
 
   private void printWeakAssociations(final Table table) {
@@ -81,6 +81,11 @@ public class DiagramRendererTest {
       // No-op
     }
 
+    @Override
+    public boolean canStream(final DiagramOutputFormat diagramOutputFormat) {
+      return false;
+    }
+
     @Override
     public GraphExecutor getGraphExecutor(
         final Path dotFile,
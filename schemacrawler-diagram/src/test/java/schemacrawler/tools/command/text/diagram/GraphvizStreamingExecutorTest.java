@@ -0,0 +1,144 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2022, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+
+package schemacrawler.tools.command.text.diagram;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.hamcrest.CoreMatchers.containsString;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.DisabledOnOs;
+import org.junit.jupiter.api.condition.OS;
+
+import schemacrawler.schemacrawler.exceptions.IORuntimeException;
+import schemacrawler.test.utility.CaptureSystemStreams;
+import us.fatehi.utility.IOUtility;
+
+@CaptureSystemStreams
+@DisabledOnOs(OS.WINDOWS)
+public class GraphvizStreamingExecutorTest {
+
+  private static final String DOT_GRAPH = "digraph \"catalog\" {\n  a -> b;\n}\n";
+
+  private static Consumer<Writer> dotGraph() {
+    return writer -> {
+      try {
+        writer.write(DOT_GRAPH);
+      } catch (final IOException e) {
+        throw new UncheckedIOException(e);
+      }
+    };
+  }
+
+  @Test
+  public void constructorGraphvizStreamingExecutor() {
+    final IORuntimeException exception =
+        assertThrows(
+            IORuntimeException.class,
+            () ->
+                new GraphvizStreamingExecutor(
+                    Arrays.asList("cat"),
+                    Paths.get("/not_a_directory/unwritable_file.dat"),
+                    0,
+                    dotGraph()));
+    assertThat(exception.getMessage(), containsString("Cannot write output file"));
+  }
+
+  @Test
+  public void failedProcessRetainsDotFile() throws IOException {
+    final Path outputFile = IOUtility.createTempFilePath("diagram", "png");
+    Files.write(outputFile, "existing diagram".getBytes(UTF_8));
+    final List<String> command =
+        Arrays.asList("sh", "-c", "cat; echo 'syntax error' >&2; exit 1");
+
+    new GraphvizStreamingExecutor(command, outputFile, 0, dotGraph()).run();
+
+    final Path dotFile = outputFile.resolveSibling(outputFile.getFileName() + ".dot");
+    assertThat(new String(Files.readAllBytes(dotFile), UTF_8), is(DOT_GRAPH));
+    // Partial output is discarded, and the existing diagram is not overwritten
+    assertThat(new String(Files.readAllBytes(outputFile), UTF_8), is("existing diagram"));
+    assertThat(tempOutputFiles(outputFile), is(0L));
+  }
+
+  @Test
+  public void pooledProcesses() throws Exception {
+    final List<String> command = Arrays.asList("cat", "-");
+
+    for (int i = 0; i < 3; i++) {
+      final Path outputFile = IOUtility.createTempFilePath("diagram", "dot");
+      new GraphvizStreamingExecutor(command, outputFile, 2, dotGraph()).run();
+      assertThat(new String(Files.readAllBytes(outputFile), UTF_8), is(DOT_GRAPH));
+    }
+
+    // Idle processes are started in the background
+    for (int i = 0; i < 100 && GraphvizProcessPool.idleProcessCount(command) < 2; i++) {
+      Thread.sleep(50);
+    }
+    assertThat(GraphvizProcessPool.idleProcessCount(command), is(2));
+
+    GraphvizProcessPool.destroyIdleProcesses();
+    assertThat(GraphvizProcessPool.idleProcessCount(command), is(0));
+  }
+
+  @Test
+  public void streamDotGraphThroughProcess() throws IOException {
+    final Path outputFile = IOUtility.createTempFilePath("diagram", "dot");
+
+    new GraphvizStreamingExecutor(Arrays.asList("cat"), outputFile, 0, dotGraph()).run();
+
+    assertThat(new String(Files.readAllBytes(outputFile), UTF_8), is(DOT_GRAPH));
+    assertThat(tempOutputFiles(outputFile), is(0L));
+  }
+
+  private long tempOutputFiles(final Path outputFile) throws IOException {
+    final String prefix = outputFile.getFileName() + ".";
+    try (final Stream<Path> files = Files.list(outputFile.getParent())) {
+      return files
+          .filter(
+              file -> {
+                final String fileName = file.getFileName().toString();
+                return fileName.startsWith(prefix) && fileName.endsWith(".tmp");
+              })
+          .count();
+    }
+  }
+}
@@ -0,0 +1,157 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2022, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+
+package schemacrawler.tools.command.text.diagram;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.hamcrest.CoreMatchers.containsString;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+import static schemacrawler.tools.command.text.diagram.options.DiagramOutputFormat.scdot;
+
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.TestInstance.Lifecycle;
+
+import schemacrawler.schema.Catalog;
+import schemacrawler.schema.Table;
+import schemacrawler.schemacrawler.SchemaCrawlerOptions;
+import schemacrawler.schemacrawler.SchemaCrawlerOptionsBuilder;
+import schemacrawler.schemacrawler.SchemaRetrievalOptions;
+import schemacrawler.test.utility.DatabaseTestUtility;
+import schemacrawler.test.utility.TestUtility;
+import schemacrawler.test.utility.WithTestDatabase;
+import schemacrawler.tools.command.text.diagram.options.DiagramOptions;
+import schemacrawler.tools.command.text.diagram.options.DiagramOptionsBuilder;
+import schemacrawler.tools.command.text.schema.options.SchemaTextDetailType;
+import schemacrawler.tools.options.Config;
+import schemacrawler.tools.options.OutputOptionsBuilder;
+import schemacrawler.tools.utility.SchemaCrawlerUtility;
+import us.fatehi.utility.IOUtility;
+
+@WithTestDatabase
+@TestInstance(Lifecycle.PER_CLASS)
+public class TablePartitionerTest {
+
+  private Catalog catalog;
+  private SchemaRetrievalOptions schemaRetrievalOptions;
+
+  @BeforeAll
+  public void loadCatalog(final Connection connection) throws Exception {
+    final SchemaCrawlerOptions schemaCrawlerOptions =
+        DatabaseTestUtility.schemaCrawlerOptionsWithMaximumSchemaInfoLevel;
+    schemaRetrievalOptions = TestUtility.newSchemaRetrievalOptions();
+    catalog =
+        SchemaCrawlerUtility.getCatalog(
+            connection, schemaRetrievalOptions, schemaCrawlerOptions, new Config());
+  }
+
+  @Test
+  public void partitionedDiagram() throws Exception {
+    final Path outputFile = IOUtility.createTempFilePath("partitioned", "scdot");
+
+    final DiagramOptions diagramOptions =
+        DiagramOptionsBuilder.builder().withPartitionMaxTables(4).toOptions();
+
+    final DiagramRenderer diagramRenderer =
+        new DiagramRenderer(SchemaTextDetailType.schema.name(), new GraphExecutorFactory());
+    diagramRenderer.setCommandOptions(diagramOptions);
+    diagramRenderer.setSchemaCrawlerOptions(SchemaCrawlerOptionsBuilder.newSchemaCrawlerOptions());
+    diagramRenderer.setOutputOptions(
+        OutputOptionsBuilder.builder()
+            .withOutputFormatValue(scdot.getFormat())
+            .withOutputFile(outputFile)
+            .toOptions());
+    diagramRenderer.setIdentifiers(schemaRetrievalOptions.getIdentifiers());
+    diagramRenderer.setCatalog(catalog);
+
+    diagramRenderer.initialize();
+    diagramRenderer.checkAvailability();
+    diagramRenderer.execute();
+
+    final String fileName = outputFile.getFileName().toString();
+    final String baseName = fileName.substring(0, fileName.lastIndexOf('.'));
+    try {
+      final String index = new String(Files.readAllBytes(outputFile), UTF_8);
+      final Path firstPartitionFile = outputFile.resolveSibling(baseName + "_1.scdot");
+
+      assertThat(index, containsString("\"partition_1\" ["));
+      assertThat(index, containsString("URL=\"" + firstPartitionFile.getFileName() + "\""));
+      assertThat(
+          new String(Files.readAllBytes(firstPartitionFile), UTF_8),
+          containsString("digraph \"SchemaCrawler_Diagram\""));
+    } finally {
+      deletePartitionFiles(outputFile, baseName);
+    }
+  }
+
+  @Test
+  public void partitionTables() {
+    final int maxTables = 4;
+    final List<Table> tables = new ArrayList<>(catalog.getTables());
+
+    final List<List<Table>> partitions = new TablePartitioner(tables, maxTables).partition();
+    assertThat(partitions.size(), is(greaterThan(1)));
+
+    final Set<Table> partitionedTables = new HashSet<>();
+    for (final List<Table> partition : partitions) {
+      assertThat(partition.size(), is(lessThanOrEqualTo(maxTables)));
+      partitionedTables.addAll(partition);
+    }
+    // Each table is in exactly one partition
+    assertThat(partitionedTables.size(), is(tables.size()));
+    assertThat(partitions.stream().mapToInt(List::size).sum(), is(tables.size()));
+
+    // Partitions are stable
+    assertThat(new TablePartitioner(tables, maxTables).partition(), is(partitions));
+  }
+
+  private void deletePartitionFiles(final Path outputFile, final String baseName)
+      throws IOException {
+    try (final DirectoryStream<Path> partitionFiles =
+        Files.newDirectoryStream(outputFile.getParent(), baseName + "_*.scdot")) {
+      for (final Path partitionFile : partitionFiles) {
+        Files.delete(partitionFile);
+      }
+    }
+    Files.deleteIfExists(outputFile);
+  }
+}
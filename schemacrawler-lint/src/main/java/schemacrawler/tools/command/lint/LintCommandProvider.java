@@ -77,7 +77,15 @@ public class LintCommandProvider extends BaseCommandProvider {
             "Whether to run all linters, including running the ones "
                 + "that are not explicitly configured with their default settings%n"
                 + "Optional, defaults to true%n"
-                + "Corresponds to the configuration file setting: schemacrawler.lint.runalllinters");
+                + "Corresponds to the configuration file setting: schemacrawler.lint.runalllinters")
+        .addOption(
+            "run-linters-in-parallel",
+            boolean.class,
+            "Whether to run linters in parallel, except for linters "
+                + "that run SQL against the database%n"
+                + "Optional, defaults to false%n"
+                + "Corresponds to the configuration file setting: "
+                + "schemacrawler.lint.run-linters-in-parallel");
     return pluginCommand;
   }
 
@@ -38,6 +38,7 @@ public class LintOptions extends BaseTextOptions {
   private final String linterConfigs;
   private final LintDispatch lintDispatch;
   private final boolean runAllLinters;
+  private final boolean runLintersInParallel;
   private final Config config;
 
   public LintOptions(final LintOptionsBuilder builder) {
@@ -45,6 +46,7 @@ public class LintOptions extends BaseTextOptions {
     linterConfigs = builder.linterConfigs;
     lintDispatch = requireNonNull(builder.lintDispatch, "No dispatch provided");
     runAllLinters = builder.runAllLinters;
+    runLintersInParallel = builder.runLintersInParallel;
     requireNonNull(builder.config, "No properties provided");
     this.config = new Config(builder.config);
   }
@@ -84,4 +86,14 @@ public class LintOptions extends BaseTextOptions {
   public boolean isRunAllLinters() {
     return runAllLinters;
   }
+
+  /**
+   * Whether to run linters in parallel. Linters that run SQL on the database connection are still
+   * run one after another.
+   *
+   * @return Whether to run linters in parallel.
+   */
+  public boolean isRunLintersInParallel() {
+    return runLintersInParallel;
+  }
 }
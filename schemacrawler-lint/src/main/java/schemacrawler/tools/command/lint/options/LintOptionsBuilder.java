@@ -40,10 +40,13 @@ public final class LintOptionsBuilder
   private static final String CLI_LINTER_CONFIGS = "linter-configs";
   private static final String CLI_LINT_DISPATCH = "lint-dispatch";
   private static final String CLI_RUN_ALL_LINTERS = "run-all-linters";
+  private static final String CLI_RUN_LINTERS_IN_PARALLEL = "run-linters-in-parallel";
   private static final String SCHEMACRAWLER_LINT_PREFIX = "schemacrawler.lint.";
   private static final String LINTER_CONFIGS = SCHEMACRAWLER_LINT_PREFIX + CLI_LINTER_CONFIGS;
   private static final String LINT_DISPATCH = SCHEMACRAWLER_LINT_PREFIX + CLI_LINT_DISPATCH;
   private static final String RUN_ALL_LINTERS = SCHEMACRAWLER_LINT_PREFIX + CLI_RUN_ALL_LINTERS;
+  private static final String RUN_LINTERS_IN_PARALLEL =
+      SCHEMACRAWLER_LINT_PREFIX + CLI_RUN_LINTERS_IN_PARALLEL;
 
   public static LintOptionsBuilder builder() {
     return new LintOptionsBuilder();
@@ -56,12 +59,14 @@ public final class LintOptionsBuilder
   LintDispatch lintDispatch;
   String linterConfigs;
   boolean runAllLinters;
+  boolean runLintersInParallel;
   Config config;
 
   private LintOptionsBuilder() {
     linterConfigs = "";
     lintDispatch = LintDispatch.none;
     runAllLinters = true;
+    runLintersInParallel = false;
     config = new Config();
   }
 
@@ -102,6 +107,16 @@ public final class LintOptionsBuilder
     }
     runAllLinters = config.getBooleanValue(runAllLintersKey, true);
 
+    final String runLintersInParallelKey;
+    if (config.containsKey(CLI_RUN_LINTERS_IN_PARALLEL)) {
+      // Honor command-line option first
+      runLintersInParallelKey = CLI_RUN_LINTERS_IN_PARALLEL;
+    } else {
+      // Otherwise, take option from SchemaCrawler configuration file
+      runLintersInParallelKey = RUN_LINTERS_IN_PARALLEL;
+    }
+    runLintersInParallel = config.getBooleanValue(runLintersInParallelKey, false);
+
     // Save config
     this.config.merge(config);
 
@@ -118,6 +133,7 @@ public final class LintOptionsBuilder
     linterConfigs = options.getLinterConfigs();
     lintDispatch = options.getLintDispatch();
     runAllLinters = options.isRunAllLinters();
+    runLintersInParallel = options.isRunLintersInParallel();
 
     return this;
   }
@@ -129,12 +145,20 @@ public final class LintOptionsBuilder
     return this;
   }
 
+  /** With value for running linters in parallel. */
+  public LintOptionsBuilder runLintersInParallel(final boolean runLintersInParallel) {
+    this.runLintersInParallel = runLintersInParallel;
+
+    return this;
+  }
+
   @Override
   public Config toConfig() {
     final Config config = super.toConfig();
     config.put(LINTER_CONFIGS, linterConfigs);
     config.put(LINT_DISPATCH, lintDispatch);
     config.put(RUN_ALL_LINTERS, runAllLinters);
+    config.put(RUN_LINTERS_IN_PARALLEL, runLintersInParallel);
     // Lint report output format is not written to the config
     return config;
   }
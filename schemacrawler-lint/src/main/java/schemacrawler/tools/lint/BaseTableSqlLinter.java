@@ -0,0 +1,272 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2022, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+
+package schemacrawler.tools.lint;
+
+import static java.util.Objects.requireNonNull;
+import static schemacrawler.schemacrawler.QueryUtility.executeForScalar;
+import static schemacrawler.schemacrawler.QueryUtility.executeForScalars;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import schemacrawler.schema.Table;
+import schemacrawler.schemacrawler.Query;
+import us.fatehi.utility.datasource.DatabaseConnectionSource;
+import us.fatehi.utility.string.StringFormat;
+
+/**
+ * Evaluates a scalar SQL query for each table, and creates lints from the results. The queries are
+ * run in batches of tables, with one round trip to the database server for each batch, rather than
+ * one for each table. If the combined query for a batch cannot be run, the query is run for each
+ * table in the batch instead. If connections are pooled, batches are run in parallel, each on its
+ * own connection, and lints are then created on the calling thread, in table order.
+ */
+public abstract class BaseTableSqlLinter extends BaseLinter {
+
+  private static final Logger LOGGER = Logger.getLogger(BaseTableSqlLinter.class.getName());
+
+  private static final int TABLES_PER_BATCH = 100;
+
+  /** Marks a table where the query could not be run. */
+  private static final Object NO_RESULT = new Object();
+
+  private final List<Table> tables;
+  private final AtomicBoolean loggedBatchFailure;
+
+  protected BaseTableSqlLinter() {
+    tables = new ArrayList<>();
+    loggedBatchFailure = new AtomicBoolean();
+  }
+
+  @Override
+  protected void end(final Connection connection) {
+    try {
+      final Query query = getTableQuery();
+      if (query == null || tables.isEmpty()) {
+        return;
+      }
+      requireNonNull(connection, "No connection provided");
+
+      final Object[] queryResults = executeQueries(query, connection);
+      for (int i = 0; i < tables.size(); i++) {
+        if (queryResults[i] != NO_RESULT) {
+          lint(tables.get(i), queryResults[i]);
+        }
+      }
+    } finally {
+      tables.clear();
+    }
+  }
+
+  /**
+   * Gets the query template to evaluate for each table, which returns a single row with a single
+   * value.
+   *
+   * @return Query, or null if the linter is not configured to run a query
+   */
+  protected abstract Query getTableQuery();
+
+  /**
+   * Queues the table, so that the query is run for a whole batch of tables at a time. Subclasses
+   * that override this method need to call it, for the table to be linted with the query.
+   *
+   * @param table Table to lint
+   * @param connection Live database connection
+   */
+  @Override
+  protected void lint(final Table table, final Connection connection) {
+    requireNonNull(table, "No table provided");
+    tables.add(table);
+  }
+
+  /**
+   * Creates lints for a table, from the result of the query for that table.
+   *
+   * @param table Table to lint
+   * @param queryResult Scalar result of the query, which may be null
+   */
+  protected abstract void lint(Table table, Object queryResult);
+
+  @Override
+  protected void start(final Connection connection) {
+    tables.clear();
+    loggedBatchFailure.set(false);
+  }
+
+  @Override
+  protected boolean usesConnection() {
+    return true;
+  }
+
+  /**
+   * Runs batches of queries. The calling thread runs batches on the live connection, while helper
+   * threads lease connections from the pool to run the remaining batches. A helper only takes a
+   * batch once it has a connection, so all batches complete even if the pool is exhausted.
+   *
+   * @param query Query template
+   * @param connection Live database connection
+   * @return Query results, in table order, with a marker for tables where the query failed
+   */
+  private Object[] executeQueries(final Query query, final Connection connection) {
+    final DatabaseConnectionSource dataSource = getDataSource();
+    // The calling thread already holds one of the pooled connections
+    final int connections = dataSource == null ? 1 : Math.max(1, dataSource.getMaxConnections());
+    // Spread tables over the connections, but keep batches small enough for the database
+    final int tablesPerBatch =
+        Math.max(1, Math.min(TABLES_PER_BATCH, (tables.size() + connections - 1) / connections));
+
+    final Queue<Integer> pendingBatches = new ConcurrentLinkedQueue<>();
+    for (int from = 0; from < tables.size(); from = from + tablesPerBatch) {
+      pendingBatches.add(from);
+    }
+    final int batchCount = pendingBatches.size();
+    final CountDownLatch batchesDone = new CountDownLatch(batchCount);
+    final Object[] queryResults = new Object[tables.size()];
+
+    final int helperCount = Math.min(connections - 1, batchCount - 1);
+    ExecutorService executorService = null;
+    if (helperCount > 0) {
+      LOGGER.log(
+          Level.INFO,
+          new StringFormat(
+              "Running SQL for <%d> tables on <%d> connections, for lint <%s>",
+              tables.size(), helperCount + 1, getLinterInstanceId()));
+      executorService =
+          Executors.newFixedThreadPool(
+              helperCount,
+              runnable -> {
+                final Thread thread = new Thread(runnable, "table-sql-lints");
+                thread.setDaemon(true);
+                return thread;
+              });
+      for (int i = 0; i < helperCount; i++) {
+        executorService.execute(
+            () -> {
+              try (final Connection helperConnection = dataSource.get()) {
+                executeQueries(
+                    query,
+                    helperConnection,
+                    tablesPerBatch,
+                    pendingBatches,
+                    batchesDone,
+                    queryResults);
+              } catch (final Exception e) {
+                LOGGER.log(Level.WARNING, "Could not lease connection to run SQL for lints", e);
+              }
+            });
+      }
+    }
+
+    try {
+      executeQueries(
+          query, connection, tablesPerBatch, pendingBatches, batchesDone, queryResults);
+      batchesDone.await();
+    } catch (final InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new RuntimeException("Interrupted while running SQL for lints", e);
+    } finally {
+      if (executorService != null) {
+        executorService.shutdown();
+      }
+    }
+
+    return queryResults;
+  }
+
+  private void executeQueries(
+      final Query query,
+      final Connection connection,
+      final int tablesPerBatch,
+      final Queue<Integer> pendingBatches,
+      final CountDownLatch batchesDone,
+      final Object[] queryResults) {
+    Integer from;
+    while ((from = pendingBatches.poll()) != null) {
+      try {
+        final int to = Math.min(from + tablesPerBatch, tables.size());
+        executeQueries(query, connection, from, tables.subList(from, to), queryResults);
+      } finally {
+        batchesDone.countDown();
+      }
+    }
+  }
+
+  private void executeQueries(
+      final Query query,
+      final Connection connection,
+      final int from,
+      final List<Table> batch,
+      final Object[] queryResults) {
+    if (batch.size() > 1) {
+      try {
+        final List<Object> batchResults =
+            executeForScalars(query, connection, batch, getIdentifiers());
+        for (int i = 0; i < batch.size(); i++) {
+          queryResults[from + i] = batchResults.get(i);
+        }
+        return;
+      } catch (final SQLException e) {
+        // Warn only once for each run, since every batch is likely to fail the same way
+        final Level level =
+            loggedBatchFailure.compareAndSet(false, true) ? Level.WARNING : Level.CONFIG;
+        LOGGER.log(
+            level,
+            e,
+            new StringFormat(
+                "Could not execute SQL for a batch of %d tables, for lint <%s>, "
+                    + "so running SQL for one table at a time",
+                batch.size(), getLinterInstanceId()));
+      }
+    }
+
+    // Run the query for one table at a time
+    for (int i = 0; i < batch.size(); i++) {
+      final Table table = batch.get(i);
+      try {
+        queryResults[from + i] = executeForScalar(query, connection, table, getIdentifiers());
+      } catch (final SQLException e) {
+        queryResults[from + i] = NO_RESULT;
+        LOGGER.log(
+            Level.WARNING,
+            e,
+            new StringFormat("Could not execute SQL for table lints, for table <%s>", table));
+      }
+    }
+  }
+}
@@ -31,14 +31,18 @@ import static us.fatehi.utility.IOUtility.readResourceFully;
 
 import java.io.Serializable;
 import java.sql.Connection;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
 import schemacrawler.schema.AttributedObject;
 import schemacrawler.schema.Catalog;
 import schemacrawler.schema.NamedObject;
+import schemacrawler.schemacrawler.Identifiers;
 import schemacrawler.tools.lint.config.LinterConfig;
 import schemacrawler.tools.options.Config;
+import us.fatehi.utility.datasource.DatabaseConnectionSource;
 import us.fatehi.utility.string.StringFormat;
 
 /**
@@ -50,13 +54,17 @@ public abstract class Linter {
   private static final Logger LOGGER = Logger.getLogger(Linter.class.getName());
 
   private LintCollector collector;
+  private Identifiers identifiers;
+  private DatabaseConnectionSource dataSource;
   private LintSeverity severity;
   private int threshold;
   private int lintCount;
+  private List<Runnable> deferredLints;
 
   protected Linter() {
     severity = LintSeverity.medium; // default value
     threshold = Integer.MAX_VALUE; // default value
+    identifiers = Identifiers.STANDARD; // default value
   }
 
   public final boolean exceedsThreshold() {
@@ -143,11 +151,34 @@ public abstract class Linter {
               getSeverity(),
               message,
               value);
-      collector.addLint(namedObject, lint);
+      if (deferredLints == null) {
+        collector.addLint(namedObject, lint);
+      } else {
+        deferredLints.add(() -> collector.addLint(namedObject, lint));
+      }
       lintCount = lintCount + 1;
     }
   }
 
+  /**
+   * Gets the source of pooled connections, for linters that run SQL on several connections at the
+   * same time.
+   *
+   * @return Source of pooled connections, or null if connections are not pooled
+   */
+  protected final DatabaseConnectionSource getDataSource() {
+    return dataSource;
+  }
+
+  /**
+   * Gets identifiers for the database being linted, which are shared by all linters in a run.
+   *
+   * @return Database identifiers
+   */
+  protected final Identifiers getIdentifiers() {
+    return identifiers;
+  }
+
   /**
    * Allows subclasses to configure themselves with custom parameters. Can be overridden.
    *
@@ -157,6 +188,16 @@ public abstract class Linter {
     // To be overridden by subclass if they need custom parameters
   }
 
+  /**
+   * Whether the linter runs SQL on the live database connection. Linters that use the connection
+   * are run one after another, even when other linters are run in parallel. Can be overridden.
+   *
+   * @return Whether the linter uses the database connection
+   */
+  protected boolean usesConnection() {
+    return false;
+  }
+
   /**
    * Set the severity of the lints created by this linter.
    *
@@ -176,8 +217,39 @@ public abstract class Linter {
     }
   }
 
+  /**
+   * Holds back lints found from now on, instead of adding them to the collector, so that the linter
+   * can run in parallel with other linters. The lints are added to the collector later, in the
+   * order in which they were found.
+   */
+  final void deferLints() {
+    deferredLints = new ArrayList<>();
+  }
+
+  /** Adds lints that were held back to the collector, on the calling thread. */
+  final void flushDeferredLints() {
+    if (deferredLints == null) {
+      return;
+    }
+    final List<Runnable> deferredLints = this.deferredLints;
+    this.deferredLints = null;
+    for (final Runnable deferredLint : deferredLints) {
+      deferredLint.run();
+    }
+  }
+
   abstract void lint(Catalog catalog, Connection connection);
 
+  final void setDataSource(final DatabaseConnectionSource dataSource) {
+    this.dataSource = dataSource;
+  }
+
+  final void setIdentifiers(final Identifiers identifiers) {
+    if (identifiers != null) {
+      this.identifiers = identifiers;
+    }
+  }
+
   final void setLintCollector(final LintCollector lintCollector) {
     collector = lintCollector;
   }
@@ -28,6 +28,7 @@ http://www.gnu.org/licenses/
 package schemacrawler.tools.lint;
 
 import static java.util.Objects.requireNonNull;
+import static schemacrawler.schemacrawler.Identifiers.identifiers;
 
 import java.sql.Connection;
 import java.util.ArrayList;
@@ -35,16 +36,68 @@ import java.util.Comparator;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveAction;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
 import schemacrawler.schema.Catalog;
+import schemacrawler.schemacrawler.Identifiers;
 import schemacrawler.tools.lint.config.LinterConfig;
 import schemacrawler.tools.lint.config.LinterConfigs;
+import us.fatehi.utility.datasource.DatabaseConnectionSource;
 import us.fatehi.utility.string.StringFormat;
 
 public final class Linters implements Iterable<Linter> {
 
+  private final class LintTask extends RecursiveAction {
+
+    private static final long serialVersionUID = 4960390287398436610L;
+
+    private final List<Linter> linters;
+    private final int fromLinter;
+    private final int toLinter;
+    private final Catalog catalog;
+    private final Connection connection;
+    private final DatabaseConnectionSource dataSource;
+    private final Identifiers identifiers;
+
+    LintTask(
+        final List<Linter> linters,
+        final int fromLinter,
+        final int toLinter,
+        final Catalog catalog,
+        final Connection connection,
+        final DatabaseConnectionSource dataSource,
+        final Identifiers identifiers) {
+      this.linters = linters;
+      this.fromLinter = fromLinter;
+      this.toLinter = toLinter;
+      this.catalog = catalog;
+      this.connection = connection;
+      this.dataSource = dataSource;
+      this.identifiers = identifiers;
+    }
+
+    @Override
+    protected void compute() {
+      if (toLinter - fromLinter <= 1) {
+        for (int i = fromLinter; i < toLinter; i++) {
+          lint(linters.get(i), catalog, connection, dataSource, identifiers);
+        }
+        return;
+      }
+
+      final int midLinter = (fromLinter + toLinter) >>> 1;
+      invokeAll(
+          new LintTask(
+              linters, fromLinter, midLinter, catalog, connection, dataSource, identifiers),
+          new LintTask(
+              linters, midLinter, toLinter, catalog, connection, dataSource, identifiers));
+    }
+  }
+
   private static final Logger LOGGER = Logger.getLogger(Linters.class.getName());
 
   private final List<Linter> linters;
@@ -168,15 +221,95 @@ public final class Linters implements Iterable<Linter> {
   }
 
   public void lint(final Catalog catalog, final Connection connection) {
+    lint(catalog, connection, identifiers().withConnectionIfPossible(connection).build());
+  }
+
+  /**
+   * Lints the catalog with all configured linters, which share the identifiers for the database.
+   *
+   * @param catalog Catalog to lint
+   * @param connection Live database connection, for linters that run SQL
+   * @param identifiers Database identifiers, usually from the schema retrieval options
+   */
+  public void lint(
+      final Catalog catalog, final Connection connection, final Identifiers identifiers) {
+    lint(catalog, connection, identifiers, false);
+  }
+
+  /**
+   * Lints the catalog with all configured linters, which share the identifiers for the database.
+   * Linters can be run in parallel on the common fork-join pool, except for linters that run SQL
+   * on the database connection, which are run one after another on the calling thread. Lints from
+   * linters that run in parallel are added to the collector in the order in which the linters are
+   * configured, so that lint reports are the same as when the linters are run one after another.
+   *
+   * @param catalog Catalog to lint
+   * @param connection Live database connection, for linters that run SQL
+   * @param identifiers Database identifiers, usually from the schema retrieval options
+   * @param runInParallel Whether to run linters in parallel
+   */
+  public void lint(
+      final Catalog catalog,
+      final Connection connection,
+      final Identifiers identifiers,
+      final boolean runInParallel) {
+    lint(catalog, connection, null, identifiers, runInParallel);
+  }
+
+  /**
+   * Lints the catalog with all configured linters, as for {@link #lint(Catalog, Connection,
+   * Identifiers, boolean)}. Linters that run SQL can also lease connections from the pool, to run
+   * their queries on several connections at the same time.
+   *
+   * @param catalog Catalog to lint
+   * @param connection Live database connection, for linters that run SQL
+   * @param dataSource Source of pooled connections, or null if connections are not pooled
+   * @param identifiers Database identifiers, usually from the schema retrieval options
+   * @param runInParallel Whether to run linters in parallel
+   */
+  public void lint(
+      final Catalog catalog,
+      final Connection connection,
+      final DatabaseConnectionSource dataSource,
+      final Identifiers identifiers,
+      final boolean runInParallel) {
+    requireNonNull(identifiers, "No database identifiers provided");
+    if (!runInParallel) {
+      for (final Linter linter : linters) {
+        lint(linter, catalog, connection, dataSource, identifiers);
+      }
+      return;
+    }
+
+    final List<Linter> parallelLinters = new ArrayList<>();
     for (final Linter linter : linters) {
-      LOGGER.log(Level.CONFIG, new StringFormat("Linting with <%s>", linter.getLinterInstanceId()));
-      try {
-        linter.lint(catalog, connection);
-      } catch (final Exception e) {
-        LOGGER.log(
-            Level.WARNING,
-            e,
-            new StringFormat("Could not run linter <%s>", linter.getLinterInstanceId()));
+      linter.deferLints();
+      if (!linter.usesConnection()) {
+        parallelLinters.add(linter);
+      }
+    }
+
+    try {
+      final ForkJoinTask<Void> lintTask =
+          ForkJoinPool.commonPool()
+              .submit(
+                  new LintTask(
+                      parallelLinters,
+                      0,
+                      parallelLinters.size(),
+                      catalog,
+                      connection,
+                      dataSource,
+                      identifiers));
+      for (final Linter linter : linters) {
+        if (linter.usesConnection()) {
+          lint(linter, catalog, connection, dataSource, identifiers);
+        }
+      }
+      lintTask.join();
+    } finally {
+      for (final Linter linter : linters) {
+        linter.flushDeferredLints();
       }
     }
   }
@@ -195,6 +328,25 @@ public final class Linters implements Iterable<Linter> {
     return linters.toString();
   }
 
+  private void lint(
+      final Linter linter,
+      final Catalog catalog,
+      final Connection connection,
+      final DatabaseConnectionSource dataSource,
+      final Identifiers identifiers) {
+    LOGGER.log(Level.CONFIG, new StringFormat("Linting with <%s>", linter.getLinterInstanceId()));
+    try {
+      linter.setIdentifiers(identifiers);
+      linter.setDataSource(dataSource);
+      linter.lint(catalog, connection);
+    } catch (final Exception e) {
+      LOGGER.log(
+          Level.WARNING,
+          e,
+          new StringFormat("Could not run linter <%s>", linter.getLinterInstanceId()));
+    }
+  }
+
   private Linter newLinter(final String linterId) {
     final Linter linter = registry.newLinter(linterId);
     if (linter != null) {
@@ -67,6 +67,11 @@ public class LinterCatalogSql extends BaseLinter {
     requireNotBlank(sql, "No SQL provided");
   }
 
+  @Override
+  protected boolean usesConnection() {
+    return true;
+  }
+
   @Override
   protected void lint(final Table table, final Connection connection) {
     // No-op, since the actual linting is done in the start method
@@ -33,6 +33,7 @@ import static org.hamcrest.Matchers.hasSize;
 import static org.hamcrest.Matchers.is;
 import static org.hamcrest.Matchers.notNullValue;
 import static org.hamcrest.Matchers.startsWith;
+import static schemacrawler.schemacrawler.Identifiers.identifiers;
 import static schemacrawler.test.utility.DatabaseTestUtility.schemaRetrievalOptionsDefault;
 import static schemacrawler.test.utility.FileHasContent.classpathResource;
 import static schemacrawler.test.utility.FileHasContent.hasSameContentAs;
@@ -51,9 +52,11 @@ import schemacrawler.inclusionrule.RegularExpressionExclusionRule;
 import schemacrawler.inclusionrule.RegularExpressionInclusionRule;
 import schemacrawler.schema.Catalog;
 import schemacrawler.schema.Schema;
+import schemacrawler.schemacrawler.Identifiers;
 import schemacrawler.schemacrawler.LimitOptionsBuilder;
 import schemacrawler.schemacrawler.SchemaCrawlerOptions;
 import schemacrawler.schemacrawler.SchemaCrawlerOptionsBuilder;
+import schemacrawler.test.utility.DatabaseConnectionInfo;
 import schemacrawler.test.utility.TestWriter;
 import schemacrawler.test.utility.WithTestDatabase;
 import schemacrawler.tools.command.lint.options.LintOptions;
@@ -65,6 +68,9 @@ import schemacrawler.tools.lint.Linters;
 import schemacrawler.tools.lint.config.LinterConfig;
 import schemacrawler.tools.lint.config.LinterConfigs;
 import schemacrawler.tools.options.Config;
+import us.fatehi.utility.datasource.DatabaseConnectionSource;
+import us.fatehi.utility.datasource.DatabaseConnectionSources;
+import us.fatehi.utility.datasource.SingleUseUserCredentials;
 
 @WithTestDatabase
 public class LintTest {
@@ -133,6 +139,63 @@ public class LintTest {
         hasSameContentAs(classpathResource(LINTS_OUTPUT + "schemacrawler.lints.summary.txt")));
   }
 
+  @Test
+  public void lintsInParallel(final Connection connection) throws Exception {
+    final LimitOptionsBuilder limitOptionsBuilder =
+        LimitOptionsBuilder.builder()
+            .tableTypes("TABLE", "VIEW", "GLOBAL TEMPORARY")
+            .includeSchemas(new RegularExpressionInclusionRule(".*FOR_LINT"));
+    final SchemaCrawlerOptions schemaCrawlerOptions =
+        SchemaCrawlerOptionsBuilder.newSchemaCrawlerOptions()
+            .withLimitOptions(limitOptionsBuilder.toOptions());
+
+    final Catalog catalog =
+        getCatalog(connection, schemaRetrievalOptionsDefault, schemaCrawlerOptions, config);
+    assertThat(catalog, notNullValue());
+
+    final LinterConfigs linterConfigs = new LinterConfigs(new Config());
+
+    final Map<String, Object> config = new HashMap<>();
+    config.put("bad-column-names", ".*\\.COUNTRY");
+    final LinterConfig linterConfig =
+        new LinterConfig(
+            "schemacrawler.tools.linter.LinterTableWithBadlyNamedColumns",
+            true,
+            LintSeverity.medium,
+            0,
+            null,
+            null,
+            null,
+            null,
+            config);
+
+    linterConfigs.add(linterConfig);
+
+    final Linters linters = new Linters(linterConfigs, true);
+    final Identifiers identifiers = identifiers().withConnectionIfPossible(connection).build();
+    linters.lint(catalog, connection, identifiers, true);
+    final LintCollector lintCollector = linters.getCollector();
+    assertThat(lintCollector.size(), is(51));
+
+    final TestWriter testout1 = new TestWriter();
+    try (final TestWriter out = testout1) {
+      for (final Lint<?> lint : lintCollector.getLints()) {
+        out.println(lint);
+      }
+    }
+    assertThat(
+        outputOf(testout1),
+        hasSameContentAs(classpathResource(LINTS_OUTPUT + "schemacrawler.lints.txt")));
+
+    final TestWriter testout2 = new TestWriter();
+    try (final TestWriter out = testout2) {
+      out.println(linters.getLintSummary());
+    }
+    assertThat(
+        outputOf(testout2),
+        hasSameContentAs(classpathResource(LINTS_OUTPUT + "schemacrawler.lints.summary.txt")));
+  }
+
   @Test
   public void lintsWithExcludedColumns(final Connection connection) throws Exception {
     final LimitOptionsBuilder limitOptionsBuilder =
@@ -170,6 +233,64 @@ public class LintTest {
             classpathResource(LINTS_OUTPUT + "schemacrawler.lints.excluded_columns.txt")));
   }
 
+  @Test
+  public void lintsWithPooledConnections(
+      final Connection connection, final DatabaseConnectionInfo connectionInfo) throws Exception {
+    final LimitOptionsBuilder limitOptionsBuilder =
+        LimitOptionsBuilder.builder()
+            .tableTypes("TABLE", "VIEW", "GLOBAL TEMPORARY")
+            .includeSchemas(new RegularExpressionInclusionRule(".*FOR_LINT"));
+    final SchemaCrawlerOptions schemaCrawlerOptions =
+        SchemaCrawlerOptionsBuilder.newSchemaCrawlerOptions()
+            .withLimitOptions(limitOptionsBuilder.toOptions());
+
+    final Catalog catalog =
+        getCatalog(connection, schemaRetrievalOptionsDefault, schemaCrawlerOptions, config);
+    assertThat(catalog, notNullValue());
+
+    final LinterConfigs linterConfigs = new LinterConfigs(new Config());
+
+    final Map<String, Object> config = new HashMap<>();
+    config.put("bad-column-names", ".*\\.COUNTRY");
+    final LinterConfig linterConfig =
+        new LinterConfig(
+            "schemacrawler.tools.linter.LinterTableWithBadlyNamedColumns",
+            true,
+            LintSeverity.medium,
+            0,
+            null,
+            null,
+            null,
+            null,
+            config);
+
+    linterConfigs.add(linterConfig);
+
+    final Linters linters = new Linters(linterConfigs, true);
+    final Identifiers identifiers = identifiers().withConnectionIfPossible(connection).build();
+    final DatabaseConnectionSource dataSource =
+        DatabaseConnectionSources.newDatabaseConnectionSource(
+            connectionInfo.getConnectionUrl(), new SingleUseUserCredentials("sa", ""));
+    try (final Connection pooledConnection = dataSource.get()) {
+      // Table SQL linters run batches of tables on other connections leased from the pool
+      linters.lint(catalog, pooledConnection, dataSource, identifiers, false);
+    } finally {
+      dataSource.close();
+    }
+    final LintCollector lintCollector = linters.getCollector();
+    assertThat(lintCollector.size(), is(51));
+
+    final TestWriter testout = new TestWriter();
+    try (final TestWriter out = testout) {
+      for (final Lint<?> lint : lintCollector.getLints()) {
+        out.println(lint);
+      }
+    }
+    assertThat(
+        outputOf(testout),
+        hasSameContentAs(classpathResource(LINTS_OUTPUT + "schemacrawler.lints.txt")));
+  }
+
   @Test
   public void runLintersWithConfig(final Connection connection) throws Exception {
     final LimitOptionsBuilder limitOptionsBuilder =
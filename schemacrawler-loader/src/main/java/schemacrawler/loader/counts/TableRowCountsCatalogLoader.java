@@ -51,6 +51,8 @@ public class TableRowCountsCatalogLoader extends BaseCatalogLoader {
 
   private static final String OPTION_NO_EMPTY_TABLES = "no-empty-tables";
   private static final String OPTION_LOAD_ROW_COUNTS = "load-row-counts";
+  private static final String OPTION_ESTIMATE_ROW_COUNTS = "estimate-row-counts";
+  private static final String OPTION_ROW_COUNT_TIMEOUT = "row-count-timeout";
 
   public TableRowCountsCatalogLoader() {
     super(new CommandDescription("countsloader", "Loader for table row counts"), 2);
@@ -69,6 +71,18 @@ public class TableRowCountsCatalogLoader extends BaseCatalogLoader {
             "Loads row counts for each table",
             "This can be a time consuming operation",
             "Optional, defaults to false")
+        .addOption(
+            OPTION_ESTIMATE_ROW_COUNTS,
+            Boolean.class,
+            "Loads estimated row counts for each table from database statistics",
+            "Tables without statistics are counted, and the database plugin needs to support it",
+            "Optional, defaults to false")
+        .addOption(
+            OPTION_ROW_COUNT_TIMEOUT,
+            Integer.class,
+            "Maximum time in seconds to count the rows in a table",
+            "Tables that take longer use estimated row counts, if available",
+            "Optional, defaults to 0, for no limit")
         .addOption(
             OPTION_NO_EMPTY_TABLES,
             Boolean.class,
@@ -89,14 +103,25 @@ public class TableRowCountsCatalogLoader extends BaseCatalogLoader {
     try {
       final Catalog catalog = getCatalog();
       final TableRowCountsRetriever rowCountsRetriever =
-          new TableRowCountsRetriever(getConnection(), catalog);
+          new TableRowCountsRetriever(
+              getConnection(),
+              getDataSource(),
+              catalog,
+              getSchemaRetrievalOptions(),
+              getSchemaCrawlerOptions());
       final Config config = getAdditionalConfiguration();
       taskRunner.run(
           new TaskDefinition(
               "retrieveTableRowCounts",
               () -> {
                 final boolean loadRowCounts = config.getBooleanValue(OPTION_LOAD_ROW_COUNTS, false);
-                if (loadRowCounts) {
+                final boolean estimateRowCounts =
+                    config.getBooleanValue(OPTION_ESTIMATE_ROW_COUNTS, false);
+                rowCountsRetriever.setQueryTimeout(
+                    config.getIntegerValue(OPTION_ROW_COUNT_TIMEOUT, 0));
+                if (estimateRowCounts) {
+                  rowCountsRetriever.retrieveTableRowCountEstimates();
+                } else if (loadRowCounts) {
                   rowCountsRetriever.retrieveTableRowCounts();
                 } else {
                   LOGGER.log(
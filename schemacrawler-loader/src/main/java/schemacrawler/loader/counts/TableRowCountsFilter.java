@@ -49,8 +49,9 @@ public class TableRowCountsFilter implements Predicate<Table> {
   public boolean test(final Table table) {
     final boolean hideTable;
     if (noEmptyTables) {
+      // Estimates can be out of date, so only tables counted as empty are hidden
       final long count = TableRowCountsUtility.getRowCount(table);
-      hideTable = count == 0;
+      hideTable = count == 0 && !TableRowCountsUtility.isRowCountEstimated(table);
     } else {
       hideTable = false;
     }
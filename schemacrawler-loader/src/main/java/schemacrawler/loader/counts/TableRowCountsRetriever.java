@@ -29,62 +29,296 @@ package schemacrawler.loader.counts;
 
 import static java.util.Objects.requireNonNull;
 import static schemacrawler.loader.counts.TableRowCountsUtility.addRowCountToTable;
-import static schemacrawler.schemacrawler.QueryUtility.executeForLong;
+import static schemacrawler.schemacrawler.DatabaseObjectRuleForInclusion.ruleForSchemaInclusion;
+import static schemacrawler.schemacrawler.InformationSchemaKey.TABLE_ROW_COUNTS;
+import static schemacrawler.schemacrawler.QueryUtility.executeAgainstSchema;
+import static schemacrawler.schemacrawler.QueryUtility.executeAgainstTable;
 import static us.fatehi.utility.database.DatabaseUtility.checkConnection;
 
 import java.sql.Connection;
+import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.sql.Statement;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.logging.Level;
-
 import java.util.logging.Logger;
+
+import schemacrawler.inclusionrule.InclusionRule;
 import schemacrawler.schema.Catalog;
+import schemacrawler.schema.NamedObjectKey;
+import schemacrawler.schema.Schema;
 import schemacrawler.schema.Table;
 import schemacrawler.schemacrawler.Identifiers;
+import schemacrawler.schemacrawler.InformationSchemaViews;
 import schemacrawler.schemacrawler.Query;
 import schemacrawler.schemacrawler.Retriever;
+import schemacrawler.schemacrawler.SchemaCrawlerOptions;
+import schemacrawler.schemacrawler.SchemaCrawlerOptionsBuilder;
+import schemacrawler.schemacrawler.SchemaRetrievalOptions;
+import schemacrawler.schemacrawler.SchemaRetrievalOptionsBuilder;
+import us.fatehi.utility.datasource.DatabaseConnectionSource;
 import us.fatehi.utility.string.StringFormat;
 
+/**
+ * Retrieves table row counts, either by counting the rows in each table, or by reading estimates
+ * from database statistics, if the database plugin provides a query for them. If database
+ * connections are pooled, tables are counted in parallel, each on its own connection. Each count
+ * can be limited in time, and tables that cannot be counted use an estimate, if there is one.
+ */
 @Retriever
 public final class TableRowCountsRetriever {
 
-  private static final Logger LOGGER =
-      Logger.getLogger(TableRowCountsRetriever.class.getName());
+  private static final Logger LOGGER = Logger.getLogger(TableRowCountsRetriever.class.getName());
+
+  private static final Query ROW_COUNT_QUERY =
+      new Query("schemacrawler.table.row_counts", "SELECT COUNT(*) FROM ${table}");
 
   private final Connection connection;
+  private final DatabaseConnectionSource dataSource;
   private final Catalog catalog;
+  private final SchemaRetrievalOptions schemaRetrievalOptions;
+  private final InclusionRule schemaInclusionRule;
+  private int queryTimeout;
 
   public TableRowCountsRetriever(final Connection connection, final Catalog catalog)
       throws SQLException {
+    this(
+        connection,
+        null,
+        catalog,
+        SchemaRetrievalOptionsBuilder.builder().fromConnnection(connection).toOptions(),
+        SchemaCrawlerOptionsBuilder.newSchemaCrawlerOptions());
+  }
+
+  /**
+   * Retriever for table row counts, which counts tables in parallel on connections leased from the
+   * connection source, as well as on the provided connection.
+   *
+   * @param connection Live database connection
+   * @param dataSource Source of pooled connections, or null if connections are not pooled
+   * @param catalog Catalog with tables to count
+   * @param schemaRetrievalOptions Database-specific options, including the query for estimates
+   * @param schemaCrawlerOptions Options, including the schema inclusion rule
+   * @throws SQLException If the connection is not live
+   */
+  public TableRowCountsRetriever(
+      final Connection connection,
+      final DatabaseConnectionSource dataSource,
+      final Catalog catalog,
+      final SchemaRetrievalOptions schemaRetrievalOptions,
+      final SchemaCrawlerOptions schemaCrawlerOptions)
+      throws SQLException {
     this.connection = checkConnection(connection);
+    this.dataSource = dataSource;
     this.catalog = requireNonNull(catalog, "No catalog provided");
+    this.schemaRetrievalOptions =
+        requireNonNull(schemaRetrievalOptions, "No schema retrieval options provided");
+    requireNonNull(schemaCrawlerOptions, "No SchemaCrawler options provided");
+    schemaInclusionRule = schemaCrawlerOptions.getLimitOptions().get(ruleForSchemaInclusion);
   }
 
-  public void retrieveTableRowCounts() {
+  /**
+   * Reads estimated row counts from database statistics, using the query provided by the database
+   * plugin. Negative estimates mean that statistics have not been gathered, and are ignored.
+   *
+   * @return Estimated row counts, keyed by table
+   */
+  public Map<NamedObjectKey, Long> retrieveEstimates() {
+    final Map<NamedObjectKey, Long> estimates = new HashMap<>();
 
-    Identifiers identifiers;
-    try {
-      identifiers = Identifiers.identifiers().withConnection(connection).build();
+    final InformationSchemaViews informationSchemaViews =
+        schemaRetrievalOptions.getInformationSchemaViews();
+    if (!informationSchemaViews.hasQuery(TABLE_ROW_COUNTS)) {
+      LOGGER.log(
+          Level.INFO, "Not retrieving estimated row counts, since no query was provided");
+      return estimates;
+    }
+
+    LOGGER.log(Level.INFO, "Retrieving estimated row counts");
+
+    // Match the names in the catalog, for databases that do not support catalogs or schemas
+    boolean hasCatalogNames = false;
+    boolean hasSchemaNames = false;
+    for (final Schema schema : catalog.getSchemas()) {
+      hasCatalogNames = hasCatalogNames || schema.getCatalogName() != null;
+      hasSchemaNames = hasSchemaNames || schema.getName() != null;
+    }
+
+    final Query query = informationSchemaViews.getQuery(TABLE_ROW_COUNTS);
+    try (final Statement statement = connection.createStatement();
+        final ResultSet results = executeAgainstSchema(query, statement, schemaInclusionRule)) {
+      if (results == null) {
+        return estimates;
+      }
+      while (results.next()) {
+        final String catalogName = hasCatalogNames ? results.getString("TABLE_CATALOG") : null;
+        final String schemaName = hasSchemaNames ? results.getString("TABLE_SCHEMA") : null;
+        final String tableName = results.getString("TABLE_NAME");
+        final long rowCount = results.getLong("ROW_COUNT");
+        if (results.wasNull() || rowCount < 0) {
+          continue;
+        }
+        estimates.put(new NamedObjectKey(catalogName, schemaName, tableName), rowCount);
+      }
     } catch (final SQLException e) {
-      // The offline snapshot executable may not have a live connection,
-      // so we cannot fail with an exception. Log and continue.
-      LOGGER.log(Level.WARNING, "No connection provided", e);
+      LOGGER.log(Level.WARNING, "Could not retrieve estimated row counts", e);
+    }
 
-      identifiers = Identifiers.STANDARD;
+    return estimates;
+  }
 
+  /**
+   * Counts the rows in each table. Tables that could not be counted, for example because the count
+   * took longer than the query timeout, use an estimated count if one is available.
+   */
+  public void retrieveTableRowCounts() {
+    final Collection<Table> failedTables = countTables(new ArrayList<>(catalog.getTables()));
+    if (failedTables.isEmpty()) {
       return;
     }
 
-    final Query query =
-        new Query("schemacrawler.table.row_counts", "SELECT COUNT(*) FROM ${table}");
-    final List<Table> allTables = new ArrayList<>(catalog.getTables());
-    for (final Table table : allTables) {
-      try {
-        final long count = executeForLong(query, connection, table, identifiers);
-        addRowCountToTable(table, count);
+    final Map<NamedObjectKey, Long> estimates = retrieveEstimates();
+    for (final Table table : failedTables) {
+      final Long estimate = estimates.get(table.key());
+      if (estimate != null) {
+        LOGGER.log(
+            Level.INFO, new StringFormat("Using estimated row count for table <%s>", table));
+        addRowCountToTable(table, estimate, true);
+      }
+    }
+  }
+
+  /**
+   * Reads estimated row counts from database statistics, which is much faster than counting rows
+   * in large tables. Tables that do not have an estimate are counted.
+   */
+  public void retrieveTableRowCountEstimates() {
+    final Map<NamedObjectKey, Long> estimates = retrieveEstimates();
+
+    final List<Table> tablesToCount = new ArrayList<>();
+    for (final Table table : catalog.getTables()) {
+      final Long estimate = estimates.get(table.key());
+      if (estimate != null) {
+        addRowCountToTable(table, estimate, true);
+      } else {
+        tablesToCount.add(table);
+      }
+    }
+
+    if (!tablesToCount.isEmpty()) {
+      LOGGER.log(
+          Level.INFO,
+          new StringFormat("Counting rows in <%d> tables without estimates", tablesToCount.size()));
+      countTables(tablesToCount);
+    }
+  }
+
+  /**
+   * Sets the maximum time to count the rows in a single table.
+   *
+   * @param queryTimeout Timeout in seconds, or zero for no limit
+   */
+  public void setQueryTimeout(final int queryTimeout) {
+    this.queryTimeout = Math.max(0, queryTimeout);
+  }
+
+  /**
+   * Counts rows in each table. The calling thread counts tables on the live connection, while
+   * helper threads lease connections from the pool to count the remaining tables. A helper only
+   * takes a table once it has a connection, so counts complete even if the pool is exhausted.
+   *
+   * @param tables Tables to count
+   * @return Tables that could not be counted
+   */
+  private Collection<Table> countTables(final List<Table> tables) {
+    final Identifiers identifiers = schemaRetrievalOptions.getIdentifiers();
+
+    final Queue<Table> pendingTables = new ConcurrentLinkedQueue<>(tables);
+    final CountDownLatch tablesCounted = new CountDownLatch(tables.size());
+    final Map<NamedObjectKey, Table> failedTables = new ConcurrentHashMap<>();
+
+    final int helperCount;
+    if (dataSource == null) {
+      helperCount = 0;
+    } else {
+      // The calling thread already holds one of the pooled connections
+      helperCount = Math.min(dataSource.getMaxConnections() - 1, tables.size() - 1);
+    }
+
+    ExecutorService executorService = null;
+    if (helperCount > 0) {
+      LOGGER.log(
+          Level.INFO,
+          new StringFormat(
+              "Counting rows in <%d> tables on <%d> connections", tables.size(), helperCount + 1));
+      executorService =
+          Executors.newFixedThreadPool(
+              helperCount,
+              runnable -> {
+                final Thread thread = new Thread(runnable, "table-row-counts");
+                thread.setDaemon(true);
+                return thread;
+              });
+      for (int i = 0; i < helperCount; i++) {
+        executorService.execute(
+            () -> {
+              try (final Connection helperConnection = dataSource.get()) {
+                countTables(
+                    helperConnection, identifiers, pendingTables, tablesCounted, failedTables);
+              } catch (final Exception e) {
+                LOGGER.log(Level.WARNING, "Could not lease connection to count rows", e);
+              }
+            });
+      }
+    }
+
+    try {
+      countTables(connection, identifiers, pendingTables, tablesCounted, failedTables);
+      tablesCounted.await();
+    } catch (final InterruptedException e) {
+      Thread.currentThread().interrupt();
+    } finally {
+      if (executorService != null) {
+        executorService.shutdown();
+      }
+    }
+
+    return failedTables.values();
+  }
+
+  private void countTables(
+      final Connection connection,
+      final Identifiers identifiers,
+      final Queue<Table> pendingTables,
+      final CountDownLatch tablesCounted,
+      final Map<NamedObjectKey, Table> failedTables) {
+    Table table;
+    while ((table = pendingTables.poll()) != null) {
+      try (final Statement statement = connection.createStatement()) {
+        statement.setQueryTimeout(queryTimeout);
+        try (final ResultSet results =
+            executeAgainstTable(ROW_COUNT_QUERY, statement, table, true, identifiers)) {
+          if (results != null && results.next()) {
+            addRowCountToTable(table, results.getLong(1));
+          } else {
+            failedTables.put(table.key(), table);
+          }
+        }
       } catch (final SQLException e) {
         LOGGER.log(Level.WARNING, e, new StringFormat("Could not get count for table <%s>", table));
+        failedTables.put(table.key(), table);
+      } finally {
+        tablesCounted.countDown();
       }
     }
   }
@@ -37,6 +37,8 @@ public final class TableRowCountsUtility {
 
   private static final int UNKNOWN_TABLE_ROW_COUNT = -1;
   private static final String TABLE_ROW_COUNT_KEY = "schemacrawler.table.row_count";
+  private static final String TABLE_ROW_COUNT_ESTIMATED_KEY =
+      "schemacrawler.table.row_count_estimated";
 
   public static long getRowCount(final Table table) {
     if (table == null) {
@@ -64,19 +66,46 @@ public final class TableRowCountsUtility {
   }
 
   public static String getRowCountMessage(final Table table) {
-    return getRowCountMessage(getRowCount(table));
+    final String message = getRowCountMessage(getRowCount(table));
+    if (isRowCountEstimated(table)) {
+      return message + " (estimated)";
+    } else {
+      return message;
+    }
   }
 
   public static boolean hasRowCount(final Table table) {
     return table != null && table.hasAttribute(TABLE_ROW_COUNT_KEY);
   }
 
+  /**
+   * Checks whether the row count for a table was estimated from database statistics, rather than
+   * counted. Estimated counts can be out of date, so an estimate of zero does not mean that the
+   * table is empty.
+   *
+   * @param table Table to check
+   * @return True if the table has an estimated row count
+   */
+  public static boolean isRowCountEstimated(final Table table) {
+    return hasRowCount(table) && table.getAttribute(TABLE_ROW_COUNT_ESTIMATED_KEY, false);
+  }
+
   static void addRowCountToTable(final Table table, final long rowCount) {
+    addRowCountToTable(table, rowCount, false);
+  }
+
+  static void addRowCountToTable(final Table table, final long rowCount, final boolean estimated) {
     if (table != null) {
       if (rowCount >= 0) {
         table.setAttribute(TABLE_ROW_COUNT_KEY, rowCount);
+        if (estimated) {
+          table.setAttribute(TABLE_ROW_COUNT_ESTIMATED_KEY, true);
+        } else {
+          table.removeAttribute(TABLE_ROW_COUNT_ESTIMATED_KEY);
+        }
       } else {
         table.removeAttribute(TABLE_ROW_COUNT_KEY);
+        table.removeAttribute(TABLE_ROW_COUNT_ESTIMATED_KEY);
       }
     }
   }
@@ -25,61 +25,181 @@ http://www.gnu.org/licenses/
 
 ========================================================================
 */
+
 package schemacrawler.loader.weakassociations;
 
 import static java.util.Objects.requireNonNull;
 import static us.fatehi.utility.Utility.isBlank;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import schemacrawler.schema.Column;
 import schemacrawler.schema.Table;
 import us.fatehi.utility.Multimap;
 
+/**
+ * Index of columns by match key, which is the lower case column name without an "id" suffix.
+ * Columns and match keys are numbered, so that the analyzer can look up candidate foreign key
+ * columns by primitive ids, without building collections of columns.
+ */
 final class ColumnMatchKeysMap {
 
-  private final Multimap<String, Column> columnsForMatchKey;
-  private final Multimap<Column, String> matchKeysForColumn;
+  static final int NO_MATCH_KEY = -1;
+
+  private static final int[] NO_COLUMNS = new int[0];
+
+  /**
+   * Finds the match key for a column name, which is the lower case column name with a trailing
+   * "id" or "_id" removed.
+   *
+   * @param columnName Column name
+   * @return Match key, which may be blank
+   */
+  static String matchKey(final String columnName) {
+    final String name = columnName.toLowerCase();
+    int end = name.length();
+    if (name.endsWith("id")) {
+      end = end - 2;
+      if (end > 0 && name.charAt(end - 1) == '_') {
+        end = end - 1;
+      }
+    }
+    return name.substring(0, end);
+  }
+
+  private final Column[] columns;
+  private final Map<Column, Integer> columnIds;
+  private final int[] matchKeyForColumn;
+  private final List<String> matchKeys;
+  private final Map<String, Integer> matchKeyIds;
+  private final int[][] columnsForMatchKey;
 
   ColumnMatchKeysMap(final List<Table> tables) {
     requireNonNull(tables, "No tables provided");
-    columnsForMatchKey = new Multimap<>();
-    matchKeysForColumn = new Multimap<>();
 
+    final List<Column> allColumns = new ArrayList<>();
     for (final Table table : tables) {
-      mapColumnNameMatches(table);
+      allColumns.addAll(table.getColumns());
+    }
+    columns = allColumns.toArray(new Column[0]);
+    columnIds = new HashMap<>(columns.length * 2);
+    matchKeyForColumn = new int[columns.length];
+    matchKeys = new ArrayList<>();
+    matchKeyIds = new HashMap<>();
+
+    // Intern match keys
+    for (int columnId = 0; columnId < columns.length; columnId++) {
+      final Column column = columns[columnId];
+      columnIds.put(column, columnId);
+
+      final String matchKey = matchKey(column.getName());
+      if (isBlank(matchKey)) {
+        matchKeyForColumn[columnId] = NO_MATCH_KEY;
+        continue;
+      }
+      Integer matchKeyId = matchKeyIds.get(matchKey);
+      if (matchKeyId == null) {
+        matchKeyId = matchKeys.size();
+        matchKeys.add(matchKey);
+        matchKeyIds.put(matchKey, matchKeyId);
+      }
+      matchKeyForColumn[columnId] = matchKeyId;
+    }
+
+    // Lay out column ids for each match key, in column order
+    final int[] columnCounts = new int[matchKeys.size()];
+    for (final int matchKeyId : matchKeyForColumn) {
+      if (matchKeyId != NO_MATCH_KEY) {
+        columnCounts[matchKeyId]++;
+      }
+    }
+    columnsForMatchKey = new int[columnCounts.length][];
+    for (int matchKeyId = 0; matchKeyId < columnsForMatchKey.length; matchKeyId++) {
+      columnsForMatchKey[matchKeyId] = new int[columnCounts[matchKeyId]];
+    }
+    final int[] filled = new int[columnsForMatchKey.length];
+    for (int columnId = 0; columnId < columns.length; columnId++) {
+      final int matchKeyId = matchKeyForColumn[columnId];
+      if (matchKeyId != NO_MATCH_KEY) {
+        columnsForMatchKey[matchKeyId][filled[matchKeyId]++] = columnId;
+      }
     }
   }
 
   public boolean containsKey(final Column column) {
-    return matchKeysForColumn.containsKey(column);
+    return getMatchKeyId(column) != NO_MATCH_KEY;
   }
 
   public boolean containsKey(final String columnKey) {
-    return columnsForMatchKey.containsKey(columnKey);
+    return matchKeyIds.containsKey(columnKey);
   }
 
   public List<String> get(final Column column) {
-    return matchKeysForColumn.get(column);
+    final int matchKeyId = getMatchKeyId(column);
+    if (matchKeyId == NO_MATCH_KEY) {
+      return null;
+    }
+    return Collections.singletonList(matchKeys.get(matchKeyId));
   }
 
   public List<Column> get(final String matchKey) {
-    return columnsForMatchKey.get(matchKey);
+    final int matchKeyId = getMatchKeyId(matchKey);
+    if (matchKeyId == NO_MATCH_KEY) {
+      return null;
+    }
+    final List<Column> matchedColumns = new ArrayList<>();
+    for (final int columnId : getColumnIds(matchKeyId)) {
+      matchedColumns.add(columns[columnId]);
+    }
+    return matchedColumns;
   }
 
   @Override
   public String toString() {
+    final Multimap<String, Column> columnsForMatchKey = new Multimap<>();
+    for (int columnId = 0; columnId < columns.length; columnId++) {
+      final int matchKeyId = matchKeyForColumn[columnId];
+      if (matchKeyId != NO_MATCH_KEY) {
+        columnsForMatchKey.add(matchKeys.get(matchKeyId), columns[columnId]);
+      }
+    }
     return columnsForMatchKey.toString();
   }
 
-  private void mapColumnNameMatches(final Table table) {
-    for (final Column column : table.getColumns()) {
-      final String columnName = column.getName().toLowerCase();
-      final String matchColumnName = columnName.replaceAll("_?id$", "");
-      if (!isBlank(matchColumnName)) {
-        columnsForMatchKey.add(matchColumnName, column);
-        matchKeysForColumn.add(column, matchColumnName);
-      }
+  Column getColumn(final int columnId) {
+    return columns[columnId];
+  }
+
+  /**
+   * Gets ids of all columns with a match key, in the order of the tables they were indexed from.
+   *
+   * @param matchKeyId Match key id
+   * @return Column ids, which should not be modified
+   */
+  int[] getColumnIds(final int matchKeyId) {
+    if (matchKeyId == NO_MATCH_KEY) {
+      return NO_COLUMNS;
+    }
+    return columnsForMatchKey[matchKeyId];
+  }
+
+  int getMatchKeyId(final Column column) {
+    final Integer columnId = columnIds.get(column);
+    if (columnId == null) {
+      return NO_MATCH_KEY;
+    }
+    return matchKeyForColumn[columnId];
+  }
+
+  int getMatchKeyId(final String matchKey) {
+    final Integer matchKeyId = matchKeyIds.get(matchKey);
+    if (matchKeyId == null) {
+      return NO_MATCH_KEY;
     }
+    return matchKeyId;
   }
 }
@@ -28,12 +28,15 @@ http://www.gnu.org/licenses/
 package schemacrawler.loader.weakassociations;
 
 import java.util.function.Predicate;
+import java.util.regex.Pattern;
 
 import schemacrawler.schema.Column;
 import schemacrawler.schema.Table;
 
 public final class ExtensionTableMatcher implements Predicate<ProposedWeakAssociation> {
 
+  private static final Pattern nonAlphanumericPattern = Pattern.compile("[^\\p{L}\\{d}]");
+
   private final boolean inferExtensionTables;
 
   public ExtensionTableMatcher(final boolean inferExtensionTables) {
@@ -55,9 +58,9 @@ public final class ExtensionTableMatcher implements Predicate<ProposedWeakAssoci
     final Column primaryKeyColumn = proposedWeakAssociation.getPrimaryKeyColumn();
 
     final String pkColumnName =
-        primaryKeyColumn.getName().replaceAll("[^\\p{L}\\{d}]", "").toLowerCase();
+        nonAlphanumericPattern.matcher(primaryKeyColumn.getName()).replaceAll("").toLowerCase();
     final String fkColumnName =
-        foreignKeyColumn.getName().replaceAll("[^\\p{L}\\{d}]", "").toLowerCase();
+        nonAlphanumericPattern.matcher(foreignKeyColumn.getName()).replaceAll("").toLowerCase();
     if (pkColumnName.equals(fkColumnName)) {
       final Table pkTable = primaryKeyColumn.getParent();
       final Table fkTable = foreignKeyColumn.getParent();
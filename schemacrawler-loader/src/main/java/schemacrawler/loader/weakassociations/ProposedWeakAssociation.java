@@ -38,12 +38,16 @@ public final class ProposedWeakAssociation implements ColumnReference {
 
   private static final long serialVersionUID = 2986663326992262188L;
 
-  private final Column primaryKeyColumn;
-  private final Column foreignKeyColumn;
+  private Column primaryKeyColumn;
+  private Column foreignKeyColumn;
+
+  /** Creates a proposal for the analyzer to reuse, which needs to be pointed at columns. */
+  ProposedWeakAssociation() {
+    // Columns are proposed later
+  }
 
   ProposedWeakAssociation(final Column foreignKeyColumn, final Column primaryKeyColumn) {
-    this.primaryKeyColumn = requireNonNull(primaryKeyColumn, "No primary key column provided");
-    this.foreignKeyColumn = requireNonNull(foreignKeyColumn, "No foreign key column provided");
+    propose(foreignKeyColumn, primaryKeyColumn);
   }
 
   @Override
@@ -89,6 +93,19 @@ public final class ProposedWeakAssociation implements ColumnReference {
     return isValid;
   }
 
+  /**
+   * Points this proposal at another pair of columns. The analyzer reuses a single proposal to test
+   * each candidate pair of columns against the rules, and only keeps a copy of the proposals that
+   * pass.
+   *
+   * @param foreignKeyColumn Foreign key column
+   * @param primaryKeyColumn Primary key column
+   */
+  void propose(final Column foreignKeyColumn, final Column primaryKeyColumn) {
+    this.primaryKeyColumn = requireNonNull(primaryKeyColumn, "No primary key column provided");
+    this.foreignKeyColumn = requireNonNull(foreignKeyColumn, "No foreign key column provided");
+  }
+
   @Override
   public String toString() {
     return foreignKeyColumn + " ~~> " + primaryKeyColumn;
@@ -29,7 +29,7 @@ package schemacrawler.loader.weakassociations;
 
 import static java.util.Objects.requireNonNull;
 
-import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.Iterator;
 import java.util.Set;
 
@@ -47,7 +47,7 @@ final class TableCandidateKeys implements Iterable<Column> {
 
   TableCandidateKeys(final Table table) {
     this.table = requireNonNull(table, "No table provided");
-    tableKeys = new HashSet<>();
+    tableKeys = new LinkedHashSet<>();
     listTableKeys(table);
   }
 
@@ -28,13 +28,14 @@ http://www.gnu.org/licenses/
 package schemacrawler.loader.weakassociations;
 
 import static java.util.Objects.requireNonNull;
+import static schemacrawler.loader.weakassociations.ColumnMatchKeysMap.NO_MATCH_KEY;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
-import java.util.HashSet;
 import java.util.List;
-import java.util.Set;
+import java.util.concurrent.RecursiveTask;
 import java.util.function.Predicate;
 import java.util.logging.Level;
 import java.util.logging.Logger;
@@ -43,13 +44,53 @@ import schemacrawler.schema.Column;
 import schemacrawler.schema.Table;
 import us.fatehi.utility.string.StringFormat;
 
+/**
+ * Finds columns that look like they reference a key column in another table. Columns are indexed
+ * once by match key, and tables are then split into batches that are analyzed in parallel on the
+ * common fork-join pool. The rule is tested on a proposal that is reused for each candidate pair
+ * of columns, so it must not hold on to the proposal, and must be safe to call from multiple
+ * threads.
+ */
 public final class WeakAssociationsAnalyzer {
 
+  private final class FindWeakAssociationsTask
+      extends RecursiveTask<List<ProposedWeakAssociation>> {
+
+    private static final long serialVersionUID = -2396180460478519154L;
+
+    private final int fromTable;
+    private final int toTable;
+
+    FindWeakAssociationsTask(final int fromTable, final int toTable) {
+      this.fromTable = fromTable;
+      this.toTable = toTable;
+    }
+
+    @Override
+    protected List<ProposedWeakAssociation> compute() {
+      if (toTable - fromTable <= TABLES_PER_TASK) {
+        return findWeakAssociations(fromTable, toTable);
+      }
+
+      final int midTable = (fromTable + toTable) >>> 1;
+      final FindWeakAssociationsTask left = new FindWeakAssociationsTask(fromTable, midTable);
+      left.fork();
+      final List<ProposedWeakAssociation> rightWeakAssociations =
+          new FindWeakAssociationsTask(midTable, toTable).compute();
+      final List<ProposedWeakAssociation> weakAssociations = left.join();
+      weakAssociations.addAll(rightWeakAssociations);
+      return weakAssociations;
+    }
+  }
+
   private static final Logger LOGGER = Logger.getLogger(WeakAssociationsAnalyzer.class.getName());
 
+  private static final int TABLES_PER_TASK = 256;
+
   private final List<Table> tables;
   private final Predicate<ProposedWeakAssociation> weakAssociationRule;
-  private final Collection<ProposedWeakAssociation> weakAssociations;
+  private ColumnMatchKeysMap columnMatchKeysMap;
+  private TableMatchKeys tableMatchKeys;
 
   public WeakAssociationsAnalyzer(
       final Collection<Table> tables,
@@ -59,8 +100,6 @@ public final class WeakAssociationsAnalyzer {
     Collections.sort(this.tables);
 
     this.weakAssociationRule = requireNonNull(weakAssociationRule, "No rules provided");
-
-    weakAssociations = new ArrayList<>();
   }
 
   public Collection<ProposedWeakAssociation> analyzeTables() {
@@ -68,53 +107,94 @@ public final class WeakAssociationsAnalyzer {
       return Collections.emptySet();
     }
 
-    findWeakAssociations(tables);
-
-    return weakAssociations;
-  }
-
-  private void findWeakAssociations(final List<Table> tables) {
     LOGGER.log(Level.INFO, "Finding weak associations");
-    final ColumnMatchKeysMap columnMatchKeysMap = new ColumnMatchKeysMap(tables);
-    final TableMatchKeys tableMatchKeys = new TableMatchKeys(tables);
+    columnMatchKeysMap = new ColumnMatchKeysMap(tables);
+    tableMatchKeys = new TableMatchKeys(tables);
 
     if (LOGGER.isLoggable(Level.FINER)) {
       LOGGER.log(Level.FINER, new StringFormat("Column match keys <%s>", columnMatchKeysMap));
       LOGGER.log(Level.FINER, new StringFormat("Table match keys <%s>", tableMatchKeys));
     }
-    for (final Table table : tables) {
+
+    return new FindWeakAssociationsTask(0, tables.size()).invoke();
+  }
+
+  private List<ProposedWeakAssociation> findWeakAssociations(
+      final int fromTable, final int toTable) {
+    final List<ProposedWeakAssociation> weakAssociations = new ArrayList<>();
+    final ProposedWeakAssociation proposedWeakAssociation = new ProposedWeakAssociation();
+
+    for (int tableIndex = fromTable; tableIndex < toTable; tableIndex++) {
+      final Table table = tables.get(tableIndex);
       final TableCandidateKeys tableCandidateKeys = new TableCandidateKeys(table);
       LOGGER.log(Level.FINER, new StringFormat("Table candidate keys <%s>", tableCandidateKeys));
+
+      int[] tableMatchKeyIds = null;
       for (final Column pkColumn : tableCandidateKeys) {
-        final Set<String> fkColumnMatchKeys = new HashSet<>();
         // Look for all columns matching this table match key
         if (pkColumn.isPartOfPrimaryKey()) {
-          fkColumnMatchKeys.addAll(tableMatchKeys.get(table));
+          if (tableMatchKeyIds == null) {
+            tableMatchKeyIds = lookupTableMatchKeyIds(table);
+          }
+          for (final int matchKeyId : tableMatchKeyIds) {
+            findWeakAssociations(pkColumn, matchKeyId, proposedWeakAssociation, weakAssociations);
+          }
         }
-        // Look for all columns matching this column match key
-        if (columnMatchKeysMap.containsKey(pkColumn)) {
-          fkColumnMatchKeys.addAll(columnMatchKeysMap.get(pkColumn));
+        // Look for all columns matching this column match key, unless they were matched already
+        final int matchKeyId = columnMatchKeysMap.getMatchKeyId(pkColumn);
+        if (!pkColumn.isPartOfPrimaryKey()
+            || !contains(tableMatchKeyIds, tableMatchKeyIds.length, matchKeyId)) {
+          findWeakAssociations(pkColumn, matchKeyId, proposedWeakAssociation, weakAssociations);
         }
+      }
+    }
 
-        final Set<Column> fkColumns = new HashSet<>();
-        for (final String fkColumnMatchKey : fkColumnMatchKeys) {
-          if (columnMatchKeysMap.containsKey(fkColumnMatchKey)) {
-            fkColumns.addAll(columnMatchKeysMap.get(fkColumnMatchKey));
-          }
-        }
+    return weakAssociations;
+  }
 
-        for (final Column fkColumn : fkColumns) {
-          final ProposedWeakAssociation proposedWeakAssociation =
-              new ProposedWeakAssociation(fkColumn, pkColumn);
-          if (proposedWeakAssociation.isValid()
-              && weakAssociationRule.test(proposedWeakAssociation)) {
-            LOGGER.log(
-                Level.FINE,
-                new StringFormat("Found weak association <%s>", proposedWeakAssociation));
-            weakAssociations.add(proposedWeakAssociation);
-          }
-        }
+  /**
+   * Tests each column for a match key against the rules, as a foreign key column referencing the
+   * primary key column. Since each column has a single match key, no column is tested twice for
+   * the same primary key column.
+   */
+  private void findWeakAssociations(
+      final Column pkColumn,
+      final int matchKeyId,
+      final ProposedWeakAssociation proposedWeakAssociation,
+      final List<ProposedWeakAssociation> weakAssociations) {
+    for (final int fkColumnId : columnMatchKeysMap.getColumnIds(matchKeyId)) {
+      final Column fkColumn = columnMatchKeysMap.getColumn(fkColumnId);
+      proposedWeakAssociation.propose(fkColumn, pkColumn);
+      if (proposedWeakAssociation.isValid()
+          && weakAssociationRule.test(proposedWeakAssociation)) {
+        final ProposedWeakAssociation weakAssociation =
+            new ProposedWeakAssociation(fkColumn, pkColumn);
+        LOGGER.log(Level.FINE, new StringFormat("Found weak association <%s>", weakAssociation));
+        weakAssociations.add(weakAssociation);
+      }
+    }
+  }
+
+  private boolean contains(final int[] matchKeyIds, final int length, final int matchKeyId) {
+    for (int i = 0; i < length; i++) {
+      if (matchKeyIds[i] == matchKeyId) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  /** Gets distinct ids of table match keys that have columns, ignoring the rest. */
+  private int[] lookupTableMatchKeyIds(final Table table) {
+    final List<String> matchKeys = tableMatchKeys.get(table);
+    final int[] matchKeyIds = new int[matchKeys.size()];
+    int count = 0;
+    for (final String matchKey : matchKeys) {
+      final int matchKeyId = columnMatchKeysMap.getMatchKeyId(matchKey);
+      if (matchKeyId != NO_MATCH_KEY && !contains(matchKeyIds, count, matchKeyId)) {
+        matchKeyIds[count++] = matchKeyId;
       }
     }
+    return Arrays.copyOf(matchKeyIds, count);
   }
 }
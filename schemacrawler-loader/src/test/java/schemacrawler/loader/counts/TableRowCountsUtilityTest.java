@@ -50,4 +50,34 @@ public class TableRowCountsUtilityTest {
     TableRowCountsUtility.addRowCountToTable(table, 1);
     assertThat(TableRowCountsUtility.getRowCountMessage(table), is("1 rows"));
   }
+
+  @Test
+  public void estimated() {
+    final Table table = new LightTable("table1");
+
+    assertThat(TableRowCountsUtility.isRowCountEstimated(null), is(false));
+    assertThat(TableRowCountsUtility.isRowCountEstimated(table), is(false));
+
+    TableRowCountsUtility.addRowCountToTable(table, 1000, true);
+    assertThat(TableRowCountsUtility.hasRowCount(table), is(true));
+    assertThat(TableRowCountsUtility.isRowCountEstimated(table), is(true));
+    assertThat(TableRowCountsUtility.getRowCount(table), is(1000L));
+    assertThat(TableRowCountsUtility.getRowCountMessage(table), is("1,000 rows (estimated)"));
+
+    TableRowCountsUtility.addRowCountToTable(table, 999);
+    assertThat(TableRowCountsUtility.isRowCountEstimated(table), is(false));
+    assertThat(TableRowCountsUtility.getRowCountMessage(table), is("999 rows"));
+
+    TableRowCountsUtility.addRowCountToTable(table, 0, true);
+    assertThat(TableRowCountsUtility.getRowCountMessage(table), is("empty (estimated)"));
+    // Estimated empty tables are not filtered out
+    assertThat(new TableRowCountsFilter(true).test(table), is(true));
+
+    TableRowCountsUtility.addRowCountToTable(table, 0);
+    assertThat(new TableRowCountsFilter(true).test(table), is(false));
+
+    TableRowCountsUtility.addRowCountToTable(table, -1, true);
+    assertThat(TableRowCountsUtility.hasRowCount(table), is(false));
+    assertThat(TableRowCountsUtility.isRowCountEstimated(table), is(false));
+  }
 }
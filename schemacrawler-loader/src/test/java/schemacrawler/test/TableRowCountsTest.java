@@ -30,8 +30,10 @@ package schemacrawler.test;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.arrayWithSize;
 import static org.hamcrest.Matchers.is;
+import static schemacrawler.loader.counts.TableRowCountsUtility.getRowCount;
 import static schemacrawler.loader.counts.TableRowCountsUtility.getRowCountMessage;
 import static schemacrawler.loader.counts.TableRowCountsUtility.hasRowCount;
+import static schemacrawler.loader.counts.TableRowCountsUtility.isRowCountEstimated;
 import static schemacrawler.test.utility.FileHasContent.classpathResource;
 import static schemacrawler.test.utility.FileHasContent.hasSameContentAs;
 import static schemacrawler.test.utility.FileHasContent.outputOf;
@@ -47,12 +49,17 @@ import schemacrawler.inclusionrule.RegularExpressionExclusionRule;
 import schemacrawler.schema.Catalog;
 import schemacrawler.schema.Schema;
 import schemacrawler.schema.Table;
+import schemacrawler.schemacrawler.InformationSchemaKey;
+import schemacrawler.schemacrawler.InformationSchemaViews;
+import schemacrawler.schemacrawler.InformationSchemaViewsBuilder;
 import schemacrawler.schemacrawler.LimitOptionsBuilder;
 import schemacrawler.schemacrawler.LoadOptionsBuilder;
 import schemacrawler.schemacrawler.SchemaCrawlerOptions;
 import schemacrawler.schemacrawler.SchemaCrawlerOptionsBuilder;
 import schemacrawler.schemacrawler.SchemaInfoLevelBuilder;
 import schemacrawler.schemacrawler.SchemaRetrievalOptions;
+import schemacrawler.schemacrawler.SchemaRetrievalOptionsBuilder;
+import schemacrawler.test.utility.DatabaseConnectionInfo;
 import schemacrawler.test.utility.ResolveTestContext;
 import schemacrawler.test.utility.TestContext;
 import schemacrawler.test.utility.TestUtility;
@@ -61,6 +68,9 @@ import schemacrawler.test.utility.WithTestDatabase;
 import schemacrawler.tools.options.Config;
 import schemacrawler.tools.utility.SchemaCrawlerUtility;
 import schemacrawler.utility.NamedObjectSort;
+import us.fatehi.utility.datasource.DatabaseConnectionSource;
+import us.fatehi.utility.datasource.DatabaseConnectionSources;
+import us.fatehi.utility.datasource.SingleUseUserCredentials;
 
 @WithTestDatabase
 @ResolveTestContext
@@ -74,25 +84,77 @@ public class TableRowCountsTest {
 
     final SchemaRetrievalOptions schemaRetrievalOptions = TestUtility.newSchemaRetrievalOptions();
 
-    final LimitOptionsBuilder limitOptionsBuilder =
-        LimitOptionsBuilder.builder()
-            .includeSchemas(new RegularExpressionExclusionRule(".*\\.FOR_LINT"))
-            .includeAllSynonyms()
-            .includeAllSequences()
-            .includeAllRoutines();
-    final LoadOptionsBuilder loadOptionsBuilder =
-        LoadOptionsBuilder.builder().withSchemaInfoLevel(SchemaInfoLevelBuilder.maximum());
-    final SchemaCrawlerOptions schemaCrawlerOptions =
-        SchemaCrawlerOptionsBuilder.newSchemaCrawlerOptions()
-            .withLimitOptions(limitOptionsBuilder.toOptions())
-            .withLoadOptions(loadOptionsBuilder.toOptions());
-
     final Config additionalConfig = new Config();
     additionalConfig.put("load-row-counts", true);
 
     catalog =
         SchemaCrawlerUtility.getCatalog(
-            connection, schemaRetrievalOptions, schemaCrawlerOptions, additionalConfig);
+            connection, schemaRetrievalOptions, schemaCrawlerOptions(), additionalConfig);
+  }
+
+  @Test
+  public void estimatedRowCounts(final Connection connection) throws Exception {
+
+    final InformationSchemaViews informationSchemaViews =
+        InformationSchemaViewsBuilder.builder()
+            .fromOptions(TestUtility.newSchemaRetrievalOptions().getInformationSchemaViews())
+            .withSql(
+                InformationSchemaKey.TABLE_ROW_COUNTS,
+                "SELECT TABLE_CATALOG, TABLE_SCHEMA, TABLE_NAME, CARDINALITY AS ROW_COUNT "
+                    + "FROM INFORMATION_SCHEMA.SYSTEM_TABLESTATS")
+            .toOptions();
+    final SchemaRetrievalOptions schemaRetrievalOptions =
+        SchemaRetrievalOptionsBuilder.builder()
+            .fromOptions(TestUtility.newSchemaRetrievalOptions())
+            .withInformationSchemaViews(informationSchemaViews)
+            .toOptions();
+
+    final Config additionalConfig = new Config();
+    additionalConfig.put("estimate-row-counts", true);
+
+    final Catalog estimatedCatalog =
+        SchemaCrawlerUtility.getCatalog(
+            connection, schemaRetrievalOptions, schemaCrawlerOptions(), additionalConfig);
+
+    boolean hasEstimates = false;
+    for (final Table table : catalog.getTables()) {
+      final Table estimatedTable =
+          estimatedCatalog.lookupTable(table.getSchema(), table.getName()).get();
+      assertThat(hasRowCount(estimatedTable), is(true));
+      assertThat(getRowCount(estimatedTable), is(getRowCount(table)));
+      hasEstimates = hasEstimates || isRowCountEstimated(estimatedTable);
+      assertThat(isRowCountEstimated(table), is(false));
+    }
+    assertThat(hasEstimates, is(true));
+  }
+
+  @Test
+  public void pooledRowCounts(final DatabaseConnectionInfo connectionInfo) throws Exception {
+
+    final SchemaRetrievalOptions schemaRetrievalOptions = TestUtility.newSchemaRetrievalOptions();
+
+    final Config additionalConfig = new Config();
+    additionalConfig.put("load-row-counts", true);
+    additionalConfig.put("row-count-timeout", 60);
+
+    final DatabaseConnectionSource dataSource =
+        DatabaseConnectionSources.newDatabaseConnectionSource(
+            connectionInfo.getConnectionUrl(), new SingleUseUserCredentials("sa", ""));
+    final Catalog pooledCatalog;
+    try {
+      pooledCatalog =
+          SchemaCrawlerUtility.getCatalog(
+              dataSource, schemaRetrievalOptions, schemaCrawlerOptions(), additionalConfig);
+    } finally {
+      dataSource.close();
+    }
+
+    for (final Table table : catalog.getTables()) {
+      final Table pooledTable =
+          pooledCatalog.lookupTable(table.getSchema(), table.getName()).get();
+      assertThat(hasRowCount(pooledTable), is(true));
+      assertThat(getRowCount(pooledTable), is(getRowCount(table)));
+    }
   }
 
   @Test
@@ -145,4 +207,18 @@ public class TableRowCountsTest {
     assertThat(
         outputOf(testout), hasSameContentAs(classpathResource(testContext.testMethodFullName())));
   }
+
+  private SchemaCrawlerOptions schemaCrawlerOptions() {
+    final LimitOptionsBuilder limitOptionsBuilder =
+        LimitOptionsBuilder.builder()
+            .includeSchemas(new RegularExpressionExclusionRule(".*\\.FOR_LINT"))
+            .includeAllSynonyms()
+            .includeAllSequences()
+            .includeAllRoutines();
+    final LoadOptionsBuilder loadOptionsBuilder =
+        LoadOptionsBuilder.builder().withSchemaInfoLevel(SchemaInfoLevelBuilder.maximum());
+    return SchemaCrawlerOptionsBuilder.newSchemaCrawlerOptions()
+        .withLimitOptions(limitOptionsBuilder.toOptions())
+        .withLoadOptions(loadOptionsBuilder.toOptions());
+  }
 }
@@ -27,6 +27,12 @@ http://www.gnu.org/licenses/
 */
 package schemacrawler.server.mysql;
 
+import static schemacrawler.schemacrawler.MetadataRetrievalStrategy.data_dictionary_all;
+import static schemacrawler.schemacrawler.SchemaInfoMetadataRetrievalStrategy.foreignKeysRetrievalStrategy;
+import static schemacrawler.schemacrawler.SchemaInfoMetadataRetrievalStrategy.indexesRetrievalStrategy;
+import static schemacrawler.schemacrawler.SchemaInfoMetadataRetrievalStrategy.primaryKeysRetrievalStrategy;
+import static us.fatehi.utility.database.DatabaseUtility.isDatabaseVersionAtLeast;
+
 import java.util.regex.Pattern;
 
 import schemacrawler.inclusionrule.RegularExpressionExclusionRule;
@@ -43,8 +49,16 @@ public final class MySQLDatabaseConnector extends DatabaseConnector {
         url -> url != null && Pattern.matches("jdbc:(mysql|mariadb):.*", url),
         (informationSchemaViewsBuilder, connection) ->
             informationSchemaViewsBuilder.fromResourceFolder("/mysql.information_schema"),
-        (schemaRetrievalOptionsBuilder, connection) ->
-            schemaRetrievalOptionsBuilder.withEnumDataTypeHelper(new MySQLEnumDataTypeHelper()),
+        (schemaRetrievalOptionsBuilder, connection) -> {
+          schemaRetrievalOptionsBuilder.withEnumDataTypeHelper(new MySQLEnumDataTypeHelper());
+          // Referential constraints are in the information schema from MySQL 5.1
+          if (isDatabaseVersionAtLeast(connection, 5, 1)) {
+            schemaRetrievalOptionsBuilder
+                .with(primaryKeysRetrievalStrategy, data_dictionary_all)
+                .with(foreignKeysRetrievalStrategy, data_dictionary_all)
+                .with(indexesRetrievalStrategy, data_dictionary_all);
+          }
+        },
         limitOptionsBuilder ->
             limitOptionsBuilder.includeSchemas(new RegularExpressionExclusionRule("sys|mysql")),
         () ->
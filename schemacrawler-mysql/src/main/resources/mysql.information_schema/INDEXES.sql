@@ -0,0 +1,27 @@
+SELECT
+  TABLE_SCHEMA AS TABLE_CAT,
+  NULL AS TABLE_SCHEM,
+  TABLE_NAME,
+  NON_UNIQUE,
+  TABLE_SCHEMA AS INDEX_QUALIFIER,
+  INDEX_NAME,
+  CASE
+    WHEN INDEX_TYPE = 'HASH' THEN 2 -- JDBC index type "Hashed"
+    ELSE 3 -- JDBC index type "Other"
+  END AS TYPE,
+  SEQ_IN_INDEX AS ORDINAL_POSITION,
+  COLUMN_NAME,
+  COLLATION AS ASC_OR_DESC,
+  CARDINALITY,
+  0 AS PAGES,
+  NULL AS FILTER_CONDITION
+FROM
+  INFORMATION_SCHEMA.STATISTICS
+WHERE
+  TABLE_SCHEMA NOT IN ('information_schema', 'mysql', 'performance_schema', 'sys')
+ORDER BY
+  TABLE_SCHEMA,
+  TABLE_NAME,
+  NON_UNIQUE,
+  INDEX_NAME,
+  SEQ_IN_INDEX
@@ -0,0 +1,16 @@
+SELECT
+  TABLE_SCHEMA AS TABLE_CAT,
+  NULL AS TABLE_SCHEM,
+  TABLE_NAME,
+  COLUMN_NAME,
+  ORDINAL_POSITION AS KEY_SEQ,
+  CONSTRAINT_NAME AS PK_NAME
+FROM
+  INFORMATION_SCHEMA.KEY_COLUMN_USAGE
+WHERE
+  CONSTRAINT_NAME = 'PRIMARY'
+  AND TABLE_SCHEMA NOT IN ('information_schema', 'mysql', 'performance_schema', 'sys')
+ORDER BY
+  TABLE_SCHEMA,
+  TABLE_NAME,
+  KEY_SEQ
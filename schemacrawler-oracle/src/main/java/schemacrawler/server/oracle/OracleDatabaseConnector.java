@@ -27,6 +27,7 @@ http://www.gnu.org/licenses/
 */
 package schemacrawler.server.oracle;
 
+import static schemacrawler.schemacrawler.InformationSchemaKey.TABLE_COLUMNS;
 import static schemacrawler.schemacrawler.MetadataRetrievalStrategy.data_dictionary_all;
 import static schemacrawler.schemacrawler.SchemaInfoMetadataRetrievalStrategy.foreignKeysRetrievalStrategy;
 import static schemacrawler.schemacrawler.SchemaInfoMetadataRetrievalStrategy.functionParametersRetrievalStrategy;
@@ -65,7 +66,8 @@ public final class OracleDatabaseConnector extends DatabaseConnector {
                 .with(proceduresRetrievalStrategy, data_dictionary_all)
                 .with(procedureParametersRetrievalStrategy, data_dictionary_all)
                 .with(functionsRetrievalStrategy, data_dictionary_all)
-                .with(functionParametersRetrievalStrategy, data_dictionary_all),
+                .with(functionParametersRetrievalStrategy, data_dictionary_all)
+                .withFetchSize(TABLE_COLUMNS, 2000),
         limitOptionsBuilder -> limitOptionsBuilder.includeSchemas(new OracleSchemaExclusionRule()),
         () ->
             DatabaseConnectionUrlBuilder.builder("jdbc:oracle:thin:@//${host}:${port}/${database}")
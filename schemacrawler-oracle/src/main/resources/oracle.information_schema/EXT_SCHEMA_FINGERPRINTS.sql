@@ -0,0 +1,19 @@
+SELECT
+  NULL AS CATALOG_NAME,
+  OBJECTS.OWNER AS SCHEMA_NAME,
+  TO_CHAR(MAX(OBJECTS.LAST_DDL_TIME), 'YYYY-MM-DD HH24:MI:SS')
+    || '/' || TO_CHAR(COUNT(*))
+    AS FINGERPRINT
+FROM
+  ${catalogscope}_OBJECTS OBJECTS
+  INNER JOIN ${catalogscope}_USERS USERS
+    ON OBJECTS.OWNER = USERS.USERNAME
+      AND USERS.ORACLE_MAINTAINED = 'N'
+      AND NOT REGEXP_LIKE(USERS.USERNAME, '^APEX_[0-9]{6}$')
+      AND NOT REGEXP_LIKE(USERS.USERNAME, '^FLOWS_[0-9]{5}$')
+WHERE
+  REGEXP_LIKE(OBJECTS.OWNER, '${schemas}')
+GROUP BY
+  OBJECTS.OWNER
+ORDER BY
+  SCHEMA_NAME
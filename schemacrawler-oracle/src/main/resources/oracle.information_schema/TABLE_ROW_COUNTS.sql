@@ -0,0 +1,14 @@
+SELECT
+  NULL AS TABLE_CATALOG,
+  TABLES.OWNER AS TABLE_SCHEMA,
+  TABLES.TABLE_NAME,
+  TABLES.NUM_ROWS AS ROW_COUNT
+FROM
+  ${catalogscope}_TABLES TABLES
+  INNER JOIN ${catalogscope}_USERS USERS
+    ON TABLES.OWNER = USERS.USERNAME
+      AND USERS.ORACLE_MAINTAINED = 'N'
+WHERE
+  REGEXP_LIKE(TABLES.OWNER, '${schemas}')
+  AND TABLES.NUM_ROWS IS NOT NULL
+  AND TABLES.TABLE_NAME NOT LIKE 'BIN$%'
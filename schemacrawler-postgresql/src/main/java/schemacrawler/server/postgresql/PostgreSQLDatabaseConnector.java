@@ -27,6 +27,12 @@ http://www.gnu.org/licenses/
 */
 package schemacrawler.server.postgresql;
 
+import static schemacrawler.schemacrawler.MetadataRetrievalStrategy.data_dictionary_all;
+import static schemacrawler.schemacrawler.SchemaInfoMetadataRetrievalStrategy.foreignKeysRetrievalStrategy;
+import static schemacrawler.schemacrawler.SchemaInfoMetadataRetrievalStrategy.indexesRetrievalStrategy;
+import static schemacrawler.schemacrawler.SchemaInfoMetadataRetrievalStrategy.primaryKeysRetrievalStrategy;
+import static us.fatehi.utility.database.DatabaseUtility.isDatabaseVersionAtLeast;
+
 import schemacrawler.inclusionrule.RegularExpressionExclusionRule;
 import schemacrawler.schemacrawler.DatabaseServerType;
 import schemacrawler.tools.databaseconnector.DatabaseConnectionUrlBuilder;
@@ -41,9 +47,18 @@ public final class PostgreSQLDatabaseConnector extends DatabaseConnector {
         url -> url != null && url.startsWith("jdbc:postgresql:"),
         (informationSchemaViewsBuilder, connection) ->
             informationSchemaViewsBuilder.fromResourceFolder("/postgresql.information_schema"),
-        (schemaRetrievalOptionsBuilder, connection) ->
-            schemaRetrievalOptionsBuilder.withEnumDataTypeHelper(
-                new PostgreSQLEnumDataTypeHelper()),
+        (schemaRetrievalOptionsBuilder, connection) -> {
+          schemaRetrievalOptionsBuilder
+              .withEnumDataTypeHelper(new PostgreSQLEnumDataTypeHelper())
+              .withStreamingCursor(true);
+          // Foreign key constraints reference their unique index from PostgreSQL 9.0
+          if (isDatabaseVersionAtLeast(connection, 9, 0)) {
+            schemaRetrievalOptionsBuilder
+                .with(primaryKeysRetrievalStrategy, data_dictionary_all)
+                .with(foreignKeysRetrievalStrategy, data_dictionary_all)
+                .with(indexesRetrievalStrategy, data_dictionary_all);
+          }
+        },
         limitOptionsBuilder ->
             limitOptionsBuilder.includeSchemas(
                 new RegularExpressionExclusionRule("pg_catalog|information_schema")),
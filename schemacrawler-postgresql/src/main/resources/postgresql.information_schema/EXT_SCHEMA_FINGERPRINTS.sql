@@ -0,0 +1,31 @@
+SELECT
+  NULL AS CATALOG_NAME,
+  NAMESPACES.NSPNAME AS SCHEMA_NAME,
+  MD5(
+    STRING_AGG(
+      OBJECTS.OBJECT_TYPE || ':' || OBJECTS.OBJECT_ID::TEXT || ':' || OBJECTS.OBJECT_XMIN::TEXT,
+      ','
+      ORDER BY OBJECTS.OBJECT_TYPE, OBJECTS.OBJECT_ID)
+  ) AS FINGERPRINT
+FROM
+  PG_CATALOG.PG_NAMESPACE NAMESPACES
+  INNER JOIN
+  (
+    SELECT 'C' AS OBJECT_TYPE, RELNAMESPACE AS OBJECT_NAMESPACE, OID AS OBJECT_ID, XMIN AS OBJECT_XMIN
+    FROM PG_CATALOG.PG_CLASS
+    UNION ALL
+    SELECT 'K', CONNAMESPACE, OID, XMIN
+    FROM PG_CATALOG.PG_CONSTRAINT
+    UNION ALL
+    SELECT 'P', PRONAMESPACE, OID, XMIN
+    FROM PG_CATALOG.PG_PROC
+  ) OBJECTS
+    ON OBJECTS.OBJECT_NAMESPACE = NAMESPACES.OID
+WHERE
+  NAMESPACES.NSPNAME NOT IN ('pg_catalog', 'information_schema')
+  AND NAMESPACES.NSPNAME NOT LIKE 'pg\_toast%'
+  AND NAMESPACES.NSPNAME NOT LIKE 'pg\_temp\_%'
+GROUP BY
+  NAMESPACES.NSPNAME
+ORDER BY
+  SCHEMA_NAME
@@ -0,0 +1,63 @@
+SELECT
+  NULL::TEXT AS PKTABLE_CAT,
+  PK_NAMESPACES.NSPNAME AS PKTABLE_SCHEM,
+  PK_TABLES.RELNAME AS PKTABLE_NAME,
+  PK_ATTRIBUTES.ATTNAME AS PKCOLUMN_NAME,
+  NULL::TEXT AS FKTABLE_CAT,
+  FK_NAMESPACES.NSPNAME AS FKTABLE_SCHEM,
+  FK_TABLES.RELNAME AS FKTABLE_NAME,
+  FK_ATTRIBUTES.ATTNAME AS FKCOLUMN_NAME,
+  POSITIONS.N AS KEY_SEQ,
+  CASE CONSTRAINTS.CONFUPDTYPE
+    WHEN 'c' THEN 0
+    WHEN 'n' THEN 2
+    WHEN 'd' THEN 4
+    WHEN 'r' THEN 1
+    WHEN 'p' THEN 1
+    WHEN 'a' THEN 3
+    ELSE NULL
+  END AS UPDATE_RULE,
+  CASE CONSTRAINTS.CONFDELTYPE
+    WHEN 'c' THEN 0
+    WHEN 'n' THEN 2
+    WHEN 'd' THEN 4
+    WHEN 'r' THEN 1
+    WHEN 'p' THEN 1
+    WHEN 'a' THEN 3
+    ELSE NULL
+  END AS DELETE_RULE,
+  CONSTRAINTS.CONNAME AS FK_NAME,
+  PK_INDEXES.RELNAME AS PK_NAME,
+  CASE
+    WHEN CONSTRAINTS.CONDEFERRABLE AND CONSTRAINTS.CONDEFERRED THEN 5
+    WHEN CONSTRAINTS.CONDEFERRABLE THEN 6
+    ELSE 7
+  END AS DEFERRABILITY
+FROM
+  PG_CATALOG.PG_NAMESPACE PK_NAMESPACES,
+  PG_CATALOG.PG_CLASS PK_TABLES,
+  PG_CATALOG.PG_ATTRIBUTE PK_ATTRIBUTES,
+  PG_CATALOG.PG_NAMESPACE FK_NAMESPACES,
+  PG_CATALOG.PG_CLASS FK_TABLES,
+  PG_CATALOG.PG_ATTRIBUTE FK_ATTRIBUTES,
+  PG_CATALOG.PG_CONSTRAINT CONSTRAINTS,
+  PG_CATALOG.GENERATE_SERIES(1, 32) POSITIONS(N),
+  PG_CATALOG.PG_CLASS PK_INDEXES
+WHERE
+  PK_NAMESPACES.OID = PK_TABLES.RELNAMESPACE
+  AND PK_TABLES.OID = PK_ATTRIBUTES.ATTRELID
+  AND PK_ATTRIBUTES.ATTNUM = CONSTRAINTS.CONFKEY[POSITIONS.N]
+  AND CONSTRAINTS.CONFRELID = PK_TABLES.OID
+  AND FK_NAMESPACES.OID = FK_TABLES.RELNAMESPACE
+  AND FK_TABLES.OID = FK_ATTRIBUTES.ATTRELID
+  AND FK_ATTRIBUTES.ATTNUM = CONSTRAINTS.CONKEY[POSITIONS.N]
+  AND CONSTRAINTS.CONRELID = FK_TABLES.OID
+  AND CONSTRAINTS.CONTYPE = 'f'
+  AND PK_INDEXES.RELKIND IN ('i', 'I')
+  AND PK_INDEXES.OID = CONSTRAINTS.CONINDID
+  AND FK_NAMESPACES.NSPNAME NOT IN ('pg_catalog', 'information_schema')
+ORDER BY
+  PKTABLE_SCHEM,
+  PKTABLE_NAME,
+  FK_NAME,
+  KEY_SEQ
@@ -0,0 +1,67 @@
+SELECT
+  RESULT.TABLE_CAT,
+  RESULT.TABLE_SCHEM,
+  RESULT.TABLE_NAME,
+  RESULT.NON_UNIQUE,
+  RESULT.INDEX_QUALIFIER,
+  RESULT.INDEX_NAME,
+  RESULT.TYPE,
+  RESULT.ORDINAL_POSITION,
+  TRIM(BOTH '"' FROM PG_CATALOG.PG_GET_INDEXDEF(RESULT.CI_OID, RESULT.ORDINAL_POSITION, FALSE))
+    AS COLUMN_NAME,
+  CASE RESULT.AM_NAME
+    WHEN 'btree' THEN
+      CASE RESULT.I_INDOPTION[RESULT.ORDINAL_POSITION - 1] & 1::SMALLINT
+        WHEN 1 THEN 'D'
+        ELSE 'A'
+      END
+    ELSE NULL
+  END AS ASC_OR_DESC,
+  RESULT.CARDINALITY,
+  RESULT.PAGES,
+  RESULT.FILTER_CONDITION
+FROM
+  (
+    SELECT
+      NULL AS TABLE_CAT,
+      NAMESPACES.NSPNAME AS TABLE_SCHEM,
+      TABLES.RELNAME AS TABLE_NAME,
+      NOT INDEXES.INDISUNIQUE AS NON_UNIQUE,
+      NULL AS INDEX_QUALIFIER,
+      INDEX_CLASSES.RELNAME AS INDEX_NAME,
+      CASE INDEXES.INDISCLUSTERED
+        WHEN TRUE THEN 1 -- JDBC index type "Clustered"
+        ELSE
+          CASE ACCESS_METHODS.AMNAME
+            WHEN 'hash' THEN 2 -- JDBC index type "Hashed"
+            ELSE 3 -- JDBC index type "Other"
+          END
+      END AS TYPE,
+      (INFORMATION_SCHEMA._PG_EXPANDARRAY(INDEXES.INDKEY)).N AS ORDINAL_POSITION,
+      INDEX_CLASSES.RELTUPLES AS CARDINALITY,
+      INDEX_CLASSES.RELPAGES AS PAGES,
+      PG_CATALOG.PG_GET_EXPR(INDEXES.INDPRED, INDEXES.INDRELID) AS FILTER_CONDITION,
+      INDEX_CLASSES.OID AS CI_OID,
+      INDEXES.INDOPTION AS I_INDOPTION,
+      ACCESS_METHODS.AMNAME AS AM_NAME
+    FROM
+      PG_CATALOG.PG_CLASS TABLES
+      INNER JOIN PG_CATALOG.PG_NAMESPACE NAMESPACES
+        ON TABLES.RELNAMESPACE = NAMESPACES.OID
+      INNER JOIN PG_CATALOG.PG_INDEX INDEXES
+        ON TABLES.OID = INDEXES.INDRELID
+      INNER JOIN PG_CATALOG.PG_CLASS INDEX_CLASSES
+        ON INDEX_CLASSES.OID = INDEXES.INDEXRELID
+      INNER JOIN PG_CATALOG.PG_AM ACCESS_METHODS
+        ON INDEX_CLASSES.RELAM = ACCESS_METHODS.OID
+    WHERE
+      NAMESPACES.NSPNAME NOT IN ('pg_catalog', 'information_schema')
+      AND NAMESPACES.NSPNAME NOT LIKE 'pg\_toast%'
+  ) RESULT
+ORDER BY
+  RESULT.TABLE_SCHEM,
+  RESULT.TABLE_NAME,
+  RESULT.NON_UNIQUE,
+  RESULT.TYPE,
+  RESULT.INDEX_NAME,
+  RESULT.ORDINAL_POSITION
@@ -0,0 +1,40 @@
+SELECT
+  RESULT.TABLE_CAT,
+  RESULT.TABLE_SCHEM,
+  RESULT.TABLE_NAME,
+  RESULT.COLUMN_NAME,
+  RESULT.KEY_SEQ,
+  RESULT.PK_NAME
+FROM
+  (
+    SELECT
+      NULL AS TABLE_CAT,
+      NAMESPACES.NSPNAME AS TABLE_SCHEM,
+      TABLES.RELNAME AS TABLE_NAME,
+      ATTRIBUTES.ATTNAME AS COLUMN_NAME,
+      (INFORMATION_SCHEMA._PG_EXPANDARRAY(INDEXES.INDKEY)).N AS KEY_SEQ,
+      INDEX_CLASSES.RELNAME AS PK_NAME,
+      INFORMATION_SCHEMA._PG_EXPANDARRAY(INDEXES.INDKEY) AS KEYS,
+      ATTRIBUTES.ATTNUM AS A_ATTNUM
+    FROM
+      PG_CATALOG.PG_CLASS TABLES
+      INNER JOIN PG_CATALOG.PG_ATTRIBUTE ATTRIBUTES
+        ON TABLES.OID = ATTRIBUTES.ATTRELID
+      INNER JOIN PG_CATALOG.PG_NAMESPACE NAMESPACES
+        ON TABLES.RELNAMESPACE = NAMESPACES.OID
+      INNER JOIN PG_CATALOG.PG_INDEX INDEXES
+        ON ATTRIBUTES.ATTRELID = INDEXES.INDRELID
+      INNER JOIN PG_CATALOG.PG_CLASS INDEX_CLASSES
+        ON INDEX_CLASSES.OID = INDEXES.INDEXRELID
+    WHERE
+      INDEXES.INDISPRIMARY
+      AND NAMESPACES.NSPNAME NOT IN ('pg_catalog', 'information_schema')
+      AND NAMESPACES.NSPNAME NOT LIKE 'pg\_toast%'
+  ) RESULT
+WHERE
+  RESULT.A_ATTNUM = (RESULT.KEYS).X
+ORDER BY
+  RESULT.TABLE_SCHEM,
+  RESULT.TABLE_NAME,
+  RESULT.PK_NAME,
+  RESULT.KEY_SEQ
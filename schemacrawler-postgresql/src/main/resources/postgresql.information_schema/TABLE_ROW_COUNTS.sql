@@ -0,0 +1,15 @@
+SELECT
+  CURRENT_DATABASE()::INFORMATION_SCHEMA.SQL_IDENTIFIER AS TABLE_CATALOG,
+  NC.NSPNAME::INFORMATION_SCHEMA.SQL_IDENTIFIER AS TABLE_SCHEMA,
+  C.RELNAME::INFORMATION_SCHEMA.SQL_IDENTIFIER AS TABLE_NAME,
+  CASE
+    WHEN C.RELPAGES = 0 AND C.RELTUPLES <= 0 THEN -1
+    ELSE CAST(C.RELTUPLES AS BIGINT)
+  END AS ROW_COUNT
+FROM
+  PG_CATALOG.PG_CLASS C
+  INNER JOIN PG_CATALOG.PG_NAMESPACE NC
+    ON C.RELNAMESPACE = NC.OID
+WHERE
+  C.RELKIND IN ('r', 'm')
+  AND NC.NSPNAME NOT IN ('pg_catalog', 'information_schema')
@@ -54,7 +54,7 @@ public class BundledDistributionTest {
             .toOptions()
             .getInformationSchemaViews()
             .size(),
-        is(12));
+        is(17));
   }
 
   @Test
@@ -31,12 +31,10 @@ import static com.fasterxml.jackson.databind.SerializationFeature.INDENT_OUTPUT;
 import static com.fasterxml.jackson.databind.SerializationFeature.ORDER_MAP_ENTRIES_BY_KEYS;
 import static com.fasterxml.jackson.databind.SerializationFeature.USE_EQUALITY_FOR_OBJECT_ID;
 import static com.fasterxml.jackson.databind.SerializationFeature.WRITE_ENUMS_USING_TO_STRING;
-import static java.nio.charset.StandardCharsets.UTF_8;
 import static java.util.Objects.requireNonNull;
 
 import java.io.IOException;
 import java.io.OutputStream;
-import java.io.OutputStreamWriter;
 import java.io.Writer;
 import java.util.Arrays;
 import java.util.List;
@@ -111,16 +109,23 @@ public abstract class BaseJacksonSerializedCatalog implements CatalogSerializer
   }
 
   private final Catalog catalog;
-  private final SortedSet<Column> allTableColumns;
 
   public BaseJacksonSerializedCatalog(final Catalog catalog) {
     this.catalog = requireNonNull(catalog, "No catalog provided");
-    allTableColumns = new TreeSet<>();
-    loadAllTableColumns();
   }
 
+  /**
+   * Gets all table columns, sorted. The columns are collected when they are serialized, so that
+   * a copy of them is not held for as long as the serializer is.
+   *
+   * @return All table columns
+   */
   public Set<Column> getAllTableColumns() {
-    return new TreeSet<>(allTableColumns);
+    final SortedSet<Column> allTableColumns = new TreeSet<>();
+    for (final Table table : catalog.getTables()) {
+      allTableColumns.addAll(table.getColumns());
+    }
+    return allTableColumns;
   }
 
   @Override
@@ -128,11 +133,19 @@ public abstract class BaseJacksonSerializedCatalog implements CatalogSerializer
     return catalog;
   }
 
-  /** {@inheritDoc} */
+  /**
+   * {@inheritDoc} The catalog is written as UTF-8 encoded bytes directly to the stream, as it is
+   * traversed.
+   */
   @Override
   public void save(final OutputStream out) {
     requireNonNull(out, "No output stream provided");
-    save(new OutputStreamWriter(out, UTF_8));
+    try {
+      final ObjectMapper mapper = newConfiguredObjectMapper();
+      mapper.writeValue(out, this);
+    } catch (final IOException e) {
+      throw new IORuntimeException("Could not serialize catalog", e);
+    }
   }
 
   /** {@inheritDoc} */
@@ -149,17 +162,10 @@ public abstract class BaseJacksonSerializedCatalog implements CatalogSerializer
 
   protected abstract ObjectMapper newObjectMapper();
 
-  private void loadAllTableColumns() {
-    for (final Table table : catalog.getTables()) {
-      for (final Column column : table.getColumns()) {
-        allTableColumns.add(column);
-      }
-    }
-  }
-
   private ObjectMapper newConfiguredObjectMapper() {
 
     @JsonIgnoreProperties({
+      "crawl-metrics",
       "parent",
       "referenced-column",
       "exported-foreign-keys",
@@ -28,6 +28,7 @@ http://www.gnu.org/licenses/
 
 package schemacrawler.test.serialize;
 
+import static java.nio.charset.StandardCharsets.UTF_8;
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.greaterThan;
@@ -42,9 +43,11 @@ import static schemacrawler.test.utility.FileHasContent.outputOf;
 import static schemacrawler.test.utility.TestUtility.fileHeaderOf;
 import static schemacrawler.tools.utility.SchemaCrawlerUtility.getCatalog;
 
+import java.io.ByteArrayOutputStream;
 import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.OutputStream;
+import java.io.StringWriter;
 import java.net.URISyntaxException;
 import java.nio.file.Files;
 import java.nio.file.Path;
@@ -75,6 +78,8 @@ import us.fatehi.utility.IOUtility;
 public class CatalogJsonSerializationTest {
 
   private static final boolean DEBUG = true;
+  private static final String UUID_PATTERN =
+      "[0-9a-f]{8}-[0-9a-f]{4}-[0-9a-f]{4}-[0-9a-f]{4}-[0-9a-f]{12}";
   private Path directory;
 
   @BeforeEach
@@ -141,4 +146,25 @@ public class CatalogJsonSerializationTest {
     assertThat(
         outputOf(testout), hasSameContentAs(classpathResource(testContext.testMethodFullName())));
   }
+
+  @Test
+  public void catalogSerializationWithJsonToStreamAndWriter(final Connection connection)
+      throws Exception {
+    final Catalog catalog =
+        getCatalog(
+            connection,
+            schemaRetrievalOptionsDefault,
+            DatabaseTestUtility.schemaCrawlerOptionsWithMaximumSchemaInfoLevel,
+            new Config());
+
+    final ByteArrayOutputStream streamOut = new ByteArrayOutputStream();
+    new JsonSerializedCatalog(catalog).save(streamOut);
+    final StringWriter writerOut = new StringWriter();
+    new JsonSerializedCatalog(catalog).save(writerOut);
+
+    // Object ids are random, so compare without them
+    assertThat(
+        new String(streamOut.toByteArray(), UTF_8).replaceAll(UUID_PATTERN, "@uuid"),
+        is(writerOut.toString().replaceAll(UUID_PATTERN, "@uuid")));
+  }
 }
@@ -27,6 +27,10 @@ http://www.gnu.org/licenses/
 */
 package schemacrawler.tools.sqlite;
 
+import static schemacrawler.schemacrawler.MetadataRetrievalStrategy.data_dictionary_all;
+import static schemacrawler.schemacrawler.SchemaInfoMetadataRetrievalStrategy.indexesRetrievalStrategy;
+import static us.fatehi.utility.database.DatabaseUtility.isDatabaseVersionAtLeast;
+
 import schemacrawler.schemacrawler.DatabaseServerType;
 import schemacrawler.tools.databaseconnector.DatabaseConnectionUrlBuilder;
 import schemacrawler.tools.databaseconnector.DatabaseConnector;
@@ -40,8 +44,13 @@ public final class SQLiteDatabaseConnector extends DatabaseConnector {
         url -> url != null && url.startsWith("jdbc:sqlite:"),
         (informationSchemaViewsBuilder, connection) ->
             informationSchemaViewsBuilder.fromResourceFolder("/sqlite.information_schema"),
-        (schemaRetrievalOptionsBuilder, connection) ->
-            schemaRetrievalOptionsBuilder.withIdentifierQuoteString("\""),
+        (schemaRetrievalOptionsBuilder, connection) -> {
+          schemaRetrievalOptionsBuilder.withIdentifierQuoteString("\"");
+          // Table-valued pragma functions are available from SQLite 3.16.0
+          if (isDatabaseVersionAtLeast(connection, 3, 16)) {
+            schemaRetrievalOptionsBuilder.with(indexesRetrievalStrategy, data_dictionary_all);
+          }
+        },
         limitOptionsBuilder -> {},
         () ->
             DatabaseConnectionUrlBuilder.builder("jdbc:sqlite:${database}")
@@ -0,0 +1,26 @@
+SELECT
+  NULL AS TABLE_CAT,
+  NULL AS TABLE_SCHEM,
+  TABLES.name AS TABLE_NAME,
+  1 - INDEXES."unique" AS NON_UNIQUE,
+  NULL AS INDEX_QUALIFIER,
+  INDEXES.name AS INDEX_NAME,
+  3 AS TYPE, -- JDBC index type "Other"
+  INDEX_COLUMNS.seqno + 1 AS ORDINAL_POSITION,
+  INDEX_COLUMNS.name AS COLUMN_NAME,
+  NULL AS ASC_OR_DESC,
+  0 AS CARDINALITY,
+  0 AS PAGES,
+  NULL AS FILTER_CONDITION
+FROM
+  (
+    SELECT name FROM sqlite_master WHERE type = 'table'
+    UNION
+    SELECT name FROM sqlite_temp_master WHERE type = 'table'
+  ) TABLES
+  INNER JOIN pragma_index_list(TABLES.name) INDEXES
+  INNER JOIN pragma_index_info(INDEXES.name) INDEX_COLUMNS
+ORDER BY
+  TABLE_NAME,
+  INDEX_NAME,
+  ORDINAL_POSITION
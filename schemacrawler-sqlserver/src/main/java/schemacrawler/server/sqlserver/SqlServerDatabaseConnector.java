@@ -41,7 +41,10 @@ public final class SqlServerDatabaseConnector extends DatabaseConnector {
         url -> url != null && url.startsWith("jdbc:sqlserver:"),
         (informationSchemaViewsBuilder, connection) ->
             informationSchemaViewsBuilder.fromResourceFolder("/sqlserver.information_schema"),
-        (schemaRetrievalOptionsBuilder, connection) -> {},
+        (schemaRetrievalOptionsBuilder, connection) -> {
+          // Data dictionary queries for keys and indexes only see the current database,
+          // so they are not used by default, since a catalog can span several databases
+        },
         limitOptionsBuilder ->
             limitOptionsBuilder.includeSchemas(
                 new RegularExpressionRule(
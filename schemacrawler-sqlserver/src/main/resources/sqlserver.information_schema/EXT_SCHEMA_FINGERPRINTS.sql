@@ -0,0 +1,14 @@
+SELECT
+  DB_NAME() AS CATALOG_NAME,
+  SCHEMA_NAME(OBJECTS.SCHEMA_ID) AS SCHEMA_NAME,
+  CONVERT(VARCHAR(30), MAX(OBJECTS.MODIFY_DATE), 126)
+    + '/' + CAST(COUNT(*) AS VARCHAR(20))
+    AS FINGERPRINT
+FROM
+  SYS.OBJECTS OBJECTS
+WHERE
+  OBJECTS.IS_MS_SHIPPED = 0
+GROUP BY
+  OBJECTS.SCHEMA_ID
+ORDER BY
+  SCHEMA_NAME
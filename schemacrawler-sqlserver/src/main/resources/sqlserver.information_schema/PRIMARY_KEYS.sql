@@ -0,0 +1,23 @@
+SELECT
+  DB_NAME() AS TABLE_CAT,
+  SCHEMA_NAME(TABLES.SCHEMA_ID) AS TABLE_SCHEM,
+  TABLES.NAME AS TABLE_NAME,
+  COLUMNS.NAME AS COLUMN_NAME,
+  INDEX_COLUMNS.KEY_ORDINAL AS KEY_SEQ,
+  INDEXES.NAME AS PK_NAME
+FROM
+  SYS.INDEXES INDEXES
+  INNER JOIN SYS.TABLES TABLES
+    ON INDEXES.OBJECT_ID = TABLES.OBJECT_ID
+  INNER JOIN SYS.INDEX_COLUMNS INDEX_COLUMNS
+    ON INDEXES.OBJECT_ID = INDEX_COLUMNS.OBJECT_ID
+      AND INDEXES.INDEX_ID = INDEX_COLUMNS.INDEX_ID
+  INNER JOIN SYS.COLUMNS COLUMNS
+    ON INDEX_COLUMNS.OBJECT_ID = COLUMNS.OBJECT_ID
+      AND INDEX_COLUMNS.COLUMN_ID = COLUMNS.COLUMN_ID
+WHERE
+  INDEXES.IS_PRIMARY_KEY = 1
+ORDER BY
+  TABLE_SCHEM,
+  TABLE_NAME,
+  KEY_SEQ
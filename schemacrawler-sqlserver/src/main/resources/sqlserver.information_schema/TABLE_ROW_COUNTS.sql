@@ -0,0 +1,15 @@
+SELECT
+  DB_NAME() AS TABLE_CATALOG,
+  SCHEMA_NAME(T.SCHEMA_ID) AS TABLE_SCHEMA,
+  T.NAME AS TABLE_NAME,
+  SUM(P.ROWS) AS ROW_COUNT
+FROM
+  SYS.TABLES T
+  INNER JOIN SYS.PARTITIONS P
+    ON T.OBJECT_ID = P.OBJECT_ID
+WHERE
+  T.IS_MS_SHIPPED = 0
+  AND P.INDEX_ID IN (0, 1)
+GROUP BY
+  T.SCHEMA_ID,
+  T.NAME
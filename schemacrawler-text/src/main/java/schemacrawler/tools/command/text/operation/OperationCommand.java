@@ -36,27 +36,34 @@ import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
+import schemacrawler.loader.counts.TableRowCountsRetriever;
 import schemacrawler.schema.Catalog;
+import schemacrawler.schema.NamedObjectKey;
 import schemacrawler.schema.Table;
 import schemacrawler.schemacrawler.Identifiers;
 import schemacrawler.schemacrawler.Query;
 import schemacrawler.schemacrawler.exceptions.DatabaseAccessException;
 import schemacrawler.tools.command.text.operation.options.Operation;
 import schemacrawler.tools.command.text.operation.options.OperationOptions;
+import schemacrawler.tools.command.text.operation.options.OperationType;
 import schemacrawler.tools.command.text.schema.options.TextOutputFormat;
 import schemacrawler.tools.executable.BaseSchemaCrawlerCommand;
 import schemacrawler.tools.text.formatter.operation.DataTextFormatter;
-import schemacrawler.tools.traversal.DataTraversalHandler;
 import schemacrawler.utility.NamedObjectSort;
 import us.fatehi.utility.string.StringFormat;
 
 public final class OperationCommand extends BaseSchemaCrawlerCommand<OperationOptions> {
   private static final Logger LOGGER = Logger.getLogger(OperationCommand.class.getName());
 
+  /** Data queries return many rows, so fetch them in large batches. */
+  static final int DATA_FETCH_SIZE = 1000;
+
   public OperationCommand(final String command) {
     super(command);
   }
@@ -79,7 +86,7 @@ public final class OperationCommand extends BaseSchemaCrawlerCommand<OperationOp
       return;
     }
 
-    final DataTraversalHandler handler = getDataTraversalHandler();
+    final DataTextFormatter handler = getDataTraversalHandler();
     final Query query = commandOptions.getQuery();
 
     handler.begin();
@@ -99,26 +106,36 @@ public final class OperationCommand extends BaseSchemaCrawlerCommand<OperationOp
       final Identifiers identifiers =
           Identifiers.identifiers().withIdentifierQuoteString(identifierQuoteString).build();
 
-      try (final Statement statement = createStatement(connection)) {
-        for (final Table table : getSortedTables(catalog)) {
-          final boolean isAlphabeticalSortForTableColumns =
-              commandOptions.isAlphabeticalSortForTableColumns();
-          try (final ResultSet results =
-              executeAgainstTable(
-                  query, statement, table, isAlphabeticalSortForTableColumns, identifiers)) {
-            handler.handleData(table, results);
-          } catch (final SQLException e) {
-            LOGGER.log(Level.WARNING, e, new StringFormat("Bad operation for table <%s>", table));
-          }
-        }
-      } catch (final SQLException e) {
-        throw new DatabaseAccessException(String.format("Could not run query %n%s%n", query), e);
+      final Map<NamedObjectKey, Long> rowCountEstimates = getRowCountEstimates();
+      final RowCountFallback rowCountFallback;
+      if (commandOptions.isApproximateCounts()) {
+        // Tables that are counted have no estimate
+        rowCountFallback = new RowCountFallback(() -> rowCountEstimates);
+      } else {
+        rowCountFallback = new RowCountFallback(this::retrieveRowCountEstimates);
+      }
+      final int parallelQueries = getParallelQueries();
+      if (parallelQueries > 1) {
+        new ParallelTableQueries(
+                dataSource,
+                query,
+                identifiers,
+                commandOptions,
+                parallelQueries,
+                rowCountEstimates,
+                rowCountFallback)
+            .query(getSortedTables(catalog), handler);
+      } else {
+        queryTables(query, identifiers, rowCountEstimates, rowCountFallback, handler);
       }
     } else {
       final String sql = query.getQuery();
-      try (final Statement statement = createStatement(connection);
-          final ResultSet results = executeSql(statement, sql)) {
-        handler.handleData(query, results);
+      try (final Statement statement = createStatement(connection)) {
+        statement.setFetchSize(DATA_FETCH_SIZE);
+        statement.setQueryTimeout(commandOptions.getQueryTimeout());
+        try (final ResultSet results = executeSql(statement, sql)) {
+          handler.handleData(query, results);
+        }
       } catch (final SQLException e) {
         throw new DatabaseAccessException(String.format("Could not run query %n%s%n", query), e);
       }
@@ -132,15 +149,42 @@ public final class OperationCommand extends BaseSchemaCrawlerCommand<OperationOp
     return true;
   }
 
-  private DataTraversalHandler getDataTraversalHandler() {
+  private DataTextFormatter getDataTraversalHandler() {
     final Operation operation = commandOptions.getOperation();
     final String identifierQuoteString = identifiers.getIdentifierQuoteString();
 
-    final DataTraversalHandler formatter =
+    final DataTextFormatter formatter =
         new DataTextFormatter(operation, commandOptions, outputOptions, identifierQuoteString);
     return formatter;
   }
 
+  /**
+   * Gets the number of table queries to run at the same time. Queries can only run in parallel if
+   * connections are pooled, and one pooled connection is already held by this command.
+   *
+   * @return Number of parallel queries
+   */
+  private int getParallelQueries() {
+    if (dataSource == null) {
+      return 1;
+    }
+    return Math.min(commandOptions.getParallelQueries(), dataSource.getMaxConnections() - 1);
+  }
+
+  /**
+   * Reads estimated row counts from database statistics for the count operation, if approximate
+   * counts are requested and the database plugin provides a query for them.
+   *
+   * @return Estimated row counts, keyed by table, which is empty if tables need to be counted
+   */
+  private Map<NamedObjectKey, Long> getRowCountEstimates() {
+    if (commandOptions.getOperation() != OperationType.count
+        || !commandOptions.isApproximateCounts()) {
+      return Collections.emptyMap();
+    }
+    return retrieveRowCountEstimates();
+  }
+
   private List<? extends Table> getSortedTables(final Catalog catalog) {
     final List<? extends Table> tables = new ArrayList<>(catalog.getTables());
     tables.sort(NamedObjectSort.getNamedObjectSort(commandOptions.isAlphabeticalSortForTables()));
@@ -152,4 +196,63 @@ public final class OperationCommand extends BaseSchemaCrawlerCommand<OperationOp
     final boolean isOutputFormatSupported = TextOutputFormat.isSupportedFormat(outputFormatValue);
     return isOutputFormatSupported;
   }
+
+  private void queryTables(
+      final Query query,
+      final Identifiers identifiers,
+      final Map<NamedObjectKey, Long> rowCountEstimates,
+      final RowCountFallback rowCountFallback,
+      final DataTextFormatter handler) {
+    try (final Statement statement = createStatement(connection)) {
+      statement.setFetchSize(DATA_FETCH_SIZE);
+      statement.setQueryTimeout(commandOptions.getQueryTimeout());
+      for (final Table table : getSortedTables(catalog)) {
+        final Long rowCountEstimate = rowCountEstimates.get(table.key());
+        if (rowCountEstimate != null) {
+          handler.handleRowCountEstimate(table, rowCountEstimate);
+          continue;
+        }
+
+        final boolean isAlphabeticalSortForTableColumns =
+            commandOptions.isAlphabeticalSortForTableColumns();
+        try (final ResultSet results =
+            executeAgainstTable(
+                query, statement, table, isAlphabeticalSortForTableColumns, identifiers)) {
+          handler.handleData(table, results);
+        } catch (final SQLException e) {
+          if (commandOptions.getOperation() == OperationType.count) {
+            LOGGER.log(
+                Level.WARNING, e, new StringFormat("Could not count rows for table <%s>", table));
+            rowCountFallback.handleRowCount(table, handler);
+          } else {
+            LOGGER.log(Level.WARNING, e, new StringFormat("Bad operation for table <%s>", table));
+          }
+        }
+      }
+    } catch (final SQLException e) {
+      throw new DatabaseAccessException(String.format("Could not run query %n%s%n", query), e);
+    }
+  }
+
+  /**
+   * Reads estimated row counts from database statistics, if the database plugin provides a query
+   * for them.
+   *
+   * @return Estimated row counts, keyed by table, which is empty if there are no estimates
+   */
+  private Map<NamedObjectKey, Long> retrieveRowCountEstimates() {
+    if (schemaRetrievalOptions == null) {
+      LOGGER.log(
+          Level.INFO, "Not using estimated row counts, since no database plugin was provided");
+      return Collections.emptyMap();
+    }
+    try {
+      return new TableRowCountsRetriever(
+              connection, null, catalog, schemaRetrievalOptions, schemaCrawlerOptions)
+          .retrieveEstimates();
+    } catch (final SQLException e) {
+      LOGGER.log(Level.WARNING, "Could not retrieve estimated row counts", e);
+      return Collections.emptyMap();
+    }
+  }
 }
@@ -0,0 +1,257 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2022, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+
+package schemacrawler.tools.command.text.operation;
+
+import static java.util.Objects.requireNonNull;
+import static schemacrawler.schemacrawler.QueryUtility.executeAgainstTable;
+import static schemacrawler.tools.text.formatter.operation.DataTextFormatter.logThroughput;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import schemacrawler.crawl.MetadataResultSet;
+import schemacrawler.schema.NamedObjectKey;
+import schemacrawler.schema.Table;
+import schemacrawler.schemacrawler.Identifiers;
+import schemacrawler.schemacrawler.Query;
+import schemacrawler.schemacrawler.exceptions.DatabaseAccessException;
+import schemacrawler.tools.command.text.operation.options.OperationOptions;
+import schemacrawler.tools.command.text.operation.options.OperationType;
+import schemacrawler.tools.text.formatter.operation.DataTextFormatter;
+import us.fatehi.utility.datasource.DatabaseConnectionSource;
+import us.fatehi.utility.string.StringFormat;
+
+/**
+ * Runs a query against each table in parallel, with each query on a connection leased from the
+ * pool. Rows are read in large batches, and the results are formatted in table order. Rows are
+ * handed off to the formatter in chunks as they are read, and only a few chunks are buffered for
+ * each table, so that memory use is bounded by rows even for large data exports. Tables with
+ * estimated row counts are not queried, and tables that could not be counted fall back to an
+ * estimated row count.
+ */
+final class ParallelTableQueries {
+
+  private static final Logger LOGGER = Logger.getLogger(ParallelTableQueries.class.getName());
+
+  private static final int MAX_BUFFERED_CHUNKS = 4;
+
+  /** A table waiting to be formatted, with rows that are being read, or an estimated row count. */
+  private static final class PendingTable {
+    private final Table table;
+    private final TableRowsBuffer rows;
+    private final Long rowCountEstimate;
+
+    PendingTable(final Table table, final Long rowCountEstimate) {
+      this.table = table;
+      rows = null;
+      this.rowCountEstimate = rowCountEstimate;
+    }
+
+    PendingTable(final Table table, final TableRowsBuffer rows) {
+      this.table = table;
+      this.rows = rows;
+      rowCountEstimate = null;
+    }
+  }
+
+  private final DatabaseConnectionSource dataSource;
+  private final Query query;
+  private final Identifiers identifiers;
+  private final OperationOptions options;
+  private final int parallelQueries;
+  private final Map<NamedObjectKey, Long> rowCountEstimates;
+  private final RowCountFallback rowCountFallback;
+  private final Set<NamedObjectKey> failedCounts;
+
+  ParallelTableQueries(
+      final DatabaseConnectionSource dataSource,
+      final Query query,
+      final Identifiers identifiers,
+      final OperationOptions options,
+      final int parallelQueries,
+      final Map<NamedObjectKey, Long> rowCountEstimates,
+      final RowCountFallback rowCountFallback) {
+    this.dataSource = requireNonNull(dataSource, "No database connection source provided");
+    this.query = requireNonNull(query, "No query provided");
+    this.identifiers = requireNonNull(identifiers, "No identifiers provided");
+    this.options = requireNonNull(options, "No operation options provided");
+    this.parallelQueries = Math.max(1, parallelQueries);
+    this.rowCountEstimates =
+        requireNonNull(rowCountEstimates, "No estimated row counts provided");
+    this.rowCountFallback = requireNonNull(rowCountFallback, "No row count fallback provided");
+    failedCounts = ConcurrentHashMap.newKeySet();
+  }
+
+  /**
+   * Queries tables on helper threads, and formats the results on the calling thread, in the order
+   * that the tables are provided. A table is only submitted once the results ahead of it in the
+   * window have been formatted.
+   *
+   * @param tables Tables to query, in output order
+   * @param formatter Formatter for the results
+   */
+  void query(final List<? extends Table> tables, final DataTextFormatter formatter) {
+    requireNonNull(tables, "No tables provided");
+    requireNonNull(formatter, "No formatter provided");
+
+    LOGGER.log(
+        Level.INFO,
+        new StringFormat(
+            "Running queries on <%d> tables on <%d> connections", tables.size(), parallelQueries));
+
+    // Allow each helper to start on one table ahead, while the calling thread formats
+    final int window = parallelQueries * 2;
+    final Deque<PendingTable> pending = new ArrayDeque<>(window);
+
+    final ExecutorService executorService =
+        Executors.newFixedThreadPool(
+            parallelQueries,
+            runnable -> {
+              final Thread thread = new Thread(runnable, "table-data-queries");
+              thread.setDaemon(true);
+              return thread;
+            });
+    try {
+      for (final Table table : tables) {
+        if (pending.size() == window) {
+          handleData(pending.removeFirst(), formatter);
+        }
+        final Long rowCountEstimate = rowCountEstimates.get(table.key());
+        if (rowCountEstimate != null) {
+          pending.addLast(new PendingTable(table, rowCountEstimate));
+        } else {
+          final TableRowsBuffer rows =
+              new TableRowsBuffer(OperationCommand.DATA_FETCH_SIZE, MAX_BUFFERED_CHUNKS);
+          executorService.submit(
+              () -> {
+                readTableData(table, rows);
+                return null;
+              });
+          pending.addLast(new PendingTable(table, rows));
+        }
+      }
+      while (!pending.isEmpty()) {
+        handleData(pending.removeFirst(), formatter);
+      }
+    } catch (final InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new DatabaseAccessException(e);
+    } finally {
+      executorService.shutdownNow();
+    }
+  }
+
+  private void handleData(final PendingTable pendingTable, final DataTextFormatter formatter)
+      throws InterruptedException {
+    final Table table = pendingTable.table;
+    if (pendingTable.rowCountEstimate != null) {
+      formatter.handleRowCountEstimate(table, pendingTable.rowCountEstimate);
+      return;
+    }
+
+    final TableRowsBuffer rows = pendingTable.rows;
+    final String[] columnNames = rows.getColumnNames();
+    if (columnNames == null) {
+      // The failure is recorded before the rows are finished
+      if (failedCounts.contains(table.key())) {
+        rowCountFallback.handleRowCount(table, formatter);
+      }
+      return;
+    }
+    formatter.handleData(table, columnNames, rows);
+    // Let the helper finish the table, even if the formatter did not need every row
+    while (rows.hasNext()) {
+      rows.next();
+    }
+  }
+
+  private void readTableData(final Table table, final TableRowsBuffer rows)
+      throws InterruptedException {
+    final long start = System.nanoTime();
+    boolean started = false;
+    try (final Connection connection = dataSource.get();
+        final Statement statement = connection.createStatement()) {
+      statement.setFetchSize(OperationCommand.DATA_FETCH_SIZE);
+      statement.setQueryTimeout(options.getQueryTimeout());
+      try (final ResultSet results =
+          executeAgainstTable(
+              query,
+              statement,
+              table,
+              options.isAlphabeticalSortForTableColumns(),
+              identifiers)) {
+        if (results == null) {
+          rows.finish();
+          return;
+        }
+        // Keep the fetch size that was set on the statement
+        try (final MetadataResultSet dataRows = new MetadataResultSet(results, "Data", 0)) {
+          dataRows.setShowLobs(options.isShowLobs());
+          rows.start(dataRows.getColumnNames());
+          started = true;
+          long rowCount = 0;
+          while (dataRows.next()) {
+            rows.add(dataRows.rowValues());
+            rowCount++;
+          }
+          rows.finish();
+          logThroughput(table.getFullName(), rowCount, System.nanoTime() - start);
+        }
+      }
+    } catch (final SQLException e) {
+      if (started) {
+        rows.fail(e);
+      } else if (options.getOperation() == OperationType.count) {
+        LOGGER.log(
+            Level.WARNING, e, new StringFormat("Could not count rows for table <%s>", table));
+        failedCounts.add(table.key());
+        rows.finish();
+      } else {
+        LOGGER.log(Level.WARNING, e, new StringFormat("Bad operation for table <%s>", table));
+        rows.finish();
+      }
+    } catch (final RuntimeException | Error e) {
+      // Do not leave the formatter waiting for rows
+      rows.fail(e);
+      throw e;
+    }
+  }
+}
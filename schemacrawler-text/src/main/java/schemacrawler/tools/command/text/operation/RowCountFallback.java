@@ -0,0 +1,84 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2022, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+
+package schemacrawler.tools.command.text.operation;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Map;
+import java.util.function.Supplier;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import schemacrawler.schema.NamedObjectKey;
+import schemacrawler.schema.Table;
+import schemacrawler.tools.text.formatter.operation.DataTextFormatter;
+import us.fatehi.utility.string.StringFormat;
+
+/**
+ * Reports a row count for tables that could not be counted, for example because the count took
+ * longer than the query timeout. An estimated row count from database statistics is used if there
+ * is one, and otherwise the count is marked as unavailable, so that the table is still listed.
+ * Estimates are only read once a count fails.
+ */
+final class RowCountFallback {
+
+  private static final Logger LOGGER = Logger.getLogger(RowCountFallback.class.getName());
+
+  private final Supplier<Map<NamedObjectKey, Long>> rowCountEstimatesSupplier;
+  private Map<NamedObjectKey, Long> rowCountEstimates;
+
+  RowCountFallback(final Supplier<Map<NamedObjectKey, Long>> rowCountEstimatesSupplier) {
+    this.rowCountEstimatesSupplier =
+        requireNonNull(rowCountEstimatesSupplier, "No estimated row counts provided");
+  }
+
+  /**
+   * Reports a row count for a table that could not be counted. This is called on the thread that
+   * formats the output.
+   *
+   * @param table Table that could not be counted
+   * @param formatter Formatter for the row count
+   */
+  void handleRowCount(final Table table, final DataTextFormatter formatter) {
+    requireNonNull(table, "No table provided");
+    requireNonNull(formatter, "No formatter provided");
+
+    if (rowCountEstimates == null) {
+      rowCountEstimates = rowCountEstimatesSupplier.get();
+    }
+    final Long rowCountEstimate = rowCountEstimates.get(table.key());
+    if (rowCountEstimate != null) {
+      LOGGER.log(
+          Level.INFO, new StringFormat("Using estimated row count for table <%s>", table));
+      formatter.handleRowCountEstimate(table, rowCountEstimate);
+    } else {
+      formatter.handleRowCountUnavailable(table);
+    }
+  }
+}
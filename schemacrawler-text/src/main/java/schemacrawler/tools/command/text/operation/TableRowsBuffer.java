@@ -0,0 +1,183 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2022, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+
+package schemacrawler.tools.command.text.operation;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+
+import schemacrawler.schemacrawler.exceptions.DatabaseAccessException;
+
+/**
+ * Hands off rows of data from the thread that reads a table to the thread that formats them, in
+ * chunks. Only a few chunks are buffered, so the reading thread waits when the formatting thread
+ * falls behind, and memory use is bounded by a number of rows, however large the table is.
+ */
+final class TableRowsBuffer implements Iterator<Object[]> {
+
+  private static final Object END = new Object();
+
+  private final int chunkSize;
+  private final BlockingQueue<Object> chunks;
+  private List<Object[]> readChunk;
+  private Iterator<Object[]> formatChunk;
+  private boolean finished;
+  private boolean ended;
+
+  TableRowsBuffer(final int chunkSize, final int maxBufferedChunks) {
+    if (chunkSize <= 0 || maxBufferedChunks <= 0) {
+      throw new IllegalArgumentException("Chunks of rows need to be buffered");
+    }
+    this.chunkSize = chunkSize;
+    // Also allow for the column names, and the end of the rows
+    chunks = new ArrayBlockingQueue<>(maxBufferedChunks + 2);
+    formatChunk = Collections.emptyIterator();
+  }
+
+  /**
+   * Adds a row read from the table, and waits if too many rows are waiting to be formatted.
+   *
+   * @param row Row of data, with values in column order
+   * @throws InterruptedException If interrupted while waiting
+   */
+  void add(final Object[] row) throws InterruptedException {
+    if (readChunk == null) {
+      readChunk = new ArrayList<>(chunkSize);
+    }
+    readChunk.add(row);
+    if (readChunk.size() == chunkSize) {
+      chunks.put(readChunk);
+      readChunk = null;
+    }
+  }
+
+  /**
+   * Marks that the table could not be read after its rows were started, so that formatting fails.
+   *
+   * @param e Cause of the failure, which is ignored if the rows already ended
+   * @throws InterruptedException If interrupted while waiting
+   */
+  void fail(final Throwable e) throws InterruptedException {
+    if (finished) {
+      return;
+    }
+    finished = true;
+    readChunk = null;
+    chunks.put(e);
+  }
+
+  /**
+   * Marks the end of the rows of the table. If the rows were never started, there is no data to
+   * format for the table.
+   *
+   * @throws InterruptedException If interrupted while waiting
+   */
+  void finish() throws InterruptedException {
+    if (finished) {
+      return;
+    }
+    finished = true;
+    if (readChunk != null) {
+      chunks.put(readChunk);
+      readChunk = null;
+    }
+    chunks.put(END);
+  }
+
+  /**
+   * Waits for the reading thread to start the rows of the table.
+   *
+   * @return Column names, or null if there is no data for the table
+   * @throws InterruptedException If interrupted while waiting
+   */
+  String[] getColumnNames() throws InterruptedException {
+    final Object next = chunks.take();
+    if (next == END) {
+      ended = true;
+      return null;
+    }
+    if (next instanceof Throwable) {
+      ended = true;
+      throw new DatabaseAccessException((Throwable) next);
+    }
+    return (String[]) next;
+  }
+
+  @Override
+  public boolean hasNext() {
+    while (!formatChunk.hasNext()) {
+      if (ended) {
+        return false;
+      }
+      nextChunk();
+    }
+    return true;
+  }
+
+  @Override
+  public Object[] next() {
+    if (!hasNext()) {
+      throw new NoSuchElementException("No more rows of data");
+    }
+    return formatChunk.next();
+  }
+
+  /**
+   * Starts the rows of the table.
+   *
+   * @param columnNames Names of the columns in the data
+   * @throws InterruptedException If interrupted while waiting
+   */
+  void start(final String[] columnNames) throws InterruptedException {
+    chunks.put(columnNames);
+  }
+
+  @SuppressWarnings("unchecked")
+  private void nextChunk() {
+    final Object next;
+    try {
+      next = chunks.take();
+    } catch (final InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new DatabaseAccessException(e);
+    }
+    if (next == END) {
+      ended = true;
+    } else if (next instanceof Throwable) {
+      ended = true;
+      throw new DatabaseAccessException((Throwable) next);
+    } else {
+      formatChunk = ((List<Object[]>) next).iterator();
+    }
+  }
+}
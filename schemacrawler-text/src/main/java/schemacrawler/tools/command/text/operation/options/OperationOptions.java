@@ -37,22 +37,57 @@ public final class OperationOptions extends BaseTextOptions {
 
   private final Operation operation;
   private final boolean isShowLobs;
+  private final int parallelQueries;
+  private final int queryTimeout;
+  private final boolean isApproximateCounts;
 
   protected OperationOptions(final OperationOptionsBuilder builder) {
     super(builder);
 
     operation = requireNonNull(builder.operation, "No operation provided");
     isShowLobs = builder.isShowLobs;
+    parallelQueries = builder.parallelQueries;
+    queryTimeout = builder.queryTimeout;
+    isApproximateCounts = builder.isApproximateCounts;
   }
 
   public Operation getOperation() {
     return operation;
   }
 
+  /**
+   * Number of table queries to run at the same time, each on its own pooled connection.
+   *
+   * @return Number of parallel queries, which is one if queries are run one after another
+   */
+  public int getParallelQueries() {
+    return parallelQueries;
+  }
+
   public Query getQuery() {
     return operation.getQuery();
   }
 
+  /**
+   * Maximum time for the query against a single table, so that one slow table does not hold up
+   * the rest of the output.
+   *
+   * @return Timeout in seconds, or zero for no limit
+   */
+  public int getQueryTimeout() {
+    return queryTimeout;
+  }
+
+  /**
+   * Whether row counts are read from database statistics where the database plugin provides a
+   * query for them, rather than counted.
+   *
+   * @return Whether to use estimated row counts.
+   */
+  public boolean isApproximateCounts() {
+    return isApproximateCounts;
+  }
+
   /**
    * Whether to show LOBs.
    *
@@ -35,6 +35,11 @@ import schemacrawler.tools.text.options.BaseTextOptionsBuilder;
 public final class OperationOptionsBuilder
     extends BaseTextOptionsBuilder<OperationOptionsBuilder, OperationOptions> {
   private static final String SHOW_LOBS = SCHEMACRAWLER_FORMAT_PREFIX + "data.show_lobs";
+  private static final String PARALLEL_QUERIES =
+      SCHEMACRAWLER_FORMAT_PREFIX + "data.parallel_queries";
+  private static final String QUERY_TIMEOUT = SCHEMACRAWLER_FORMAT_PREFIX + "data.query_timeout";
+  private static final String APPROXIMATE_COUNTS =
+      SCHEMACRAWLER_FORMAT_PREFIX + "data.approximate_counts";
 
   public static OperationOptionsBuilder builder() {
     return new OperationOptionsBuilder();
@@ -43,9 +48,13 @@ public final class OperationOptionsBuilder
   private String command;
   protected Operation operation;
   protected boolean isShowLobs;
+  protected int parallelQueries;
+  protected int queryTimeout;
+  protected boolean isApproximateCounts;
 
   private OperationOptionsBuilder() {
     // Set default values, if any
+    parallelQueries = 1;
   }
 
   @Override
@@ -56,6 +65,9 @@ public final class OperationOptionsBuilder
     super.fromConfig(config);
 
     isShowLobs = config.getBooleanValue(SHOW_LOBS, false);
+    parallelQueries(config.getIntegerValue(PARALLEL_QUERIES, 1));
+    queryTimeout(config.getIntegerValue(QUERY_TIMEOUT, 0));
+    isApproximateCounts = config.getBooleanValue(APPROXIMATE_COUNTS, false);
     operation = getQueryFromCommand(config);
 
     return this;
@@ -69,10 +81,52 @@ public final class OperationOptionsBuilder
     super.fromOptions(options);
 
     isShowLobs = options.isShowLobs();
+    parallelQueries = options.getParallelQueries();
+    queryTimeout = options.getQueryTimeout();
+    isApproximateCounts = options.isApproximateCounts();
 
     return this;
   }
 
+  public OperationOptionsBuilder approximateCounts() {
+    return approximateCounts(true);
+  }
+
+  /**
+   * Read row counts from database statistics, or count the rows. Tables without statistics are
+   * still counted.
+   *
+   * @param value Whether to use estimated row counts.
+   * @return Builder
+   */
+  public OperationOptionsBuilder approximateCounts(final boolean value) {
+    isApproximateCounts = value;
+    return this;
+  }
+
+  /**
+   * Number of table queries to run at the same time, if the command has a source of pooled
+   * connections. Results are still output in table order.
+   *
+   * @param parallelQueries Number of parallel queries, or one to run queries one after another
+   * @return Builder
+   */
+  public OperationOptionsBuilder parallelQueries(final int parallelQueries) {
+    this.parallelQueries = Math.max(1, parallelQueries);
+    return this;
+  }
+
+  /**
+   * Maximum time for the query against a single table.
+   *
+   * @param queryTimeout Timeout in seconds, or zero for no limit
+   * @return Builder
+   */
+  public OperationOptionsBuilder queryTimeout(final int queryTimeout) {
+    this.queryTimeout = Math.max(0, queryTimeout);
+    return this;
+  }
+
   public OperationOptionsBuilder showLobs() {
     return showLobs(true);
   }
@@ -92,6 +146,9 @@ public final class OperationOptionsBuilder
   public Config toConfig() {
     final Config config = super.toConfig();
     config.put(SHOW_LOBS, isShowLobs);
+    config.put(PARALLEL_QUERIES, parallelQueries);
+    config.put(QUERY_TIMEOUT, queryTimeout);
+    config.put(APPROXIMATE_COUNTS, isApproximateCounts);
     return config;
   }
 
@@ -62,6 +62,7 @@ public final class SchemaTextRenderer extends BaseSchemaCrawlerCommand<SchemaTex
         NamedObjectSort.getNamedObjectSort(commandOptions.isAlphabeticalSortForTables()));
     traverser.setRoutinesComparator(
         NamedObjectSort.getNamedObjectSort(commandOptions.isAlphabeticalSortForRoutines()));
+    traverser.setParallelism(commandOptions.getParallelRendering());
 
     traverser.traverse();
   }
@@ -47,6 +47,9 @@ public abstract class BaseSchemaTextOptionsBuilder<
 
   private static final String HIDE_REMARKS = SCHEMACRAWLER_FORMAT_PREFIX + "hide_remarks";
 
+  private static final String PARALLEL_RENDERING =
+      SCHEMACRAWLER_FORMAT_PREFIX + "parallel_rendering";
+
   private static final String SC_SORT_ALPHABETICALLY_TABLE_INDEXES =
       SCHEMACRAWLER_FORMAT_PREFIX + "sort_alphabetically.table_indexes";
   private static final String SC_SORT_ALPHABETICALLY_TABLE_FOREIGNKEYS =
@@ -58,10 +61,12 @@ public abstract class BaseSchemaTextOptionsBuilder<
   protected boolean isShowOrdinalNumbers;
   protected boolean isShowStandardColumnTypeNames;
   protected boolean isHideTableRowCounts;
+  protected int parallelRendering;
   protected final Map<HideDatabaseObjectNamesType, Boolean> hideNames;
 
   public BaseSchemaTextOptionsBuilder() {
     hideNames = new EnumMap<>(HideDatabaseObjectNamesType.class);
+    parallelRendering = 1;
   }
 
   @Override
@@ -81,6 +86,8 @@ public abstract class BaseSchemaTextOptionsBuilder<
         config.getBooleanValue(SC_SORT_ALPHABETICALLY_TABLE_FOREIGNKEYS);
     isAlphabeticalSortForIndexes = config.getBooleanValue(SC_SORT_ALPHABETICALLY_TABLE_INDEXES);
 
+    parallelRendering(config.getIntegerValue(PARALLEL_RENDERING, 1));
+
     for (final HideDatabaseObjectNamesType databaseObjectNamesType : HideDatabaseObjectNamesType.values()) {
       final boolean booleanValue = config.getBooleanValue(databaseObjectNamesType.getKey());
       hideNames.put(databaseObjectNamesType, booleanValue);
@@ -108,6 +115,8 @@ public abstract class BaseSchemaTextOptionsBuilder<
     isAlphabeticalSortForForeignKeys = options.isAlphabeticalSortForForeignKeys();
     isAlphabeticalSortForIndexes = options.isAlphabeticalSortForIndexes();
 
+    parallelRendering = options.getParallelRendering();
+
     for (final HideDatabaseObjectNamesType databaseObjectNamesType : HideDatabaseObjectNamesType.values()) {
       hideNames.put(databaseObjectNamesType, options.get(databaseObjectNamesType));
     }
@@ -207,6 +216,18 @@ public abstract class BaseSchemaTextOptionsBuilder<
     return (B) this;
   }
 
+  /**
+   * Sets the number of threads that render tables. The output is the same as when tables are
+   * rendered one after another.
+   *
+   * @param parallelRendering Number of threads, or one to render tables one after another
+   * @return Builder
+   */
+  public final B parallelRendering(final int parallelRendering) {
+    this.parallelRendering = Math.max(1, parallelRendering);
+    return (B) this;
+  }
+
   /** Corresponds to the --portable-names command-line argument. */
   public final B portableNames() {
     return portableNames(true);
@@ -272,6 +293,8 @@ public abstract class BaseSchemaTextOptionsBuilder<
     config.put(SC_SORT_ALPHABETICALLY_TABLE_FOREIGNKEYS, isAlphabeticalSortForForeignKeys);
     config.put(SC_SORT_ALPHABETICALLY_TABLE_INDEXES, isAlphabeticalSortForIndexes);
 
+    config.put(PARALLEL_RENDERING, parallelRendering);
+
     for (final HideDatabaseObjectNamesType databaseObjectNamesType : HideDatabaseObjectNamesType.values()) {
       config.put(
           databaseObjectNamesType.getKey(), hideNames.getOrDefault(databaseObjectNamesType, false));
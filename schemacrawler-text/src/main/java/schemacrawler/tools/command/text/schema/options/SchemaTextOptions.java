@@ -41,6 +41,7 @@ public class SchemaTextOptions extends BaseTextOptions {
   private final boolean isShowOrdinalNumbers;
   private final boolean isShowStandardColumnTypeNames;
   private final boolean isHideTableRowCounts;
+  private final int parallelRendering;
   private final Map<HideDatabaseObjectNamesType, Boolean> hideNames;
 
   protected SchemaTextOptions(
@@ -53,6 +54,7 @@ public class SchemaTextOptions extends BaseTextOptions {
     isShowOrdinalNumbers = builder.isShowOrdinalNumbers;
     isShowStandardColumnTypeNames = builder.isShowStandardColumnTypeNames;
     isHideTableRowCounts = builder.isHideTableRowCounts;
+    parallelRendering = builder.parallelRendering;
 
     hideNames = new EnumMap<>(HideDatabaseObjectNamesType.class);
     for (final HideDatabaseObjectNamesType databaseObjectNamesType :
@@ -66,6 +68,15 @@ public class SchemaTextOptions extends BaseTextOptions {
     return hideNames.getOrDefault(key, false);
   }
 
+  /**
+   * Number of threads that render tables.
+   *
+   * @return Number of threads, which is one if tables are rendered one after another
+   */
+  public int getParallelRendering() {
+    return parallelRendering;
+  }
+
   public boolean isAlphabeticalSortForForeignKeys() {
     return isAlphabeticalSortForForeignKeys;
   }
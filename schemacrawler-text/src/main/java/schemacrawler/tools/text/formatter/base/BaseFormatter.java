@@ -32,6 +32,7 @@ import static us.fatehi.utility.Utility.convertForComparison;
 import static us.fatehi.utility.Utility.hasNoUpperCase;
 
 import java.io.PrintWriter;
+import java.io.Writer;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -45,6 +46,7 @@ import schemacrawler.schemacrawler.Identifiers;
 import schemacrawler.tools.command.text.schema.options.SchemaTextDetailType;
 import schemacrawler.tools.command.text.schema.options.TextOutputFormat;
 import schemacrawler.tools.options.OutputOptions;
+import schemacrawler.tools.options.OutputOptionsBuilder;
 import schemacrawler.tools.text.formatter.base.helper.HtmlFormattingHelper;
 import schemacrawler.tools.text.formatter.base.helper.PlainTextFormattingHelper;
 import schemacrawler.tools.text.formatter.base.helper.TextFormattingHelper;
@@ -97,6 +99,16 @@ public abstract class BaseFormatter<O extends BaseTextOptions> implements Traver
     }
   }
 
+  /**
+   * Appends output that was rendered by another formatter with the same options, such as a
+   * formatter that rendered tables on another thread.
+   *
+   * @param output Rendered output
+   */
+  public void append(final String output) {
+    formattingHelper.append(output);
+  }
+
   @Override
   public void end() {
     LOGGER.log(Level.INFO, "Closing writer");
@@ -117,6 +129,16 @@ public abstract class BaseFormatter<O extends BaseTextOptions> implements Traver
     return columnNullable;
   }
 
+  /**
+   * Output options that are the same as for this formatter, but that write to the provided writer.
+   *
+   * @param writer Writer for output
+   * @return Output options
+   */
+  protected OutputOptions outputOptionsFor(final Writer writer) {
+    return OutputOptionsBuilder.builder(outputOptions).withOutputWriter(writer).toOptions();
+  }
+
   protected boolean isBrief() {
     return schemaTextDetailType == SchemaTextDetailType.brief;
   }
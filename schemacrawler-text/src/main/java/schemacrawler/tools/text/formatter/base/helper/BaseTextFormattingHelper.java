@@ -31,18 +31,14 @@ package schemacrawler.tools.text.formatter.base.helper;
 import static us.fatehi.utility.ObjectToString.arrayToList;
 import static us.fatehi.utility.Utility.isBlank;
 import static us.fatehi.utility.html.TagBuilder.anchor;
-import static us.fatehi.utility.html.TagBuilder.tableCell;
-import static us.fatehi.utility.html.TagBuilder.tableHeaderCell;
-import static us.fatehi.utility.html.TagBuilder.tableRow;
 
 import java.io.PrintWriter;
 
 import schemacrawler.tools.command.text.schema.options.TextOutputFormat;
 import schemacrawler.utility.BinaryData;
 import us.fatehi.utility.html.Alignment;
-import us.fatehi.utility.html.Tag;
-import us.fatehi.utility.html.TagBuilder;
 import us.fatehi.utility.html.TagOutputFormat;
+import us.fatehi.utility.html.TagWriter;
 
 /** Methods to format entire rows of output as HTML. */
 abstract class BaseTextFormattingHelper implements TextFormattingHelper {
@@ -71,28 +67,31 @@ abstract class BaseTextFormattingHelper implements TextFormattingHelper {
 
   protected final PrintWriter out;
 
-  private final TextOutputFormat outputFormat;
+  private final TagOutputFormat tagOutputFormat;
+  private final TagWriter tagWriter;
 
   public BaseTextFormattingHelper(final PrintWriter out, final TextOutputFormat outputFormat) {
     this.out = out;
-    this.outputFormat = outputFormat;
+    tagOutputFormat = TagOutputFormat.valueOf(outputFormat.name());
+    tagWriter = new TagWriter(out);
   }
 
   @Override
   public TextFormattingHelper append(final String text) {
     out.write(text);
-    out.flush();
 
     return this;
   }
 
   @Override
   public String createAnchor(final String text, final String link) {
-    return anchor()
-        .withEscapedText(text)
-        .withHyperlink(link)
-        .make()
-        .render(TagOutputFormat.valueOf(outputFormat.name()));
+    return anchor().withEscapedText(text).withHyperlink(link).make().render(tagOutputFormat);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public TagWriter getTagWriter() {
+    return tagWriter;
   }
 
   @Override
@@ -103,10 +102,16 @@ abstract class BaseTextFormattingHelper implements TextFormattingHelper {
   /** {@inheritDoc} */
   @Override
   public void writeDescriptionRow(final String description) {
-    final Tag row = tableRow().make();
-    row.addInnerTag(tableCell().withStyleClass("spacer").make());
-    row.addInnerTag(tableCell().withEscapedText(description).withColumnSpan(2).make());
-    out.println(row.render(TagOutputFormat.valueOf(outputFormat.name())));
+    tagWriter
+        .startRow(tagOutputFormat)
+        .cell()
+        .withStyleClass("spacer")
+        .end()
+        .cell()
+        .withEscapedText(description)
+        .withColumnSpan(2)
+        .end()
+        .endRow();
   }
 
   /** {@inheritDoc} */
@@ -133,31 +138,30 @@ abstract class BaseTextFormattingHelper implements TextFormattingHelper {
       text3Sytle = "";
     }
 
-    final Tag row = tableRow().make();
+    tagWriter.startRow(tagOutputFormat);
     if (isBlank(text1)) {
-      row.addInnerTag(tableCell().withStyleClass("spacer").make());
+      tagWriter.cell().withStyleClass("spacer").end();
     } else {
-      row.addInnerTag(
-          tableCell().withEscapedText(text1).withWidth(2).withStyleClass("spacer").make());
+      tagWriter.cell().withEscapedText(text1).withWidth(2).withStyleClass("spacer").end();
     }
 
-    row.addInnerTag(
-        tableCell()
-            .withEscapedText(text2, escapeText)
-            .withWidth(text2Width)
-            .withEmphasis(emphasize)
-            .withStyleClass("minwidth")
-            .make());
-
-    row.addInnerTag(
-        tableCell()
-            .withEscapedText(text3)
-            .withWidth(text3Width)
-            .withAlignment(Alignment.inherit)
-            .withStyleClass("minwidth" + text3Sytle)
-            .make());
-
-    out.println(row.render(TagOutputFormat.valueOf(outputFormat.name())));
+    tagWriter
+        .cell()
+        .withEscapedText(text2, escapeText)
+        .withWidth(text2Width)
+        .withEmphasis(emphasize)
+        .withStyleClass("minwidth")
+        .end();
+
+    tagWriter
+        .cell()
+        .withEscapedText(text3)
+        .withWidth(text3Width)
+        .withAlignment(Alignment.inherit)
+        .withStyleClass("minwidth" + text3Sytle)
+        .end();
+
+    tagWriter.endRow();
   }
 
   /**
@@ -167,9 +171,7 @@ abstract class BaseTextFormattingHelper implements TextFormattingHelper {
    */
   @Override
   public void writeEmptyRow() {
-    final Tag tableRow = tableRow().make();
-    tableRow.addInnerTag(tableCell().withColumnSpan(3).make());
-    out.println(tableRow.render(TagOutputFormat.valueOf(outputFormat.name())));
+    tagWriter.startRow(tagOutputFormat).cell().withColumnSpan(3).end().endRow();
   }
 
   /**
@@ -192,23 +194,21 @@ abstract class BaseTextFormattingHelper implements TextFormattingHelper {
       nameWidth = Math.max(name.length(), nameWidth - (description.length() - descriptionWidth));
     }
 
-    final Tag row = tableRow().make();
-    row.addInnerTag(
-        tableCell()
-            .withEscapedText(name)
-            .withWidth(nameWidth)
-            .withStyleClass("name")
-            .withColumnSpan(2)
-            .make());
-    row.addInnerTag(
-        tableCell()
-            .withEscapedText(description)
-            .withWidth(descriptionWidth)
-            .withAlignment(Alignment.right)
-            .withStyleClass("description right")
-            .make());
-
-    out.println(row.render(TagOutputFormat.valueOf(outputFormat.name())));
+    tagWriter
+        .startRow(tagOutputFormat)
+        .cell()
+        .withEscapedText(name)
+        .withWidth(nameWidth)
+        .withStyleClass("name")
+        .withColumnSpan(2)
+        .end()
+        .cell()
+        .withEscapedText(description)
+        .withWidth(descriptionWidth)
+        .withAlignment(Alignment.right)
+        .withStyleClass("description right")
+        .end()
+        .endRow();
   }
 
   /**
@@ -226,22 +226,20 @@ abstract class BaseTextFormattingHelper implements TextFormattingHelper {
     final String valueStyle =
         "property_value" + (alignmentForValue == Alignment.inherit ? "" : " right");
 
-    final Tag row = tableRow().make();
-    row.addInnerTag(
-        tableCell()
-            .withEscapedText(name)
-            .withWidth(nameWidth)
-            .withStyleClass("property_name")
-            .make());
-    row.addInnerTag(
-        tableCell()
-            .withEscapedText(value)
-            .withWidth(valueWidth)
-            .withAlignment(alignmentForValue)
-            .withStyleClass(valueStyle)
-            .make());
-
-    out.println(row.render(TagOutputFormat.valueOf(outputFormat.name())));
+    tagWriter
+        .startRow(tagOutputFormat)
+        .cell()
+        .withEscapedText(name)
+        .withWidth(nameWidth)
+        .withStyleClass("property_name")
+        .end()
+        .cell()
+        .withEscapedText(value)
+        .withWidth(valueWidth)
+        .withAlignment(alignmentForValue)
+        .withStyleClass(valueStyle)
+        .end()
+        .endRow();
   }
 
   /**
@@ -251,13 +249,9 @@ abstract class BaseTextFormattingHelper implements TextFormattingHelper {
    */
   @Override
   public void writeRow(final Object... columnData) {
-    TextOutputFormat outputFormat = this.outputFormat;
-    if (outputFormat == TextOutputFormat.text) {
-      outputFormat = TextOutputFormat.tsv;
-    }
-    final Tag row = tableRow().make();
+    tagWriter.startRow(dataOutputFormat());
     for (final Object element : columnData) {
-      final TagBuilder tableCell = tableCell().withEscapedText(toString(element));
+      final TagWriter.Cell tableCell = tagWriter.cell().withEscapedText(toString(element));
       if (element == null) {
         tableCell.withStyleClass("data_null");
       } else if (element instanceof BinaryData) {
@@ -265,10 +259,9 @@ abstract class BaseTextFormattingHelper implements TextFormattingHelper {
       } else if (element instanceof Number) {
         tableCell.withStyleClass("data_number");
       }
-      row.addInnerTag(tableCell.make());
+      tableCell.end();
     }
-
-    out.println(row.render(TagOutputFormat.valueOf(outputFormat.name())));
+    tagWriter.endRow();
   }
 
   /**
@@ -278,24 +271,30 @@ abstract class BaseTextFormattingHelper implements TextFormattingHelper {
    */
   @Override
   public void writeRowHeader(final String... columnNames) {
-    TextOutputFormat outputFormat = this.outputFormat;
-    if (outputFormat == TextOutputFormat.text) {
-      outputFormat = TextOutputFormat.tsv;
-    }
-    final Tag row = tableRow().make();
+    tagWriter.startRow(dataOutputFormat());
     for (final String columnName : columnNames) {
-      final Tag headerCell = tableHeaderCell().withText(columnName).make();
-      row.addInnerTag(headerCell);
+      tagWriter.headerCell().withText(columnName).end();
     }
-
-    out.println(row.render(TagOutputFormat.valueOf(outputFormat.name())));
+    tagWriter.endRow();
   }
 
   @Override
   public void writeWideRow(final String definition, final String style) {
-    final Tag row = tableRow().make();
-    row.addInnerTag(
-        tableCell().withEscapedText(definition).withStyleClass(style).withColumnSpan(3).make());
-    out.println(row.render(TagOutputFormat.valueOf(outputFormat.name())));
+    tagWriter
+        .startRow(tagOutputFormat)
+        .cell()
+        .withEscapedText(definition)
+        .withStyleClass(style)
+        .withColumnSpan(3)
+        .end()
+        .endRow();
+  }
+
+  /** Data rows are tab-separated in plain text output. */
+  private TagOutputFormat dataOutputFormat() {
+    if (tagOutputFormat == TagOutputFormat.text) {
+      return TagOutputFormat.tsv;
+    }
+    return tagOutputFormat;
   }
 }
@@ -30,6 +30,7 @@ package schemacrawler.tools.text.formatter.base.helper;
 
 import us.fatehi.utility.Color;
 import us.fatehi.utility.html.Alignment;
+import us.fatehi.utility.html.TagWriter;
 
 /** Methods to format entire rows of output. */
 public interface TextFormattingHelper {
@@ -113,6 +114,13 @@ public interface TextFormattingHelper {
    */
   String createWeakRightArrow();
 
+  /**
+   * Gets a writer that writes table rows directly to the output, without building tags.
+   *
+   * @return Tag writer
+   */
+  TagWriter getTagWriter();
+
   void println();
 
   /**
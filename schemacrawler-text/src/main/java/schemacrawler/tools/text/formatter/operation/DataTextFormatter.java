@@ -34,7 +34,10 @@ import static schemacrawler.tools.command.text.schema.options.SchemaTextDetailTy
 
 import java.sql.ResultSet;
 import java.sql.SQLException;
-import java.util.List;
+import java.util.Iterator;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+import java.util.logging.Logger;
 
 import schemacrawler.crawl.MetadataResultSet;
 import schemacrawler.schema.Table;
@@ -49,11 +52,36 @@ import schemacrawler.tools.text.formatter.base.helper.TextFormattingHelper.Docum
 import schemacrawler.tools.traversal.DataTraversalHandler;
 import us.fatehi.utility.Color;
 import us.fatehi.utility.html.Alignment;
+import us.fatehi.utility.string.StringFormat;
 
 /** Text formatting of data. */
 public final class DataTextFormatter extends BaseTabularFormatter<OperationOptions>
     implements DataTraversalHandler {
 
+  private static final Logger LOGGER = Logger.getLogger(DataTextFormatter.class.getName());
+
+  /**
+   * Logs the throughput of reading the rows of a table, so that slow tables can be found in large
+   * data exports.
+   *
+   * @param title Table name
+   * @param rowCount Number of rows read
+   * @param elapsedNanos Time taken to read the rows
+   */
+  public static void logThroughput(
+      final String title, final long rowCount, final long elapsedNanos) {
+    if (!LOGGER.isLoggable(Level.INFO)) {
+      return;
+    }
+    final long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(elapsedNanos);
+    final long rowsPerSecond = elapsedNanos > 0 ? rowCount * 1_000_000_000L / elapsedNanos : 0;
+    LOGGER.log(
+        Level.INFO,
+        new StringFormat(
+            "Read <%d> rows from <%s> in <%d> ms, at <%d> rows per second",
+            rowCount, title, elapsedMillis, rowsPerSecond));
+  }
+
   private static String getMessage(final double aggregate) {
     final Number number;
     if (Math.abs(aggregate - (int) aggregate) < 1E-10D) {
@@ -111,14 +139,89 @@ public final class DataTextFormatter extends BaseTabularFormatter<OperationOptio
   /** {@inheritDoc} */
   @Override
   public void handleData(final Table table, final ResultSet rows) {
-    final String tableName;
-    if (table != null) {
-      tableName = quoteName(table);
+    handleData(getTitle(table), rows);
+  }
+
+  /**
+   * Handles rows of data that are read for a table elsewhere, for example by a query that runs on
+   * another connection. Rows are written as the iterator returns them.
+   *
+   * @param table Table that the data was read from
+   * @param columnNames Names of the columns in the data
+   * @param rows Rows of data, with values in column order
+   */
+  public void handleData(
+      final Table table, final String[] columnNames, final Iterator<Object[]> rows) {
+    if (rows == null) {
+      return;
+    }
+
+    final String title = getTitle(table);
+
+    if (dataBlockCount == 0) {
+      printHeader();
+    }
+
+    if (operation == OperationType.count) {
+      long aggregate = 0;
+      if (rows.hasNext()) {
+        final Object[] row = rows.next();
+        if (row.length > 0 && row[0] instanceof Number) {
+          aggregate = ((Number) row[0]).longValue();
+        }
+      }
+      formattingHelper.writeNameValueRow(title, getMessage(aggregate), Alignment.right);
     } else {
-      tableName = "";
+      writeDataStart(title, columnNames);
+      while (rows.hasNext()) {
+        formattingHelper.writeRow(rows.next());
+      }
+      formattingHelper.writeObjectEnd();
+    }
+
+    dataBlockCount++;
+  }
+
+  /**
+   * Handles a row count for a table that was estimated from database statistics, rather than
+   * counted.
+   *
+   * @param table Table that the estimate is for
+   * @param rowCount Estimated number of rows
+   */
+  public void handleRowCountEstimate(final Table table, final long rowCount) {
+    if (dataBlockCount == 0) {
+      printHeader();
     }
 
-    handleData(tableName, rows);
+    final String message = getRowCountMessage(rowCount) + " (estimated)";
+    formattingHelper.writeNameValueRow(getTitle(table), message, Alignment.right);
+
+    dataBlockCount++;
+  }
+
+  /**
+   * Handles a table that could not be counted, and that has no estimated row count, so that the
+   * table is still listed.
+   *
+   * @param table Table that could not be counted
+   */
+  public void handleRowCountUnavailable(final Table table) {
+    if (dataBlockCount == 0) {
+      printHeader();
+    }
+
+    formattingHelper.writeNameValueRow(getTitle(table), "unavailable", Alignment.right);
+
+    dataBlockCount++;
+  }
+
+  private String getTitle(final Table table) {
+    if (table != null) {
+      return quoteName(table);
+    } else {
+      return "";
+    }
   }
 
   /**
@@ -153,16 +256,15 @@ public final class DataTextFormatter extends BaseTabularFormatter<OperationOptio
     if (operation == OperationType.count) {
       handleAggregateOperationForTable(title, rows);
     } else {
-      formattingHelper.println();
-      formattingHelper.println();
-      formattingHelper.writeObjectStart();
-      formattingHelper.writeObjectNameRow("", title, "", Color.white);
-      try (final MetadataResultSet dataRows = new MetadataResultSet(rows, "Data")) {
+      final long start = System.nanoTime();
+      // Keep the fetch size that was set on the statement
+      try (final MetadataResultSet dataRows = new MetadataResultSet(rows, "Data", 0)) {
         dataRows.setShowLobs(options.isShowLobs());
 
-        formattingHelper.writeRowHeader(dataRows.getColumnNames());
+        writeDataStart(title, dataRows.getColumnNames());
 
-        iterateRows(dataRows);
+        final long rowCount = iterateRows(dataRows);
+        logThroughput(title, rowCount, System.nanoTime() - start);
       } catch (final SQLException e) {
         throw new DatabaseAccessException(e);
       }
@@ -172,12 +274,21 @@ public final class DataTextFormatter extends BaseTabularFormatter<OperationOptio
     dataBlockCount++;
   }
 
-  private void iterateRows(final MetadataResultSet dataRows) throws SQLException {
+  private long iterateRows(final MetadataResultSet dataRows) throws SQLException {
+    long rowCount = 0;
     while (dataRows.next()) {
-      final List<Object> currentRow = dataRows.row();
-      final Object[] columnData = currentRow.toArray(new Object[currentRow.size()]);
-      formattingHelper.writeRow(columnData);
+      formattingHelper.writeRow(dataRows.rowValues());
+      rowCount++;
     }
+    return rowCount;
+  }
+
+  private void writeDataStart(final String title, final String[] columnNames) {
+    formattingHelper.println();
+    formattingHelper.println();
+    formattingHelper.writeObjectStart();
+    formattingHelper.writeObjectNameRow("", title, "", Color.white);
+    formattingHelper.writeRowHeader(columnNames);
   }
 
   private void printHeader() {
@@ -30,6 +30,8 @@ package schemacrawler.tools.text.formatter.schema;
 
 import static us.fatehi.utility.Utility.isBlank;
 
+import java.io.Writer;
+
 import schemacrawler.schema.ColumnDataType;
 import schemacrawler.schema.CrawlInfo;
 import schemacrawler.schema.DatabaseInfo;
@@ -44,12 +46,13 @@ import schemacrawler.tools.command.text.schema.options.SchemaTextOptions;
 import schemacrawler.tools.options.OutputOptions;
 import schemacrawler.tools.text.formatter.base.BaseFormatter;
 import schemacrawler.tools.text.formatter.base.helper.TextFormattingHelper.DocumentHeaderType;
+import schemacrawler.tools.traversal.ParallelSchemaTraversalHandler;
 import schemacrawler.tools.traversal.SchemaTraversalHandler;
 import us.fatehi.utility.html.Alignment;
 
 /** Text formatting of schema. */
 public final class SchemaListFormatter extends BaseFormatter<SchemaTextOptions>
-    implements SchemaTraversalHandler {
+    implements ParallelSchemaTraversalHandler {
 
   /**
    * Text formatting of schema.
@@ -269,6 +272,16 @@ public final class SchemaListFormatter extends BaseFormatter<SchemaTextOptions>
     formattingHelper.writeObjectStart();
   }
 
+  /** {@inheritDoc} */
+  @Override
+  public SchemaTraversalHandler newTableHandler(final Writer out) {
+    return new SchemaListFormatter(
+        schemaTextDetailType,
+        options,
+        outputOptionsFor(out),
+        identifiers.getIdentifierQuoteString());
+  }
+
   private void printRemarks(final DatabaseObject object) {
     if (object == null || !object.hasRemarks() || options.isHideRemarks()) {
       return;
@@ -35,6 +35,7 @@ import static schemacrawler.schema.DataTypeType.user_defined;
 import static us.fatehi.utility.Utility.isBlank;
 import static us.fatehi.utility.Utility.trimToEmpty;
 
+import java.io.Writer;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
@@ -77,6 +78,7 @@ import schemacrawler.tools.command.text.schema.options.SchemaTextOptions;
 import schemacrawler.tools.options.OutputOptions;
 import schemacrawler.tools.text.formatter.base.BaseTabularFormatter;
 import schemacrawler.tools.text.formatter.base.helper.TextFormattingHelper.DocumentHeaderType;
+import schemacrawler.tools.traversal.ParallelSchemaTraversalHandler;
 import schemacrawler.tools.traversal.SchemaTraversalHandler;
 import schemacrawler.utility.MetaDataUtility;
 import schemacrawler.utility.MetaDataUtility.ForeignKeyCardinality;
@@ -84,7 +86,7 @@ import schemacrawler.utility.NamedObjectSort;
 
 /** Text formatting of schema. */
 public final class SchemaTextFormatter extends BaseTabularFormatter<SchemaTextOptions>
-    implements SchemaTraversalHandler {
+    implements ParallelSchemaTraversalHandler {
 
   private static final String SPACE = " ";
 
@@ -311,6 +313,16 @@ public final class SchemaTextFormatter extends BaseTabularFormatter<SchemaTextOp
     formattingHelper.writeHeader(DocumentHeaderType.subTitle, "Tables");
   }
 
+  /** {@inheritDoc} */
+  @Override
+  public SchemaTraversalHandler newTableHandler(final Writer out) {
+    return new SchemaTextFormatter(
+        schemaTextDetailType,
+        options,
+        outputOptionsFor(out),
+        identifiers.getIdentifierQuoteString());
+  }
+
   private void printAlternateKeys(final Table table) {
     final Collection<PrimaryKey> alternateKeys = table.getAlternateKeys();
     if (alternateKeys == null || alternateKeys.isEmpty()) {
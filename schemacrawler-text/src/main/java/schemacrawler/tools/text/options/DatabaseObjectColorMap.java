@@ -59,7 +59,14 @@ public class DatabaseObjectColorMap {
     colorMap = new RegularExpressionColorMap(properties);
   }
 
-  public Color getColor(final DatabaseObject dbObject) {
+  /**
+   * Gets the color for a database object, based on its schema. Colors for schemas that are not
+   * mapped are generated and remembered, so that tables can be rendered on more than one thread.
+   *
+   * @param dbObject Database object
+   * @return Color
+   */
+  public synchronized Color getColor(final DatabaseObject dbObject) {
     requireNonNull(dbObject, "No database object provided");
 
     final String schemaName = dbObject.getSchema().getFullName();
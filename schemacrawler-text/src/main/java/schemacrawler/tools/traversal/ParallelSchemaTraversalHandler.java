@@ -0,0 +1,55 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2022, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+
+package schemacrawler.tools.traversal;
+
+import java.io.Writer;
+
+/**
+ * A schema traversal handler that can render tables in parallel. Tables are rendered by separate
+ * handlers, each of which is used on only one thread, and their output is appended to the output
+ * of this handler in table order.
+ */
+public interface ParallelSchemaTraversalHandler extends SchemaTraversalHandler {
+
+  /**
+   * Appends output rendered by a table handler.
+   *
+   * @param output Rendered output
+   */
+  void append(String output);
+
+  /**
+   * Creates a handler with the same options as this one, which writes to the provided writer. Only
+   * tables are handled by the new handler, and it is not ended.
+   *
+   * @param out Writer for rendered tables
+   * @return Handler for tables
+   */
+  SchemaTraversalHandler newTableHandler(Writer out);
+}
@@ -0,0 +1,139 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2022, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+
+package schemacrawler.tools.traversal;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.StringWriter;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import schemacrawler.schema.Table;
+import schemacrawler.schemacrawler.exceptions.ExecutionRuntimeException;
+import us.fatehi.utility.string.StringFormat;
+
+/**
+ * Renders chunks of tables on a fork-join pool. Each chunk is rendered into its own buffer by a
+ * new table handler, so that handlers are confined to a single thread. Buffers are appended to the
+ * output in table order, so that the output is the same as for serial rendering. Only a limited
+ * number of chunks are rendered ahead of the chunk that is being appended, so that memory use is
+ * bounded for large catalogs.
+ */
+final class ParallelTableTraversal {
+
+  private static final Logger LOGGER = Logger.getLogger(ParallelTableTraversal.class.getName());
+
+  private static final int MAX_TABLES_PER_CHUNK = 64;
+
+  private final int parallelism;
+  private final ParallelSchemaTraversalHandler handler;
+
+  ParallelTableTraversal(final int parallelism, final ParallelSchemaTraversalHandler handler) {
+    this.parallelism = Math.max(1, parallelism);
+    this.handler = requireNonNull(handler, "No handler provided");
+  }
+
+  /**
+   * Renders tables on helper threads, and appends the output on the calling thread, in the order
+   * that the tables are provided.
+   *
+   * @param tables Tables to render, in output order
+   */
+  void traverse(final List<? extends Table> tables) {
+    requireNonNull(tables, "No tables provided");
+
+    final int chunkSize = chunkSize(tables.size());
+    LOGGER.log(
+        Level.INFO,
+        new StringFormat(
+            "Rendering <%d> tables in chunks of <%d> on <%d> threads",
+            tables.size(), chunkSize, parallelism));
+
+    // Allow each thread to render one chunk ahead, while the calling thread appends
+    final int window = parallelism * 2;
+    final Deque<Future<String>> pending = new ArrayDeque<>(window);
+
+    final ForkJoinPool pool = new ForkJoinPool(parallelism);
+    try {
+      for (int start = 0; start < tables.size(); start = start + chunkSize) {
+        if (pending.size() == window) {
+          append(pending.removeFirst());
+        }
+        final List<? extends Table> chunk =
+            tables.subList(start, Math.min(start + chunkSize, tables.size()));
+        pending.addLast(pool.submit(() -> render(chunk)));
+      }
+      while (!pending.isEmpty()) {
+        append(pending.removeFirst());
+      }
+    } catch (final InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new ExecutionRuntimeException(e);
+    } finally {
+      pool.shutdownNow();
+    }
+  }
+
+  private void append(final Future<String> pendingOutput) throws InterruptedException {
+    try {
+      handler.append(pendingOutput.get());
+    } catch (final ExecutionException e) {
+      final Throwable cause = e.getCause();
+      if (cause instanceof RuntimeException) {
+        throw (RuntimeException) cause;
+      }
+      throw new ExecutionRuntimeException(cause);
+    }
+  }
+
+  /**
+   * Chunks are small enough to keep all threads busy, and large enough that creating a table
+   * handler for each chunk does not matter.
+   */
+  private int chunkSize(final int tableCount) {
+    final int chunkCount = parallelism * 4;
+    final int chunkSize = (tableCount + chunkCount - 1) / chunkCount;
+    return Math.max(1, Math.min(MAX_TABLES_PER_CHUNK, chunkSize));
+  }
+
+  private String render(final List<? extends Table> chunk) {
+    final StringWriter buffer = new StringWriter();
+    final SchemaTraversalHandler tableHandler = handler.newTableHandler(buffer);
+    for (final Table table : chunk) {
+      tableHandler.handle(table);
+    }
+    return buffer.toString();
+  }
+}
@@ -49,10 +49,12 @@ public class SchemaTraverser {
   private SchemaTraversalHandler handler;
   private Comparator<NamedObject> tablesComparator;
   private Comparator<NamedObject> routinesComparator;
+  private int parallelism;
 
   public SchemaTraverser() {
     tablesComparator = NamedObjectSort.natural;
     routinesComparator = NamedObjectSort.natural;
+    parallelism = 1;
   }
 
   public Catalog getCatalog() {
@@ -63,6 +65,15 @@ public class SchemaTraverser {
     return handler;
   }
 
+  /**
+   * Number of threads that render tables.
+   *
+   * @return Number of threads, which is one if tables are rendered one after another
+   */
+  public int getParallelism() {
+    return parallelism;
+  }
+
   public Comparator<NamedObject> getRoutinesComparator() {
     return routinesComparator;
   }
@@ -79,6 +90,17 @@ public class SchemaTraverser {
     this.handler = requireNonNull(handler, "No handler provided");
   }
 
+  /**
+   * Sets the number of threads that render tables. Tables are only rendered in parallel if the
+   * handler supports it, and the output is the same as when tables are rendered one after
+   * another.
+   *
+   * @param parallelism Number of threads, or one to render tables one after another
+   */
+  public void setParallelism(final int parallelism) {
+    this.parallelism = Math.max(1, parallelism);
+  }
+
   public void setRoutinesComparator(final Comparator<NamedObject> routinesComparator) {
     this.routinesComparator = requireNonNull(routinesComparator, "No routines comparator provided");
   }
@@ -107,8 +129,15 @@ public class SchemaTraverser {
 
       final List<? extends Table> tablesList = new ArrayList<>(tables);
       tablesList.sort(tablesComparator);
-      for (final Table table : tablesList) {
-        handler.handle(table);
+      if (parallelism > 1
+          && tablesList.size() > 1
+          && handler instanceof ParallelSchemaTraversalHandler) {
+        new ParallelTableTraversal(parallelism, (ParallelSchemaTraversalHandler) handler)
+            .traverse(tablesList);
+      } else {
+        for (final Table table : tablesList) {
+          handler.handle(table);
+        }
       }
 
       handler.handleTablesEnd();
@@ -94,6 +94,29 @@ public abstract class AbstractSpinThroughExecutableTest {
     return Arrays.stream(SchemaTextDetailType.values());
   }
 
+  @Test
+  public void parallelSpinThroughExecutable(final Connection connection) throws Exception {
+
+    final SchemaRetrievalOptions schemaRetrievalOptions = TestUtility.newSchemaRetrievalOptions();
+
+    assertAll(
+        outputFormats()
+            .flatMap(
+                outputFormat ->
+                    schemaTextDetailTypes()
+                        .map(
+                            schemaTextDetailType ->
+                                () -> {
+                                  spinThroughExecutable(
+                                      connection,
+                                      schemaRetrievalOptions,
+                                      InfoLevel.maximum,
+                                      outputFormat,
+                                      schemaTextDetailType,
+                                      4);
+                                })));
+  }
+
   @Test
   public void spinThroughExecutable(final Connection connection) throws Exception {
 
@@ -115,7 +138,8 @@ public abstract class AbstractSpinThroughExecutableTest {
                                                   schemaRetrievalOptions,
                                                   infoLevel,
                                                   outputFormat,
-                                                  schemaTextDetailType);
+                                                  schemaTextDetailType,
+                                                  1);
                                             }))));
   }
 
@@ -126,7 +150,8 @@ public abstract class AbstractSpinThroughExecutableTest {
       final SchemaRetrievalOptions schemaRetrievalOptions,
       final InfoLevel infoLevel,
       final OutputFormat outputFormat,
-      final SchemaTextDetailType schemaTextDetailType)
+      final SchemaTextDetailType schemaTextDetailType,
+      final int parallelRendering)
       throws Exception {
     final String javaVersion;
     if (schemaTextDetailType == SchemaTextDetailType.details && infoLevel == InfoLevel.maximum) {
@@ -150,7 +175,7 @@ public abstract class AbstractSpinThroughExecutableTest {
             .withLoadOptions(loadOptionsBuilder.toOptions());
 
     final SchemaTextOptionsBuilder schemaTextOptionsBuilder = SchemaTextOptionsBuilder.builder();
-    schemaTextOptionsBuilder.noInfo(false);
+    schemaTextOptionsBuilder.noInfo(false).parallelRendering(parallelRendering);
 
     final SchemaCrawlerExecutable executable =
         new SchemaCrawlerExecutable(schemaTextDetailType.name());
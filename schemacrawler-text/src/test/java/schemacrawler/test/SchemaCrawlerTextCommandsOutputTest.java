@@ -28,24 +28,39 @@ http://www.gnu.org/licenses/
 
 package schemacrawler.test;
 
+import static java.nio.charset.StandardCharsets.UTF_8;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsString;
 import static schemacrawler.test.utility.ExecutableTestUtility.executableExecution;
 import static schemacrawler.test.utility.FileHasContent.classpathResource;
 import static schemacrawler.test.utility.FileHasContent.hasSameContentAs;
 import static schemacrawler.test.utility.FileHasContent.outputOf;
 import static schemacrawler.test.utility.TestUtility.clean;
 
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.sql.Connection;
+import java.sql.Statement;
 
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
 
+import schemacrawler.crawl.SchemaCrawler;
 import schemacrawler.inclusionrule.RegularExpressionExclusionRule;
+import schemacrawler.inclusionrule.RegularExpressionInclusionRule;
+import schemacrawler.schema.Catalog;
+import schemacrawler.schemacrawler.InformationSchemaKey;
+import schemacrawler.schemacrawler.InformationSchemaViews;
+import schemacrawler.schemacrawler.InformationSchemaViewsBuilder;
 import schemacrawler.schemacrawler.LimitOptionsBuilder;
 import schemacrawler.schemacrawler.SchemaCrawlerOptions;
 import schemacrawler.schemacrawler.SchemaCrawlerOptionsBuilder;
+import schemacrawler.schemacrawler.SchemaRetrievalOptions;
+import schemacrawler.schemacrawler.SchemaRetrievalOptionsBuilder;
+import schemacrawler.test.utility.TestUtility;
 import schemacrawler.test.utility.WithSystemProperty;
 import schemacrawler.test.utility.WithTestDatabase;
+import schemacrawler.tools.command.text.operation.options.OperationOptionsBuilder;
 import schemacrawler.tools.command.text.operation.options.OperationType;
 import schemacrawler.tools.command.text.schema.options.SchemaTextDetailType;
 import schemacrawler.tools.command.text.schema.options.SchemaTextOptionsBuilder;
@@ -62,6 +77,85 @@ public class SchemaCrawlerTextCommandsOutputTest {
     clean(COMMAND_OUTPUT);
   }
 
+  @Test
+  @WithSystemProperty(key = "SC_WITHOUT_DATABASE_PLUGIN", value = "hsqldb")
+  public void approximateCountOutput(final Connection connection) throws Exception {
+    final InformationSchemaViews informationSchemaViews =
+        InformationSchemaViewsBuilder.builder()
+            .fromOptions(TestUtility.newSchemaRetrievalOptions().getInformationSchemaViews())
+            .withSql(
+                InformationSchemaKey.TABLE_ROW_COUNTS,
+                "SELECT TABLE_CATALOG, TABLE_SCHEMA, TABLE_NAME, CARDINALITY AS ROW_COUNT "
+                    + "FROM INFORMATION_SCHEMA.SYSTEM_TABLESTATS")
+            .toOptions();
+    final SchemaRetrievalOptions schemaRetrievalOptions =
+        SchemaRetrievalOptionsBuilder.builder()
+            .fromOptions(TestUtility.newSchemaRetrievalOptions())
+            .withInformationSchemaViews(informationSchemaViews)
+            .toOptions();
+
+    final Config config =
+        OperationOptionsBuilder.builder().approximateCounts().queryTimeout(60).toConfig();
+
+    textOutputTest(
+        OperationType.count.name(),
+        "count_approximate",
+        connection,
+        config,
+        schemaRetrievalOptions);
+  }
+
+  @Test
+  @WithSystemProperty(key = "SC_WITHOUT_DATABASE_PLUGIN", value = "hsqldb")
+  public void countFallbackOutput(final Connection connection) throws Exception {
+    final InformationSchemaViews informationSchemaViews =
+        InformationSchemaViewsBuilder.builder()
+            .fromOptions(TestUtility.newSchemaRetrievalOptions().getInformationSchemaViews())
+            .withSql(
+                InformationSchemaKey.TABLE_ROW_COUNTS,
+                "SELECT 'PUBLIC' AS TABLE_CATALOG, 'BOOKS' AS TABLE_SCHEMA, "
+                    + "'COUNT_ESTIMATED' AS TABLE_NAME, 42 AS ROW_COUNT "
+                    + "FROM INFORMATION_SCHEMA.SCHEMATA WHERE SCHEMA_NAME = 'BOOKS'")
+            .toOptions();
+    final SchemaRetrievalOptions schemaRetrievalOptions =
+        SchemaRetrievalOptionsBuilder.builder()
+            .fromOptions(TestUtility.newSchemaRetrievalOptions())
+            .withInformationSchemaViews(informationSchemaViews)
+            .toOptions();
+    final SchemaCrawlerOptions schemaCrawlerOptions =
+        SchemaCrawlerOptionsBuilder.newSchemaCrawlerOptions()
+            .withLimitOptions(
+                LimitOptionsBuilder.builder()
+                    .includeSchemas(new RegularExpressionInclusionRule("PUBLIC\\.BOOKS"))
+                    .includeTables(new RegularExpressionInclusionRule(".*\\.COUNT_.*"))
+                    .toOptions());
+
+    // Tables that are dropped after the crawl cannot be counted
+    final Catalog catalog;
+    try (final Statement statement = connection.createStatement()) {
+      statement.execute("CREATE TABLE PUBLIC.BOOKS.COUNT_ESTIMATED (ID INTEGER)");
+      statement.execute("CREATE TABLE PUBLIC.BOOKS.COUNT_UNAVAILABLE (ID INTEGER)");
+      try {
+        catalog =
+            new SchemaCrawler(connection, schemaRetrievalOptions, schemaCrawlerOptions).crawl();
+      } finally {
+        statement.execute("DROP TABLE PUBLIC.BOOKS.COUNT_ESTIMATED");
+        statement.execute("DROP TABLE PUBLIC.BOOKS.COUNT_UNAVAILABLE");
+      }
+    }
+
+    final SchemaCrawlerExecutable executable =
+        new SchemaCrawlerExecutable(OperationType.count.name());
+    executable.setSchemaCrawlerOptions(schemaCrawlerOptions);
+    executable.setSchemaRetrievalOptions(schemaRetrievalOptions);
+    executable.setCatalog(catalog);
+
+    final Path output = executableExecution(connection, executable);
+    final String outputText = new String(Files.readAllBytes(output), UTF_8);
+    assertThat(outputText, containsString("42 rows (estimated)"));
+    assertThat(outputText, containsString("unavailable"));
+  }
+
   @Test
   @WithSystemProperty(key = "SC_WITHOUT_DATABASE_PLUGIN", value = "hsqldb")
   public void operationOutput(final Connection connection) throws Exception {
@@ -113,6 +207,16 @@ public class SchemaCrawlerTextCommandsOutputTest {
 
   private void textOutputTest(
       final String command, final Connection connection, final Config config) throws Exception {
+    textOutputTest(command, command, connection, config, null);
+  }
+
+  private void textOutputTest(
+      final String command,
+      final String referenceFile,
+      final Connection connection,
+      final Config config,
+      final SchemaRetrievalOptions schemaRetrievalOptions)
+      throws Exception {
     final LimitOptionsBuilder limitOptionsBuilder =
         LimitOptionsBuilder.builder()
             .includeSchemas(new RegularExpressionExclusionRule(".*\\.FOR_LINT"))
@@ -130,9 +234,10 @@ public class SchemaCrawlerTextCommandsOutputTest {
     final SchemaCrawlerExecutable executable = new SchemaCrawlerExecutable(command);
     executable.setSchemaCrawlerOptions(schemaCrawlerOptions);
     executable.setAdditionalConfiguration(config);
+    executable.setSchemaRetrievalOptions(schemaRetrievalOptions);
 
     assertThat(
         outputOf(executableExecution(connection, executable)),
-        hasSameContentAs(classpathResource(COMMAND_OUTPUT + command + ".txt")));
+        hasSameContentAs(classpathResource(COMMAND_OUTPUT + referenceFile + ".txt")));
   }
 }
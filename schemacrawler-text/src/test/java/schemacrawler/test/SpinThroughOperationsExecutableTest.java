@@ -49,13 +49,19 @@ import schemacrawler.schemacrawler.SchemaCrawlerOptions;
 import schemacrawler.schemacrawler.SchemaCrawlerOptionsBuilder;
 import schemacrawler.test.utility.AssertNoSystemErrOutput;
 import schemacrawler.test.utility.AssertNoSystemOutOutput;
+import schemacrawler.test.utility.DatabaseConnectionInfo;
 import schemacrawler.test.utility.TestUtility;
 import schemacrawler.test.utility.WithTestDatabase;
+import schemacrawler.tools.command.text.operation.options.OperationOptionsBuilder;
 import schemacrawler.tools.command.text.operation.options.OperationType;
 import schemacrawler.tools.command.text.schema.options.SchemaTextOptionsBuilder;
 import schemacrawler.tools.command.text.schema.options.TextOutputFormat;
 import schemacrawler.tools.executable.SchemaCrawlerExecutable;
+import schemacrawler.tools.options.Config;
 import schemacrawler.tools.options.OutputFormat;
+import us.fatehi.utility.datasource.DatabaseConnectionSource;
+import us.fatehi.utility.datasource.DatabaseConnectionSources;
+import us.fatehi.utility.datasource.SingleUseUserCredentials;
 
 @AssertNoSystemErrOutput
 @AssertNoSystemOutOutput
@@ -94,6 +100,27 @@ public class SpinThroughOperationsExecutableTest {
     return referenceFile;
   }
 
+  @Test
+  public void parallelOperationsExecutable(final DatabaseConnectionInfo connectionInfo)
+      throws Exception {
+
+    final DatabaseConnectionSource dataSource =
+        DatabaseConnectionSources.newDatabaseConnectionSource(
+            connectionInfo.getConnectionUrl(), new SingleUseUserCredentials("sa", ""));
+    try (final Connection connection = dataSource.get()) {
+      final Config config =
+          OperationOptionsBuilder.builder().noInfo(false).parallelQueries(4).toConfig();
+      for (final OperationType operation : OperationType.values()) {
+        for (final TextOutputFormat outputFormat :
+            new TextOutputFormat[] {TextOutputFormat.text, TextOutputFormat.html}) {
+          assertOutput(connection, dataSource, config, InfoLevel.maximum, outputFormat, operation);
+        }
+      }
+    } finally {
+      dataSource.close();
+    }
+  }
+
   @Test
   public void spinThroughOperationsExecutable(final Connection connection) throws Exception {
 
@@ -119,6 +146,21 @@ public class SpinThroughOperationsExecutableTest {
       final TextOutputFormat outputFormat,
       final OperationType operation)
       throws Exception {
+    final SchemaTextOptionsBuilder schemaTextOptionsBuilder = SchemaTextOptionsBuilder.builder();
+    schemaTextOptionsBuilder.noInfo(false);
+
+    assertOutput(
+        connection, null, schemaTextOptionsBuilder.toConfig(), infoLevel, outputFormat, operation);
+  }
+
+  private void assertOutput(
+      final Connection connection,
+      final DatabaseConnectionSource dataSource,
+      final Config config,
+      final InfoLevel infoLevel,
+      final TextOutputFormat outputFormat,
+      final OperationType operation)
+      throws Exception {
 
     // Special case where no output is generated
     if (infoLevel == InfoLevel.minimum && operation == OperationType.dump) {
@@ -139,12 +181,10 @@ public class SpinThroughOperationsExecutableTest {
             .withLimitOptions(limitOptionsBuilder.toOptions())
             .withLoadOptions(loadOptionsBuilder.toOptions());
 
-    final SchemaTextOptionsBuilder schemaTextOptionsBuilder = SchemaTextOptionsBuilder.builder();
-    schemaTextOptionsBuilder.noInfo(false);
-
     final SchemaCrawlerExecutable executable = new SchemaCrawlerExecutable(operation.name());
     executable.setSchemaCrawlerOptions(schemaCrawlerOptions);
-    executable.setAdditionalConfiguration(schemaTextOptionsBuilder.toConfig());
+    executable.setAdditionalConfiguration(config);
+    executable.setDataSource(dataSource);
     executable.setSchemaRetrievalOptions(schemaRetrievalOptionsDefault);
 
     assertThat(
@@ -0,0 +1,116 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2022, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+
+package schemacrawler.tools.command.text.operation;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+import static org.hamcrest.Matchers.nullValue;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.sql.SQLException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+import schemacrawler.schemacrawler.exceptions.DatabaseAccessException;
+
+public class TableRowsBufferTest {
+
+  @Test
+  public void boundedRows() throws Exception {
+    final int rowCount = 100;
+    final TableRowsBuffer rows = new TableRowsBuffer(2, 1);
+    final AtomicInteger readRows = new AtomicInteger();
+
+    final Thread reader =
+        new Thread(
+            () -> {
+              try {
+                rows.start(new String[] {"ID"});
+                for (int i = 0; i < rowCount; i++) {
+                  rows.add(new Object[] {i});
+                  readRows.incrementAndGet();
+                }
+                rows.finish();
+              } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+              }
+            });
+    reader.setDaemon(true);
+    reader.start();
+
+    // The reader waits once the buffer is full, since no rows are being formatted
+    for (int i = 0; i < 200 && reader.getState() != Thread.State.WAITING; i++) {
+      Thread.sleep(10);
+    }
+    assertThat(reader.getState(), is(Thread.State.WAITING));
+    assertThat(readRows.get(), is(lessThanOrEqualTo(6)));
+
+    assertThat(rows.getColumnNames(), is(new String[] {"ID"}));
+    int formattedRows = 0;
+    while (rows.hasNext()) {
+      assertThat(rows.next(), is(new Object[] {formattedRows}));
+      formattedRows++;
+    }
+    assertThat(formattedRows, is(rowCount));
+
+    reader.join(10_000L);
+    assertThat(readRows.get(), is(rowCount));
+  }
+
+  @Test
+  public void failedRows() throws Exception {
+    final TableRowsBuffer rows = new TableRowsBuffer(2, 4);
+    rows.start(new String[] {"ID"});
+    rows.add(new Object[] {0});
+    rows.add(new Object[] {1});
+    rows.add(new Object[] {2});
+    rows.fail(new SQLException("Connection lost"));
+    // Already failed
+    rows.finish();
+
+    assertThat(rows.getColumnNames(), is(new String[] {"ID"}));
+    assertThat(rows.next(), is(new Object[] {0}));
+    assertThat(rows.next(), is(new Object[] {1}));
+    final DatabaseAccessException exception =
+        assertThrows(DatabaseAccessException.class, () -> rows.hasNext());
+    assertThat(exception.getCause().getMessage(), is("Connection lost"));
+    assertThat(rows.hasNext(), is(false));
+  }
+
+  @Test
+  public void noData() throws Exception {
+    final TableRowsBuffer rows = new TableRowsBuffer(2, 4);
+    rows.finish();
+
+    assertThat(rows.getColumnNames(), is(nullValue()));
+    assertThat(rows.hasNext(), is(false));
+  }
+}
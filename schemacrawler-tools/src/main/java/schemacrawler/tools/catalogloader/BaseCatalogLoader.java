@@ -44,6 +44,7 @@ import schemacrawler.schemacrawler.SchemaRetrievalOptionsBuilder;
 import schemacrawler.tools.executable.CommandDescription;
 import schemacrawler.tools.executable.commandline.PluginCommand;
 import schemacrawler.tools.options.Config;
+import us.fatehi.utility.datasource.DatabaseConnectionSource;
 
 public abstract class BaseCatalogLoader implements CatalogLoader {
 
@@ -57,6 +58,7 @@ public abstract class BaseCatalogLoader implements CatalogLoader {
   private SchemaCrawlerOptions schemaCrawlerOptions;
   private Config additionalConfig;
   private Connection connection;
+  private DatabaseConnectionSource dataSource;
 
   private Catalog catalog;
 
@@ -90,6 +92,11 @@ public abstract class BaseCatalogLoader implements CatalogLoader {
     return connection;
   }
 
+  @Override
+  public DatabaseConnectionSource getDataSource() {
+    return dataSource;
+  }
+
   @Override
   public int getPriority() {
     return priority;
@@ -129,6 +136,11 @@ public abstract class BaseCatalogLoader implements CatalogLoader {
     this.connection = connection;
   }
 
+  @Override
+  public void setDataSource(final DatabaseConnectionSource dataSource) {
+    this.dataSource = dataSource;
+  }
+
   @Override
   public void setSchemaCrawlerOptions(final SchemaCrawlerOptions schemaCrawlerOptions) {
     this.schemaCrawlerOptions = schemaCrawlerOptions;
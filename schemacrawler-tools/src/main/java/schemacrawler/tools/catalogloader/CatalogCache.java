@@ -0,0 +1,449 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2022, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+
+package schemacrawler.tools.catalogloader;
+
+import static java.lang.System.lineSeparator;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
+import static java.util.Objects.requireNonNull;
+import static schemacrawler.schemacrawler.DatabaseObjectRuleForInclusion.ruleForSchemaInclusion;
+import static schemacrawler.schemacrawler.InformationSchemaKey.EXT_SCHEMA_FINGERPRINTS;
+
+import java.io.IOException;
+import java.io.ObjectOutputStream;
+import java.math.BigInteger;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.regex.Pattern;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+import schemacrawler.Version;
+import schemacrawler.crawl.CatalogSchemaMerger;
+import schemacrawler.crawl.MetadataResultSet;
+import schemacrawler.inclusionrule.InclusionRule;
+import schemacrawler.inclusionrule.InclusionRuleWithRegularExpression;
+import schemacrawler.schema.Catalog;
+import schemacrawler.schema.Schema;
+import schemacrawler.schemacrawler.DatabaseObjectRuleForInclusion;
+import schemacrawler.schemacrawler.FilterOptions;
+import schemacrawler.schemacrawler.GrepOptions;
+import schemacrawler.schemacrawler.InformationSchemaViews;
+import schemacrawler.schemacrawler.LimitOptions;
+import schemacrawler.schemacrawler.LimitOptionsBuilder;
+import schemacrawler.schemacrawler.Query;
+import schemacrawler.schemacrawler.SchemaCrawlerOptions;
+import schemacrawler.schemacrawler.SchemaInfoLevel;
+import schemacrawler.schemacrawler.SchemaInfoRetrieval;
+import schemacrawler.schemacrawler.SchemaRetrievalOptions;
+import schemacrawler.tools.utility.CatalogModelInputStream;
+import us.fatehi.utility.string.StringFormat;
+
+/**
+ * An on-disk cache of a crawled catalog. The cached catalog is reused for as long as the options
+ * for the crawl are the same, and the fingerprint of every schema, obtained from the data
+ * dictionary, is unchanged. If only some schemas changed, only those schemas are crawled again, and
+ * the unchanged schemas are merged in from the cached catalog.
+ */
+final class CatalogCache {
+
+  /** Includes schemas included by the crawl options, except for schemas that are unchanged. */
+  private static final class ChangedSchemasInclusionRule
+      implements InclusionRuleWithRegularExpression {
+
+    private static final long serialVersionUID = -3412776098127533416L;
+
+    private final InclusionRule schemaInclusionRule;
+    private final Set<String> unchangedSchemaNames;
+
+    ChangedSchemasInclusionRule(
+        final InclusionRule schemaInclusionRule, final Set<String> unchangedSchemaNames) {
+      this.schemaInclusionRule =
+          requireNonNull(schemaInclusionRule, "No schema inclusion rule provided");
+      this.unchangedSchemaNames =
+          new HashSet<>(requireNonNull(unchangedSchemaNames, "No unchanged schemas provided"));
+    }
+
+    @Override
+    public Pattern getExclusionPattern() {
+      if (schemaInclusionRule instanceof InclusionRuleWithRegularExpression) {
+        return ((InclusionRuleWithRegularExpression) schemaInclusionRule).getExclusionPattern();
+      }
+      return InclusionRuleWithRegularExpression.super.getExclusionPattern();
+    }
+
+    @Override
+    public Pattern getInclusionPattern() {
+      if (schemaInclusionRule instanceof InclusionRuleWithRegularExpression) {
+        return ((InclusionRuleWithRegularExpression) schemaInclusionRule).getInclusionPattern();
+      }
+      return InclusionRuleWithRegularExpression.super.getInclusionPattern();
+    }
+
+    @Override
+    public boolean test(final String text) {
+      return !unchangedSchemaNames.contains(text) && schemaInclusionRule.test(text);
+    }
+  }
+
+  private static final Logger LOGGER = Logger.getLogger(CatalogCache.class.getName());
+
+  /**
+   * Creates a catalog cache for the current state of the database, if the database plugin provides
+   * a query for schema fingerprints.
+   *
+   * @param cacheFile Cache file
+   * @param connection Live database connection
+   * @param schemaRetrievalOptions Database-specific schema retrieval overrides
+   * @param schemaCrawlerOptions Options for the crawl
+   * @return Catalog cache, or empty if schema fingerprints cannot be obtained
+   */
+  static Optional<CatalogCache> newCatalogCache(
+      final Path cacheFile,
+      final Connection connection,
+      final SchemaRetrievalOptions schemaRetrievalOptions,
+      final SchemaCrawlerOptions schemaCrawlerOptions)
+      throws SQLException {
+    requireNonNull(cacheFile, "No cache file provided");
+    requireNonNull(connection, "No connection provided");
+    requireNonNull(schemaRetrievalOptions, "No schema retrieval options provided");
+    requireNonNull(schemaCrawlerOptions, "No SchemaCrawler options provided");
+
+    final InformationSchemaViews informationSchemaViews =
+        schemaRetrievalOptions.getInformationSchemaViews();
+    if (!informationSchemaViews.hasQuery(EXT_SCHEMA_FINGERPRINTS)) {
+      LOGGER.log(
+          Level.INFO,
+          "Not caching catalog, since the database plugin does not provide schema fingerprints");
+      return Optional.empty();
+    }
+
+    final Query query = informationSchemaViews.getQuery(EXT_SCHEMA_FINGERPRINTS);
+    final Map<String, String> fingerprints = new HashMap<>();
+    try (final Statement statement = connection.createStatement();
+        final MetadataResultSet results =
+            new MetadataResultSet(
+                query,
+                statement,
+                schemaCrawlerOptions.getLimitOptions().get(ruleForSchemaInclusion))) {
+      while (results.next()) {
+        final String catalogName = results.getString("CATALOG_NAME");
+        final String schemaName = results.getString("SCHEMA_NAME");
+        final String fingerprint = results.getString("FINGERPRINT");
+        fingerprints.put(schemaKey(catalogName, schemaName), String.valueOf(fingerprint));
+      }
+    }
+
+    final DatabaseMetaData metaData = connection.getMetaData();
+    final String options =
+        String.join(
+            lineSeparator(),
+            Version.version().toString(),
+            String.valueOf(metaData.getURL()),
+            String.valueOf(metaData.getUserName()),
+            String.valueOf(schemaRetrievalOptions.getDatabaseServerType()),
+            describeOptions(schemaCrawlerOptions));
+
+    return Optional.of(new CatalogCache(cacheFile, digest(options), fingerprints));
+  }
+
+  /**
+   * Describes the crawl options that affect the contents of the catalog. The description is built
+   * from option values and rule patterns, so that it is the same from one run to the next.
+   *
+   * @param schemaCrawlerOptions Options for the crawl
+   * @return Description of the options
+   */
+  static String describeOptions(final SchemaCrawlerOptions schemaCrawlerOptions) {
+    requireNonNull(schemaCrawlerOptions, "No SchemaCrawler options provided");
+
+    final List<String> options = new ArrayList<>();
+
+    final LimitOptions limitOptions = schemaCrawlerOptions.getLimitOptions();
+    for (final DatabaseObjectRuleForInclusion ruleKey : DatabaseObjectRuleForInclusion.values()) {
+      options.add(ruleKey.name() + "=" + describeRule(limitOptions.get(ruleKey)));
+    }
+    options.add("routine-types=" + new TreeSet<>(limitOptions.getRoutineTypes()));
+    options.add("table-name-pattern=" + limitOptions.getTableNamePattern());
+    options.add("table-types=" + limitOptions.getTableTypes());
+
+    final FilterOptions filterOptions = schemaCrawlerOptions.getFilterOptions();
+    options.add("parents=" + filterOptions.getParentTableFilterDepth());
+    options.add("children=" + filterOptions.getChildTableFilterDepth());
+
+    final GrepOptions grepOptions = schemaCrawlerOptions.getGrepOptions();
+    options.add("grep-tables=" + describeRule(grepOptions.getGrepTableInclusionRule()));
+    options.add("grep-columns=" + describeRule(grepOptions.getGrepColumnInclusionRule()));
+    options.add(
+        "grep-parameters=" + describeRule(grepOptions.getGrepRoutineParameterInclusionRule()));
+    options.add("grep-definitions=" + describeRule(grepOptions.getGrepDefinitionInclusionRule()));
+    options.add("grep-invert-match=" + grepOptions.isGrepInvertMatch());
+
+    final SchemaInfoLevel schemaInfoLevel =
+        schemaCrawlerOptions.getLoadOptions().getSchemaInfoLevel();
+    for (final SchemaInfoRetrieval schemaInfoRetrieval : SchemaInfoRetrieval.values()) {
+      options.add(schemaInfoRetrieval.name() + "=" + schemaInfoLevel.is(schemaInfoRetrieval));
+    }
+
+    return String.join(lineSeparator(), options);
+  }
+
+  /**
+   * Describes a rule by its patterns, if it has them. Other rules are described by their class,
+   * and by their own description if they provide one, since the default description of an object
+   * is different in every run.
+   */
+  private static String describeRule(final InclusionRule inclusionRule) {
+    if (inclusionRule == null) {
+      return "none";
+    }
+    final String className = inclusionRule.getClass().getName();
+    if (inclusionRule instanceof InclusionRuleWithRegularExpression) {
+      final InclusionRuleWithRegularExpression regularExpressionRule =
+          (InclusionRuleWithRegularExpression) inclusionRule;
+      return String.format(
+          "%s {+/%s/ -/%s/}",
+          className,
+          regularExpressionRule.getInclusionPattern().pattern(),
+          regularExpressionRule.getExclusionPattern().pattern());
+    }
+    try {
+      if (inclusionRule.getClass().getMethod("toString").getDeclaringClass() != Object.class) {
+        return className + " " + inclusionRule;
+      }
+    } catch (final NoSuchMethodException e) {
+      // Every class has a toString method
+    }
+    return className;
+  }
+
+  private static String describeRule(final Optional<InclusionRule> inclusionRule) {
+    return describeRule(inclusionRule.orElse(null));
+  }
+
+  private static String digest(final String text) {
+    try {
+      final MessageDigest messageDigest = MessageDigest.getInstance("SHA-256");
+      return new BigInteger(1, messageDigest.digest(text.getBytes(UTF_8))).toString(16);
+    } catch (final NoSuchAlgorithmException e) {
+      // Every Java platform is required to support SHA-256
+      throw new IllegalStateException(e);
+    }
+  }
+
+  private static String schemaKey(final String catalogName, final String schemaName) {
+    return catalogName == null ? String.valueOf(schemaName) : catalogName + "." + schemaName;
+  }
+
+  private final Path cacheFile;
+  private final String optionsDigest;
+  private final Map<String, String> fingerprints;
+  private CatalogSchemaMerger schemaMerger;
+
+  CatalogCache(
+      final Path cacheFile, final String optionsDigest, final Map<String, String> fingerprints) {
+    this.cacheFile = requireNonNull(cacheFile, "No cache file provided").toAbsolutePath();
+    this.optionsDigest = requireNonNull(optionsDigest, "No options digest provided");
+    this.fingerprints = new HashMap<>(requireNonNull(fingerprints, "No fingerprints provided"));
+  }
+
+  /**
+   * Loads the cached catalog, if it was crawled with the same options, and no schema has changed
+   * since. A cache file that cannot be read is treated as stale. If only some schemas changed, the
+   * unchanged schemas are kept to be merged into a crawl of the changed schemas.
+   *
+   * @return Cached catalog, or empty if the database needs to be crawled again
+   */
+  Optional<Catalog> load() {
+    if (!Files.isRegularFile(cacheFile)) {
+      LOGGER.log(Level.INFO, new StringFormat("No cached catalog in <%s>", cacheFile));
+      return Optional.empty();
+    }
+
+    try (final CatalogModelInputStream in =
+        new CatalogModelInputStream(new GZIPInputStream(Files.newInputStream(cacheFile)))) {
+      final String cachedOptionsDigest = (String) in.readObject();
+      if (!optionsDigest.equals(cachedOptionsDigest)) {
+        LOGGER.log(
+            Level.INFO,
+            new StringFormat("Cached catalog was crawled with different options <%s>", cacheFile));
+        return Optional.empty();
+      }
+
+      @SuppressWarnings("unchecked")
+      final Map<String, String> cachedFingerprints = (Map<String, String>) in.readObject();
+      final Set<String> changedSchemas = changedSchemas(cachedFingerprints);
+      final Catalog catalog = (Catalog) in.readObject();
+      if (changedSchemas.isEmpty()) {
+        LOGGER.log(Level.INFO, new StringFormat("Loaded cached catalog from <%s>", cacheFile));
+        return Optional.of(catalog);
+      }
+
+      LOGGER.log(
+          Level.INFO,
+          new StringFormat("Cached catalog is stale, since schemas changed %s", changedSchemas));
+      final CatalogSchemaMerger catalogSchemaMerger =
+          new CatalogSchemaMerger(catalog, unchangedSchemas(catalog, cachedFingerprints));
+      if (catalogSchemaMerger.canMerge()) {
+        schemaMerger = catalogSchemaMerger;
+      } else {
+        LOGGER.log(Level.INFO, "Crawling all schemas, since unchanged schemas cannot be kept");
+      }
+      return Optional.empty();
+    } catch (final ClassNotFoundException | ClassCastException | IOException e) {
+      LOGGER.log(
+          Level.WARNING, e, new StringFormat("Could not read cached catalog <%s>", cacheFile));
+      return Optional.empty();
+    }
+  }
+
+  /**
+   * Gets the options to crawl the database with. If the unchanged schemas from the cached catalog
+   * can be kept, the crawl is limited to the other schemas.
+   *
+   * @param schemaCrawlerOptions Options for the crawl
+   * @return Options for a crawl of changed schemas, or the options for the crawl
+   */
+  SchemaCrawlerOptions getCrawlOptions(final SchemaCrawlerOptions schemaCrawlerOptions) {
+    requireNonNull(schemaCrawlerOptions, "No SchemaCrawler options provided");
+    if (schemaMerger == null) {
+      return schemaCrawlerOptions;
+    }
+
+    final Set<String> unchangedSchemaNames = new HashSet<>();
+    for (final Schema schema : schemaMerger.getUnchangedSchemas()) {
+      unchangedSchemaNames.add(schema.getFullName());
+    }
+    final LimitOptions limitOptions = schemaCrawlerOptions.getLimitOptions();
+    final InclusionRule schemaInclusionRule =
+        new ChangedSchemasInclusionRule(
+            limitOptions.get(ruleForSchemaInclusion), unchangedSchemaNames);
+    return schemaCrawlerOptions.withLimitOptions(
+        LimitOptionsBuilder.builder()
+            .fromOptions(limitOptions)
+            .includeSchemas(schemaInclusionRule)
+            .toOptions());
+  }
+
+  /**
+   * Merges the unchanged schemas from the cached catalog into a catalog that was crawled with the
+   * options from {@link #getCrawlOptions(SchemaCrawlerOptions)}.
+   *
+   * @param catalog Crawled catalog
+   * @return False if the catalog is for changed schemas only, and unchanged schemas could not be
+   *     merged into it, so that all schemas need to be crawled again
+   */
+  boolean mergeUnchangedSchemas(final Catalog catalog) {
+    requireNonNull(catalog, "No catalog provided");
+    if (schemaMerger == null) {
+      return true;
+    }
+    final boolean isMerged = schemaMerger.merge(catalog);
+    schemaMerger = null;
+    return isMerged;
+  }
+
+  /**
+   * Saves the catalog to the cache file, along with the schema fingerprints. The file is replaced
+   * only after it is completely written, so that a failed save never leaves a partial cache.
+   *
+   * @param catalog Crawled catalog
+   */
+  void save(final Catalog catalog) {
+    requireNonNull(catalog, "No catalog provided");
+    Path tempFile = null;
+    try {
+      final Path cacheDirectory = cacheFile.getParent();
+      Files.createDirectories(cacheDirectory);
+      tempFile = Files.createTempFile(cacheDirectory, cacheFile.getFileName().toString(), ".tmp");
+      try (final ObjectOutputStream out =
+          new ObjectOutputStream(new GZIPOutputStream(Files.newOutputStream(tempFile)))) {
+        out.writeObject(optionsDigest);
+        out.writeObject(new HashMap<>(fingerprints));
+        out.writeObject(catalog);
+      }
+      Files.move(tempFile, cacheFile, REPLACE_EXISTING);
+      LOGGER.log(Level.INFO, new StringFormat("Saved catalog to cache <%s>", cacheFile));
+    } catch (final IOException e) {
+      LOGGER.log(
+          Level.WARNING, e, new StringFormat("Could not save catalog to cache <%s>", cacheFile));
+      if (tempFile != null) {
+        try {
+          Files.deleteIfExists(tempFile);
+        } catch (final IOException e1) {
+          // Ignore
+        }
+      }
+    }
+  }
+
+  /** Schemas that have the same fingerprint as when the cached catalog was crawled. */
+  private Collection<Schema> unchangedSchemas(
+      final Catalog catalog, final Map<String, String> cachedFingerprints) {
+    final List<Schema> unchangedSchemas = new ArrayList<>();
+    for (final Schema schema : catalog.getSchemas()) {
+      final String schemaKey = schemaKey(schema.getCatalogName(), schema.getName());
+      final String fingerprint = fingerprints.get(schemaKey);
+      if (fingerprint != null && Objects.equals(fingerprint, cachedFingerprints.get(schemaKey))) {
+        unchangedSchemas.add(schema);
+      }
+    }
+    return unchangedSchemas;
+  }
+
+  private Set<String> changedSchemas(final Map<String, String> cachedFingerprints) {
+    final Set<String> changedSchemas = new TreeSet<>();
+    changedSchemas.addAll(cachedFingerprints.keySet());
+    changedSchemas.addAll(fingerprints.keySet());
+    changedSchemas.removeIf(
+        schemaKey -> {
+          final String cachedFingerprint = cachedFingerprints.get(schemaKey);
+          return cachedFingerprint != null && cachedFingerprint.equals(fingerprints.get(schemaKey));
+        });
+    return changedSchemas;
+  }
+}
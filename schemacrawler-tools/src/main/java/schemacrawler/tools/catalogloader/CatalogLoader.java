@@ -36,6 +36,7 @@ import schemacrawler.schemacrawler.SchemaRetrievalOptions;
 import schemacrawler.tools.executable.CommandDescription;
 import schemacrawler.tools.executable.commandline.PluginCommand;
 import schemacrawler.tools.options.Config;
+import us.fatehi.utility.datasource.DatabaseConnectionSource;
 
 public interface CatalogLoader extends Comparable<CatalogLoader> {
 
@@ -47,6 +48,14 @@ public interface CatalogLoader extends Comparable<CatalogLoader> {
 
   Connection getConnection();
 
+  /**
+   * Source of database connections, for loaders that can use more than one connection at a time.
+   * May be null, in which case only the live connection is used.
+   *
+   * @return Source of database connections, or null
+   */
+  DatabaseConnectionSource getDataSource();
+
   default PluginCommand getHelpCommand() {
     return getCommandLineCommand();
   }
@@ -65,6 +74,8 @@ public interface CatalogLoader extends Comparable<CatalogLoader> {
 
   void setConnection(Connection connection);
 
+  void setDataSource(DatabaseConnectionSource dataSource);
+
   void setSchemaCrawlerOptions(SchemaCrawlerOptions schemaCrawlerOptions);
 
   void setSchemaRetrievalOptions(SchemaRetrievalOptions schemaRetrievalOptions);
@@ -40,6 +40,7 @@ import schemacrawler.schemacrawler.SchemaCrawlerOptions;
 import schemacrawler.schemacrawler.SchemaRetrievalOptions;
 import schemacrawler.tools.executable.CommandDescription;
 import schemacrawler.tools.options.Config;
+import us.fatehi.utility.datasource.DatabaseConnectionSource;
 
 public class ChainedCatalogLoader extends BaseCatalogLoader implements Iterable<CatalogLoader> {
 
@@ -63,12 +64,14 @@ public class ChainedCatalogLoader extends BaseCatalogLoader implements Iterable<
   public void loadCatalog() {
     Catalog catalog = null;
     final Connection connection = getConnection();
+    final DatabaseConnectionSource dataSource = getDataSource();
     final SchemaCrawlerOptions schemaCrawlerOptions = getSchemaCrawlerOptions();
     final SchemaRetrievalOptions schemaRetrievalOptions = getSchemaRetrievalOptions();
     final Config additionalConfig = getAdditionalConfiguration();
     for (final CatalogLoader nextCatalogLoader : chainedCatalogLoaders) {
       nextCatalogLoader.setCatalog(catalog);
       nextCatalogLoader.setConnection(connection);
+      nextCatalogLoader.setDataSource(dataSource);
       nextCatalogLoader.setSchemaCrawlerOptions(schemaCrawlerOptions);
       nextCatalogLoader.setSchemaRetrievalOptions(schemaRetrievalOptions);
       nextCatalogLoader.setAdditionalConfiguration(additionalConfig);
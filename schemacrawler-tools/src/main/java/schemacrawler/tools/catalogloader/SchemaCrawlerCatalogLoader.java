@@ -29,33 +29,135 @@ http://www.gnu.org/licenses/
 package schemacrawler.tools.catalogloader;
 
 import static java.util.Objects.requireNonNull;
+import static us.fatehi.utility.Utility.isBlank;
 
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Optional;
+import java.util.logging.Level;
+import java.util.logging.Logger;
 
 import schemacrawler.crawl.SchemaCrawler;
 import schemacrawler.schema.Catalog;
+import schemacrawler.schemacrawler.SchemaCrawlerOptions;
 import schemacrawler.tools.executable.CommandDescription;
+import schemacrawler.tools.executable.commandline.PluginCommand;
+import schemacrawler.tools.options.Config;
+import us.fatehi.utility.datasource.DatabaseConnectionSource;
 
 public class SchemaCrawlerCatalogLoader extends BaseCatalogLoader {
 
+  private static final Logger LOGGER =
+      Logger.getLogger(SchemaCrawlerCatalogLoader.class.getName());
+
+  private static final String OPTION_CATALOG_CACHE = "catalog-cache";
+
   public SchemaCrawlerCatalogLoader() {
     super(
         new CommandDescription("schemacrawlerloader", "Loader for SchemaCrawler metadata catalog"),
         0);
   }
 
+  @Override
+  public PluginCommand getCommandLineCommand() {
+    final CommandDescription commandDescription = getCommandDescription();
+    final PluginCommand pluginCommand =
+        PluginCommand.newCatalogLoaderCommand(
+            commandDescription.getName(), commandDescription.getDescription());
+    pluginCommand.addOption(
+        OPTION_CATALOG_CACHE,
+        Path.class,
+        "Path to a file that caches the catalog between runs",
+        "The database is crawled again only if a schema has changed",
+        "Requires a database plugin that provides schema fingerprints",
+        "Optional, defaults to no cache");
+    return pluginCommand;
+  }
+
   @Override
   public void loadCatalog() {
     if (isLoaded()) {
       return;
     }
 
-    final Connection connection = getConnection();
-    requireNonNull(connection, "No connection provided");
+    final Optional<CatalogCache> catalogCache = newCatalogCache();
+    if (catalogCache.isPresent()) {
+      final Optional<Catalog> cachedCatalog = catalogCache.get().load();
+      if (cachedCatalog.isPresent()) {
+        setCatalog(cachedCatalog.get());
+        return;
+      }
+    }
 
-    final SchemaCrawler schemaCrawler =
-        new SchemaCrawler(connection, getSchemaRetrievalOptions(), getSchemaCrawlerOptions());
-    final Catalog catalog = schemaCrawler.crawl();
+    final SchemaCrawlerOptions schemaCrawlerOptions = getSchemaCrawlerOptions();
+    if (!catalogCache.isPresent()) {
+      setCatalog(crawl(schemaCrawlerOptions));
+      return;
+    }
+
+    // Crawl only the schemas that changed since the catalog was cached,
+    // and crawl all schemas if unchanged schemas cannot be merged in
+    final CatalogCache cache = catalogCache.get();
+    Catalog catalog = crawl(cache.getCrawlOptions(schemaCrawlerOptions));
+    if (!cache.mergeUnchangedSchemas(catalog)) {
+      catalog = crawl(schemaCrawlerOptions);
+    }
+    cache.save(catalog);
     setCatalog(catalog);
   }
+
+  private Catalog crawl(final SchemaCrawlerOptions schemaCrawlerOptions) {
+    // Prefer a source of connections, so that retrievals can run in
+    // parallel on their own connections
+    final DatabaseConnectionSource dataSource = getDataSource();
+    final SchemaCrawler schemaCrawler;
+    if (dataSource != null) {
+      schemaCrawler =
+          new SchemaCrawler(dataSource, getSchemaRetrievalOptions(), schemaCrawlerOptions);
+    } else {
+      final Connection connection = getConnection();
+      requireNonNull(connection, "No connection provided");
+      schemaCrawler =
+          new SchemaCrawler(connection, getSchemaRetrievalOptions(), schemaCrawlerOptions);
+    }
+    return schemaCrawler.crawl();
+  }
+
+  private Optional<CatalogCache> newCatalogCache() {
+    final Config config = getAdditionalConfiguration();
+    if (config == null) {
+      return Optional.empty();
+    }
+    final String cacheFile = config.getStringValue(OPTION_CATALOG_CACHE, null);
+    if (isBlank(cacheFile)) {
+      return Optional.empty();
+    }
+
+    final DatabaseConnectionSource dataSource = getDataSource();
+    try {
+      if (dataSource != null) {
+        try (final Connection connection = dataSource.get()) {
+          return CatalogCache.newCatalogCache(
+              Paths.get(cacheFile),
+              connection,
+              getSchemaRetrievalOptions(),
+              getSchemaCrawlerOptions());
+        }
+      } else {
+        final Connection connection = getConnection();
+        requireNonNull(connection, "No connection provided");
+        return CatalogCache.newCatalogCache(
+            Paths.get(cacheFile),
+            connection,
+            getSchemaRetrievalOptions(),
+            getSchemaCrawlerOptions());
+      }
+    } catch (final SQLException e) {
+      LOGGER.log(
+          Level.WARNING, "Not caching catalog, since schema fingerprints are not available", e);
+      return Optional.empty();
+    }
+  }
 }
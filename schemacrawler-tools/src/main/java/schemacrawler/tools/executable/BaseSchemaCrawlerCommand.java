@@ -37,8 +37,10 @@ import schemacrawler.schema.Catalog;
 import schemacrawler.schemacrawler.Identifiers;
 import schemacrawler.schemacrawler.SchemaCrawlerOptions;
 import schemacrawler.schemacrawler.SchemaCrawlerOptionsBuilder;
+import schemacrawler.schemacrawler.SchemaRetrievalOptions;
 import schemacrawler.tools.options.OutputOptions;
 import schemacrawler.tools.options.OutputOptionsBuilder;
+import us.fatehi.utility.datasource.DatabaseConnectionSource;
 
 /** A SchemaCrawler tools executable unit. */
 public abstract class BaseSchemaCrawlerCommand<C extends CommandOptions>
@@ -48,9 +50,11 @@ public abstract class BaseSchemaCrawlerCommand<C extends CommandOptions>
   protected C commandOptions;
   protected Catalog catalog;
   protected Connection connection;
+  protected DatabaseConnectionSource dataSource;
   protected Identifiers identifiers;
   protected OutputOptions outputOptions;
   protected SchemaCrawlerOptions schemaCrawlerOptions;
+  protected SchemaRetrievalOptions schemaRetrievalOptions;
 
   protected BaseSchemaCrawlerCommand(final String command) {
     this.command = requireNotBlank(command, "No command specified");
@@ -84,6 +88,11 @@ public abstract class BaseSchemaCrawlerCommand<C extends CommandOptions>
     return connection;
   }
 
+  @Override
+  public DatabaseConnectionSource getDataSource() {
+    return dataSource;
+  }
+
   @Override
   public Identifiers getIdentifiers() {
     return identifiers;
@@ -101,6 +110,11 @@ public abstract class BaseSchemaCrawlerCommand<C extends CommandOptions>
     return schemaCrawlerOptions;
   }
 
+  @Override
+  public SchemaRetrievalOptions getSchemaRetrievalOptions() {
+    return schemaRetrievalOptions;
+  }
+
   @Override
   public void initialize() {
     checkOptions();
@@ -121,6 +135,11 @@ public abstract class BaseSchemaCrawlerCommand<C extends CommandOptions>
     this.connection = connection;
   }
 
+  @Override
+  public void setDataSource(final DatabaseConnectionSource dataSource) {
+    this.dataSource = dataSource;
+  }
+
   @Override
   public void setIdentifiers(final Identifiers identifiers) {
     this.identifiers = identifiers;
@@ -146,6 +165,11 @@ public abstract class BaseSchemaCrawlerCommand<C extends CommandOptions>
     }
   }
 
+  @Override
+  public void setSchemaRetrievalOptions(final SchemaRetrievalOptions schemaRetrievalOptions) {
+    this.schemaRetrievalOptions = schemaRetrievalOptions;
+  }
+
   /** {@inheritDoc} */
   @Override
   public final String toString() {
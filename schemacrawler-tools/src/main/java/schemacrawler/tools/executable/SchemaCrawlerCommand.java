@@ -33,7 +33,9 @@ import java.sql.Connection;
 import schemacrawler.schema.Catalog;
 import schemacrawler.schemacrawler.Identifiers;
 import schemacrawler.schemacrawler.SchemaCrawlerOptions;
+import schemacrawler.schemacrawler.SchemaRetrievalOptions;
 import schemacrawler.tools.options.OutputOptions;
+import us.fatehi.utility.datasource.DatabaseConnectionSource;
 
 /** A SchemaCrawler tools executable unit. */
 public interface SchemaCrawlerCommand<C extends CommandOptions> {
@@ -57,12 +59,26 @@ public interface SchemaCrawlerCommand<C extends CommandOptions> {
 
   Connection getConnection();
 
+  /**
+   * Gets the source of pooled connections, which commands can use to run queries in parallel.
+   *
+   * @return Source of pooled connections, or null if connections are not pooled
+   */
+  DatabaseConnectionSource getDataSource();
+
   Identifiers getIdentifiers();
 
   OutputOptions getOutputOptions();
 
   SchemaCrawlerOptions getSchemaCrawlerOptions();
 
+  /**
+   * Gets database-specific options, including data dictionary queries from the database plugin.
+   *
+   * @return Database-specific options, or null if they were not provided
+   */
+  SchemaRetrievalOptions getSchemaRetrievalOptions();
+
   /** Initializes the command for execution. */
   void initialize();
 
@@ -72,12 +88,16 @@ public interface SchemaCrawlerCommand<C extends CommandOptions> {
 
   void setConnection(Connection connection);
 
+  void setDataSource(DatabaseConnectionSource dataSource);
+
   void setIdentifiers(Identifiers identifiers);
 
   void setOutputOptions(OutputOptions outputOptions);
 
   void setSchemaCrawlerOptions(SchemaCrawlerOptions schemaCrawlerOptions);
 
+  void setSchemaRetrievalOptions(SchemaRetrievalOptions schemaRetrievalOptions);
+
   default boolean usesConnection() {
     return false;
   }
@@ -43,6 +43,7 @@ import schemacrawler.tools.options.Config;
 import schemacrawler.tools.options.OutputOptions;
 import schemacrawler.tools.options.OutputOptionsBuilder;
 import schemacrawler.tools.utility.SchemaCrawlerUtility;
+import us.fatehi.utility.datasource.DatabaseConnectionSource;
 import us.fatehi.utility.string.ObjectToStringFormat;
 import us.fatehi.utility.string.StringFormat;
 
@@ -60,6 +61,7 @@ public final class SchemaCrawlerExecutable {
   private Config additionalConfig;
   private Catalog catalog;
   private Connection connection;
+  private DatabaseConnectionSource dataSource;
   private OutputOptions outputOptions;
   private SchemaCrawlerOptions schemaCrawlerOptions;
   private SchemaRetrievalOptions schemaRetrievalOptions;
@@ -85,6 +87,7 @@ public final class SchemaCrawlerExecutable {
 
     // Set identifiers strategy
     scCommand.setIdentifiers(schemaRetrievalOptions.getIdentifiers());
+    scCommand.setSchemaRetrievalOptions(schemaRetrievalOptions);
 
     // Initialize, and check if the command is available
     scCommand.initialize();
@@ -98,6 +101,7 @@ public final class SchemaCrawlerExecutable {
     scCommand.setCatalog(catalog);
     if (scCommand.usesConnection()) {
       scCommand.setConnection(connection);
+      scCommand.setDataSource(dataSource);
     }
 
     // Execute
@@ -136,6 +140,16 @@ public final class SchemaCrawlerExecutable {
     this.connection = requireNonNull(connection, "No connection provided");
   }
 
+  /**
+   * Sets a source of pooled connections, which commands can use to run queries in parallel. The
+   * connection that the command uses should be leased from the same source.
+   *
+   * @param dataSource Source of pooled connections
+   */
+  public void setDataSource(final DatabaseConnectionSource dataSource) {
+    this.dataSource = dataSource;
+  }
+
   public void setOutputOptions(final OutputOptions outputOptions) {
     if (outputOptions == null) {
       this.outputOptions = OutputOptionsBuilder.newOutputOptions();
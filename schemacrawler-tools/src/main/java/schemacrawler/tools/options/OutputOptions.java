@@ -32,8 +32,10 @@ import static java.util.Objects.requireNonNull;
 import static us.fatehi.utility.Utility.isBlank;
 import static us.fatehi.utility.Utility.trimToEmpty;
 
+import java.io.BufferedWriter;
 import java.io.IOException;
 import java.io.PrintWriter;
+import java.io.Writer;
 import java.nio.charset.Charset;
 import java.nio.file.Path;
 import java.nio.file.Paths;
@@ -44,6 +46,7 @@ import schemacrawler.schemacrawler.exceptions.IORuntimeException;
 import us.fatehi.utility.ObjectToString;
 import us.fatehi.utility.ioresource.FileOutputResource;
 import us.fatehi.utility.ioresource.OutputResource;
+import us.fatehi.utility.ioresource.WriterOutputResource;
 
 public final class OutputOptions implements Options {
 
@@ -52,19 +55,26 @@ public final class OutputOptions implements Options {
   private final String outputFormatValue;
   private final OutputResource outputResource;
   private final String title;
+  private final int outputBufferSize;
 
   OutputOptions(
       final Charset inputEncodingCharset,
       final OutputResource outputResource,
       final Charset outputEncodingCharset,
       final String outputFormatValue,
-      final String title) {
+      final String title,
+      final int outputBufferSize) {
     this.inputEncodingCharset = requireNonNull(inputEncodingCharset, "No input encoding provided");
     this.outputResource = requireNonNull(outputResource, "No output resource provided");
     this.outputEncodingCharset =
         requireNonNull(outputEncodingCharset, "No output encoding provided");
     this.outputFormatValue = requireNonNull(outputFormatValue, "No output format value provided");
     this.title = title;
+    if (outputBufferSize <= 0) {
+      throw new IllegalArgumentException(
+          String.format("Invalid output buffer size <%d>", outputBufferSize));
+    }
+    this.outputBufferSize = outputBufferSize;
   }
 
   /** Character encoding for input files, such as scripts and templates. */
@@ -77,6 +87,15 @@ public final class OutputOptions implements Options {
     return outputEncodingCharset;
   }
 
+  /**
+   * Number of characters that are buffered before they are written to the output resource.
+   *
+   * @return Output buffer size
+   */
+  public int getOutputBufferSize() {
+    return outputBufferSize;
+  }
+
   public Path getOutputFile(final String extension) {
     final Path outputFile;
     if (outputResource instanceof FileOutputResource) {
@@ -129,11 +148,19 @@ public final class OutputOptions implements Options {
     return openNewOutputWriter(false);
   }
 
-  /** Gets the output reader. If the output resource is null, first set it to console output. */
+  /**
+   * Gets the output reader. If the output resource is null, first set it to console output. Output
+   * to files and the console is buffered, and is only written when the buffer is full, or when the
+   * writer is flushed or closed. A writer provided by the caller is written to directly, since the
+   * caller controls its buffering.
+   */
   public PrintWriter openNewOutputWriter(final boolean appendOutput) {
     try {
-      return new PrintWriter(
-          outputResource.openNewOutputWriter(getOutputCharset(), appendOutput), true);
+      final Writer writer = outputResource.openNewOutputWriter(getOutputCharset(), appendOutput);
+      if (outputResource instanceof WriterOutputResource) {
+        return new PrintWriter(writer, false);
+      }
+      return new PrintWriter(new BufferedWriter(writer, outputBufferSize), false);
     } catch (final IOException e) {
       throw new IORuntimeException(
           String.format("Could not open output writer: <%s>", e.getMessage()), e);
@@ -21,6 +21,8 @@ import us.fatehi.utility.ioresource.WriterOutputResource;
 public final class OutputOptionsBuilder
     implements OptionsBuilder<OutputOptionsBuilder, OutputOptions> {
 
+  private static final int DEFAULT_OUTPUT_BUFFER_SIZE = 64 * 1024;
+
   public static OutputOptionsBuilder builder() {
     return new OutputOptionsBuilder();
   }
@@ -46,6 +48,7 @@ public final class OutputOptionsBuilder
   private Charset inputEncodingCharset;
   private Charset outputEncodingCharset;
   private String title;
+  private int outputBufferSize;
 
   private OutputOptionsBuilder() {
     // Default values are set at the time of building options
@@ -62,7 +65,8 @@ public final class OutputOptionsBuilder
     withInputEncoding(options.getInputCharset())
         .withOutputEncoding(options.getOutputCharset())
         .withOutputFormatValue(options.getOutputFormatValue())
-        .title(options.getTitle());
+        .title(options.getTitle())
+        .withOutputBufferSize(options.getOutputBufferSize());
     outputResource = options.getOutputResource();
 
     return this;
@@ -85,7 +89,14 @@ public final class OutputOptionsBuilder
     if (isBlank(outputFormatValue)) {
       final String fileExtension;
       if (outputResource instanceof FileOutputResource) {
-        fileExtension = getFileExtension(((FileOutputResource) outputResource).getOutputFile());
+        final FileOutputResource fileOutputResource = (FileOutputResource) outputResource;
+        final String fileName = fileOutputResource.getOutputFile().toString();
+        if (fileOutputResource.isGzipCompressed()) {
+          // Infer the output format from the name of the compressed file, such as "report.html.gz"
+          fileExtension = getFileExtension(fileName.substring(0, fileName.length() - 3));
+        } else {
+          fileExtension = getFileExtension(fileName);
+        }
       } else {
         fileExtension = null;
       }
@@ -97,8 +108,17 @@ public final class OutputOptionsBuilder
       title = "";
     }
 
+    if (outputBufferSize <= 0) {
+      outputBufferSize = DEFAULT_OUTPUT_BUFFER_SIZE;
+    }
+
     return new OutputOptions(
-        inputEncodingCharset, outputResource, outputEncodingCharset, outputFormatValue, title);
+        inputEncodingCharset,
+        outputResource,
+        outputEncodingCharset,
+        outputFormatValue,
+        title,
+        outputBufferSize);
   }
 
   public OutputOptionsBuilder withConsoleOutput() {
@@ -130,6 +150,17 @@ public final class OutputOptionsBuilder
     return this;
   }
 
+  /**
+   * Sets the number of characters that are buffered before they are written to the output.
+   *
+   * @param outputBufferSize Output buffer size, or zero for the default size
+   * @return Builder
+   */
+  public OutputOptionsBuilder withOutputBufferSize(final int outputBufferSize) {
+    this.outputBufferSize = Math.max(0, outputBufferSize);
+    return this;
+  }
+
   public OutputOptionsBuilder withOutputEncoding(final Charset outputCharset) {
     if (outputCharset == null) {
       outputEncodingCharset = UTF_8;
@@ -25,7 +25,7 @@ http://www.gnu.org/licenses/
 
 ========================================================================
 */
-package schemacrawler.tools.formatter.serialize;
+package schemacrawler.tools.utility;
 
 import static java.util.Objects.requireNonNull;
 
@@ -42,7 +42,11 @@ import java.util.regex.Pattern;
 
 import us.fatehi.utility.string.StringFormat;
 
-final class CatalogModelInputStream extends ObjectInputStream {
+/**
+ * Deserializes a catalog, and only accepts classes from the SchemaCrawler catalog model and the
+ * Java runtime, so that a tampered file cannot instantiate arbitrary classes.
+ */
+public final class CatalogModelInputStream extends ObjectInputStream {
 
   private static final Logger LOGGER = Logger.getLogger(CatalogModelInputStream.class.getName());
 
@@ -52,9 +56,9 @@ final class CatalogModelInputStream extends ObjectInputStream {
           Pattern.compile("schemacrawler\\.[A-Z].*"),
           Pattern.compile("(\\[L)?java.(lang|util)\\..*"),
           Pattern.compile("java.(sql|math|time)\\..*"),
-          Pattern.compile("\\[[BC]"));
+          Pattern.compile("\\[[BCJ]"));
 
-  CatalogModelInputStream(final InputStream input) throws IOException {
+  public CatalogModelInputStream(final InputStream input) throws IOException {
     super(requireNonNull(input, "No input stream provided"));
   }
 
@@ -59,6 +59,7 @@ import schemacrawler.tools.options.Config;
 import us.fatehi.utility.PropertiesUtility;
 import us.fatehi.utility.UtilityMarker;
 import us.fatehi.utility.database.DatabaseUtility;
+import us.fatehi.utility.datasource.DatabaseConnectionSource;
 import us.fatehi.utility.string.ObjectToStringFormat;
 import us.fatehi.utility.string.StringFormat;
 
@@ -108,6 +109,48 @@ public final class SchemaCrawlerUtility {
     return catalog;
   }
 
+  /**
+   * Crawls a database, and returns a catalog. Each catalog loader is given a live connection
+   * leased from the connection source, and SchemaCrawler additionally leases connections for
+   * retrievals that run in parallel.
+   *
+   * @param dataSource Source of database connections.
+   * @param schemaRetrievalOptions Database-specific schema retrieval overrides
+   * @param schemaCrawlerOptions Options.
+   * @param additionalConfig Configuration for catalog loaders.
+   * @return Database catalog.
+   */
+  public static Catalog getCatalog(
+      final DatabaseConnectionSource dataSource,
+      final SchemaRetrievalOptions schemaRetrievalOptions,
+      final SchemaCrawlerOptions schemaCrawlerOptions,
+      final Config additionalConfig) {
+    requireNonNull(dataSource, "No database connection source provided");
+
+    final CatalogLoaderRegistry catalogLoaderRegistry = new CatalogLoaderRegistry();
+    final CatalogLoader catalogLoader = catalogLoaderRegistry.newChainedCatalogLoader();
+
+    LOGGER.log(Level.CONFIG, new StringFormat("Catalog loader: %s", catalogLoader));
+
+    try (final Connection connection = dataSource.get()) {
+      logConnection(connection);
+
+      catalogLoader.setConnection(connection);
+      catalogLoader.setDataSource(dataSource);
+      catalogLoader.setSchemaRetrievalOptions(schemaRetrievalOptions);
+      catalogLoader.setSchemaCrawlerOptions(schemaCrawlerOptions);
+      catalogLoader.setAdditionalConfiguration(additionalConfig);
+
+      catalogLoader.loadCatalog();
+    } catch (final SQLException e) {
+      throw new DatabaseAccessException("Could not release database connection", e);
+    }
+
+    final Catalog catalog = catalogLoader.getCatalog();
+    requireNonNull(catalog, "Catalog could not be retrieved");
+    return catalog;
+  }
+
   /**
    * Obtains result-set metadata from a live result-set.
    *
@@ -30,7 +30,7 @@ public class CatalogLoaderRegistryTest {
     assertThat(commandLineCommands, hasSize(2));
     final List<String> names =
         commandLineCommands.stream().map(PluginCommand::getName).collect(toList());
-    assertThat(names, containsInAnyOrder("loader:testloader", null));
+    assertThat(names, containsInAnyOrder("loader:testloader", "loader:schemacrawlerloader"));
 
     restoreSystemProperties(
         () -> {
@@ -47,7 +47,7 @@ public class CatalogLoaderRegistryTest {
     final Collection<PluginCommand> helpCommands = new CatalogLoaderRegistry().getHelpCommands();
     assertThat(helpCommands, hasSize(2));
     final List<String> names = helpCommands.stream().map(PluginCommand::getName).collect(toList());
-    assertThat(names, containsInAnyOrder("loader:testloader", null));
+    assertThat(names, containsInAnyOrder("loader:testloader", "loader:schemacrawlerloader"));
 
     restoreSystemProperties(
         () -> {
@@ -0,0 +1,250 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2022, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+
+package schemacrawler.tools.catalogloader;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.not;
+import static schemacrawler.schemacrawler.DatabaseObjectRuleForInclusion.ruleForSchemaInclusion;
+import static schemacrawler.schemacrawler.InformationSchemaKey.EXT_SCHEMA_FINGERPRINTS;
+
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import schemacrawler.crawl.SchemaCrawler;
+import schemacrawler.inclusionrule.InclusionRule;
+import schemacrawler.inclusionrule.RegularExpressionInclusionRule;
+import schemacrawler.schema.Catalog;
+import schemacrawler.schema.Table;
+import schemacrawler.schemacrawler.InformationSchemaViewsBuilder;
+import schemacrawler.schemacrawler.LimitOptionsBuilder;
+import schemacrawler.schemacrawler.SchemaCrawlerOptions;
+import schemacrawler.schemacrawler.SchemaCrawlerOptionsBuilder;
+import schemacrawler.schemacrawler.SchemaRetrievalOptions;
+import schemacrawler.schemacrawler.SchemaRetrievalOptionsBuilder;
+import schemacrawler.test.utility.WithTestDatabase;
+import schemacrawler.tools.options.Config;
+import us.fatehi.utility.IOUtility;
+
+@WithTestDatabase
+public class CatalogCacheTest {
+
+  private static final String FINGERPRINTS_SQL =
+      "SELECT CATALOG_NAME, SCHEMA_NAME, '%s' AS FINGERPRINT FROM INFORMATION_SCHEMA.SCHEMATA";
+  private static final String SCHEMA_FINGERPRINTS_SQL =
+      "SELECT CATALOG_NAME, SCHEMA_NAME, "
+          + "CASE WHEN SCHEMA_NAME = '%s' THEN '%s' ELSE 'v1' END AS FINGERPRINT "
+          + "FROM INFORMATION_SCHEMA.SCHEMATA";
+
+  @Test
+  public void cacheHit(final Connection connection) throws Exception {
+    final Path cacheFile = IOUtility.createTempFilePath("catalog", "cache");
+
+    final Catalog catalog = loadCatalog(connection, cacheFile, fingerprints("v1"));
+    assertThat(Files.isRegularFile(cacheFile), is(true));
+
+    final Catalog cachedCatalog = loadCatalog(connection, cacheFile, fingerprints("v1"));
+    assertThat(cachedCatalog.getCrawlInfo().getRunId(), is(catalog.getCrawlInfo().getRunId()));
+    assertThat(cachedCatalog.getTables().size(), is(catalog.getTables().size()));
+  }
+
+  @Test
+  public void changedFingerprints(final Connection connection) throws Exception {
+    final Path cacheFile = IOUtility.createTempFilePath("catalog", "cache");
+
+    final Catalog catalog = loadCatalog(connection, cacheFile, fingerprints("v1"));
+
+    final Catalog changedCatalog = loadCatalog(connection, cacheFile, fingerprints("v2"));
+    assertThat(
+        changedCatalog.getCrawlInfo().getRunId(), is(not(catalog.getCrawlInfo().getRunId())));
+
+    // Cache is replaced with the catalog for the changed schemas
+    final Catalog cachedCatalog = loadCatalog(connection, cacheFile, fingerprints("v2"));
+    assertThat(
+        cachedCatalog.getCrawlInfo().getRunId(), is(changedCatalog.getCrawlInfo().getRunId()));
+  }
+
+  @Test
+  public void changedSchemaFingerprint(final Connection connection) throws Exception {
+    final Path cacheFile = IOUtility.createTempFilePath("catalog", "cache");
+
+    final Catalog catalog = loadCatalog(connection, cacheFile, fingerprints("FOR_LINT", "v1"));
+
+    // Only the changed schema is crawled again
+    final CatalogCache catalogCache = newCatalogCache(connection, cacheFile, "FOR_LINT", "v2");
+    assertThat(catalogCache.load().isPresent(), is(false));
+    final SchemaCrawlerOptions crawlOptions =
+        catalogCache.getCrawlOptions(SchemaCrawlerOptionsBuilder.newSchemaCrawlerOptions());
+    final InclusionRule schemaInclusionRule =
+        crawlOptions.getLimitOptions().get(ruleForSchemaInclusion);
+    assertThat(schemaInclusionRule.test("PUBLIC.FOR_LINT"), is(true));
+    assertThat(schemaInclusionRule.test("PUBLIC.BOOKS"), is(false));
+
+    // Unchanged schemas are merged in from the cached catalog
+    final Catalog crawledCatalog =
+        new SchemaCrawler(connection, fingerprints("FOR_LINT", "v2"), crawlOptions).crawl();
+    assertThat(catalogCache.mergeUnchangedSchemas(crawledCatalog), is(true));
+    assertThat(tableNames(crawledCatalog), is(tableNames(catalog)));
+
+    final Catalog changedCatalog =
+        loadCatalog(connection, cacheFile, fingerprints("FOR_LINT", "v2"));
+    assertThat(
+        changedCatalog.getCrawlInfo().getRunId(), is(not(catalog.getCrawlInfo().getRunId())));
+    assertThat(tableNames(changedCatalog), is(tableNames(catalog)));
+  }
+
+  @Test
+  public void changedReferencedSchemaFingerprint(final Connection connection) throws Exception {
+    final Path cacheFile = IOUtility.createTempFilePath("catalog", "cache");
+
+    final Catalog catalog = loadCatalog(connection, cacheFile, fingerprints("BOOKS", "v1"));
+
+    // Tables in an unchanged schema have foreign keys to the changed schema,
+    // so all schemas are crawled again
+    final CatalogCache catalogCache = newCatalogCache(connection, cacheFile, "BOOKS", "v2");
+    assertThat(catalogCache.load().isPresent(), is(false));
+    final SchemaCrawlerOptions schemaCrawlerOptions =
+        SchemaCrawlerOptionsBuilder.newSchemaCrawlerOptions();
+    assertThat(catalogCache.getCrawlOptions(schemaCrawlerOptions), is(schemaCrawlerOptions));
+
+    final Catalog changedCatalog = loadCatalog(connection, cacheFile, fingerprints("BOOKS", "v2"));
+    assertThat(tableNames(changedCatalog), is(tableNames(catalog)));
+  }
+
+  @Test
+  public void optionsDescription() {
+    final String optionsDescription =
+        CatalogCache.describeOptions(schemaCrawlerOptions("PUBLIC\\.BOOKS"));
+    assertThat(
+        CatalogCache.describeOptions(schemaCrawlerOptions("PUBLIC\\.BOOKS")),
+        is(optionsDescription));
+    assertThat(
+        CatalogCache.describeOptions(schemaCrawlerOptions("PUBLIC\\.FOR_LINT")),
+        is(not(optionsDescription)));
+  }
+
+  @Test
+  public void corruptCache(final Connection connection) throws Exception {
+    final Path cacheFile = IOUtility.createTempFilePath("catalog", "cache");
+    try (final OutputStream out = Files.newOutputStream(cacheFile)) {
+      out.write("not a catalog".getBytes());
+    }
+
+    final Catalog catalog = loadCatalog(connection, cacheFile, fingerprints("v1"));
+    assertThat(catalog.getTables().isEmpty(), is(false));
+
+    final Catalog cachedCatalog = loadCatalog(connection, cacheFile, fingerprints("v1"));
+    assertThat(cachedCatalog.getCrawlInfo().getRunId(), is(catalog.getCrawlInfo().getRunId()));
+  }
+
+  @Test
+  public void noFingerprints(final Connection connection) throws Exception {
+    final Path cacheFile = IOUtility.createTempFilePath("catalog", "cache");
+
+    final SchemaRetrievalOptions schemaRetrievalOptions =
+        SchemaRetrievalOptionsBuilder.newSchemaRetrievalOptions();
+    final Catalog catalog = loadCatalog(connection, cacheFile, schemaRetrievalOptions);
+    assertThat(catalog.getTables().isEmpty(), is(false));
+    assertThat(Files.exists(cacheFile), is(false));
+  }
+
+  private SchemaRetrievalOptions fingerprints(final String fingerprint) {
+    return fingerprintsSql(String.format(FINGERPRINTS_SQL, fingerprint));
+  }
+
+  private SchemaRetrievalOptions fingerprints(final String schemaName, final String fingerprint) {
+    return fingerprintsSql(String.format(SCHEMA_FINGERPRINTS_SQL, schemaName, fingerprint));
+  }
+
+  private SchemaRetrievalOptions fingerprintsSql(final String fingerprintsSql) {
+    return SchemaRetrievalOptionsBuilder.builder()
+        .withInformationSchemaViews(
+            InformationSchemaViewsBuilder.builder()
+                .withSql(EXT_SCHEMA_FINGERPRINTS, fingerprintsSql)
+                .toOptions())
+        .toOptions();
+  }
+
+  private CatalogCache newCatalogCache(
+      final Connection connection,
+      final Path cacheFile,
+      final String schemaName,
+      final String fingerprint)
+      throws Exception {
+    final Optional<CatalogCache> catalogCache =
+        CatalogCache.newCatalogCache(
+            cacheFile,
+            connection,
+            fingerprints(schemaName, fingerprint),
+            SchemaCrawlerOptionsBuilder.newSchemaCrawlerOptions());
+    assertThat(catalogCache.isPresent(), is(true));
+    return catalogCache.get();
+  }
+
+  private SchemaCrawlerOptions schemaCrawlerOptions(final String schemaPattern) {
+    return SchemaCrawlerOptionsBuilder.newSchemaCrawlerOptions()
+        .withLimitOptions(
+            LimitOptionsBuilder.builder()
+                .includeSchemas(new RegularExpressionInclusionRule(schemaPattern))
+                .includeTables(new RegularExpressionInclusionRule(".*\\.BOOKS"))
+                .toOptions());
+  }
+
+  private List<String> tableNames(final Catalog catalog) {
+    return catalog.getTables().stream()
+        .map(Table::getFullName)
+        .sorted()
+        .collect(Collectors.toList());
+  }
+
+  private Catalog loadCatalog(
+      final Connection connection,
+      final Path cacheFile,
+      final SchemaRetrievalOptions schemaRetrievalOptions)
+      throws Exception {
+    final Map<String, Object> config = new HashMap<>();
+    config.put("catalog-cache", cacheFile);
+
+    final SchemaCrawlerCatalogLoader catalogLoader = new SchemaCrawlerCatalogLoader();
+    catalogLoader.setConnection(connection);
+    catalogLoader.setSchemaRetrievalOptions(schemaRetrievalOptions);
+    catalogLoader.setAdditionalConfiguration(new Config(config));
+    catalogLoader.loadCatalog();
+    return catalogLoader.getCatalog();
+  }
+}
@@ -28,13 +28,13 @@ http://www.gnu.org/licenses/
 package us.fatehi.utility;
 
 import static java.util.Objects.requireNonNull;
-import static us.fatehi.utility.Utility.commonPrefix;
 import static us.fatehi.utility.Utility.isBlank;
 
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.SortedMap;
@@ -86,53 +86,71 @@ public final class PrefixMatches {
   }
 
   /**
-   * Finds key prefixes. Prefixes are separated by a separator character.
+   * Finds key prefixes. Prefixes are separated by a separator character. A prefix is counted once
+   * for every pair of different keys that share it, unless the longest common prefix of the pair
+   * only has separators after it. Counts are worked out from the number of keys that start with
+   * each prefix, rather than by comparing every pair of keys.
    *
    * @param keys Keys
    * @return Key name prefixes
    */
   private Collection<String> findPrefixes(final List<String> keys) {
-    final SortedMap<String, Integer> prefixesMap = new TreeMap<>();
-    for (int i = 0; i < keys.size(); i++) {
-      for (int j = i + 1; j < keys.size(); j++) {
-        final String key1 = keys.get(i);
-        final String key2 = keys.get(j);
-        final String commonPrefix = commonPrefix(key1, key2);
-        if (isBlank(commonPrefix)) {
-          continue;
-        }
+    // Count each distinct key, since identical keys do not share a prefix
+    final Map<String, Integer> keyCounts = new HashMap<>();
+    for (final String key : keys) {
+      if (key != null) {
+        keyCounts.merge(key, 1, Integer::sum);
+      }
+    }
 
-        final List<String> splitCommonPrefixes = new ArrayList<>();
-        final String[] splitPrefix = commonPrefix.split(keySeparator);
-        if (splitPrefix != null && splitPrefix.length > 0) {
-          for (int k = 0; k < splitPrefix.length; k++) {
-            final StringBuilder buffer = new StringBuilder(1024);
-            for (int l = 0; l < k; l++) {
-              buffer.append(splitPrefix[l]).append(keySeparator);
-            }
-            if (buffer.length() > 0) {
-              splitCommonPrefixes.add(buffer.toString());
-            }
-          }
-        }
-        if (commonPrefix.endsWith(keySeparator)) {
-          splitCommonPrefixes.add(commonPrefix);
+    // Count keys that start with each prefix ending in a separator, and with each of those
+    // prefixes followed by one more character
+    final Map<String, long[]> separatedCounts = new HashMap<>();
+    final Map<String, long[]> extendedCounts = new HashMap<>();
+    for (final Map.Entry<String, Integer> keyCount : keyCounts.entrySet()) {
+      final String key = keyCount.getKey();
+      final int count = keyCount.getValue();
+      int index = key.indexOf(keySeparator);
+      while (index >= 0) {
+        final int prefixLength = index + keySeparator.length();
+        countPrefix(separatedCounts, key.substring(0, prefixLength), count);
+        if (prefixLength < key.length()) {
+          countPrefix(extendedCounts, key.substring(0, prefixLength + 1), count);
         }
+        index = key.indexOf(keySeparator, prefixLength);
+      }
+    }
 
-        for (final String splitCommonPrefix : splitCommonPrefixes) {
-          final int prevCount;
-          if (prefixesMap.containsKey(splitCommonPrefix)) {
-            prevCount = prefixesMap.get(splitCommonPrefix);
-          } else {
-            prevCount = 0;
-          }
-          prefixesMap.put(splitCommonPrefix, prevCount + 1);
-        }
+    // Find the number of pairs of keys that have each prefix as their longest common prefix
+    final Map<String, Long> divergingPairs = new HashMap<>();
+    for (final Map.Entry<String, long[]> separatedCount : separatedCounts.entrySet()) {
+      divergingPairs.put(separatedCount.getKey(), pairs(separatedCount.getValue()));
+    }
+    for (final Map.Entry<String, long[]> extendedCount : extendedCounts.entrySet()) {
+      final String extendedPrefix = extendedCount.getKey();
+      divergingPairs.merge(
+          extendedPrefix.substring(0, extendedPrefix.length() - 1),
+          -pairs(extendedCount.getValue()),
+          Long::sum);
+    }
+
+    final SortedMap<String, Long> prefixesMap = new TreeMap<>();
+    for (final Map.Entry<String, long[]> separatedCount : separatedCounts.entrySet()) {
+      final String prefix = separatedCount.getKey();
+      long pairCount = pairs(separatedCount.getValue());
+      // Discount pairs where only separators follow the prefix
+      String separatorsPrefix = prefix + keySeparator;
+      while (divergingPairs.containsKey(separatorsPrefix)) {
+        pairCount = pairCount - divergingPairs.get(separatorsPrefix);
+        separatorsPrefix = separatorsPrefix + keySeparator;
+      }
+      if (pairCount > 0) {
+        prefixesMap.merge(prefix.toLowerCase(), pairCount, Long::sum);
       }
     }
 
     // Sort prefixes by the number of keys using them, in descending order
-    final List<Map.Entry<String, Integer>> prefixesList = new ArrayList<>(prefixesMap.entrySet());
+    final List<Map.Entry<String, Long>> prefixesList = new ArrayList<>(prefixesMap.entrySet());
     Collections.sort(
         prefixesList, (entry1, entry2) -> entry1.getValue().compareTo(entry2.getValue()));
 
@@ -150,12 +168,36 @@ public final class PrefixMatches {
     return prefixes;
   }
 
+  /**
+   * Counts keys that start with a prefix, and pairs of identical keys among them.
+   *
+   * @param prefixCounts Counts for each prefix
+   * @param prefix Prefix that a key starts with
+   * @param count Number of identical keys
+   */
+  private void countPrefix(
+      final Map<String, long[]> prefixCounts, final String prefix, final long count) {
+    final long[] counts = prefixCounts.computeIfAbsent(prefix, k -> new long[2]);
+    counts[0] = counts[0] + count;
+    counts[1] = counts[1] + count * (count - 1) / 2;
+  }
+
+  /**
+   * Counts pairs of keys that start with a prefix, without counting pairs of identical keys.
+   *
+   * @param counts Number of keys, and number of pairs of identical keys
+   * @return Number of pairs of different keys
+   */
+  private long pairs(final long[] counts) {
+    return counts[0] * (counts[0] - 1) / 2 - counts[1];
+  }
+
   private void mapPrefixes(final List<String> keys, final Collection<String> prefixes) {
     for (final String key : keys) {
+      final String lowerCaseKey = key.toLowerCase();
       for (final String prefix : prefixes) {
-        String matchKeyName = key.toLowerCase();
-        if (matchKeyName.startsWith(prefix)) {
-          matchKeyName = matchKeyName.substring(prefix.length());
+        if (lowerCaseKey.startsWith(prefix)) {
+          String matchKeyName = lowerCaseKey.substring(prefix.length());
           matchKeyName = Inflection.singularize(matchKeyName);
           if (!isBlank(matchKeyName)) {
             keyPrefixes.add(key, matchKeyName);
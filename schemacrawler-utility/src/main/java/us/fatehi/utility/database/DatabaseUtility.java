@@ -31,6 +31,7 @@ import static java.util.Objects.requireNonNull;
 import static us.fatehi.utility.Utility.isBlank;
 
 import java.sql.Connection;
+import java.sql.DatabaseMetaData;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.SQLWarning;
@@ -156,6 +157,33 @@ public final class DatabaseUtility {
     }
   }
 
+  /**
+   * Checks whether the database server is at least the given version, so that database plugins
+   * can use data dictionary queries that older servers do not support.
+   *
+   * @param connection Database connection, which may be null
+   * @param majorVersion Minimum major version
+   * @param minorVersion Minimum minor version, for the minimum major version
+   * @return True if the server version is known, and at least the given version
+   */
+  public static boolean isDatabaseVersionAtLeast(
+      final Connection connection, final int majorVersion, final int minorVersion) {
+    if (connection == null) {
+      return false;
+    }
+    try {
+      final DatabaseMetaData dbMetaData = connection.getMetaData();
+      final int databaseMajorVersion = dbMetaData.getDatabaseMajorVersion();
+      if (databaseMajorVersion != majorVersion) {
+        return databaseMajorVersion > majorVersion;
+      }
+      return dbMetaData.getDatabaseMinorVersion() >= minorVersion;
+    } catch (final SQLException | RuntimeException e) {
+      LOGGER.log(Level.WARNING, "Could not obtain database server version", e);
+      return false;
+    }
+  }
+
   public static void logSQLWarnings(final ResultSet resultSet) {
     if (resultSet == null) {
       return;
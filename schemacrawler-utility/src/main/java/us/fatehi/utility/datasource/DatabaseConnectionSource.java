@@ -35,5 +35,15 @@ public interface DatabaseConnectionSource extends AutoCloseable, Supplier<Connec
 
   String getConnectionUrl();
 
+  /**
+   * Maximum number of connections that can be leased at the same time. Sources that share a single
+   * connection can only lease one.
+   *
+   * @return Maximum number of connections
+   */
+  default int getMaxConnections() {
+    return 1;
+  }
+
   boolean releaseConnection(Connection connection);
 }
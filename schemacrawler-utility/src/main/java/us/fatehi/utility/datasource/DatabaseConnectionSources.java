@@ -33,6 +33,7 @@ import java.util.logging.Level;
 import java.util.logging.Logger;
 
 import us.fatehi.utility.PropertiesUtility;
+import us.fatehi.utility.string.StringFormat;
 
 public class DatabaseConnectionSources {
 
@@ -49,8 +50,18 @@ public class DatabaseConnectionSources {
     final Boolean isExperimental = Boolean.valueOf(experimentalFlag);
     if (isExperimental) {
       LOGGER.log(Level.CONFIG, "Loading database schema using multiple threads");
+      final int maxConnections =
+          getIntSystemConfigurationProperty(
+              "SC_MAX_CONNECTIONS", SimpleDatabaseConnectionSource.MAX_CONNECTIONS);
+      final int leaseTimeoutSeconds =
+          getIntSystemConfigurationProperty(
+              "SC_CONNECTION_LEASE_TIMEOUT", SimpleDatabaseConnectionSource.LEASE_TIMEOUT_SECONDS);
       return new SimpleDatabaseConnectionSource(
-          connectionUrl, connectionProperties, userCredentials);
+          connectionUrl,
+          connectionProperties,
+          userCredentials,
+          maxConnections,
+          leaseTimeoutSeconds);
     } else {
       LOGGER.log(Level.CONFIG, "Loading database schema using a single main thread");
       return new SingleDatabaseConnectionSource(
@@ -63,6 +74,23 @@ public class DatabaseConnectionSources {
     return newDatabaseConnectionSource(connectionUrl, null, userCredentials);
   }
 
+  private static int getIntSystemConfigurationProperty(final String key, final int defaultValue) {
+    final String value =
+        PropertiesUtility.getSystemConfigurationProperty(key, String.valueOf(defaultValue));
+    try {
+      final int intValue = Integer.parseInt(value.trim());
+      if (intValue > 0) {
+        return intValue;
+      }
+    } catch (final NumberFormatException e) {
+      // Use default value
+    }
+    LOGGER.log(
+        Level.WARNING,
+        new StringFormat("Invalid value <%s=%s>, using <%d>", key, value, defaultValue));
+    return defaultValue;
+  }
+
   private DatabaseConnectionSources() {
     // Prevent instantiation
   }
@@ -34,33 +34,84 @@ import static us.fatehi.utility.Utility.isBlank;
 import java.sql.Connection;
 import java.sql.SQLException;
 import java.util.ArrayList;
-import java.util.LinkedList;
+import java.util.Deque;
 import java.util.List;
 import java.util.Map;
 import java.util.Properties;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
 import us.fatehi.utility.database.DatabaseUtility;
-
+import us.fatehi.utility.string.StringFormat;
+
+/**
+ * A bounded, thread-safe pool of database connections. Connections are opened as they are needed,
+ * up to the maximum number of connections, after which callers wait for a connection to be
+ * released back to the pool. Callers that wait for longer than the lease timeout fail, rather than
+ * wait forever on connections that may never be released.
+ */
 final class SimpleDatabaseConnectionSource extends AbstractDatabaseConnectionSource
     implements DatabaseConnectionSource {
 
   private static final Logger LOGGER =
       Logger.getLogger(SimpleDatabaseConnectionSource.class.getName());
 
+  /** Default maximum number of connections in the pool. */
+  static final int MAX_CONNECTIONS = 10;
+
+  /** Default number of seconds to wait for a connection to be released to the pool. */
+  static final int LEASE_TIMEOUT_SECONDS = 300;
+
   private final Properties jdbcConnectionProperties;
-  private final LinkedList<Connection> connectionPool;
-  private final LinkedList<Connection> usedConnections;
+  private final int maxConnections;
+  private final int leaseTimeoutSeconds;
+  private final Semaphore leases;
+  private final Deque<Connection> connectionPool;
+  private final Set<Connection> usedConnections;
 
   SimpleDatabaseConnectionSource(
       final String connectionUrl,
       final Map<String, String> connectionProperties,
       final UserCredentials userCredentials) {
+    this(connectionUrl, connectionProperties, userCredentials, MAX_CONNECTIONS);
+  }
+
+  SimpleDatabaseConnectionSource(
+      final String connectionUrl,
+      final Map<String, String> connectionProperties,
+      final UserCredentials userCredentials,
+      final int maxConnections) {
+    this(
+        connectionUrl,
+        connectionProperties,
+        userCredentials,
+        maxConnections,
+        LEASE_TIMEOUT_SECONDS);
+  }
+
+  SimpleDatabaseConnectionSource(
+      final String connectionUrl,
+      final Map<String, String> connectionProperties,
+      final UserCredentials userCredentials,
+      final int maxConnections,
+      final int leaseTimeoutSeconds) {
 
     super(connectionUrl);
 
     requireNonNull(userCredentials, "No user credentials provided");
+    if (maxConnections < 1) {
+      throw new IllegalArgumentException(
+          String.format("Invalid maximum number of connections <%d>", maxConnections));
+    }
+    if (leaseTimeoutSeconds < 1) {
+      throw new IllegalArgumentException(
+          String.format("Invalid connection lease timeout <%d>", leaseTimeoutSeconds));
+    }
 
     final String user = userCredentials.getUser();
     final String password = userCredentials.getPassword();
@@ -74,8 +125,17 @@ final class SimpleDatabaseConnectionSource extends AbstractDatabaseConnectionSou
     jdbcConnectionProperties =
         createConnectionProperties(connectionUrl, connectionProperties, user, password);
 
-    connectionPool = new LinkedList<>();
-    usedConnections = new LinkedList<>();
+    this.maxConnections = maxConnections;
+    this.leaseTimeoutSeconds = leaseTimeoutSeconds;
+    leases = new Semaphore(maxConnections, true);
+    connectionPool = new ConcurrentLinkedDeque<>();
+    usedConnections = ConcurrentHashMap.newKeySet();
+
+    LOGGER.log(
+        Level.CONFIG,
+        new StringFormat(
+            "Pooling up to <%d> database connections, with a lease timeout of <%d> seconds",
+            maxConnections, leaseTimeoutSeconds));
   }
 
   @Override
@@ -101,35 +161,77 @@ final class SimpleDatabaseConnectionSource extends AbstractDatabaseConnectionSou
     usedConnections.clear();
   }
 
+  /**
+   * Leases a connection from the pool, waiting for one to be released if the pool is exhausted.
+   * Closing the returned connection releases it back to the pool.
+   *
+   * @throws IllegalStateException If no connection is released within the lease timeout
+   */
   @Override
   public Connection get() {
-    // Create a connection if needed
-    if (connectionPool.isEmpty()) {
-      final Connection connection = getConnection(connectionUrl, jdbcConnectionProperties);
-      connectionPool.add(connection);
+    try {
+      if (!leases.tryAcquire(leaseTimeoutSeconds, TimeUnit.SECONDS)) {
+        throw new IllegalStateException(
+            String.format(
+                "No database connection was released to the pool within <%d> seconds, "
+                    + "with all <%d> connections in use - increase SC_MAX_CONNECTIONS, "
+                    + "or SC_CONNECTION_LEASE_TIMEOUT",
+                leaseTimeoutSeconds, maxConnections));
+      }
+    } catch (final InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new RuntimeException("Interrupted while waiting for a database connection", e);
+    }
+
+    Connection connection = connectionPool.pollFirst();
+    if (connection == null) {
+      // Create a connection if needed - the properties are copied, since
+      // the password is cleared from them once a connection is made
+      try {
+        final Properties connectionProperties = new Properties();
+        connectionProperties.putAll(jdbcConnectionProperties);
+        connection = getConnection(connectionUrl, connectionProperties);
+      } catch (final RuntimeException e) {
+        leases.release();
+        throw e;
+      }
     }
 
     // Mark connection as in-use
-    final Connection connection = connectionPool.removeFirst();
     usedConnections.add(connection);
 
     return PooledConnectionUtility.newPooledConnection(connection, this);
   }
 
+  @Override
+  public int getMaxConnections() {
+    return maxConnections;
+  }
+
   @Override
   public boolean releaseConnection(final Connection connection) {
 
-    final boolean removed = usedConnections.remove(connection);
+    final Connection unwrappedConnection;
+    try {
+      unwrappedConnection = connection.unwrap(Connection.class);
+    } catch (final SQLException e) {
+      throw new RuntimeException("Cannot release connection from pool", e);
+    }
+
+    final boolean removed = usedConnections.remove(unwrappedConnection);
+    if (!removed) {
+      return false;
+    }
 
     try {
-      final Connection unwrappedConnection = connection.unwrap(Connection.class);
       DatabaseUtility.checkConnection(unwrappedConnection);
+      connectionPool.addLast(unwrappedConnection);
     } catch (final SQLException e) {
       throw new RuntimeException("Cannot release connection from pool", e);
+    } finally {
+      leases.release();
     }
 
-    connectionPool.add(connection);
-
     return removed;
   }
 
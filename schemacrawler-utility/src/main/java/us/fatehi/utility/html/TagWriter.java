@@ -0,0 +1,356 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2022, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+
+package us.fatehi.utility.html;
+
+import static java.util.Objects.requireNonNull;
+import static us.fatehi.utility.Utility.isBlank;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
+import us.fatehi.utility.Color;
+
+/**
+ * Writes table rows directly to an output, as they would be rendered from {@link Tag} objects, but
+ * without building a tree of tags, or intermediate strings. Text is escaped as it is written. The
+ * writer reuses a single cell, so writing rows does not allocate objects.
+ *
+ * <pre>
+ * tagWriter
+ *     .startRow(TagOutputFormat.html)
+ *     .cell().withText(name).withWidth(20).end()
+ *     .cell().withText(value).withAlignment(Alignment.right).end()
+ *     .endRow();
+ * </pre>
+ */
+public final class TagWriter {
+
+  /** A table cell that is being written. Set properties, and then end the cell to write it. */
+  public final class Cell {
+
+    private final String[] attributes;
+    private int attributeCount;
+    private String tagName;
+    private String text;
+    private boolean escapeText;
+    private int characterWidth;
+    private Alignment align;
+    private boolean emphasizeText;
+    private String styleClass;
+    private Color bgColor;
+    private int columnSpan;
+
+    private Cell() {
+      attributes = new String[8];
+    }
+
+    /**
+     * Writes the cell to the row.
+     *
+     * @return Tag writer, to continue the row
+     */
+    public TagWriter end() {
+      writeCell(this);
+      return TagWriter.this;
+    }
+
+    /**
+     * Adds an attribute to the cell. Attributes are written after the column span, in the order in
+     * which they are added. Blank keys or values are ignored.
+     *
+     * @param key Attribute name
+     * @param value Attribute value
+     * @return Cell
+     */
+    public Cell withAttribute(final String key, final String value) {
+      if (isBlank(key) || isBlank(value)) {
+        return this;
+      }
+      if (attributeCount == attributes.length) {
+        throw new IllegalStateException("Too many attributes for table cell");
+      }
+      attributes[attributeCount++] = key;
+      attributes[attributeCount++] = value;
+      return this;
+    }
+
+    public Cell withAlignment(final Alignment align) {
+      this.align = align;
+      return this;
+    }
+
+    public Cell withBackground(final Color bgColor) {
+      this.bgColor = bgColor;
+      return this;
+    }
+
+    public Cell withColumnSpan(final int columnSpan) {
+      this.columnSpan = columnSpan;
+      return this;
+    }
+
+    public Cell withEmphasis(final boolean emphasizeText) {
+      this.emphasizeText = emphasizeText;
+      return this;
+    }
+
+    public Cell withEscapedText(final String text) {
+      return withEscapedText(text, true);
+    }
+
+    public Cell withEscapedText(final String text, final boolean escapeText) {
+      this.text = text;
+      this.escapeText = escapeText;
+      return this;
+    }
+
+    public Cell withStyleClass(final String styleClass) {
+      this.styleClass = styleClass;
+      return this;
+    }
+
+    public Cell withText(final String text) {
+      return withEscapedText(text, false);
+    }
+
+    public Cell withWidth(final int characterWidth) {
+      this.characterWidth = characterWidth;
+      return this;
+    }
+
+    private Cell reset(final String tagName) {
+      this.tagName = tagName;
+      attributeCount = 0;
+      text = null;
+      escapeText = false;
+      characterWidth = 0;
+      align = null;
+      emphasizeText = false;
+      styleClass = null;
+      bgColor = null;
+      columnSpan = 0;
+      return this;
+    }
+  }
+
+  private static final String LINE_SEPARATOR = System.lineSeparator();
+
+  private final Appendable out;
+  private final Cell cell;
+  private TagOutputFormat tagOutputFormat;
+  private int cellCount;
+  private boolean inRow;
+
+  public TagWriter(final Appendable out) {
+    this.out = requireNonNull(out, "No output provided");
+    cell = new Cell();
+  }
+
+  /**
+   * Starts a data cell in the current row. The same cell is reused for each call.
+   *
+   * @return Cell to set properties on
+   */
+  public Cell cell() {
+    checkInRow();
+    return cell.reset("td");
+  }
+
+  /**
+   * Ends the current row, and the line.
+   *
+   * @return Tag writer
+   */
+  public TagWriter endRow() {
+    checkInRow();
+    inRow = false;
+    if (tagOutputFormat == TagOutputFormat.html) {
+      append("\t</tr>");
+    }
+    append(LINE_SEPARATOR);
+    return this;
+  }
+
+  /**
+   * Starts a header cell in the current row. The same cell is reused for each call.
+   *
+   * @return Cell to set properties on
+   */
+  public Cell headerCell() {
+    checkInRow();
+    return cell.reset("th");
+  }
+
+  /**
+   * Starts a table row.
+   *
+   * @param tagOutputFormat Format to write the row in
+   * @return Tag writer
+   */
+  public TagWriter startRow(final TagOutputFormat tagOutputFormat) {
+    if (inRow) {
+      throw new IllegalStateException("Previous row was not ended");
+    }
+    this.tagOutputFormat = requireNonNull(tagOutputFormat, "No output format provided");
+    inRow = true;
+    cellCount = 0;
+    if (tagOutputFormat == TagOutputFormat.html) {
+      append("\t<tr>").append(LINE_SEPARATOR);
+    }
+    return this;
+  }
+
+  private TagWriter append(final char ch) {
+    try {
+      out.append(ch);
+    } catch (final IOException e) {
+      throw new UncheckedIOException(e);
+    }
+    return this;
+  }
+
+  private TagWriter append(final String text) {
+    try {
+      out.append(text);
+    } catch (final IOException e) {
+      throw new UncheckedIOException(e);
+    }
+    return this;
+  }
+
+  private void appendEscapedHtml(final String text) {
+    int start = 0;
+    for (int i = 0; i < text.length(); i++) {
+      final String escaped;
+      switch (text.charAt(i)) {
+        case '>':
+          escaped = "&gt;";
+          break;
+        case '&':
+          escaped = "&amp;";
+          break;
+        case '<':
+          escaped = "&lt;";
+          break;
+        default:
+          continue;
+      }
+      appendRange(text, start, i);
+      append(escaped);
+      start = i + 1;
+    }
+    appendRange(text, start, text.length());
+  }
+
+  private void appendPadding(final int count) {
+    for (int i = 0; i < count; i++) {
+      append(' ');
+    }
+  }
+
+  private void appendRange(final String text, final int start, final int end) {
+    if (start >= end) {
+      return;
+    }
+    try {
+      out.append(text, start, end);
+    } catch (final IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  private void checkInRow() {
+    if (!inRow) {
+      throw new IllegalStateException("No row was started");
+    }
+  }
+
+  private void writeCell(final Cell cell) {
+    checkInRow();
+    final String text = cell.text == null ? "" : cell.text;
+    switch (tagOutputFormat) {
+      case text:
+        if (cellCount > 0) {
+          append("  ");
+        }
+        final int padding = cell.characterWidth - text.length();
+        if (padding > 0 && cell.align == Alignment.right) {
+          appendPadding(padding);
+        }
+        append(text);
+        if (padding > 0 && cell.align != Alignment.right) {
+          appendPadding(padding);
+        }
+        break;
+      case tsv:
+        if (cellCount > 0) {
+          append('\t');
+        }
+        append(text);
+        break;
+      case html:
+      default:
+        writeHtmlCell(cell, text);
+        break;
+    }
+    cellCount++;
+  }
+
+  private void writeHtmlCell(final Cell cell, final String text) {
+    append("\t\t<").append(cell.tagName);
+    if (cell.columnSpan > 0) {
+      append(" colspan='").append(String.valueOf(cell.columnSpan)).append('\'');
+    }
+    for (int i = 0; i < cell.attributeCount; i = i + 2) {
+      append(' ').append(cell.attributes[i]).append("='").append(cell.attributes[i + 1]);
+      append('\'');
+    }
+    if (cell.bgColor != null && !cell.bgColor.equals(Color.white)) {
+      append(" bgcolor='").append(cell.bgColor.toString()).append('\'');
+    }
+    if (!isBlank(cell.styleClass)) {
+      append(" class='").append(cell.styleClass).append('\'');
+    } else if (cell.align != null && cell.align != Alignment.inherit) {
+      append(" align='").append(cell.align.toString()).append('\'');
+    }
+    append('>');
+    if (cell.emphasizeText) {
+      append("<b><i>");
+    }
+    if (cell.escapeText) {
+      appendEscapedHtml(text);
+    } else {
+      append(text);
+    }
+    if (cell.emphasizeText) {
+      append("</i></b>");
+    }
+    append("</").append(cell.tagName).append('>').append(LINE_SEPARATOR);
+  }
+}
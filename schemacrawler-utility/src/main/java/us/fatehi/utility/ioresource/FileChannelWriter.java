@@ -0,0 +1,156 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2022, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+
+package us.fatehi.utility.ioresource;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.CodingErrorAction;
+
+/**
+ * Writes characters to a file channel, encoding them directly into a byte buffer, without the
+ * intermediate stream layers of a buffered writer. Bytes are only written to the file when the
+ * buffer fills up, or when the writer is flushed or closed.
+ */
+final class FileChannelWriter extends Writer {
+
+  private final FileChannel channel;
+  private final CharsetEncoder encoder;
+  private final ByteBuffer bytes;
+  private boolean hasLeftoverChar;
+  private char leftoverChar;
+  private boolean isClosed;
+
+  FileChannelWriter(final FileChannel channel, final Charset charset, final int bufferSize) {
+    this.channel = requireNonNull(channel, "No file channel provided");
+    requireNonNull(charset, "No output charset provided");
+    encoder =
+        charset
+            .newEncoder()
+            .onMalformedInput(CodingErrorAction.REPLACE)
+            .onUnmappableCharacter(CodingErrorAction.REPLACE);
+    if (bufferSize < 16) {
+      throw new IllegalArgumentException(String.format("Invalid buffer size <%d>", bufferSize));
+    }
+    bytes = ByteBuffer.allocate(bufferSize);
+  }
+
+  @Override
+  public void close() throws IOException {
+    if (isClosed) {
+      return;
+    }
+    try {
+      final CharBuffer chars;
+      if (hasLeftoverChar) {
+        chars = CharBuffer.wrap(new char[] {leftoverChar});
+        hasLeftoverChar = false;
+      } else {
+        chars = CharBuffer.allocate(0);
+      }
+      encode(chars, true);
+      while (encoder.flush(bytes).isOverflow()) {
+        writeBytes();
+      }
+      writeBytes();
+    } finally {
+      isClosed = true;
+      channel.close();
+    }
+  }
+
+  @Override
+  public void flush() throws IOException {
+    ensureOpen();
+    writeBytes();
+  }
+
+  @Override
+  public void write(final char[] cbuf, final int off, final int len) throws IOException {
+    write(CharBuffer.wrap(cbuf, off, len));
+  }
+
+  @Override
+  public void write(final int c) throws IOException {
+    write(CharBuffer.wrap(new char[] {(char) c}));
+  }
+
+  @Override
+  public void write(final String str, final int off, final int len) throws IOException {
+    write(CharBuffer.wrap(str, off, off + len));
+  }
+
+  private void encode(final CharBuffer chars, final boolean endOfInput) throws IOException {
+    while (true) {
+      final CoderResult result = encoder.encode(chars, bytes, endOfInput);
+      if (result.isOverflow()) {
+        writeBytes();
+      } else if (result.isUnderflow()) {
+        // Only the high half of a surrogate pair can be left over, so keep it for the next write
+        if (chars.hasRemaining()) {
+          leftoverChar = chars.get();
+          hasLeftoverChar = true;
+        }
+        return;
+      } else {
+        result.throwException();
+      }
+    }
+  }
+
+  private void ensureOpen() throws IOException {
+    if (isClosed) {
+      throw new IOException("Writer is closed");
+    }
+  }
+
+  private void write(final CharBuffer chars) throws IOException {
+    ensureOpen();
+    while (hasLeftoverChar && chars.hasRemaining()) {
+      hasLeftoverChar = false;
+      encode(CharBuffer.wrap(new char[] {leftoverChar, chars.get()}), false);
+    }
+    encode(chars, false);
+  }
+
+  private void writeBytes() throws IOException {
+    bytes.flip();
+    while (bytes.hasRemaining()) {
+      channel.write(bytes);
+    }
+    bytes.clear();
+  }
+}
@@ -27,7 +27,7 @@ http://www.gnu.org/licenses/
 */
 package us.fatehi.utility.ioresource;
 
-import static java.nio.file.Files.newBufferedWriter;
+import static java.nio.file.Files.newOutputStream;
 import static java.nio.file.StandardOpenOption.APPEND;
 import static java.nio.file.StandardOpenOption.CREATE;
 import static java.nio.file.StandardOpenOption.TRUNCATE_EXISTING;
@@ -36,12 +36,16 @@ import static java.util.Objects.requireNonNull;
 import static us.fatehi.utility.ioresource.InputResourceUtility.wrapWriter;
 
 import java.io.IOException;
+import java.io.OutputStreamWriter;
 import java.io.Writer;
+import java.nio.channels.FileChannel;
 import java.nio.charset.Charset;
 import java.nio.file.OpenOption;
 import java.nio.file.Path;
+import java.util.Locale;
 import java.util.logging.Level;
 import java.util.logging.Logger;
+import java.util.zip.GZIPOutputStream;
 
 import us.fatehi.utility.string.StringFormat;
 
@@ -49,6 +53,8 @@ public final class FileOutputResource implements OutputResource {
 
   private static final Logger LOGGER = Logger.getLogger(FileOutputResource.class.getName());
 
+  private static final int BUFFER_SIZE = 64 * 1024;
+
   private final Path outputFile;
 
   public FileOutputResource(final Path filePath) {
@@ -59,6 +65,16 @@ public final class FileOutputResource implements OutputResource {
     return outputFile;
   }
 
+  /**
+   * Checks whether output is compressed, which is the case if the file name ends with ".gz".
+   *
+   * @return Whether output is gzip compressed
+   */
+  public boolean isGzipCompressed() {
+    final Path fileName = outputFile.getFileName();
+    return fileName != null && fileName.toString().toLowerCase(Locale.ENGLISH).endsWith(".gz");
+  }
+
   @Override
   public Writer openNewOutputWriter(final Charset charset, final boolean appendOutput)
       throws IOException {
@@ -69,7 +85,16 @@ public final class FileOutputResource implements OutputResource {
     } else {
       openOptions = new OpenOption[] {WRITE, CREATE, TRUNCATE_EXISTING};
     }
-    final Writer writer = newBufferedWriter(outputFile, charset, openOptions);
+    final Writer writer;
+    if (isGzipCompressed()) {
+      writer =
+          new OutputStreamWriter(
+              new GZIPOutputStream(newOutputStream(outputFile, openOptions), BUFFER_SIZE),
+              charset);
+    } else {
+      writer =
+          new FileChannelWriter(FileChannel.open(outputFile, openOptions), charset, BUFFER_SIZE);
+    }
     LOGGER.log(Level.FINE, new StringFormat("Opened output writer to file <%s>", outputFile));
     return wrapWriter(getDescription(), writer, true);
   }
@@ -31,15 +31,22 @@ import static java.time.temporal.ChronoField.HOUR_OF_DAY;
 import static java.time.temporal.ChronoField.MINUTE_OF_HOUR;
 import static java.time.temporal.ChronoField.NANO_OF_SECOND;
 import static java.time.temporal.ChronoField.SECOND_OF_MINUTE;
+import static java.util.Objects.requireNonNull;
 import static us.fatehi.utility.Utility.requireNotBlank;
 
 import java.time.Duration;
 import java.time.LocalTime;
 import java.time.format.DateTimeFormatter;
 import java.time.format.DateTimeFormatterBuilder;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
 import java.util.function.BiFunction;
 import java.util.function.Supplier;
 
@@ -124,4 +131,89 @@ public abstract void stop() throws ExecutionException;
   List<TaskInfo> getTasks() {
     return tasks;
   }
+
+  /**
+   * Orders tasks so that every task comes after its prerequisites. The order in which tasks were
+   * provided is kept wherever the dependencies allow it, so tasks that are already in a valid
+   * order are returned unchanged. Dependencies on tasks that are not provided are considered to be
+   * complete.
+   *
+   * @param taskDefinitions Tasks to order
+   * @return Tasks in an order in which they can be run
+   */
+  List<TaskDefinition> orderByDependencies(final TaskDefinition... taskDefinitions) {
+    requireNonNull(taskDefinitions, "Tasks not provided");
+
+    final Map<String, TaskDefinition> pending = new LinkedHashMap<>();
+    for (final TaskDefinition taskDefinition : taskDefinitions) {
+      requireNonNull(taskDefinition, "Task not provided");
+      final String taskName = taskDefinition.getTaskName();
+      if (pending.put(taskName, taskDefinition) != null) {
+        throw new IllegalArgumentException(String.format("Duplicate task <%s>", taskName));
+      }
+    }
+
+    final List<TaskDefinition> orderedTasks = new ArrayList<>(pending.size());
+    while (!pending.isEmpty()) {
+      TaskDefinition nextTask = null;
+      for (final TaskDefinition taskDefinition : pending.values()) {
+        boolean isReady = true;
+        for (final String dependency : taskDefinition.getDependencies()) {
+          if (pending.containsKey(dependency)) {
+            isReady = false;
+            break;
+          }
+        }
+        if (isReady) {
+          nextTask = taskDefinition;
+          break;
+        }
+      }
+      if (nextTask == null) {
+        throw new IllegalArgumentException(
+            String.format("Cyclical task dependencies in <%s>", pending.keySet()));
+      }
+      pending.remove(nextTask.getTaskName());
+      orderedTasks.add(nextTask);
+    }
+
+    return orderedTasks;
+  }
+
+  /**
+   * Runs tasks on an executor, starting each task as soon as all of its prerequisites are complete,
+   * rather than waiting for every other task in the run. Blocks until all tasks are complete.
+   *
+   * @param executor Executor to run tasks on
+   * @param taskDefinitions Tasks to run
+   */
+  void runWithDependencies(final Executor executor, final TaskDefinition... taskDefinitions) {
+    requireNonNull(executor, "No executor provided");
+
+    final Map<String, CompletableFuture<Void>> futures = new HashMap<>();
+    for (final TaskDefinition task : orderByDependencies(taskDefinitions)) {
+      final List<CompletableFuture<Void>> prerequisites = new ArrayList<>();
+      for (final String dependency : task.getDependencies()) {
+        if (futures.containsKey(dependency)) {
+          prerequisites.add(futures.get(dependency));
+        }
+      }
+
+      final Runnable timedTask = new TimedTask(getTasks(), task);
+      final CompletableFuture<Void> future;
+      if (prerequisites.isEmpty()) {
+        future = CompletableFuture.runAsync(timedTask, executor);
+      } else {
+        future =
+            CompletableFuture.allOf(prerequisites.toArray(new CompletableFuture[0]))
+                .thenRunAsync(timedTask, executor);
+      }
+      futures.put(task.getTaskName(), future);
+    }
+
+    final CompletableFuture<Void> completableFuture =
+        CompletableFuture.allOf(futures.values().toArray(new CompletableFuture[0]));
+
+    completableFuture.join();
+  }
 }
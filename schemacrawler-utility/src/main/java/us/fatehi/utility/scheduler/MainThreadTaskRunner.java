@@ -47,7 +47,7 @@ final class MainThreadTaskRunner extends AbstractTaskRunner {
 
     requireNonNull(taskDefinitions, "Tasks not provided");
 
-    for (final TaskDefinition taskDefinition : taskDefinitions) {
+    for (final TaskDefinition taskDefinition : orderByDependencies(taskDefinitions)) {
       taskDefinition.run();
     }
   }
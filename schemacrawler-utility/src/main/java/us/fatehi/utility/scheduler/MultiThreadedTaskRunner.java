@@ -29,15 +29,12 @@ package us.fatehi.utility.scheduler;
 
 import static java.util.Objects.requireNonNull;
 
-import java.util.Arrays;
-import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
 import java.util.logging.Level;
 import java.util.logging.Logger;
-import java.util.stream.Collectors;
 
 import us.fatehi.utility.string.StringFormat;
 
@@ -81,17 +78,7 @@ public final class MultiThreadedTaskRunner extends AbstractTaskRunner {
 
     requireNonNull(taskDefinitions, "Tasks not provided");
 
-    final CompletableFuture<Void> completableFuture =
-        CompletableFuture.allOf(
-            Arrays.stream(taskDefinitions)
-                .map(
-                    task ->
-                        CompletableFuture.runAsync(
-                            new TimedTask(getTasks(), task), executorService))
-                .collect(Collectors.toList())
-                .toArray(new CompletableFuture[taskDefinitions.length]));
-
-    completableFuture.join();
+    runWithDependencies(executorService, taskDefinitions);
   }
 
   @Override
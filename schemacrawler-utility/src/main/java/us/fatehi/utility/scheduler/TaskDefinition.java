@@ -31,6 +31,11 @@ import static java.util.Objects.requireNonNull;
 import static us.fatehi.utility.Utility.requireNotBlank;
 import static us.fatehi.utility.Utility.toSnakeCase;
 
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.Set;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -51,17 +56,67 @@ public class TaskDefinition implements Runnable {
 
   private final String taskName;
   private final TaskRunnable task;
+  private final Set<String> dependencies;
 
   public TaskDefinition(final String taskName) {
-    this.taskName = toSnakeCase(requireNotBlank(taskName, "Task name not provided"));
-    this.task = () -> LOGGER.log(Level.INFO, new StringFormat("Not running task <%s>", taskName));
+    this(taskName, Collections.emptySet());
+  }
+
+  /**
+   * Placeholder for a task that is not run, but still completes only after its prerequisites, so
+   * that tasks that depend on it are correctly ordered.
+   *
+   * @param taskName Name of the task
+   * @param dependencies Names of tasks that need to complete before this task
+   */
+  public TaskDefinition(final String taskName, final Collection<String> dependencies) {
+    this(
+        taskName,
+        () -> LOGGER.log(Level.INFO, new StringFormat("Not running task <%s>", taskName)),
+        dependencies);
   }
 
   public TaskDefinition(final String taskName, final TaskRunnable task) {
+    this(taskName, task, Collections.emptySet());
+  }
+
+  /**
+   * Task that can only be started after the named prerequisite tasks have completed.
+   *
+   * @param taskName Name of the task
+   * @param task Task to run
+   * @param dependencies Names of tasks that need to complete before this task can start
+   */
+  public TaskDefinition(
+      final String taskName, final TaskRunnable task, final Collection<String> dependencies) {
     requireNotBlank(taskName, "Task name not provided");
+    requireNonNull(dependencies, "Task dependencies not provided");
 
     this.taskName = toSnakeCase(taskName);
     this.task = requireNonNull(task, "Task not provided");
+    this.dependencies = new LinkedHashSet<>();
+    for (final String dependency : dependencies) {
+      this.dependencies.add(toSnakeCase(requireNotBlank(dependency, "Blank task dependency")));
+    }
+    this.dependencies.remove(this.taskName);
+  }
+
+  public TaskDefinition(
+      final String taskName, final TaskRunnable task, final String... dependencies) {
+    this(
+        taskName,
+        task,
+        Arrays.asList(requireNonNull(dependencies, "Task dependencies not provided")));
+  }
+
+  /**
+   * Names of tasks that need to complete before this task can start. Names that are not part of
+   * the same run are considered to have already completed.
+   *
+   * @return Names of prerequisite tasks
+   */
+  public Set<String> getDependencies() {
+    return Collections.unmodifiableSet(dependencies);
   }
 
   public String getTaskName() {
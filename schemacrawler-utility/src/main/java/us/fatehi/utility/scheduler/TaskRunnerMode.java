@@ -0,0 +1,43 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2022, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+package us.fatehi.utility.scheduler;
+
+/** How tasks that load the database catalog are run. */
+public enum TaskRunnerMode {
+
+  /** Tasks are run one after the other, on the calling thread. */
+  main_thread,
+  /** Tasks are run in parallel, on a fixed pool of platform threads. */
+  multi_threaded,
+  /**
+   * Tasks are run in parallel, each on its own virtual thread, with parallelism limited by the
+   * number of database connections available. Falls back to platform threads if the Java runtime
+   * does not support virtual threads.
+   */
+  virtual_threads;
+}
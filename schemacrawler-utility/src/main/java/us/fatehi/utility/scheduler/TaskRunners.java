@@ -27,6 +27,8 @@ http://www.gnu.org/licenses/
 */
 package us.fatehi.utility.scheduler;
 
+import static java.util.Objects.requireNonNull;
+
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -37,16 +39,61 @@ public class TaskRunners {
   private static final Logger LOGGER = Logger.getLogger(TaskRunners.class.getName());
 
   public static TaskRunner getTaskRunner(final String id, final int maxThreadsSuggested) {
+    return getTaskRunner(id, TaskRunnerMode.main_thread, maxThreadsSuggested);
+  }
+
+  /**
+   * Gets a task runner for the requested mode. If virtual threads are requested, but are not
+   * supported by the Java runtime, tasks are run on platform threads instead. The SC_EXPERIMENTAL
+   * system property still turns on multiple threads when a single main thread is requested.
+   *
+   * @param id Task runner id, used in logs and timing reports
+   * @param taskRunnerMode How tasks are run
+   * @param maxParallelism Maximum number of tasks that can run at the same time, such as the
+   *     number of threads, or the number of database connections for virtual threads
+   * @return Task runner
+   */
+  public static TaskRunner getTaskRunner(
+      final String id, final TaskRunnerMode taskRunnerMode, final int maxParallelism) {
+    requireNonNull(taskRunnerMode, "No task runner mode provided");
+
+    TaskRunnerMode mode = taskRunnerMode;
+    if (mode == TaskRunnerMode.main_thread && isExperimental()) {
+      mode = TaskRunnerMode.multi_threaded;
+    }
+    if (mode == TaskRunnerMode.virtual_threads && !VirtualThreadTaskRunner.isSupported()) {
+      LOGGER.log(
+          Level.CONFIG,
+          "Virtual threads are not supported by the Java runtime, so using multiple threads");
+      mode = TaskRunnerMode.multi_threaded;
+    }
+
+    switch (mode) {
+      case virtual_threads:
+        LOGGER.log(Level.CONFIG, "Loading database schema using virtual threads");
+        return new VirtualThreadTaskRunner(id, maxParallelism);
+      case multi_threaded:
+        LOGGER.log(Level.CONFIG, "Loading database schema using multiple threads");
+        return new MultiThreadedTaskRunner(id, maxParallelism);
+      default:
+        LOGGER.log(Level.CONFIG, "Loading database schema using a single main thread");
+        return new MainThreadTaskRunner(id);
+    }
+  }
+
+  /**
+   * Checks whether tasks can be run on virtual threads in the Java runtime.
+   *
+   * @return True if virtual threads are supported
+   */
+  public static boolean isVirtualThreadsSupported() {
+    return VirtualThreadTaskRunner.isSupported();
+  }
+
+  private static boolean isExperimental() {
     final String experimentalFlag =
         PropertiesUtility.getSystemConfigurationProperty(
             "SC_EXPERIMENTAL", Boolean.FALSE.toString());
-    final Boolean isExperimental = Boolean.valueOf(experimentalFlag);
-    if (isExperimental) {
-      LOGGER.log(Level.CONFIG, "Loading database schema using multiple threads");
-      return new MultiThreadedTaskRunner(id, maxThreadsSuggested);
-    } else {
-      LOGGER.log(Level.CONFIG, "Loading database schema using a single main thread");
-      return new MainThreadTaskRunner(id);
-    }
+    return Boolean.valueOf(experimentalFlag);
   }
 }
@@ -0,0 +1,160 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2022, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+package us.fatehi.utility.scheduler;
+
+import static java.util.Objects.requireNonNull;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import us.fatehi.utility.string.StringFormat;
+
+/**
+ * Runs each task on its own virtual thread. Loading the database catalog is almost entirely
+ * blocking JDBC calls, so parallelism is limited by the number of database connections that tasks
+ * can use at the same time, and not by the number of threads. Virtual threads are looked up at
+ * runtime, so that SchemaCrawler still runs on Java runtimes that do not support them.
+ */
+final class VirtualThreadTaskRunner extends AbstractTaskRunner {
+
+  private static final Logger LOGGER = Logger.getLogger(VirtualThreadTaskRunner.class.getName());
+
+  private static final Method NEW_VIRTUAL_THREAD_EXECUTOR = lookupVirtualThreadExecutor();
+  private static final boolean IS_SUPPORTED = checkSupported();
+
+  /**
+   * Checks whether the Java runtime can run tasks on virtual threads. Virtual threads are a preview
+   * feature on some Java runtimes, and cannot be created unless preview features are enabled.
+   *
+   * @return True if virtual threads are supported
+   */
+  static boolean isSupported() {
+    return IS_SUPPORTED;
+  }
+
+  private static boolean checkSupported() {
+    final ExecutorService executorService = newVirtualThreadExecutor();
+    if (executorService == null) {
+      return false;
+    }
+    executorService.shutdown();
+    return true;
+  }
+
+  private static Method lookupVirtualThreadExecutor() {
+    try {
+      return Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+    } catch (final NoSuchMethodException | SecurityException e) {
+      LOGGER.log(Level.CONFIG, "Virtual threads are not supported by the Java runtime");
+      return null;
+    }
+  }
+
+  private static ExecutorService newVirtualThreadExecutor() {
+    if (NEW_VIRTUAL_THREAD_EXECUTOR == null) {
+      return null;
+    }
+    try {
+      return (ExecutorService) NEW_VIRTUAL_THREAD_EXECUTOR.invoke(null);
+    } catch (final ReflectiveOperationException | RuntimeException e) {
+      LOGGER.log(Level.CONFIG, "Virtual threads are not enabled in the Java runtime", e);
+      return null;
+    }
+  }
+
+  private final ExecutorService executorService;
+  private final Executor boundedExecutor;
+
+  VirtualThreadTaskRunner(final String id, final int maxParallelism) {
+    super(id);
+
+    executorService = newVirtualThreadExecutor();
+    if (executorService == null) {
+      throw new UnsupportedOperationException("Virtual threads are not supported");
+    }
+
+    final int permits = Math.max(1, maxParallelism);
+    LOGGER.log(
+        Level.INFO,
+        new StringFormat("Configured to run loaders on virtual threads, <%d> at a time", permits));
+
+    // Virtual threads are cheap to block, so each task waits for a permit on its own thread
+    final Semaphore running = new Semaphore(permits, true);
+    boundedExecutor =
+        command -> {
+          requireNonNull(command, "No task provided");
+          executorService.execute(
+              () -> {
+                running.acquireUninterruptibly();
+                try {
+                  command.run();
+                } finally {
+                  running.release();
+                }
+              });
+        };
+  }
+
+  @Override
+  public boolean isStopped() {
+    return executorService.isShutdown();
+  }
+
+  @Override
+  public void run(final TaskDefinition... taskDefinitions) throws Exception {
+
+    if (executorService.isShutdown()) {
+      throw new IllegalStateException("Task runner is stopped");
+    }
+
+    requireNonNull(taskDefinitions, "Tasks not provided");
+
+    runWithDependencies(boundedExecutor, taskDefinitions);
+  }
+
+  @Override
+  public void stop() throws ExecutionException {
+    executorService.shutdown();
+
+    try {
+      if (!executorService.awaitTermination(1, TimeUnit.HOURS)) {
+        executorService.shutdownNow();
+      }
+    } catch (final InterruptedException ex) {
+      executorService.shutdownNow();
+      Thread.currentThread().interrupt();
+    }
+  }
+}
@@ -33,11 +33,15 @@ import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.not;
 import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.sameInstance;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
 import java.sql.Connection;
 import java.sql.DatabaseMetaData;
 import java.util.HashMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -72,6 +76,48 @@ public class SimpleDatabaseConnectionSourceTest {
         });
   }
 
+  @Test
+  public void boundedPool() throws Exception {
+
+    final String connectionUrl = databaseConnectionSource.getConnectionUrl();
+    final String userName;
+    try (final Connection connection = databaseConnectionSource.get()) {
+      userName = connection.getMetaData().getUserName();
+    }
+    final SimpleDatabaseConnectionSource boundedDatabaseConnectionSource =
+        new SimpleDatabaseConnectionSource(
+            connectionUrl, new HashMap<>(), new SingleUseUserCredentials(userName, ""), 2);
+    assertThat(boundedDatabaseConnectionSource.getMaxConnections(), is(2));
+
+    final Connection connection1 = boundedDatabaseConnectionSource.get();
+    final Connection connection2 = boundedDatabaseConnectionSource.get();
+    assertThat(
+        connection1.unwrap(Connection.class),
+        is(not(sameInstance(connection2.unwrap(Connection.class)))));
+
+    final CompletableFuture<Connection> connection3 =
+        CompletableFuture.supplyAsync(boundedDatabaseConnectionSource);
+    assertThrows(TimeoutException.class, () -> connection3.get(500, TimeUnit.MILLISECONDS));
+
+    // Released connection is reused by the waiting caller
+    final Connection unwrappedConnection1 = connection1.unwrap(Connection.class);
+    connection1.close();
+    assertThat(
+        connection3.get(10, TimeUnit.SECONDS).unwrap(Connection.class),
+        is(sameInstance(unwrappedConnection1)));
+
+    connection2.close();
+    connection3.get().close();
+    boundedDatabaseConnectionSource.close();
+    assertThat(unwrappedConnection1.isClosed(), is(true));
+
+    assertThrows(
+        IllegalArgumentException.class,
+        () ->
+            new SimpleDatabaseConnectionSource(
+                connectionUrl, new HashMap<>(), new SingleUseUserCredentials(userName, ""), 0));
+  }
+
   @Test
   public void closedConnectionTests() throws Exception {
 
@@ -109,6 +155,35 @@ public class SimpleDatabaseConnectionSourceTest {
     assertThat(unwrappedConnection.isClosed(), is(true));
   }
 
+  @Test
+  public void leaseTimeout() throws Exception {
+
+    final String connectionUrl = databaseConnectionSource.getConnectionUrl();
+    final String userName;
+    try (final Connection connection = databaseConnectionSource.get()) {
+      userName = connection.getMetaData().getUserName();
+    }
+    final SimpleDatabaseConnectionSource boundedDatabaseConnectionSource =
+        new SimpleDatabaseConnectionSource(
+            connectionUrl, new HashMap<>(), new SingleUseUserCredentials(userName, ""), 1, 1);
+
+    // A caller that holds a connection, and leases another, fails instead of waiting forever
+    final Connection connection = boundedDatabaseConnectionSource.get();
+    final IllegalStateException exception =
+        assertThrows(IllegalStateException.class, boundedDatabaseConnectionSource::get);
+    assertThat(exception.getMessage(), containsString("within <1> seconds"));
+
+    connection.close();
+    boundedDatabaseConnectionSource.get().close();
+    boundedDatabaseConnectionSource.close();
+
+    assertThrows(
+        IllegalArgumentException.class,
+        () ->
+            new SimpleDatabaseConnectionSource(
+                connectionUrl, new HashMap<>(), new SingleUseUserCredentials(userName, ""), 1, 0));
+  }
+
   @BeforeEach
   public void createDatabase() throws Exception {
 
@@ -0,0 +1,144 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2022, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+package us.fatehi.utility.scheduler;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThan;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+public class TaskDependenciesTest {
+
+  @Test
+  public void cyclicalDependencies() throws Exception {
+    final MainThreadTaskRunner taskRunner = new MainThreadTaskRunner("test");
+    assertThrows(
+        IllegalArgumentException.class,
+        () ->
+            taskRunner.run(
+                new TaskDefinition("first", () -> {}, "second"),
+                new TaskDefinition("second", () -> {}, "first")));
+  }
+
+  @Test
+  public void duplicateTasks() throws Exception {
+    final MainThreadTaskRunner taskRunner = new MainThreadTaskRunner("test");
+    assertThrows(
+        IllegalArgumentException.class,
+        () ->
+            taskRunner.run(new TaskDefinition("first", () -> {}), new TaskDefinition("first")));
+  }
+
+  @Test
+  public void failedDependency() throws Exception {
+    final List<String> completed = new CopyOnWriteArrayList<>();
+    final MultiThreadedTaskRunner taskRunner = new MultiThreadedTaskRunner("test", 2);
+    assertThrows(
+        CompletionException.class,
+        () ->
+            taskRunner.run(
+                new TaskDefinition(
+                    "first",
+                    () -> {
+                      throw new Exception("Forced failure");
+                    }),
+                new TaskDefinition("second", () -> completed.add("second"), "first")));
+    taskRunner.stop();
+
+    assertThat(completed.isEmpty(), is(true));
+  }
+
+  @Test
+  public void independentTasksOverlap() throws Exception {
+    final CountDownLatch latch = new CountDownLatch(1);
+    final MultiThreadedTaskRunner taskRunner = new MultiThreadedTaskRunner("test", 2);
+    // Would block until timeout, if the independent task were not started
+    // while the slow chain is waiting
+    taskRunner.run(
+        new TaskDefinition(
+            "slow", () -> assertThat(latch.await(10, TimeUnit.SECONDS), is(true))),
+        new TaskDefinition("afterSlow", () -> {}, "slow"),
+        new TaskDefinition("independent", latch::countDown));
+    taskRunner.stop();
+
+    assertThat(latch.getCount(), is(0L));
+  }
+
+  @Test
+  public void mainThreadOrder() throws Exception {
+    final List<String> completed = new CopyOnWriteArrayList<>();
+    final MainThreadTaskRunner taskRunner = new MainThreadTaskRunner("test");
+    taskRunner.run(
+        new TaskDefinition("third", () -> completed.add("third"), "second", "unknown"),
+        new TaskDefinition("first", () -> completed.add("first")),
+        new TaskDefinition("second", () -> completed.add("second"), "first"),
+        new TaskDefinition("fourth", () -> completed.add("fourth")));
+
+    assertThat(completed, contains("first", "second", "third", "fourth"));
+  }
+
+  @Test
+  public void multiThreadedOrder() throws Exception {
+    final List<String> completed = new CopyOnWriteArrayList<>();
+    final MultiThreadedTaskRunner taskRunner = new MultiThreadedTaskRunner("test", 4);
+    taskRunner.run(
+        new TaskDefinition("d", () -> completed.add("d"), "b", "c"),
+        new TaskDefinition("a", () -> completed.add("a")),
+        new TaskDefinition("b", () -> completed.add("b"), "a"),
+        new TaskDefinition("c", () -> completed.add("c"), "a"));
+    taskRunner.stop();
+
+    assertThat(completed.size(), is(4));
+    assertThat(completed.indexOf("a"), lessThan(completed.indexOf("b")));
+    assertThat(completed.indexOf("a"), lessThan(completed.indexOf("c")));
+    assertThat(completed.indexOf("b"), lessThan(completed.indexOf("d")));
+    assertThat(completed.indexOf("c"), lessThan(completed.indexOf("d")));
+  }
+
+  @Test
+  public void skippedTaskKeepsDependencies() throws Exception {
+    final List<String> completed = new CopyOnWriteArrayList<>();
+    final MainThreadTaskRunner taskRunner = new MainThreadTaskRunner("test");
+    taskRunner.run(
+        new TaskDefinition("last", () -> completed.add("last"), "skipped"),
+        new TaskDefinition("skipped", Arrays.asList("first")),
+        new TaskDefinition("first", () -> completed.add("first")));
+
+    assertThat(completed, contains("first", "last"));
+  }
+}
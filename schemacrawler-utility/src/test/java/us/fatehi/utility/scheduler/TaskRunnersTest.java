@@ -0,0 +1,121 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2022, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+package us.fatehi.utility.scheduler;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThan;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+public class TaskRunnersTest {
+
+  @Test
+  public void mainThread() throws Exception {
+    final TaskRunner taskRunner =
+        TaskRunners.getTaskRunner("test", TaskRunnerMode.main_thread, 4);
+    assertThat(taskRunner, is(instanceOf(MainThreadTaskRunner.class)));
+  }
+
+  @Test
+  public void multiThreaded() throws Exception {
+    final TaskRunner taskRunner =
+        TaskRunners.getTaskRunner("test", TaskRunnerMode.multi_threaded, 4);
+    assertThat(taskRunner, is(instanceOf(MultiThreadedTaskRunner.class)));
+    taskRunner.stop();
+  }
+
+  @Test
+  public void noMode() throws Exception {
+    assertThrows(NullPointerException.class, () -> TaskRunners.getTaskRunner("test", null, 4));
+  }
+
+  @Test
+  public void virtualThreads() throws Exception {
+    final TaskRunner taskRunner =
+        TaskRunners.getTaskRunner("test", TaskRunnerMode.virtual_threads, 4);
+    if (TaskRunners.isVirtualThreadsSupported()) {
+      assertThat(taskRunner, is(instanceOf(VirtualThreadTaskRunner.class)));
+    } else {
+      // Falls back to platform threads
+      assertThat(taskRunner, is(instanceOf(MultiThreadedTaskRunner.class)));
+    }
+    taskRunner.stop();
+    assertThat(taskRunner.isStopped(), is(true));
+  }
+
+  @Test
+  public void virtualThreadsLimitParallelism() throws Exception {
+    assumeTrue(TaskRunners.isVirtualThreadsSupported(), "Virtual threads are not supported");
+
+    final int maxParallelism = 2;
+    final AtomicInteger running = new AtomicInteger();
+    final AtomicInteger maxRunning = new AtomicInteger();
+    final List<String> completed = new CopyOnWriteArrayList<>();
+
+    final List<TaskDefinition> taskDefinitions = new ArrayList<>();
+    for (int i = 0; i < 10; i++) {
+      final String taskName = "task" + i;
+      taskDefinitions.add(
+          new TaskDefinition(
+              taskName,
+              () -> {
+                maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+                Thread.sleep(20);
+                running.decrementAndGet();
+                completed.add(taskName);
+              }));
+    }
+    taskDefinitions.add(new TaskDefinition("last", () -> completed.add("last"), "task9"));
+
+    final VirtualThreadTaskRunner taskRunner = new VirtualThreadTaskRunner("test", maxParallelism);
+    taskRunner.run(taskDefinitions.toArray(new TaskDefinition[0]));
+    taskRunner.stop();
+
+    assertThat(completed.size(), is(11));
+    assertThat(maxRunning.get(), is(lessThanOrEqualTo(maxParallelism)));
+    assertThat(completed.indexOf("task9"), lessThan(completed.indexOf("last")));
+  }
+
+  @Test
+  public void virtualThreadsNotSupported() throws Exception {
+    assumeTrue(!TaskRunners.isVirtualThreadsSupported(), "Virtual threads are supported");
+
+    assertThrows(
+        UnsupportedOperationException.class, () -> new VirtualThreadTaskRunner("test", 2));
+  }
+}
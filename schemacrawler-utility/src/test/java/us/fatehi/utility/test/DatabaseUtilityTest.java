@@ -228,6 +228,30 @@ public class DatabaseUtilityTest {
     assertThat(exception.getMessage(), startsWith("Too many columns"));
   }
 
+  @Test
+  public void isDatabaseVersionAtLeast() throws SQLException {
+    final int majorVersion = connection.getMetaData().getDatabaseMajorVersion();
+    final int minorVersion = connection.getMetaData().getDatabaseMinorVersion();
+
+    assertThat(DatabaseUtility.isDatabaseVersionAtLeast(connection, majorVersion, 0), is(true));
+    assertThat(
+        DatabaseUtility.isDatabaseVersionAtLeast(connection, majorVersion, minorVersion),
+        is(true));
+    assertThat(
+        DatabaseUtility.isDatabaseVersionAtLeast(connection, majorVersion, minorVersion + 1),
+        is(false));
+    assertThat(DatabaseUtility.isDatabaseVersionAtLeast(connection, majorVersion - 1, 99), is(true));
+    assertThat(DatabaseUtility.isDatabaseVersionAtLeast(connection, majorVersion + 1, 0), is(false));
+
+    // No connection
+    assertThat(DatabaseUtility.isDatabaseVersionAtLeast(null, 0, 0), is(false));
+
+    // Version cannot be obtained
+    final Connection mockConnection = mock(Connection.class);
+    when(mockConnection.getMetaData()).thenThrow(SQLException.class);
+    assertThat(DatabaseUtility.isDatabaseVersionAtLeast(mockConnection, 0, 0), is(false));
+  }
+
   @Test
   public void readResultsVector() throws SQLException {
     final Statement statement = connection.createStatement();
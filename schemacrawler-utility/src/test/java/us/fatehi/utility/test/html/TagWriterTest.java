@@ -0,0 +1,157 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2022, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+
+package us.fatehi.utility.test.html;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static us.fatehi.utility.html.TagBuilder.tableCell;
+import static us.fatehi.utility.html.TagBuilder.tableHeaderCell;
+import static us.fatehi.utility.html.TagBuilder.tableRow;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import us.fatehi.utility.Color;
+import us.fatehi.utility.html.Alignment;
+import us.fatehi.utility.html.Tag;
+import us.fatehi.utility.html.TagOutputFormat;
+import us.fatehi.utility.html.TagWriter;
+
+public class TagWriterTest {
+
+  @ParameterizedTest
+  @EnumSource(TagOutputFormat.class)
+  public void emptyRow(final TagOutputFormat tagOutputFormat) {
+    final StringBuilder buffer = new StringBuilder();
+    new TagWriter(buffer).startRow(tagOutputFormat).endRow();
+
+    assertThat(
+        buffer.toString(), is(tableRow().make().render(tagOutputFormat) + System.lineSeparator()));
+  }
+
+  @Test
+  public void errors() {
+    final TagWriter tagWriter = new TagWriter(new StringBuilder());
+    assertThrows(IllegalStateException.class, () -> tagWriter.cell());
+    assertThrows(IllegalStateException.class, () -> tagWriter.endRow());
+
+    tagWriter.startRow(TagOutputFormat.html);
+    assertThrows(IllegalStateException.class, () -> tagWriter.startRow(TagOutputFormat.html));
+
+    assertThrows(NullPointerException.class, () -> new TagWriter(null));
+  }
+
+  @Test
+  public void ioException() {
+    final Writer writer =
+        new Writer() {
+          @Override
+          public void close() throws IOException {
+            throw new IOException("Cannot close");
+          }
+
+          @Override
+          public void flush() throws IOException {
+            throw new IOException("Cannot flush");
+          }
+
+          @Override
+          public void write(final char[] cbuf, final int off, final int len) throws IOException {
+            throw new IOException("Cannot write");
+          }
+        };
+    assertThrows(
+        UncheckedIOException.class, () -> new TagWriter(writer).startRow(TagOutputFormat.html));
+  }
+
+  @ParameterizedTest
+  @EnumSource(TagOutputFormat.class)
+  public void sameAsTag(final TagOutputFormat tagOutputFormat) {
+    final Tag row = tableRow().make();
+    row.addInnerTag(
+        tableCell()
+            .withEscapedText("<name> & \"value\"")
+            .withWidth(20)
+            .withEmphasis(true)
+            .withStyleClass("name")
+            .withColumnSpan(2)
+            .make());
+    row.addInnerTag(
+        tableCell()
+            .withEscapedText("<raw>", false)
+            .withWidth(12)
+            .withAlignment(Alignment.right)
+            .withBackground(Color.fromRGB(255, 0, 0))
+            .make());
+    row.addInnerTag(tableCell().withText(null).withAlignment(Alignment.inherit).make());
+    row.addInnerTag(tableHeaderCell().withText("header").make());
+    final Tag portCell = tableCell().withEscapedText("port").withBackground(Color.white).make();
+    portCell.addAttribute("port", "column.end");
+    row.addInnerTag(portCell);
+
+    final StringBuilder buffer = new StringBuilder();
+    new TagWriter(buffer)
+        .startRow(tagOutputFormat)
+        .cell()
+        .withEscapedText("<name> & \"value\"")
+        .withWidth(20)
+        .withEmphasis(true)
+        .withStyleClass("name")
+        .withColumnSpan(2)
+        .end()
+        .cell()
+        .withEscapedText("<raw>", false)
+        .withWidth(12)
+        .withAlignment(Alignment.right)
+        .withBackground(Color.fromRGB(255, 0, 0))
+        .end()
+        .cell()
+        .withText(null)
+        .withAlignment(Alignment.inherit)
+        .end()
+        .headerCell()
+        .withText("header")
+        .end()
+        .cell()
+        .withEscapedText("port")
+        .withBackground(Color.white)
+        .withAttribute("port", "column.end")
+        .withAttribute("style", "")
+        .end()
+        .endRow();
+
+    assertThat(buffer.toString(), is(row.render(tagOutputFormat) + System.lineSeparator()));
+  }
+}
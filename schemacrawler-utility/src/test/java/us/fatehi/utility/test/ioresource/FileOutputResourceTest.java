@@ -37,8 +37,11 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 import static us.fatehi.utility.IOUtility.readFully;
 
 import java.io.IOException;
+import java.io.InputStreamReader;
 import java.io.Writer;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.zip.GZIPInputStream;
 
 import org.junit.jupiter.api.Test;
 
@@ -62,6 +65,43 @@ public class FileOutputResourceTest {
     assertThat(readFully(newBufferedReader(tempFile)), is("hello, world"));
   }
 
+  @Test
+  public void gzipOutput() throws IOException {
+    final Path tempFile = createTempFile("sc", ".txt.gz");
+
+    final FileOutputResource outputResource = new FileOutputResource(tempFile);
+    assertThat(outputResource.isGzipCompressed(), is(true));
+
+    final Writer writer = outputResource.openNewOutputWriter(UTF_8, false);
+    writer.write("hello, world");
+    writer.close();
+
+    final GZIPInputStream in = new GZIPInputStream(Files.newInputStream(tempFile));
+    assertThat(readFully(new InputStreamReader(in, UTF_8)), is("hello, world"));
+  }
+
+  @Test
+  public void largeOutput() throws IOException {
+    final Path tempFile = createTempFile("sc", ".txt");
+
+    final FileOutputResource outputResource = new FileOutputResource(tempFile);
+    assertThat(outputResource.isGzipCompressed(), is(false));
+
+    // Write more than the buffer size, with surrogate pairs split across writes
+    final StringBuilder expected = new StringBuilder();
+    final String text = "\u03b2\u03b9\u03b2\u03bb\u03af\u03b1 \ud83d\ude00 ";
+    try (final Writer writer = outputResource.openNewOutputWriter(UTF_8, false)) {
+      for (int i = 0; i < 20_000; i++) {
+        for (final char c : text.toCharArray()) {
+          writer.write(c);
+        }
+        expected.append(text);
+      }
+    }
+
+    assertThat(readFully(newBufferedReader(tempFile)), is(expected.toString()));
+  }
+
   @Test
   public void nullArgs() {
     assertThrows(NullPointerException.class, () -> new FileOutputResource(null));